@@ -0,0 +1,45 @@
+// 가상 스레드 모드 비교 부하 테스트 (k6)
+//
+// 실행 예시 (같은 DB/데이터로 모드만 바꿔 두 번 실행):
+//   VIRTUAL_THREADS_ENABLED=false ./gradlew bootRun   → k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<access token> virtual-threads.js
+//   VIRTUAL_THREADS_ENABLED=true  ./gradlew bootRun   → 같은 명령으로 다시 실행
+//
+// 비교 지표: http_reqs(처리량), http_req_duration p95/p99, http_req_failed
+// 서버 측: /actuator/prometheus 의 hikaricp_connections_pending, db_concurrency_limit_waiting
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN;
+const BOARD = __ENV.BOARD || 'general';
+const POST_ID = __ENV.POST_ID || '1';
+
+export const options = {
+    scenarios: {
+        ramp: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 100 },
+                { duration: '1m', target: 400 },
+                { duration: '1m', target: 400 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const params = { headers: { Authorization: `Bearer ${TOKEN}` } };
+
+export default function () {
+    const list = http.get(`${BASE_URL}/api/v1/boards/${BOARD}/posts?page=0&size=20`, params);
+    check(list, { 'post list 200': (r) => r.status === 200 });
+
+    const comments = http.get(`${BASE_URL}/api/v1/posts/${POST_ID}/comments?size=20`, params);
+    check(comments, { 'comments 200': (r) => r.status === 200 });
+}
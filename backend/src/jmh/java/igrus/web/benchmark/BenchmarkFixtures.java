@@ -0,0 +1,53 @@
+package igrus.web.benchmark;
+
+import igrus.web.community.board.domain.Board;
+import igrus.web.community.board.domain.BoardCode;
+import igrus.web.community.comment.domain.Comment;
+import igrus.web.community.post.domain.Post;
+import igrus.web.user.domain.Gender;
+import igrus.web.user.domain.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+
+/**
+ * 벤치마크용 엔티티 생성 유틸리티.
+ * DB 없이 메모리에서 ID와 생성일시가 설정된 엔티티를 생성합니다.
+ */
+public final class BenchmarkFixtures {
+
+    private static final Instant BASE_TIME = Instant.parse("2026-01-01T00:00:00Z");
+
+    private BenchmarkFixtures() {
+    }
+
+    public static User user(long id) {
+        String studentId = String.format("2026%04d", id % 10_000);
+        User user = User.create(studentId, "사용자" + id, "user" + id + "@inha.edu",
+                "010-" + studentId, "컴퓨터공학과", "벤치마크", Gender.MALE, 1);
+        return withId(user, id);
+    }
+
+    public static Post post(long id, User author) {
+        Board board = withId(Board.create(BoardCode.GENERAL, "자유게시판", "자유게시판", true, true, 2), 1L);
+        return withCreatedAt(withId(Post.createPost(board, author, "게시글 " + id, "내용 " + id), id), id);
+    }
+
+    public static Comment comment(long id, Post post, User author) {
+        return withCreatedAt(withId(Comment.createComment(post, author, "댓글 @user" + id + " 내용입니다", false), id), id);
+    }
+
+    public static Comment reply(long id, Post post, Comment parent, User author) {
+        return withCreatedAt(withId(Comment.createReply(post, parent, author, "대댓글 내용입니다", false), id), id);
+    }
+
+    private static <T> T withId(T entity, long id) {
+        ReflectionTestUtils.setField(entity, "id", id);
+        return entity;
+    }
+
+    private static <T> T withCreatedAt(T entity, long offsetSeconds) {
+        ReflectionTestUtils.setField(entity, "createdAt", BASE_TIME.plusSeconds(offsetSeconds));
+        return entity;
+    }
+}
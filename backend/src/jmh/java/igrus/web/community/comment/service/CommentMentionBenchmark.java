@@ -0,0 +1,50 @@
+package igrus.web.community.comment.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 멘션 추출 벤치마크.
+ * 댓글 작성 시 실행되는 멘션 정규식 매칭 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommentMentionBenchmark {
+
+    @Param({"NONE", "FEW", "LONG"})
+    public String contentType;
+
+    private CommentMentionService commentMentionService;
+    private String content;
+
+    @Setup
+    public void setUp() {
+        commentMentionService = new CommentMentionService();
+        content = switch (contentType) {
+            case "NONE" -> "멘션이 없는 평범한 댓글입니다. 좋은 글 감사합니다!";
+            case "FEW" -> "@kim 님 말씀에 동의합니다. @lee 님도 확인 부탁드려요.";
+            default -> "긴 댓글 @user1 본문 ".repeat(50);
+        };
+    }
+
+    @Benchmark
+    public List<String> extractMentions() {
+        return commentMentionService.extractMentions(content);
+    }
+}
@@ -0,0 +1,90 @@
+package igrus.web.community.comment.service;
+
+import igrus.web.benchmark.BenchmarkFixtures;
+import igrus.web.community.comment.domain.Comment;
+import igrus.web.community.comment.dto.response.CommentWithRepliesResponse;
+import igrus.web.community.post.domain.Post;
+import igrus.web.user.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 계층 구조 조립 벤치마크.
+ * 최상위 댓글과 대댓글(총 {@code commentCount}개)을 응답 트리로 조립하는 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommentThreadAssemblyBenchmark {
+
+    /** 전체 댓글 수 (최상위 + 대댓글) */
+    @Param({"1000"})
+    public int commentCount;
+
+    /** 최상위 댓글당 대댓글 수 */
+    @Param({"4"})
+    public int repliesPerComment;
+
+    private List<Comment> parentComments;
+    private List<Comment> replies;
+    private Map<Long, Long> likeCounts;
+    private Set<Long> likedCommentIds;
+
+    @Setup
+    public void setUp() {
+        List<User> authors = new ArrayList<>();
+        for (long i = 1; i <= 50; i++) {
+            authors.add(BenchmarkFixtures.user(i));
+        }
+        Post post = BenchmarkFixtures.post(1L, authors.get(0));
+
+        parentComments = new ArrayList<>();
+        replies = new ArrayList<>();
+        likeCounts = new HashMap<>();
+        likedCommentIds = new HashSet<>();
+
+        long id = 1;
+        while (id <= commentCount) {
+            Comment parent = BenchmarkFixtures.comment(id, post, authors.get((int) (id % authors.size())));
+            parentComments.add(parent);
+            id++;
+            for (int r = 0; r < repliesPerComment && id <= commentCount; r++, id++) {
+                replies.add(BenchmarkFixtures.reply(id, post, parent, authors.get((int) (id % authors.size()))));
+            }
+        }
+
+        for (long commentId = 1; commentId <= commentCount; commentId++) {
+            if (commentId % 2 == 0) {
+                likeCounts.put(commentId, commentId % 17);
+            }
+            if (commentId % 10 == 0) {
+                likedCommentIds.add(commentId);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<CommentWithRepliesResponse> assembleThreads() {
+        return CommentService.assembleThreads(parentComments, replies, likeCounts, likedCommentIds);
+    }
+}
@@ -0,0 +1,119 @@
+package igrus.web.community.post.dto.response;
+
+import igrus.web.community.post.repository.PostListProjection;
+import igrus.web.user.domain.UserStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 게시글 목록 응답 매핑 벤치마크.
+ * 목록 Projection 페이지를 응답 DTO로 변환하는 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostListPageResponseBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private Page<PostListProjection> page;
+
+    @Setup
+    public void setUp() {
+        List<PostListProjection> rows = LongStream.rangeClosed(1, pageSize)
+                .mapToObj(PostListPageResponseBenchmark::row)
+                .toList();
+        page = new PageImpl<>(rows, PageRequest.of(0, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public PostListPageResponse from() {
+        return PostListPageResponse.from(page);
+    }
+
+    private static PostListProjection row(long id) {
+        Instant createdAt = Instant.parse("2026-01-01T00:00:00Z").plusSeconds(id);
+        return new PostListProjection() {
+            @Override
+            public Long getPostId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return "게시글 제목 " + id;
+            }
+
+            @Override
+            public String getExcerpt() {
+                return "게시글 본문 미리보기입니다. ".repeat(5);
+            }
+
+            @Override
+            public Boolean getIsAnonymous() {
+                return id % 5 == 0;
+            }
+
+            @Override
+            public Boolean getIsQuestion() {
+                return id % 3 == 0;
+            }
+
+            @Override
+            public Integer getViewCount() {
+                return (int) id * 10;
+            }
+
+            @Override
+            public Integer getLikeCount() {
+                return (int) id;
+            }
+
+            @Override
+            public Integer getCommentCount() {
+                return (int) id % 7;
+            }
+
+            @Override
+            public Instant getCreatedAt() {
+                return createdAt;
+            }
+
+            @Override
+            public String getAuthorName() {
+                return "작성자" + id;
+            }
+
+            @Override
+            public UserStatus getAuthorStatus() {
+                return id % 11 == 0 ? UserStatus.WITHDRAWN : UserStatus.ACTIVE;
+            }
+
+            @Override
+            public Boolean getAuthorDeleted() {
+                return false;
+            }
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package igrus.web.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access Token 검증 벤치마크.
+ * 인증이 필요한 모든 요청에서 실행되는 서명 검증 및 Claims 추출 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "ThisIsABenchmarkSecretKeyThatIsLongEnoughForHS256AlgorithmAtLeast256Bits";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 3_600_000L, 604_800_000L, "igrus-api", "igrus-web");
+        accessToken = jwtTokenProvider.createAccessToken(1L, "20260001", "MEMBER");
+    }
+
+    @Benchmark
+    public Claims validateAccessTokenAndGetClaims() {
+        return jwtTokenProvider.validateAccessTokenAndGetClaims(accessToken);
+    }
+}
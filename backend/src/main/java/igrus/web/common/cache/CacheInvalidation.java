@@ -0,0 +1,31 @@
+package igrus.web.common.cache;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 2차 캐시 무효화 메시지.
+ * 참조 데이터가 변경된 노드가 다른 노드에 해당 엔티티의 캐시를 비우도록 알릴 때 사용합니다.
+ *
+ * @param entityName 변경된 엔티티 이름 (클래스 전체 이름)
+ * @param node       변경이 일어난 노드 (pid@host)
+ */
+public record CacheInvalidation(String entityName, String node) {
+
+    /** 현재 노드 식별자 (pid@host) */
+    public static final String LOCAL_NODE = ManagementFactory.getRuntimeMXBean().getName();
+
+    /**
+     * 현재 노드에서 변경된 엔티티의 무효화 메시지를 생성합니다.
+     */
+    public static CacheInvalidation of(Class<?> entityClass) {
+        return new CacheInvalidation(entityClass.getName(), LOCAL_NODE);
+    }
+
+    /**
+     * 현재 노드가 보낸 메시지인지 확인합니다.
+     * 변경한 노드의 캐시는 Hibernate가 커밋 시 이미 갱신하므로 다시 비울 필요가 없습니다.
+     */
+    public boolean isFromLocalNode() {
+        return LOCAL_NODE.equals(node);
+    }
+}
@@ -0,0 +1,20 @@
+package igrus.web.common.cache;
+
+/**
+ * 2차 캐시 무효화 메시지 발행자.
+ *
+ * <p>여러 노드로 운영할 때 다른 노드의 2차 캐시를 비우기 위한 확장 지점입니다.
+ * 메시지 전송 수단(Redis Pub/Sub, 메시지 큐 등)을 구현한 빈을 등록하고, 수신 측에서는
+ * {@link ReferenceDataCacheInvalidator#apply(CacheInvalidation)}를 호출하면 됩니다.
+ * 구현 빈이 없으면 단일 노드로 보고 아무것도 전송하지 않습니다.</p>
+ */
+@FunctionalInterface
+public interface CacheInvalidationPublisher {
+
+    /**
+     * 무효화 메시지를 다른 노드에 발행합니다. 트랜잭션 커밋 후에 호출됩니다.
+     *
+     * @param invalidation 무효화 메시지
+     */
+    void publish(CacheInvalidation invalidation);
+}
@@ -0,0 +1,58 @@
+package igrus.web.common.cache;
+
+import org.hibernate.cache.spi.RegionFactory;
+
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 영역(region) 이름.
+ *
+ * <p>2차 캐시는 거의 바뀌지 않는 참조 데이터(게시판, 게시판 권한, 직책)에만 선택적으로 사용합니다.
+ * 영역은 {@code SecondLevelCacheConfig}가 미리 만들어 두며, 여기에 없는 영역을 사용하면 기동에 실패합니다.</p>
+ */
+public final class CacheRegions {
+
+    // === 엔티티 / 자연 키 영역 ===
+
+    /** 게시판 엔티티 */
+    public static final String BOARD = "board";
+
+    /** 게시판 코드 → 게시판 ID (자연 키) */
+    public static final String BOARD_NATURAL_ID = "board-natural-id";
+
+    /** 게시판 권한 엔티티 */
+    public static final String BOARD_PERMISSION = "board-permission";
+
+    /** 직책 엔티티 */
+    public static final String POSITION = "position";
+
+    // === 쿼리 결과 영역 ===
+
+    /** 게시판 목록 쿼리 결과 */
+    public static final String BOARD_QUERY = "board-query";
+
+    /** 게시판/역할별 권한 쿼리 결과 */
+    public static final String BOARD_PERMISSION_QUERY = "board-permission-query";
+
+    /** 직책 목록 쿼리 결과 */
+    public static final String POSITION_QUERY = "position-query";
+
+    // === Hibernate 기본 영역 ===
+
+    /** 영역을 지정하지 않은 쿼리 결과 (쿼리 캐시 활성화 시 Hibernate가 항상 생성) */
+    public static final String DEFAULT_QUERY_RESULTS = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+
+    /**
+     * 테이블별 마지막 변경 시각. 쿼리 결과가 오래되었는지 판단하는 기준이므로
+     * 항목이 먼저 제거되면 오래된 쿼리 결과가 사용될 수 있어 만료/크기 제한을 두지 않습니다.
+     */
+    public static final String UPDATE_TIMESTAMPS = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    /** 크기/만료 제한을 두는 영역 */
+    public static final List<String> BOUNDED = List.of(
+            BOARD, BOARD_NATURAL_ID, BOARD_PERMISSION, POSITION,
+            BOARD_QUERY, BOARD_PERMISSION_QUERY, POSITION_QUERY, DEFAULT_QUERY_RESULTS);
+
+    private CacheRegions() {
+    }
+}
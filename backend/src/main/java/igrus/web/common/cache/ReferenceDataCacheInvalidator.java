@@ -0,0 +1,50 @@
+package igrus.web.common.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드에서 받은 무효화 메시지를 현재 노드의 2차 캐시에 반영합니다.
+ *
+ * <p>참조 데이터는 거의 바뀌지 않으므로 ID 단위가 아닌 엔티티 단위로 비웁니다.
+ * 엔티티 데이터와 자연 키 캐시, 그리고 해당 엔티티를 포함했을 수 있는 쿼리 결과 캐시를 함께 비웁니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCacheInvalidator {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 무효화 메시지를 반영합니다. 현재 노드가 보낸 메시지는 무시합니다.
+     *
+     * @param invalidation 무효화 메시지
+     * @return 캐시를 비웠으면 true
+     */
+    public boolean apply(CacheInvalidation invalidation) {
+        if (invalidation.isFromLocalNode()) {
+            return false;
+        }
+
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(invalidation.entityName());
+        cache.evictNaturalIdData(invalidation.entityName());
+        cache.evictQueryRegions();
+
+        log.info("2차 캐시 무효화 - entity: {}, from: {}", invalidation.entityName(), invalidation.node());
+        return true;
+    }
+
+    /**
+     * 모든 2차 캐시 영역을 비웁니다. 운영 중 데이터를 SQL로 직접 수정한 경우 등에 사용합니다.
+     */
+    public void evictAll() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        log.info("2차 캐시 전체 무효화");
+    }
+}
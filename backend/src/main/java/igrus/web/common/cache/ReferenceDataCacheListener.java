@@ -0,0 +1,60 @@
+package igrus.web.common.cache;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 2차 캐시 대상 참조 데이터의 변경을 감지해 다른 노드에 무효화 메시지를 발행하는 엔티티 리스너.
+ *
+ * <p>캐시 대상 엔티티에 {@code @EntityListeners}로 등록합니다. 현재 노드의 캐시는 Hibernate가 갱신하므로,
+ * 이 리스너는 트랜잭션이 커밋된 뒤에만 {@link CacheInvalidationPublisher}로 메시지를 보냅니다.
+ * 롤백된 변경은 발행하지 않습니다.</p>
+ *
+ * <p>엔티티 리스너는 EntityManagerFactory 생성 중에 만들어지므로 발행자는 {@link ObjectProvider}로 늦게 조회합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCacheListener {
+
+    private final ObjectProvider<CacheInvalidationPublisher> publisherProvider;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(Object entity) {
+        CacheInvalidation invalidation = CacheInvalidation.of(Hibernate.getClass(entity));
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(invalidation);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(invalidation);
+            }
+        });
+    }
+
+    private void publish(CacheInvalidation invalidation) {
+        CacheInvalidationPublisher publisher = publisherProvider.getIfAvailable();
+        if (publisher == null) {
+            return;
+        }
+        try {
+            publisher.publish(invalidation);
+        } catch (RuntimeException e) {
+            // 변경은 이미 커밋되었으므로 실패를 전파하지 않음 (다른 노드는 캐시 만료 시간 안에 갱신됨)
+            log.warn("2차 캐시 무효화 메시지 발행 실패 - entity: {}", invalidation.entityName(), e);
+        }
+    }
+}
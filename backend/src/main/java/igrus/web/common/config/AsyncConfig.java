@@ -1,7 +1,9 @@
 package igrus.web.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -11,30 +13,41 @@ import java.util.concurrent.Executor;
 /**
  * 비동기 및 스케줄링 설정 클래스.
  * 이메일 발송, 조회 기록 저장 등의 비동기 작업과 주기적 동기화 작업을 위한 설정입니다.
+ *
+ * <p>가상 스레드 모드({@code spring.threads.virtual.enabled=true})에서는 스레드 풀 대신 작업마다 가상 스레드를 생성하며,
+ * 스레드 풀의 최대 크기를 동시 실행 한도로 사용합니다. 한도에 도달하면 큐에 쌓는 대신 제출한 스레드가 대기합니다.</p>
  */
 @Configuration
 @EnableAsync
 @EnableScheduling
 public class AsyncConfig {
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
     @Bean(name = "emailTaskExecutor")
     public Executor emailTaskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("email-");
-        executor.initialize();
-        return executor;
+        return createExecutor("email-", 2, 5, 100);
     }
 
     @Bean(name = "postViewTaskExecutor")
     public Executor postViewTaskExecutor() {
+        return createExecutor("post-view-", 2, 10, 500);
+    }
+
+    private Executor createExecutor(String threadNamePrefix, int corePoolSize, int maxPoolSize, int queueCapacity) {
+        if (virtualThreadsEnabled) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(maxPoolSize);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(500);
-        executor.setThreadNamePrefix("post-view-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
         executor.initialize();
         return executor;
     }
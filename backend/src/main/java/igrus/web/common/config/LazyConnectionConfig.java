@@ -0,0 +1,88 @@
+package igrus.web.common.config;
+
+import igrus.web.common.datasource.ConnectionHoldTimeDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 지연 커넥션 획득 설정 클래스.
+ *
+ * <p>트랜잭션 시작 시 바로 커넥션 풀에서 커넥션을 꺼내지 않고, 첫 SQL 문을 실행할 때 꺼내도록
+ * 기본 DataSource({@code dataSource})를 {@link LazyConnectionDataSourceProxy}로 감쌉니다.
+ * {@code setAutoCommit}/{@code setReadOnly}는 물리 커넥션을 얻을 때 한꺼번에 적용되므로,
+ * 캐시로 응답하는 {@code @Transactional} 메서드는 커넥션 풀을 전혀 사용하지 않습니다.
+ * 프록시 안쪽에는 {@link ConnectionHoldTimeDataSource}를 두어 물리 커넥션 사용 시간을 측정합니다.</p>
+ *
+ * <p>가상 스레드 모드의 동시 사용 제한({@link VirtualThreadConfig})보다 바깥에 감싸야 물리 커넥션을 얻을 때만
+ * 허가를 사용하므로, 이 후처리기는 가장 마지막 순서로 실행됩니다. 복제본 라우팅을 사용하면
+ * {@link ReplicationDataSourceConfig}가 이미 같은 구성으로 감싸므로 건너뜁니다.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.lazy-connection.enabled", havingValue = "true", matchIfMissing = true)
+public class LazyConnectionConfig {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    /**
+     * 커넥션 풀 앞에 물리 커넥션 사용 시간 측정과 지연 획득 프록시를 씌웁니다.
+     *
+     * @param target 실제 DataSource (커넥션 풀 또는 라우팅 DataSource)
+     * @return 지연 커넥션 획득 DataSource
+     */
+    public static LazyConnectionDataSourceProxy wrap(DataSource target) {
+        return new LazyConnectionDataSourceProxy(new ConnectionHoldTimeDataSource(target));
+    }
+
+    @Bean
+    public static BeanPostProcessor lazyConnectionDataSourceWrapper() {
+        return new LazyConnectionDataSourceWrapper();
+    }
+
+    /**
+     * 감싼 DataSource 안쪽의 메트릭(커넥션 사용 시간, 가상 스레드 동시 사용 제한)을 등록합니다.
+     * 빈으로 등록된 것은 바깥쪽 프록시뿐이라 안쪽 DataSource는 자동으로 등록되지 않습니다.
+     * 같은 메트릭을 여러 번 등록해도 Micrometer가 기존 메트릭을 반환하므로 중복되지 않습니다.
+     */
+    @Bean
+    public MeterBinder wrappedDataSourceMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream().forEach(dataSource -> {
+            DataSource current = dataSource;
+            while (current != null) {
+                if (current instanceof MeterBinder meterBinder) {
+                    meterBinder.bindTo(registry);
+                }
+                current = current instanceof DelegatingDataSource delegating ? delegating.getTargetDataSource() : null;
+            }
+        });
+    }
+
+    private static class LazyConnectionDataSourceWrapper implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (DATA_SOURCE_BEAN_NAME.equals(beanName)
+                    && bean instanceof DataSource dataSource
+                    && !(bean instanceof LazyConnectionDataSourceProxy)) {
+                log.info("지연 커넥션 획득 활성화 (beanName: {})", beanName);
+                return wrap(dataSource);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package igrus.web.common.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 메트릭 설정 클래스.
+ * 서비스 메서드의 {@code @Timed}를 처리하는 Aspect를 등록합니다.
+ *
+ * <p>HTTP 요청({@code http.server.requests}), Hikari 커넥션 풀({@code hikaricp.connections.*}),
+ * 비동기 Executor({@code executor.*}), {@code @Scheduled} 실행 시간({@code tasks.scheduled.execution})은
+ * Spring Boot Actuator가 자동으로 수집하며, 백분위 히스토그램 여부는 {@code management.metrics.distribution}에서 설정합니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /** 서비스 핫패스 타이머 이름 ({@code class}, {@code method} 태그로 구분) */
+    public static final String SERVICE_TIMER = "igrus.service";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
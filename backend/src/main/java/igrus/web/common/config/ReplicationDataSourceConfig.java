@@ -0,0 +1,136 @@
+package igrus.web.common.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import igrus.web.common.datasource.ConcurrencyLimitedDataSource;
+import igrus.web.common.datasource.ReplicaLagMonitor;
+import igrus.web.common.datasource.ReplicationRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 설정 클래스.
+ *
+ * <p>{@code app.datasource.replication.enabled=true}이면 자동 구성 DataSource 대신
+ * primary 커넥션 풀과 복제본 커넥션 풀을 만들고, {@link ReplicationRoutingDataSource}를
+ * 지연 커넥션 획득 프록시({@link LazyConnectionConfig#wrap})로 감싼 DataSource를 기본 DataSource로 등록합니다.
+ * 라우팅은 물리 커넥션을 얻는 시점에 결정되므로 이 프록시는 {@code app.datasource.lazy-connection.enabled}와 관계없이 사용합니다.
+ * primary 풀은 기존과 같이 {@code spring.datasource.*}, {@code spring.datasource.hikari.*}를 사용합니다.
+ * 복제본 풀도 {@code spring.datasource.hikari.*}(타임아웃, 최소 유휴 커넥션, 누수 감지 등)를 그대로 바인딩한 뒤
+ * 접속 정보와 풀 크기만 복제본 설정으로 덮어쓰며, 풀 이름은 복제본 이름을 사용해 Hikari 메트릭의 {@code pool} 태그를 구분합니다.
+ * 복제본 풀은 빈이 아니므로 {@link ReplicaLagMonitor}가 소유하고 종료 시 닫습니다.</p>
+ *
+ * <p>Hibernate가 세션 동안 커넥션을 붙잡고 있으면(Open Session In View) 첫 트랜잭션의 커넥션이
+ * 이후 트랜잭션에도 재사용되어 라우팅이 무시되므로, 트랜잭션이 끝날 때마다 커넥션을 반환하도록 설정합니다.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replication.enabled", havingValue = "true")
+public class ReplicationDataSourceConfig {
+
+    private static final String HIKARI_PROPERTIES_PREFIX = "spring.datasource.hikari";
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaLagMonitor replicaLagMonitor(ReplicationDataSourceProperties properties,
+                                               DataSourceProperties dataSourceProperties,
+                                               Environment environment,
+                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (ReplicationDataSourceProperties.Replica replica : properties.replicas()) {
+            validate(replica, replicas);
+            replicas.put(replica.name(), createReplica(replica, dataSourceProperties, environment, meterRegistry));
+            log.info("복제본 DataSource 등록 - replica: {}", replica.name());
+        }
+        return new ReplicaLagMonitor(replicas, properties.maxLag(), properties.lagQuery(), properties.lagColumn());
+    }
+
+    @Bean
+    public ReplicationRoutingDataSource replicationRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource, ReplicaLagMonitor replicaLagMonitor) {
+        return new ReplicationRoutingDataSource(primaryDataSource, replicaLagMonitor);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationRoutingDataSource replicationRoutingDataSource) {
+        return LazyConnectionConfig.wrap(replicationRoutingDataSource);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    // === Private Helper Methods ===
+
+    private DataSource createReplica(ReplicationDataSourceProperties.Replica replica,
+                                     DataSourceProperties dataSourceProperties,
+                                     Environment environment,
+                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        Binder.get(environment).bind(HIKARI_PROPERTIES_PREFIX, Bindable.ofInstance(config));
+        config.setPoolName(replica.name());
+        config.setJdbcUrl(replica.url());
+        config.setUsername(replica.username() != null ? replica.username() : dataSourceProperties.determineUsername());
+        config.setPassword(replica.password() != null ? replica.password() : dataSourceProperties.determinePassword());
+        config.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        if (replica.maximumPoolSize() != null) {
+            config.setMaximumPoolSize(replica.maximumPoolSize());
+        }
+        config.setReadOnly(true);
+        meterRegistry.ifAvailable(config::setMetricRegistry);
+
+        // 기동 시 복제본에 접속하지 않도록 첫 커넥션 요청 때 풀을 시작
+        HikariDataSource dataSource = new HikariDataSource();
+        config.copyStateTo(dataSource);
+
+        if (!virtualThreadsEnabled) {
+            return dataSource;
+        }
+        return new ConcurrencyLimitedDataSource(dataSource, dataSource.getPoolName(),
+                dataSource.getMaximumPoolSize(), Duration.ofMillis(dataSource.getConnectionTimeout()));
+    }
+
+    private static void validate(ReplicationDataSourceProperties.Replica replica, Map<String, DataSource> registered) {
+        if (replica.name() == null || replica.name().isBlank() || replica.url() == null || replica.url().isBlank()) {
+            throw new IllegalStateException("복제본 설정에는 name과 url이 필요합니다: " + replica);
+        }
+        if (ReplicationRoutingDataSource.PRIMARY.equals(replica.name()) || registered.containsKey(replica.name())) {
+            throw new IllegalStateException("복제본 이름이 중복되었습니다: " + replica.name());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package igrus.web.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본(replica) DataSource 설정을 담는 Properties 클래스
+ * <p>
+ * application-{profile}.yml의 app.datasource.replication 설정을 바인딩합니다.
+ *
+ * @param enabled            복제본 라우팅 사용 여부 (기본값: false, primary만 사용)
+ * @param replicas           복제본 목록
+ * @param maxLag             허용하는 최대 복제 지연 (초과 시 해당 복제본 대신 primary 사용, 기본값: 5초)
+ * @param lagCheckIntervalMs 복제 지연 확인 주기 (밀리초, 기본값: 5000)
+ * @param lagQuery           복제본에서 실행할 복제 지연 조회 쿼리 (기본값: MySQL {@code SHOW REPLICA STATUS})
+ * @param lagColumn          복제 지연(초)이 담긴 컬럼명 (기본값: {@code Seconds_Behind_Source})
+ */
+@ConfigurationProperties(prefix = "app.datasource.replication")
+public record ReplicationDataSourceProperties(
+        boolean enabled,
+        List<Replica> replicas,
+        Duration maxLag,
+        Long lagCheckIntervalMs,
+        String lagQuery,
+        String lagColumn
+) {
+
+    public ReplicationDataSourceProperties {
+        replicas = replicas == null ? List.of() : List.copyOf(replicas);
+        maxLag = maxLag == null ? Duration.ofSeconds(5) : maxLag;
+        lagCheckIntervalMs = lagCheckIntervalMs == null ? 5000L : lagCheckIntervalMs;
+        lagQuery = lagQuery == null ? "SHOW REPLICA STATUS" : lagQuery;
+        lagColumn = lagColumn == null ? "Seconds_Behind_Source" : lagColumn;
+    }
+
+    /**
+     * 복제본 접속 정보.
+     *
+     * @param name            복제본 이름 (라우팅 키, 커넥션 풀 이름, 메트릭 태그)
+     * @param url             JDBC URL
+     * @param username        사용자명 (null이면 primary와 동일)
+     * @param password        비밀번호 (null이면 primary와 동일)
+     * @param maximumPoolSize 커넥션 풀 최대 크기 (null이면 spring.datasource.hikari.maximum-pool-size)
+     */
+    public record Replica(
+            String name,
+            String url,
+            String username,
+            String password,
+            Integer maximumPoolSize
+    ) {
+    }
+}
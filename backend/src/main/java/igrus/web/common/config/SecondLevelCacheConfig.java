@@ -0,0 +1,116 @@
+package igrus.web.common.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import igrus.web.common.cache.CacheInvalidationPublisher;
+import igrus.web.common.cache.CacheRegions;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 설정 클래스.
+ *
+ * <p>거의 바뀌지 않지만 거의 모든 요청에서 읽는 참조 데이터(게시판, 게시판 권한, 직책)를
+ * 애플리케이션 메모리에 캐시합니다. 캐시 제공자는 Caffeine(JCache)이며, {@link CacheRegions}의 영역만
+ * 크기와 만료 시간을 제한해 미리 만들고 그 외 영역은 만들지 않습니다({@code missing_cache_strategy=fail}).
+ * 캐시할 엔티티와 쿼리는 각 엔티티의 {@code @Cache}와 Repository의 {@code @QueryHints}로 선택합니다.</p>
+ *
+ * <p>영역별 적중/실패 수는 {@code cache.gets{cache=<영역>, result=hit|miss}}로 수집합니다.
+ * 여러 노드로 운영할 때의 무효화는 {@link CacheInvalidationPublisher}를 참고하세요.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.cache.second-level.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    /** 테이블 수만큼만 항목이 생기지만, 다른 영역과 같은 방식으로 만들기 위해 넉넉한 상한을 둠 */
+    private static final long UPDATE_TIMESTAMPS_MAXIMUM_SIZE = 10_000L;
+
+    @Value("${app.cache.second-level.maximum-size:1000}")
+    private long maximumSize;
+
+    @Value("${app.cache.second-level.time-to-live:10m}")
+    private Duration timeToLive;
+
+    /**
+     * 2차 캐시 영역을 담은 CacheManager를 생성합니다.
+     * 테스트에서 여러 컨텍스트가 동시에 떠 있어도 영역 이름이 겹치지 않도록 컨텍스트마다 제공자를 새로 만듭니다.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CachingProvider provider = new CaffeineCachingProvider();
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+
+        for (String region : CacheRegions.BOUNDED) {
+            cacheManager.createCache(region, regionConfiguration(OptionalLong.of(maximumSize),
+                    OptionalLong.of(timeToLive.toNanos())));
+        }
+        cacheManager.createCache(CacheRegions.UPDATE_TIMESTAMPS,
+                regionConfiguration(OptionalLong.of(UPDATE_TIMESTAMPS_MAXIMUM_SIZE), OptionalLong.empty()));
+
+        log.info("2차 캐시 활성화 - regions: {}, maximumSize: {}, timeToLive: {}",
+                CacheRegions.BOUNDED, maximumSize, timeToLive);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCache(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    /**
+     * 영역별 Caffeine 통계(적중/실패/제거 수, 크기)를 메트릭으로 등록합니다.
+     */
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> hibernateCacheManager.getCacheNames().forEach(region -> {
+            com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache = hibernateCacheManager.getCache(region)
+                    .unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+            CaffeineCacheMetrics.monitor(registry, nativeCache, region, Tags.of("cache.manager", "hibernate"));
+        });
+    }
+
+    /**
+     * 무효화 메시지 전송 수단이 없으면 단일 노드로 보고 발행하지 않습니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public CacheInvalidationPublisher cacheInvalidationPublisher() {
+        return invalidation -> log.debug("2차 캐시 무효화 메시지 발행 생략 (단일 노드) - entity: {}",
+                invalidation.entityName());
+    }
+
+    // === Private Helper Methods ===
+
+    private CaffeineConfiguration<Object, Object> regionConfiguration(OptionalLong maximumSize,
+                                                                      OptionalLong expireAfterWriteNanos) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maximumSize);
+        configuration.setExpireAfterWrite(expireAfterWriteNanos);
+        // Hibernate 캐시 항목은 분해된 불변 상태이므로 직렬화 복사 없이 참조로 저장
+        configuration.setStoreByValue(false);
+        configuration.setNativeStatisticsEnabled(true);
+        return configuration;
+    }
+}
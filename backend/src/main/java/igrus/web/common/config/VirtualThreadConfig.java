@@ -0,0 +1,55 @@
+package igrus.web.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import igrus.web.common.datasource.ConcurrencyLimitedDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 모드 설정 클래스.
+ *
+ * <p>{@code spring.threads.virtual.enabled=true}이면 Tomcat 요청 처리와 {@code @Scheduled} 작업은 Spring Boot가,
+ * {@code @Async} Executor는 {@link AsyncConfig}가 가상 스레드로 전환합니다.
+ * 이 설정은 가상 스레드가 커넥션 풀 앞에 몰리지 않도록 DataSource를 {@link ConcurrencyLimitedDataSource}로 감쌉니다.
+ * 허가 수와 대기 시간은 Hikari의 {@code maximum-pool-size}, {@code connection-timeout}을 그대로 사용합니다.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceConcurrencyLimiter() {
+        return new DataSourceConcurrencyLimiter();
+    }
+
+    /**
+     * 커넥션 풀을 {@link ConcurrencyLimitedDataSource}로 감싸는 후처리기.
+     * 지연 커넥션 획득 프록시({@link LazyConnectionConfig})보다 안쪽에 위치하도록 가장 먼저 실행됩니다.
+     */
+    private static class DataSourceConcurrencyLimiter implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource hikariDataSource) {
+                int maxConcurrency = hikariDataSource.getMaximumPoolSize();
+                log.info("가상 스레드 모드 - DB 동시 사용 한도: {} (beanName: {}, pool: {})",
+                        maxConcurrency, beanName, hikariDataSource.getPoolName());
+                return new ConcurrencyLimitedDataSource(hikariDataSource, hikariDataSource.getPoolName(),
+                        maxConcurrency, Duration.ofMillis(hikariDataSource.getConnectionTimeout()));
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package igrus.web.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 동시 커넥션 사용 수를 제한하는 DataSource.
+ *
+ * <p>가상 스레드 모드에서는 요청마다 스레드가 생성되므로, 커넥션 풀 크기보다 훨씬 많은 스레드가 동시에 커넥션을 요청할 수 있습니다.
+ * 커넥션 풀 앞에 공정(FIFO) 세마포어를 두어 풀 크기만큼만 커넥션 획득을 허용하고, 나머지는 순서대로 대기시킵니다.
+ * 대기 시간이 {@code acquireTimeout}을 넘으면 커넥션 풀과 같은 {@link SQLTransientConnectionException}을 던집니다.</p>
+ *
+ * <p>허가는 커넥션을 닫을 때 반환되며, 같은 커넥션을 여러 번 닫아도 한 번만 반환합니다.
+ * primary와 복제본 풀마다 인스턴스가 따로 있으므로 메트릭은 {@code pool} 태그(커넥션 풀 이름)로 구분합니다.</p>
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource implements MeterBinder {
+
+    private final String pool;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final Duration acquireTimeout;
+
+    /**
+     * @param targetDataSource 실제 DataSource (커넥션 풀)
+     * @param pool             커넥션 풀 이름 (메트릭 {@code pool} 태그)
+     * @param maxConcurrency   동시에 사용할 수 있는 최대 커넥션 수 (커넥션 풀 최대 크기)
+     * @param acquireTimeout   허가 대기 최대 시간
+     */
+    public ConcurrencyLimitedDataSource(DataSource targetDataSource, String pool,
+                                        int maxConcurrency, Duration acquireTimeout) {
+        super(targetDataSource);
+        this.pool = pool;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquirePermit();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquirePermit();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 허가를 기다리고 있는 스레드 수를 반환합니다.
+     */
+    public int getWaitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * 현재 사용 중인 허가 수를 반환합니다.
+     */
+    public int getActivePermits() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("db.concurrency.limit.waiting", this, ConcurrencyLimitedDataSource::getWaitingThreads)
+                .description("DB 커넥션 허가를 기다리는 스레드 수")
+                .tag("pool", pool)
+                .register(registry);
+        Gauge.builder("db.concurrency.limit.active", this, ConcurrencyLimitedDataSource::getActivePermits)
+                .description("사용 중인 DB 커넥션 허가 수")
+                .tag("pool", pool)
+                .register(registry);
+        Gauge.builder("db.concurrency.limit.max", this, dataSource -> dataSource.maxConcurrency)
+                .description("DB 커넥션 허가 최대 수")
+                .tag("pool", pool)
+                .register(registry);
+    }
+
+    // === Private Helper Methods ===
+
+    private void acquirePermit() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "DB 동시 사용 한도(" + maxConcurrency + ")에 도달하여 " + acquireTimeout.toMillis() + "ms 내에 커넥션을 얻지 못했습니다");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 커넥션 허가 대기 중 인터럽트되었습니다", e);
+        }
+    }
+
+    private Connection releasingOnClose(Connection target) {
+        AtomicBoolean released = new AtomicBoolean(false);
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "close" -> {
+                        try {
+                            yield invoke(target, method, args);
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                    }
+                    default -> invoke(target, method, args);
+                });
+    }
+
+    private static Object invoke(Connection target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package igrus.web.common.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 물리 커넥션을 얻은 시점부터 닫을 때까지의 사용 시간을 측정하는 DataSource.
+ *
+ * <p>{@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} 안쪽에 두어
+ * 실제로 커넥션 풀에서 꺼낸 커넥션만 측정합니다. 사용 시간은 {@code db.connection.hold} 타이머와
+ * 현재 요청의 {@link RequestConnectionUsage}에 기록됩니다.</p>
+ */
+public class ConnectionHoldTimeDataSource extends DelegatingDataSource implements MeterBinder {
+
+    private volatile Timer holdTimer;
+
+    /**
+     * @param targetDataSource 실제 DataSource (커넥션 풀 또는 라우팅 DataSource)
+     */
+    public ConnectionHoldTimeDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return recordingOnClose(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return recordingOnClose(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        holdTimer = Timer.builder("db.connection.hold")
+                .description("물리 DB 커넥션을 얻은 뒤 반환할 때까지의 시간")
+                .register(registry);
+    }
+
+    // === Private Helper Methods ===
+
+    private Connection recordingOnClose(Connection target) {
+        long acquiredAt = System.nanoTime();
+        RequestConnectionUsage usage = RequestConnectionUsage.current();
+        AtomicBoolean recorded = new AtomicBoolean(false);
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "close" -> {
+                        try {
+                            yield invoke(target, method, args);
+                        } finally {
+                            if (recorded.compareAndSet(false, true)) {
+                                record(System.nanoTime() - acquiredAt, usage);
+                            }
+                        }
+                    }
+                    default -> invoke(target, method, args);
+                });
+    }
+
+    private void record(long nanos, RequestConnectionUsage usage) {
+        Timer timer = holdTimer;
+        if (timer != null) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+        if (usage != null) {
+            usage.record(nanos);
+        }
+    }
+
+    private static Object invoke(Connection target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package igrus.web.common.datasource;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.servlet.filter.OrderedRequestContextFilter;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 단위 DB 커넥션 사용 시간 측정 필터.
+ *
+ * <p>요청마다 {@link RequestConnectionUsage}를 시작하고, 요청이 끝나면 물리 커넥션 사용 시간의 합과 획득 횟수를
+ * URI 패턴별로 기록합니다. 캐시로 응답한 요청은 커넥션을 얻지 않으므로 0으로 기록됩니다.
+ * 요청 속성을 사용하므로 RequestContextFilter 다음, 인증 필터(Spring Security)보다 먼저 실행합니다.</p>
+ *
+ * <ul>
+ *     <li>{@code db.connection.hold.request}: 요청당 물리 커넥션 사용 시간 합</li>
+ *     <li>{@code db.connection.acquisitions.request}: 요청당 물리 커넥션 획득 횟수</li>
+ * </ul>
+ */
+@Component
+@Order(OrderedRequestContextFilter.DEFAULT_ORDER + 1)
+@RequiredArgsConstructor
+public class ConnectionHoldTimeFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    /** 메트릭 설정이 없는 웹 슬라이스 테스트에서도 필터가 생성되도록 지연 조회 */
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestConnectionUsage usage = RequestConnectionUsage.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (usage != null && registry != null) {
+                record(registry, uriOf(request), usage);
+            }
+        }
+    }
+
+    // === Private Helper Methods ===
+
+    private static void record(MeterRegistry registry, String uri, RequestConnectionUsage usage) {
+        Timer.builder("db.connection.hold.request")
+                .description("요청당 물리 DB 커넥션 사용 시간 합")
+                .tag("uri", uri)
+                .register(registry)
+                .record(usage.getHoldTime().toNanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("db.connection.acquisitions.request")
+                .description("요청당 물리 DB 커넥션 획득 횟수")
+                .tag("uri", uri)
+                .register(registry)
+                .record(usage.getAcquisitions());
+    }
+
+    private static String uriOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+}
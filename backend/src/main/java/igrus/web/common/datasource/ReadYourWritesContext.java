@@ -0,0 +1,40 @@
+package igrus.web.common.datasource;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 요청 단위 "read your writes" 상태.
+ *
+ * <p>한 요청 안에서 쓰기가 일어난 뒤의 읽기 전용 트랜잭션은 복제 지연 때문에 방금 쓴 데이터를 보지 못할 수 있습니다.
+ * 쓰기 이후(또는 명시적으로 요청한 경우) 같은 요청의 나머지 읽기를 모두 primary로 보내기 위한 표시를
+ * 요청 속성에 저장합니다. 요청 속성에 저장하므로 요청이 끝나면 자동으로 사라지며,
+ * 요청 스레드가 아닌 곳(스케줄러, {@code @Async})에서는 아무 효과가 없습니다.</p>
+ */
+public final class ReadYourWritesContext {
+
+    private static final String ATTRIBUTE_NAME = ReadYourWritesContext.class.getName() + ".PRIMARY_REQUIRED";
+
+    private ReadYourWritesContext() {
+    }
+
+    /**
+     * 현재 요청의 이후 읽기를 모두 primary로 보내도록 표시합니다.
+     * 쓰기 트랜잭션이 primary 커넥션을 사용하면 자동으로 호출되며, 직접 호출해 강제할 수도 있습니다.
+     */
+    public static void requirePrimary() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(ATTRIBUTE_NAME, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * 현재 요청의 읽기를 primary로 보내야 하는지 확인합니다.
+     */
+    public static boolean isPrimaryRequired() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+                && Boolean.TRUE.equals(attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST));
+    }
+}
@@ -0,0 +1,27 @@
+package igrus.web.common.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 복제본 복제 지연 확인 스케줄러.
+ *
+ * <p>{@code app.datasource.replication.lag-check-interval-ms} 주기로 {@link ReplicaLagMonitor}의 복제 지연 정보를 갱신합니다.
+ * 애플리케이션 시작 직후 첫 확인 전까지는 모든 읽기가 primary로 갑니다.</p>
+ */
+@Component
+@Profile("!test")
+@ConditionalOnProperty(name = "app.datasource.replication.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReplicaLagCheckScheduler {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    @Scheduled(fixedDelayString = "${app.datasource.replication.lag-check-interval-ms:5000}")
+    public void checkReplicaLag() {
+        replicaLagMonitor.checkLag();
+    }
+}
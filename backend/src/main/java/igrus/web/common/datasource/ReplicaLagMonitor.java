@@ -0,0 +1,153 @@
+package igrus.web.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 복제본(replica) 복제 지연 감시자.
+ *
+ * <p>복제본 커넥션 풀을 소유하고, 주기적으로 각 복제본에서 복제 지연 조회 쿼리를 실행해 결과를 보관합니다.
+ * 지연이 {@code maxLag} 이하인 복제본만 사용 가능으로 판단하며, 조회 실패, 복제 중단(지연 값 null),
+ * 아직 확인 전인 복제본은 사용 불가로 판단합니다. 사용 가능한 복제본이 없으면 읽기도 primary로 갑니다.</p>
+ */
+@Slf4j
+public class ReplicaLagMonitor implements MeterBinder, AutoCloseable {
+
+    private static final long UNAVAILABLE = -1L;
+
+    private final Map<String, DataSource> replicas;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final Map<String, Long> lagSeconds = new ConcurrentHashMap<>();
+
+    /**
+     * @param replicas  복제본 이름별 DataSource (순서 유지)
+     * @param maxLag    허용하는 최대 복제 지연
+     * @param lagQuery  복제 지연 조회 쿼리
+     * @param lagColumn 복제 지연(초)이 담긴 컬럼명
+     */
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, Duration maxLag, String lagQuery, String lagColumn) {
+        this.replicas = Collections.unmodifiableMap(new LinkedHashMap<>(replicas));
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        replicas.keySet().forEach(name -> lagSeconds.put(name, UNAVAILABLE));
+    }
+
+    /**
+     * 복제본 이름별 DataSource를 반환합니다.
+     */
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * 모든 복제본의 복제 지연을 조회해 갱신합니다.
+     */
+    public void checkLag() {
+        replicas.forEach((name, dataSource) -> {
+            long lag = queryLagSeconds(name, dataSource);
+            long previous = lagSeconds.put(name, lag);
+            if (isAcceptable(previous) != isAcceptable(lag)) {
+                log.warn("복제본 상태 변경 - replica: {}, lag: {}s, available: {}", name, lag, isAcceptable(lag));
+            }
+        });
+    }
+
+    /**
+     * 복제본을 읽기에 사용할 수 있는지 확인합니다.
+     *
+     * @param name 복제본 이름
+     * @return 지연이 허용 범위 안이면 true
+     */
+    public boolean isAvailable(String name) {
+        return isAcceptable(lagSeconds.getOrDefault(name, UNAVAILABLE));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        replicas.keySet().forEach(name -> {
+            Gauge.builder("db.replica.lag", lagSeconds, lags -> {
+                        long lag = lags.getOrDefault(name, UNAVAILABLE);
+                        return lag == UNAVAILABLE ? Double.NaN : lag;
+                    })
+                    .description("복제본 복제 지연 (초, 확인 불가 시 NaN)")
+                    .baseUnit("seconds")
+                    .tag("replica", name)
+                    .register(registry);
+            Gauge.builder("db.replica.available", this, monitor -> monitor.isAvailable(name) ? 1 : 0)
+                    .description("복제본 읽기 사용 가능 여부 (1: 사용, 0: primary로 대체)")
+                    .tag("replica", name)
+                    .register(registry);
+        });
+        // 복제본 풀은 빈이 아니므로 감싼 DataSource의 메트릭(가상 스레드 동시 사용 제한)을 여기서 등록
+        replicas.values().forEach(dataSource -> {
+            DataSource current = dataSource;
+            while (current != null) {
+                if (current instanceof MeterBinder meterBinder) {
+                    meterBinder.bindTo(registry);
+                }
+                current = current instanceof DelegatingDataSource delegating ? delegating.getTargetDataSource() : null;
+            }
+        });
+    }
+
+    /**
+     * 복제본 커넥션 풀을 닫습니다. 다른 DataSource로 감싼 경우 안쪽 풀을 찾아 닫습니다.
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource dataSource : replicas.values()) {
+            DataSource current = dataSource;
+            while (current instanceof DelegatingDataSource delegating) {
+                current = delegating.getTargetDataSource();
+            }
+            if (current instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    // === Package-private Methods (테스트용) ===
+
+    void recordLag(String name, Duration lag) {
+        lagSeconds.put(name, lag.toSeconds());
+    }
+
+    // === Private Helper Methods ===
+
+    private long queryLagSeconds(String name, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                log.warn("복제 상태 조회 결과 없음 - replica: {}", name);
+                return UNAVAILABLE;
+            }
+            Object lag = resultSet.getObject(lagColumn);
+            return lag instanceof Number number ? number.longValue() : UNAVAILABLE;
+        } catch (SQLException e) {
+            log.warn("복제 지연 조회 실패 - replica: {}, error: {}", name, e.getMessage());
+            return UNAVAILABLE;
+        }
+    }
+
+    private boolean isAcceptable(long lag) {
+        return lag != UNAVAILABLE && lag <= maxLag.toSeconds();
+    }
+}
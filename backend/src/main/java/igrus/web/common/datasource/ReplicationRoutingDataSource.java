@@ -0,0 +1,79 @@
+package igrus.web.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 트랜잭션 읽기 전용 여부에 따라 primary와 복제본(replica)으로 커넥션을 나누는 DataSource.
+ *
+ * <ul>
+ *     <li>{@code @Transactional(readOnly = true)} 트랜잭션: 사용 가능한 복제본을 라운드 로빈으로 선택</li>
+ *     <li>그 외(쓰기 트랜잭션, 트랜잭션 밖): primary</li>
+ *     <li>복제 지연이 허용 범위를 넘었거나 확인되지 않은 복제본은 건너뛰고, 남은 복제본이 없으면 primary</li>
+ *     <li>같은 요청에서 쓰기 트랜잭션이 primary를 사용한 이후의 읽기는 primary ({@link ReadYourWritesContext})</li>
+ * </ul>
+ *
+ * <p>라우팅은 물리 커넥션을 얻는 시점에 결정되므로, 트랜잭션의 읽기 전용 여부가 정해진 뒤에 커넥션을 얻도록
+ * 반드시 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸서 사용해야 합니다.</p>
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final List<String> replicaNames;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    /**
+     * @param primary    primary DataSource
+     * @param lagMonitor 복제본 DataSource와 복제 지연 상태를 가진 감시자
+     */
+    public ReplicationRoutingDataSource(DataSource primary, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        this.replicaNames = List.copyOf(lagMonitor.getReplicas().keySet());
+
+        Map<Object, Object> targets = new HashMap<>(lagMonitor.getReplicas());
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        initialize();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWritesContext.requirePrimary();
+            }
+            return PRIMARY;
+        }
+        if (ReadYourWritesContext.isPrimaryRequired()) {
+            return PRIMARY;
+        }
+        return selectReplica();
+    }
+
+    // === Private Helper Methods ===
+
+    private String selectReplica() {
+        int size = replicaNames.size();
+        if (size == 0) {
+            return PRIMARY;
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            String name = replicaNames.get((start + i) % size);
+            if (lagMonitor.isAvailable(name)) {
+                return name;
+            }
+        }
+        return PRIMARY;
+    }
+}
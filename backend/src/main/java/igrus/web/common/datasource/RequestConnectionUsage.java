@@ -0,0 +1,72 @@
+package igrus.web.common.datasource;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 하나가 사용한 물리 DB 커넥션 집계.
+ *
+ * <p>{@link ConnectionHoldTimeDataSource}가 물리 커넥션을 반환할 때마다 사용 시간을 더하고,
+ * 요청이 끝나면 필터가 요청 단위 메트릭으로 기록합니다. 요청 속성에 저장하므로
+ * 요청 스레드가 아닌 곳(스케줄러, {@code @Async})의 커넥션 사용은 집계되지 않습니다.</p>
+ */
+public class RequestConnectionUsage {
+
+    private static final String ATTRIBUTE_NAME = RequestConnectionUsage.class.getName();
+
+    private final AtomicInteger acquisitions = new AtomicInteger();
+    private final AtomicLong holdNanos = new AtomicLong();
+
+    /**
+     * 현재 요청의 커넥션 사용 집계를 시작합니다.
+     *
+     * @return 새 집계, 요청 밖이면 null
+     */
+    public static RequestConnectionUsage start() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        RequestConnectionUsage usage = new RequestConnectionUsage();
+        attributes.setAttribute(ATTRIBUTE_NAME, usage, RequestAttributes.SCOPE_REQUEST);
+        return usage;
+    }
+
+    /**
+     * 현재 요청의 커넥션 사용 집계를 반환합니다.
+     *
+     * @return 집계, 요청 밖이거나 집계를 시작하지 않았으면 null
+     */
+    public static RequestConnectionUsage current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes == null
+                ? null
+                : (RequestConnectionUsage) attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /**
+     * 반환된 물리 커넥션 하나의 사용 시간을 더합니다.
+     */
+    void record(long nanos) {
+        acquisitions.incrementAndGet();
+        holdNanos.addAndGet(nanos);
+    }
+
+    /**
+     * 물리 커넥션을 얻은 횟수를 반환합니다.
+     */
+    public int getAcquisitions() {
+        return acquisitions.get();
+    }
+
+    /**
+     * 물리 커넥션을 사용한 시간의 합을 반환합니다.
+     */
+    public Duration getHoldTime() {
+        return Duration.ofNanos(holdNanos.get());
+    }
+}
@@ -0,0 +1,23 @@
+package igrus.web.common.domain;
+
+/**
+ * 엔티티 ID 생성 설정.
+ *
+ * <p>IDENTITY 전략은 INSERT를 실행해야 ID를 알 수 있어 Hibernate가 INSERT 배치를 사용하지 않습니다.
+ * 여러 행을 한 번에 쓰는 엔티티는 시퀀스 전략({@code @SequenceGenerator})과 pooled 최적화를 사용해
+ * ID를 {@link #ALLOCATION_SIZE}개씩 미리 할당받고, INSERT를 {@code hibernate.jdbc.batch_size} 단위로 묶어 실행합니다.
+ * 시퀀스가 없는 MySQL에서는 Hibernate가 {@code <테이블>_seq} 테이블(컬럼 {@code next_val})로 시퀀스를 흉내 냅니다.</p>
+ *
+ * <p>시퀀스 테이블의 초기값은 Flyway 마이그레이션(V26)이 기존 최대 ID 기준으로 설정하므로,
+ * 할당 크기를 바꾸려면 시퀀스 테이블 값도 함께 맞춰야 합니다.
+ * 네이티브 INSERT ... SELECT로 AUTO_INCREMENT ID를 사용하는 테이블(역할 변경 이력, 학기별 회원 등)은
+ * 두 방식의 ID가 겹칠 수 있으므로 IDENTITY 전략을 유지합니다.</p>
+ */
+public final class IdGeneration {
+
+    /** 시퀀스에서 한 번에 할당받는 ID 수 (pooled 최적화) */
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGeneration() {
+    }
+}
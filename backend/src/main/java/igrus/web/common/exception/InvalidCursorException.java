@@ -0,0 +1,11 @@
+package igrus.web.common.exception;
+
+/**
+ * 커서 페이징의 커서 값을 해석할 수 없을 때 발생하는 예외.
+ */
+public class InvalidCursorException extends CustomBaseException {
+
+    public InvalidCursorException() {
+        super(ErrorCode.INVALID_CURSOR);
+    }
+}
@@ -0,0 +1,66 @@
+package igrus.web.common.pagination;
+
+import igrus.web.common.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * (생성일시, ID) 기반 키셋 페이징 커서.
+ *
+ * <p>(생성일시, ID) 순으로 정렬된 목록에서 마지막으로 전달한 행의 위치를 나타냅니다.
+ * 정렬 방향(오름차순/내림차순)은 커서가 아니라 이를 사용하는 쿼리가 정하며, 쿼리는 두 컬럼을 같은 방향으로 정렬하고
+ * 그 방향에 맞는 비교 조건(예: 내림차순이면 커서보다 작은 행)으로 다음 페이지를 조회해야 합니다.
+ * 생성일시가 같은 행이 여러 개여도 ID로 순서가 확정되므로 누락이나 중복 없이 다음 페이지를 조회할 수 있습니다.
+ * 클라이언트에는 URL-safe Base64 문자열로 전달되며, 클라이언트는 값을 해석하지 않고 그대로 돌려보내야 합니다.
+ *
+ * @param createdAt 마지막 행의 생성일시
+ * @param id        마지막 행의 ID
+ */
+public record CreatedAtCursor(Instant createdAt, Long id) {
+
+    private static final String DELIMITER = "_";
+
+    public static CreatedAtCursor of(Instant createdAt, Long id) {
+        return new CreatedAtCursor(createdAt, id);
+    }
+
+    /**
+     * 커서 문자열을 해석합니다.
+     *
+     * @param cursor 클라이언트가 전달한 커서 (첫 페이지는 null 또는 빈 문자열)
+     * @return 커서, 첫 페이지 요청이면 null
+     * @throws InvalidCursorException 커서 형식이 올바르지 않은 경우
+     */
+    public static CreatedAtCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(DELIMITER);
+            if (index < 0) {
+                throw new InvalidCursorException();
+            }
+            return new CreatedAtCursor(
+                    Instant.parse(decoded.substring(0, index)),
+                    Long.parseLong(decoded.substring(index + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    /**
+     * 커서를 클라이언트에 전달할 문자열로 변환합니다.
+     *
+     * @return URL-safe Base64 커서 문자열
+     */
+    public String encode() {
+        String raw = createdAt.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,71 @@
+package igrus.web.common.pagination;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 페이징 응답 DTO.
+ *
+ * <p>전체 건수(COUNT 쿼리)를 계산하지 않고, 요청 크기보다 한 건 더 조회하여 다음 페이지 존재 여부를 판단합니다.
+ *
+ * @param <T> 목록 항목 타입
+ */
+@Schema(description = "커서 페이징 응답")
+public record CursorPageResponse<T>(
+    @Schema(description = "목록")
+    List<T> content,
+
+    @Schema(description = "다음 페이지 커서 (다음 페이지가 없으면 null)", example = "MjAyNi0wMS0wMVQwMDowMDowMFpfMTA")
+    String nextCursor,
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    boolean hasNext
+) {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 요청 크기를 1 ~ {@link #MAX_SIZE} 범위로 보정합니다.
+     *
+     * @param size 요청 크기
+     * @return 보정된 크기
+     */
+    public static int normalizeSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+
+    /**
+     * 다음 페이지 존재 여부 확인을 위해 요청 크기보다 한 건 더 조회하는 Pageable을 생성합니다.
+     *
+     * @param size 보정된 요청 크기
+     * @return 첫 페이지, size + 1 크기의 Pageable
+     */
+    public static Pageable fetchPageable(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    /**
+     * size + 1건으로 조회한 행으로부터 커서 페이징 응답을 생성합니다.
+     *
+     * @param rows           size + 1건까지 조회한 행
+     * @param size           요청 크기
+     * @param cursorOf       행의 커서 추출 함수
+     * @param mapper         행을 응답 항목으로 변환하는 함수
+     * @param <R>            조회 행 타입
+     * @param <T>            응답 항목 타입
+     * @return CursorPageResponse
+     */
+    public static <R, T> CursorPageResponse<T> of(List<R> rows, int size,
+                                                  Function<R, CreatedAtCursor> cursorOf,
+                                                  Function<R, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<R> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new CursorPageResponse<>(page.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
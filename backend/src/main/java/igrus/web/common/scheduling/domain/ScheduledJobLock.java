@@ -0,0 +1,51 @@
+package igrus.web.common.scheduling.domain;
+
+import igrus.web.common.domain.BaseEntity;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.AttributeOverrides;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 스케줄 작업 임대(lease) 락 엔티티.
+ *
+ * <p>작업마다 한 행을 두고, {@code lockedUntil}이 지난 행만 원자적 UPDATE로 가져갈 수 있게 해서
+ * 여러 인스턴스 중 한 노드만 작업을 실행하도록 합니다. 행 생성과 락 획득/반환은
+ * {@code ScheduledJobLockRepository}의 네이티브 INSERT와 UPDATE로만 수행합니다.</p>
+ */
+@Entity
+@Table(name = "scheduled_job_locks")
+@AttributeOverrides({
+        @AttributeOverride(name = "createdAt", column = @Column(name = "scheduled_job_locks_created_at", nullable = false, updatable = false)),
+        @AttributeOverride(name = "updatedAt", column = @Column(name = "scheduled_job_locks_updated_at", nullable = false)),
+        @AttributeOverride(name = "createdBy", column = @Column(name = "scheduled_job_locks_created_by", updatable = false)),
+        @AttributeOverride(name = "updatedBy", column = @Column(name = "scheduled_job_locks_updated_by"))
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScheduledJobLock extends BaseEntity {
+
+    /** 작업 이름 */
+    @Id
+    @Column(name = "scheduled_job_locks_name", length = 100)
+    private String name;
+
+    /** 락 만료 시각 (이 시각 이후에는 다른 노드가 락을 가져갈 수 있음) */
+    @Column(name = "scheduled_job_locks_locked_until", nullable = false)
+    private Instant lockedUntil;
+
+    /** 마지막으로 락을 획득한 시각 */
+    @Column(name = "scheduled_job_locks_locked_at", nullable = false)
+    private Instant lockedAt;
+
+    /** 마지막으로 락을 획득한 노드 */
+    @Column(name = "scheduled_job_locks_locked_by", nullable = false)
+    private String lockedBy;
+}
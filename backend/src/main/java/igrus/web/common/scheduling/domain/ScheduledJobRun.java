@@ -0,0 +1,118 @@
+package igrus.web.common.scheduling.domain;
+
+import igrus.web.common.domain.BaseEntity;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.AttributeOverrides;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 스케줄 작업 실행 이력 엔티티.
+ *
+ * <p>락을 얻어 실제로 실행된 작업만 기록합니다. 다른 노드가 실행 중이라 건너뛴 실행은 기록하지 않습니다.</p>
+ */
+@Entity
+@Table(name = "scheduled_job_runs", indexes = {
+        @Index(name = "idx_scheduled_job_runs_job_started", columnList = "scheduled_job_runs_job_name, scheduled_job_runs_started_at"),
+        @Index(name = "idx_scheduled_job_runs_started_at", columnList = "scheduled_job_runs_started_at")
+})
+@AttributeOverrides({
+        @AttributeOverride(name = "createdAt", column = @Column(name = "scheduled_job_runs_created_at", nullable = false, updatable = false)),
+        @AttributeOverride(name = "updatedAt", column = @Column(name = "scheduled_job_runs_updated_at", nullable = false)),
+        @AttributeOverride(name = "createdBy", column = @Column(name = "scheduled_job_runs_created_by", updatable = false)),
+        @AttributeOverride(name = "updatedBy", column = @Column(name = "scheduled_job_runs_updated_by"))
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScheduledJobRun extends BaseEntity {
+
+    public static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "scheduled_job_runs_id")
+    private Long id;
+
+    /** 작업 이름 */
+    @Column(name = "scheduled_job_runs_job_name", nullable = false, length = 100)
+    private String jobName;
+
+    /** 실행한 노드 */
+    @Column(name = "scheduled_job_runs_node", nullable = false)
+    private String node;
+
+    /** 실행 결과 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scheduled_job_runs_status", nullable = false, length = 20)
+    private ScheduledJobRunStatus status;
+
+    /** 시작 시각 */
+    @Column(name = "scheduled_job_runs_started_at", nullable = false)
+    private Instant startedAt;
+
+    /** 종료 시각 */
+    @Column(name = "scheduled_job_runs_finished_at", nullable = false)
+    private Instant finishedAt;
+
+    /** 실행 시간 (밀리초) */
+    @Column(name = "scheduled_job_runs_duration_ms", nullable = false)
+    private long durationMs;
+
+    /** 처리한 행 수 (실패 시 null) */
+    @Column(name = "scheduled_job_runs_processed_count")
+    private Integer processedCount;
+
+    /** 실패 사유 (성공 시 null) */
+    @Column(name = "scheduled_job_runs_error_message", length = MAX_ERROR_MESSAGE_LENGTH)
+    private String errorMessage;
+
+    // === 정적 팩토리 메서드 ===
+
+    /**
+     * 정상 완료된 실행 이력을 생성합니다.
+     */
+    public static ScheduledJobRun succeeded(String jobName, String node, Instant startedAt, Instant finishedAt,
+                                            int processedCount) {
+        ScheduledJobRun run = create(jobName, node, ScheduledJobRunStatus.SUCCEEDED, startedAt, finishedAt);
+        run.processedCount = processedCount;
+        return run;
+    }
+
+    /**
+     * 실패한 실행 이력을 생성합니다. 실패 사유는 예외 타입과 메시지로 기록합니다.
+     */
+    public static ScheduledJobRun failed(String jobName, String node, Instant startedAt, Instant finishedAt,
+                                         Throwable cause) {
+        ScheduledJobRun run = create(jobName, node, ScheduledJobRunStatus.FAILED, startedAt, finishedAt);
+        String message = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        run.errorMessage = message.length() > MAX_ERROR_MESSAGE_LENGTH
+                ? message.substring(0, MAX_ERROR_MESSAGE_LENGTH)
+                : message;
+        return run;
+    }
+
+    private static ScheduledJobRun create(String jobName, String node, ScheduledJobRunStatus status,
+                                          Instant startedAt, Instant finishedAt) {
+        ScheduledJobRun run = new ScheduledJobRun();
+        run.jobName = jobName;
+        run.node = node;
+        run.status = status;
+        run.startedAt = startedAt;
+        run.finishedAt = finishedAt;
+        run.durationMs = Duration.between(startedAt, finishedAt).toMillis();
+        return run;
+    }
+}
@@ -0,0 +1,11 @@
+package igrus.web.common.scheduling.domain;
+
+/**
+ * 스케줄 작업 실행 결과.
+ */
+public enum ScheduledJobRunStatus {
+    /** 정상 완료 */
+    SUCCEEDED,
+    /** 예외로 실패 */
+    FAILED
+}
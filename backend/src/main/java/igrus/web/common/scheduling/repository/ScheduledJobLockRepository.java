@@ -0,0 +1,59 @@
+package igrus.web.common.scheduling.repository;
+
+import igrus.web.common.scheduling.domain.ScheduledJobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+/**
+ * 스케줄 작업 락 레포지토리.
+ *
+ * <p>락 획득/반환은 모두 엔티티를 로드하지 않는 원자적 UPDATE이며, 갱신된 행 수를 반환합니다.
+ * 작업의 락 행이 없으면 획득이 0을 반환하므로 호출 측에서 {@link #insertUnlocked}로 행을 만든 뒤 시도합니다.</p>
+ */
+@Repository
+public interface ScheduledJobLockRepository extends JpaRepository<ScheduledJobLock, String> {
+
+    /**
+     * 누구도 잡고 있지 않은 락 행을 생성합니다.
+     * 다른 노드가 동시에 생성하면 기본 키 중복으로 실패합니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO scheduled_job_locks (scheduled_job_locks_name, scheduled_job_locks_locked_until, " +
+            "scheduled_job_locks_locked_at, scheduled_job_locks_locked_by, " +
+            "scheduled_job_locks_created_at, scheduled_job_locks_updated_at) " +
+            "VALUES (:name, :now, :now, '', :now, :now)",
+            nativeQuery = true)
+    int insertUnlocked(@Param("name") String name, @Param("now") Instant now);
+
+    /**
+     * 락이 만료되었으면 현재 노드가 {@code lockUntil}까지 락을 가져갑니다.
+     *
+     * @return 획득에 성공하면 1, 다른 노드가 잡고 있거나 행이 없으면 0
+     */
+    @Modifying
+    @Query("UPDATE ScheduledJobLock l SET l.lockedUntil = :lockUntil, l.lockedAt = :now, l.lockedBy = :lockedBy " +
+            "WHERE l.name = :name AND l.lockedUntil <= :now")
+    int tryAcquire(@Param("name") String name,
+                   @Param("now") Instant now,
+                   @Param("lockUntil") Instant lockUntil,
+                   @Param("lockedBy") String lockedBy);
+
+    /**
+     * 현재 노드가 잡은 락의 만료 시각을 {@code releaseAt}으로 앞당깁니다.
+     * 그사이 만료되어 다른 노드가 가져간 락은 건드리지 않습니다.
+     *
+     * @return 반환된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("UPDATE ScheduledJobLock l SET l.lockedUntil = :releaseAt " +
+            "WHERE l.name = :name AND l.lockedBy = :lockedBy AND l.lockedAt = :lockedAt")
+    int release(@Param("name") String name,
+                @Param("lockedBy") String lockedBy,
+                @Param("lockedAt") Instant lockedAt,
+                @Param("releaseAt") Instant releaseAt);
+}
@@ -0,0 +1,32 @@
+package igrus.web.common.scheduling.repository;
+
+import igrus.web.common.scheduling.domain.ScheduledJobRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 스케줄 작업 실행 이력 레포지토리.
+ */
+@Repository
+public interface ScheduledJobRunRepository extends JpaRepository<ScheduledJobRun, Long> {
+
+    /**
+     * 작업의 실행 이력을 최신순으로 조회합니다.
+     */
+    List<ScheduledJobRun> findByJobNameOrderByStartedAtDesc(String jobName);
+
+    /**
+     * 기준 시각 이전에 시작된 실행 이력을 삭제합니다.
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM ScheduledJobRun r WHERE r.startedAt < :cutoff")
+    int deleteByStartedAtBefore(@Param("cutoff") Instant cutoff);
+}
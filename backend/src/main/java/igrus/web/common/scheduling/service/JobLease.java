@@ -0,0 +1,13 @@
+package igrus.web.common.scheduling.service;
+
+import java.time.Instant;
+
+/**
+ * 획득한 스케줄 작업 락.
+ *
+ * @param jobName  작업 이름
+ * @param lockedBy 락을 획득한 노드
+ * @param lockedAt 락을 획득한 시각
+ */
+public record JobLease(String jobName, String lockedBy, Instant lockedAt) {
+}
@@ -0,0 +1,78 @@
+package igrus.web.common.scheduling.service;
+
+import igrus.web.common.scheduling.repository.ScheduledJobLockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+/**
+ * 스케줄 작업 임대(lease) 락 서비스.
+ *
+ * <p>락은 {@code lockAtMost} 동안 유지되어, 노드가 작업 중 죽어도 그 시간이 지나면 다른 노드가 가져갈 수 있습니다.
+ * 작업이 끝나면 {@code lockAtLeast}가 지날 때까지는 락을 유지해, 노드 간 시계 차이나 서로 다른 시작 시각 때문에
+ * 같은 주기의 작업이 다른 노드에서 한 번 더 실행되지 않도록 합니다. 시각은 각 노드의 시계를 사용합니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ScheduledJobLockService {
+
+    /** 현재 노드 식별자 (pid@hostname) */
+    public static final String NODE = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final ScheduledJobLockRepository scheduledJobLockRepository;
+
+    /**
+     * 작업의 락 행이 없으면 생성합니다.
+     * 다른 노드가 동시에 생성하면 {@link org.springframework.dao.DataIntegrityViolationException}이 발생하며,
+     * 이 경우 행은 이미 존재하므로 호출 측에서 무시하면 됩니다.
+     *
+     * @param jobName 작업 이름
+     */
+    public void createLockIfAbsent(String jobName) {
+        if (!scheduledJobLockRepository.existsById(jobName)) {
+            scheduledJobLockRepository.insertUnlocked(jobName, now());
+        }
+    }
+
+    /**
+     * 락이 비어 있으면 {@code lockAtMost} 동안 획득합니다.
+     *
+     * @param jobName    작업 이름
+     * @param lockAtMost 락 최대 유지 시간
+     * @return 획득한 락, 다른 노드가 잡고 있으면 빈 값
+     */
+    public Optional<JobLease> tryAcquire(String jobName, Duration lockAtMost) {
+        Instant now = now();
+        int acquired = scheduledJobLockRepository.tryAcquire(jobName, now, now.plus(lockAtMost), NODE);
+        return acquired == 1 ? Optional.of(new JobLease(jobName, NODE, now)) : Optional.empty();
+    }
+
+    /**
+     * 락을 반환합니다. 획득 후 {@code lockAtLeast}가 지나지 않았으면 그 시각까지 유지합니다.
+     *
+     * @param lease       획득한 락
+     * @param lockAtLeast 락 최소 유지 시간
+     */
+    public void release(JobLease lease, Duration lockAtLeast) {
+        Instant now = now();
+        Instant minimumUntil = lease.lockedAt().plus(lockAtLeast);
+        Instant releaseAt = now.isAfter(minimumUntil) ? now : minimumUntil;
+        scheduledJobLockRepository.release(lease.jobName(), lease.lockedBy(), lease.lockedAt(), releaseAt);
+    }
+
+    // === Private Helper Methods ===
+
+    /**
+     * DB 컬럼 정밀도(마이크로초)와 맞춰 저장 후 다시 비교할 수 있도록 밀리초 단위로 자릅니다.
+     */
+    private static Instant now() {
+        return Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+}
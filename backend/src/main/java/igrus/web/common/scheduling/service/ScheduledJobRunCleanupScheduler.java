@@ -0,0 +1,41 @@
+package igrus.web.common.scheduling.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 스케줄 작업 실행 이력 정리 스케줄러.
+ *
+ * <p>매일 새벽 3시 30분에 실행되어 보관 기간(90일)이 지난 실행 이력을 삭제합니다.</p>
+ */
+@Slf4j
+@Component
+@Profile("!test")
+@RequiredArgsConstructor
+public class ScheduledJobRunCleanupScheduler {
+
+    private static final String JOB_NAME = "scheduled-job-run-cleanup";
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST = Duration.ofMinutes(5);
+    private static final int RETENTION_DAYS = 90;
+
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final ScheduledJobRunService scheduledJobRunService;
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void cleanupOldRuns() {
+        scheduledJobRunner.run(JOB_NAME, LOCK_AT_MOST, LOCK_AT_LEAST, () -> {
+            Instant cutoff = Instant.now().minus(RETENTION_DAYS, ChronoUnit.DAYS);
+            int deletedCount = scheduledJobRunService.deleteOldRuns(cutoff);
+            log.info("스케줄 작업 실행 이력 정리 완료: {}건 삭제", deletedCount);
+            return deletedCount;
+        });
+    }
+}
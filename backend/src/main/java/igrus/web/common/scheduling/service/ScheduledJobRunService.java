@@ -0,0 +1,37 @@
+package igrus.web.common.scheduling.service;
+
+import igrus.web.common.scheduling.domain.ScheduledJobRun;
+import igrus.web.common.scheduling.repository.ScheduledJobRunRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * 스케줄 작업 실행 이력 서비스.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ScheduledJobRunService {
+
+    private final ScheduledJobRunRepository scheduledJobRunRepository;
+
+    /**
+     * 실행 이력을 저장합니다.
+     */
+    public void record(ScheduledJobRun run) {
+        scheduledJobRunRepository.save(run);
+    }
+
+    /**
+     * 기준 시각 이전에 시작된 실행 이력을 삭제합니다.
+     *
+     * @param cutoff 기준 시각
+     * @return 삭제된 이력 수
+     */
+    public int deleteOldRuns(Instant cutoff) {
+        return scheduledJobRunRepository.deleteByStartedAtBefore(cutoff);
+    }
+}
@@ -0,0 +1,78 @@
+package igrus.web.common.scheduling.service;
+
+import igrus.web.common.scheduling.domain.ScheduledJobRun;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.IntSupplier;
+
+/**
+ * 클러스터에서 한 노드만 스케줄 작업을 실행하도록 하는 실행기.
+ *
+ * <p>모든 인스턴스의 {@code @Scheduled} 메서드가 이 실행기를 통해 작업을 실행하면, 작업별 락을 얻은 노드만
+ * 실제로 실행하고 나머지는 건너뜁니다. 실행 결과(시간, 처리 행 수, 실패 사유)는 실행 이력으로 기록합니다.</p>
+ *
+ * <p>주의: 이 실행기는 트랜잭션 밖에서 호출해야 합니다. 락 획득, 이력 기록, 락 반환은 각각 별도 트랜잭션으로
+ * 즉시 커밋되어야 다른 노드에서 보입니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobRunner {
+
+    private final ScheduledJobLockService scheduledJobLockService;
+    private final ScheduledJobRunService scheduledJobRunService;
+
+    /**
+     * 락을 얻으면 작업을 실행합니다. 다른 노드가 락을 잡고 있으면 실행하지 않습니다.
+     *
+     * @param jobName     작업 이름
+     * @param lockAtMost  락 최대 유지 시간 (작업이 이보다 오래 걸리면 다른 노드가 중복 실행할 수 있음)
+     * @param lockAtLeast 락 최소 유지 시간 (작업 주기보다 약간 짧게 두어 같은 주기의 중복 실행 방지)
+     * @param job         실행할 작업 (처리한 행 수 반환)
+     * @return 작업을 실행했으면 true, 다른 노드에서 실행 중이라 건너뛰었으면 false
+     */
+    public boolean run(String jobName, Duration lockAtMost, Duration lockAtLeast, IntSupplier job) {
+        Optional<JobLease> lease = acquire(jobName, lockAtMost);
+        if (lease.isEmpty()) {
+            log.debug("다른 노드가 실행 중이거나 최근에 실행한 작업이므로 건너뜀: {}", jobName);
+            return false;
+        }
+
+        Instant startedAt = Instant.now();
+        try {
+            int processedCount = job.getAsInt();
+            recordRun(ScheduledJobRun.succeeded(jobName, lease.get().lockedBy(), startedAt, Instant.now(), processedCount));
+            return true;
+        } catch (RuntimeException e) {
+            recordRun(ScheduledJobRun.failed(jobName, lease.get().lockedBy(), startedAt, Instant.now(), e));
+            throw e;
+        } finally {
+            scheduledJobLockService.release(lease.get(), lockAtLeast);
+        }
+    }
+
+    // === Private Helper Methods ===
+
+    private Optional<JobLease> acquire(String jobName, Duration lockAtMost) {
+        try {
+            scheduledJobLockService.createLockIfAbsent(jobName);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("다른 노드가 먼저 락 행을 생성함: {}", jobName);
+        }
+        return scheduledJobLockService.tryAcquire(jobName, lockAtMost);
+    }
+
+    private void recordRun(ScheduledJobRun run) {
+        try {
+            scheduledJobRunService.record(run);
+        } catch (RuntimeException e) {
+            log.error("스케줄 작업 실행 이력 기록 실패: job={}, status={}", run.getJobName(), run.getStatus(), e);
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package igrus.web.community.board.domain;
 
+import igrus.web.common.cache.CacheRegions;
+import igrus.web.common.cache.ReferenceDataCacheListener;
 import igrus.web.common.domain.BaseEntity;
 import jakarta.persistence.AttributeOverride;
 import jakarta.persistence.AttributeOverrides;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -14,13 +18,23 @@ import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 /**
  * 게시판 엔티티.
  * 시스템에서 사용하는 게시판 정보를 관리합니다.
+ *
+ * <p>거의 바뀌지 않는 참조 데이터이므로 2차 캐시에 보관하며, 게시판 코드를 자연 키로 조회합니다.</p>
  */
 @Entity
 @Table(name = "boards")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.BOARD)
+@NaturalIdCache(region = CacheRegions.BOARD_NATURAL_ID)
+@EntityListeners(ReferenceDataCacheListener.class)
 @AttributeOverrides({
         @AttributeOverride(name = "createdAt", column = @Column(name = "boards_created_at", nullable = false, updatable = false)),
         @AttributeOverride(name = "updatedAt", column = @Column(name = "boards_updated_at", nullable = false)),
@@ -38,6 +52,7 @@ public class Board extends BaseEntity {
     private Long id;
 
     /** 게시판 코드 (NOTICES: 공지사항, GENERAL: 자유게시판, INSIGHT: 인사이트) */
+    @NaturalId
     @Enumerated(EnumType.STRING)
     @Column(name = "boards_code", unique = true, nullable = false, length = 20)
     private BoardCode code;
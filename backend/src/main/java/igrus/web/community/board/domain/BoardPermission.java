@@ -1,11 +1,15 @@
 package igrus.web.community.board.domain;
 
+import igrus.web.common.cache.CacheRegions;
+import igrus.web.common.cache.ReferenceDataCacheListener;
 import igrus.web.common.domain.BaseEntity;
 import igrus.web.user.domain.UserRole;
 import jakarta.persistence.AttributeOverride;
 import jakarta.persistence.AttributeOverrides;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -19,12 +23,19 @@ import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * 게시판 권한 엔티티.
  * 각 게시판에 대한 역할별 읽기/쓰기 권한을 관리합니다.
+ *
+ * <p>게시판 조회마다 확인하는 참조 데이터이므로 2차 캐시에 보관합니다.</p>
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.BOARD_PERMISSION)
+@EntityListeners(ReferenceDataCacheListener.class)
 @Table(name = "board_permissions", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"board_permissions_board_id", "board_permissions_role"})
 })
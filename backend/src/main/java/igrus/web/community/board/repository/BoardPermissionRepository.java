@@ -1,9 +1,13 @@
 package igrus.web.community.board.repository;
 
+import igrus.web.common.cache.CacheRegions;
 import igrus.web.community.board.domain.Board;
 import igrus.web.community.board.domain.BoardPermission;
 import igrus.web.user.domain.UserRole;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,6 +19,10 @@ import java.util.Optional;
 @Repository
 public interface BoardPermissionRepository extends JpaRepository<BoardPermission, Long> {
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.BOARD_PERMISSION_QUERY)
+    })
     Optional<BoardPermission> findByBoardAndRole(Board board, UserRole role);
 
     List<BoardPermission> findAllByBoard(Board board);
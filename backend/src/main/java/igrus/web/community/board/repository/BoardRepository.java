@@ -1,20 +1,25 @@
 package igrus.web.community.board.repository;
 
+import igrus.web.common.cache.CacheRegions;
 import igrus.web.community.board.domain.Board;
-import igrus.web.community.board.domain.BoardCode;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 
 /**
  * 게시판 Repository.
+ * 게시판은 2차 캐시 대상이며, 코드 조회는 {@link BoardRepositoryCustom#findByCode}의 자연 키 조회를 사용합니다.
  */
 @Repository
-public interface BoardRepository extends JpaRepository<Board, Long> {
-
-    Optional<Board> findByCode(BoardCode code);
+public interface BoardRepository extends JpaRepository<Board, Long>, BoardRepositoryCustom {
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.BOARD_QUERY)
+    })
     List<Board> findAllByOrderByDisplayOrderAsc();
 }
@@ -0,0 +1,18 @@
+package igrus.web.community.board.repository;
+
+import igrus.web.community.board.domain.Board;
+import igrus.web.community.board.domain.BoardCode;
+
+import java.util.Optional;
+
+/**
+ * 게시판 Repository 사용자 정의 조회.
+ */
+public interface BoardRepositoryCustom {
+
+    /**
+     * 게시판 코드(자연 키)로 게시판을 조회합니다.
+     * 자연 키 캐시와 엔티티 캐시에 있으면 SQL을 실행하지 않습니다.
+     */
+    Optional<Board> findByCode(BoardCode code);
+}
@@ -0,0 +1,29 @@
+package igrus.web.community.board.repository;
+
+import igrus.web.community.board.domain.Board;
+import igrus.web.community.board.domain.BoardCode;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 게시판 Repository 사용자 정의 조회 구현.
+ * 파생 쿼리 대신 Hibernate 자연 키 조회를 사용해 2차 캐시(자연 키 → ID → 엔티티)를 거치도록 합니다.
+ * 사용자 정의 메서드는 기본 Repository 트랜잭션이 적용되지 않으므로 읽기 전용 트랜잭션을 직접 선언합니다.
+ */
+@RequiredArgsConstructor
+class BoardRepositoryImpl implements BoardRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Board> findByCode(BoardCode code) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Board.class)
+                .loadOptional(code);
+    }
+}
@@ -1,6 +1,7 @@
 package igrus.web.community.bookmark.controller;
 
 import igrus.web.common.exception.ErrorResponse;
+import igrus.web.common.pagination.CursorPageResponse;
 import igrus.web.community.bookmark.dto.response.BookmarkStatusResponse;
 import igrus.web.community.bookmark.dto.response.BookmarkToggleResponse;
 import igrus.web.community.bookmark.dto.response.BookmarkedPostResponse;
@@ -17,15 +18,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import igrus.web.common.config.SwaggerConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -146,13 +145,21 @@ public class BookmarkController {
 
     @Operation(
             summary = "내 북마크 목록 조회",
-            description = "내가 북마크한 게시글 목록을 조회합니다."
+            description = "내가 북마크한 게시글 목록을 최신 북마크순으로 조회합니다. 삭제된 게시글은 제외되며, 응답의 nextCursor로 다음 페이지를 조회합니다."
     )
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
                     description = "북마크 목록 조회 성공"
             ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 커서",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
             @ApiResponse(
                     responseCode = "401",
                     description = "인증 필요",
@@ -165,14 +172,16 @@ public class BookmarkController {
     @SecurityRequirement(name = SwaggerConfig.SECURITY_SCHEME_NAME)
     @GetMapping("/api/v1/users/me/bookmarks")
     @PreAuthorize("hasAnyRole('MEMBER', 'OPERATOR', 'ADMIN')")
-    public ResponseEntity<Page<BookmarkedPostResponse>> getMyBookmarks(
-            @PageableDefault(size = 20) Pageable pageable,
+    public ResponseEntity<CursorPageResponse<BookmarkedPostResponse>> getMyBookmarks(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)")
+            @RequestParam(defaultValue = "20") int size,
             @AuthenticationPrincipal AuthenticatedUser user
     ) {
-        log.info("내 북마크 목록 조회 요청 - userId: {}, page: {}, size: {}",
-                user.userId(), pageable.getPageNumber(), pageable.getPageSize());
+        log.info("내 북마크 목록 조회 요청 - userId: {}, size: {}, hasCursor: {}", user.userId(), size, cursor != null);
 
-        Page<BookmarkedPostResponse> response = bookmarkService.getMyBookmarks(user.userId(), pageable);
+        CursorPageResponse<BookmarkedPostResponse> response = bookmarkService.getMyBookmarks(user.userId(), cursor, size);
         return ResponseEntity.ok(response);
     }
 }
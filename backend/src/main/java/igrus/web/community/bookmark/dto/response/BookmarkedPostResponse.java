@@ -1,14 +1,15 @@
 package igrus.web.community.bookmark.dto.response;
 
-import igrus.web.community.bookmark.domain.Bookmark;
-import igrus.web.community.post.domain.Post;
+import igrus.web.community.bookmark.repository.BookmarkedPostProjection;
 import igrus.web.user.domain.User;
+import igrus.web.user.domain.UserStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.Instant;
 
 /**
  * 북마크한 게시글 목록 조회 응답 DTO.
+ * 삭제된 게시글은 목록 조회 쿼리에서 제외되므로 포함되지 않습니다.
  */
 @Schema(description = "북마크한 게시글 응답")
 public record BookmarkedPostResponse(
@@ -30,25 +31,33 @@ public record BookmarkedPostResponse(
     @Schema(description = "게시글 작성일")
     Instant createdAt,
 
-    @Schema(description = "삭제 여부", example = "false")
-    boolean isDeleted,
-
-    @Schema(description = "삭제된 경우 메시지", example = "삭제된 게시글입니다")
-    String deletedMessage
+    @Schema(description = "북마크한 일시")
+    Instant bookmarkedAt
 ) {
-    public static BookmarkedPostResponse from(Bookmark bookmark) {
-        Post post = bookmark.getPost();
-        boolean isDeleted = post.isDeleted();
-
+    /**
+     * 내 북마크 목록 Projection으로부터 응답을 생성합니다.
+     * 익명 게시글의 경우 작성자 이름을 "익명"으로, 탈퇴한 작성자는 "탈퇴한 사용자"로 표시합니다.
+     *
+     * @param row 내 북마크 목록 Projection
+     * @return BookmarkedPostResponse
+     */
+    public static BookmarkedPostResponse from(BookmarkedPostProjection row) {
+        boolean isAnonymous = Boolean.TRUE.equals(row.getIsAnonymous());
         return new BookmarkedPostResponse(
-            post.getId(),
-            isDeleted ? null : post.getTitle(),
-            post.getBoard().getCode().name(),
-            post.getBoard().getName(),
-            isDeleted ? null : (post.isAnonymous() ? "익명" : (post.getAuthor() != null ? post.getAuthor().getDisplayName() : User.WITHDRAWN_DISPLAY_NAME)),
-            post.getCreatedAt(),
-            isDeleted,
-            isDeleted ? "삭제된 게시글입니다" : null
+            row.getPostId(),
+            row.getTitle(),
+            row.getBoardCode().name(),
+            row.getBoardName(),
+            isAnonymous ? "익명" : authorDisplayName(row),
+            row.getCreatedAt(),
+            row.getBookmarkedAt()
         );
     }
+
+    private static String authorDisplayName(BookmarkedPostProjection row) {
+        boolean withdrawn = row.getAuthorName() == null
+            || Boolean.TRUE.equals(row.getAuthorDeleted())
+            || row.getAuthorStatus() == UserStatus.WITHDRAWN;
+        return withdrawn ? User.WITHDRAWN_DISPLAY_NAME : row.getAuthorName();
+    }
 }
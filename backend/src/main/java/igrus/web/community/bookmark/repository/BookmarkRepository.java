@@ -3,15 +3,16 @@ package igrus.web.community.bookmark.repository;
 import igrus.web.community.bookmark.domain.Bookmark;
 import igrus.web.community.post.domain.Post;
 import igrus.web.user.domain.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -20,6 +21,16 @@ import java.util.Optional;
 @Repository
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
+    /** 내 북마크 목록 SELECT 절 (게시판/작성자 조인, 본문 제외) */
+    String MY_BOOKMARKS_SELECT = "SELECT bm.id AS bookmarkId, bm.createdAt AS bookmarkedAt, " +
+            "p.id AS postId, p.title AS title, b.code AS boardCode, b.name AS boardName, " +
+            "p.isAnonymous AS isAnonymous, p.createdAt AS createdAt, " +
+            "a.name AS authorName, a.status AS authorStatus, a.deleted AS authorDeleted " +
+            "FROM Bookmark bm JOIN bm.post p JOIN p.board b LEFT JOIN p.author a ";
+
+    /** 내 북마크 목록 정렬 (커서 기준과 동일) */
+    String MY_BOOKMARKS_ORDER = "ORDER BY bm.createdAt DESC, bm.id DESC";
+
     /**
      * 특정 게시글과 사용자의 북마크를 조회합니다.
      */
@@ -38,15 +49,45 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     void deleteByPostAndUser(@Param("post") Post post, @Param("user") User user);
 
     /**
-     * 사용자가 북마크한 게시글 목록을 최신순으로 조회합니다.
+     * 사용자가 북마크한 삭제되지 않은 게시글의 첫 페이지를 최신 북마크순으로 조회합니다.
+     * 게시판, 작성자를 함께 조인하며 COUNT 쿼리를 실행하지 않습니다.
+     *
+     * @param userId   사용자 ID
+     * @param pageable 조회 크기 (다음 페이지 확인을 위해 요청 크기 + 1)
+     * @return 북마크한 게시글 목록
+     */
+    @Query(MY_BOOKMARKS_SELECT +
+           "WHERE bm.user.id = :userId AND p.deleted = false " +
+           MY_BOOKMARKS_ORDER)
+    List<BookmarkedPostProjection> findMyBookmarks(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 커서 이후의 북마크한 게시글을 조회합니다. (북마크 생성일시, 북마크 ID) 기준 키셋 페이징입니다.
+     *
+     * @param userId          사용자 ID
+     * @param cursorCreatedAt 이전 페이지 마지막 북마크의 생성일시
+     * @param cursorId        이전 페이지 마지막 북마크의 ID
+     * @param pageable        조회 크기 (다음 페이지 확인을 위해 요청 크기 + 1)
+     * @return 북마크한 게시글 목록
      */
-    @EntityGraph(attributePaths = {"post", "post.board", "post.author"})
-    @Query("SELECT b FROM Bookmark b WHERE b.user = :user ORDER BY b.createdAt DESC")
-    Page<Bookmark> findAllByUserOrderByCreatedAtDesc(@Param("user") User user, Pageable pageable);
+    @Query(MY_BOOKMARKS_SELECT +
+           "WHERE bm.user.id = :userId AND p.deleted = false " +
+           "AND (bm.createdAt < :cursorCreatedAt OR (bm.createdAt = :cursorCreatedAt AND bm.id < :cursorId)) " +
+           MY_BOOKMARKS_ORDER)
+    List<BookmarkedPostProjection> findMyBookmarksAfter(@Param("userId") Long userId,
+                                                        @Param("cursorCreatedAt") Instant cursorCreatedAt,
+                                                        @Param("cursorId") Long cursorId,
+                                                        Pageable pageable);
 
     /**
      * 특정 게시글 ID와 사용자 ID로 북마크 존재 여부를 확인합니다.
      */
     @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END FROM Bookmark b WHERE b.post.id = :postId AND b.user.id = :userId")
     boolean existsByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    /**
+     * 주어진 게시글 중 사용자가 북마크한 게시글 ID를 조회합니다.
+     */
+    @Query("SELECT b.post.id FROM Bookmark b WHERE b.user.id = :userId AND b.post.id IN :postIds")
+    List<Long> findBookmarkedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
 }
@@ -0,0 +1,38 @@
+package igrus.web.community.bookmark.repository;
+
+import igrus.web.community.board.domain.BoardCode;
+import igrus.web.user.domain.UserStatus;
+
+import java.time.Instant;
+
+/**
+ * 내 북마크 목록 조회용 Projection.
+ * 북마크, 게시글, 게시판, 작성자를 한 번의 조인 쿼리로 읽습니다.
+ *
+ * <p>{@code bookmarkId}와 {@code bookmarkedAt}은 커서 페이징 기준(북마크 생성일시, 북마크 ID)입니다.
+ * 탈퇴한 작성자는 삭제 여부(authorDeleted)가 true이거나 상태가 WITHDRAWN으로 조회됩니다.
+ */
+public interface BookmarkedPostProjection {
+
+    Long getBookmarkId();
+
+    Instant getBookmarkedAt();
+
+    Long getPostId();
+
+    String getTitle();
+
+    BoardCode getBoardCode();
+
+    String getBoardName();
+
+    Boolean getIsAnonymous();
+
+    Instant getCreatedAt();
+
+    String getAuthorName();
+
+    UserStatus getAuthorStatus();
+
+    Boolean getAuthorDeleted();
+}
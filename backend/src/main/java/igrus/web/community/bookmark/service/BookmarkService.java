@@ -1,10 +1,14 @@
 package igrus.web.community.bookmark.service;
 
+import igrus.web.common.exception.InvalidCursorException;
+import igrus.web.common.pagination.CreatedAtCursor;
+import igrus.web.common.pagination.CursorPageResponse;
 import igrus.web.community.bookmark.domain.Bookmark;
 import igrus.web.community.bookmark.dto.response.BookmarkStatusResponse;
 import igrus.web.community.bookmark.dto.response.BookmarkToggleResponse;
 import igrus.web.community.bookmark.dto.response.BookmarkedPostResponse;
 import igrus.web.community.bookmark.repository.BookmarkRepository;
+import igrus.web.community.bookmark.repository.BookmarkedPostProjection;
 import igrus.web.community.post.domain.Post;
 import igrus.web.community.post.exception.PostDeletedException;
 import igrus.web.community.post.exception.PostNotFoundException;
@@ -14,11 +18,10 @@ import igrus.web.user.exception.UserNotFoundException;
 import igrus.web.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -105,18 +108,27 @@ public class BookmarkService {
     }
 
     /**
-     * 사용자가 북마크한 게시글 목록을 조회합니다.
+     * 사용자가 북마크한 게시글 목록을 최신 북마크순으로 조회합니다.
+     * 삭제된 게시글은 제외하며, (북마크 생성일시, 북마크 ID) 커서로 다음 페이지를 조회합니다.
      *
      * @param userId 사용자 ID
-     * @param pageable 페이징 정보
-     * @return 북마크한 게시글 목록
+     * @param cursor 이전 페이지의 다음 커서 (첫 페이지는 null)
+     * @param size   페이지 크기
+     * @return 북마크한 게시글 커서 페이지
+     * @throws InvalidCursorException 커서 형식이 올바르지 않은 경우
      */
     @Transactional(readOnly = true)
-    public Page<BookmarkedPostResponse> getMyBookmarks(Long userId, Pageable pageable) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(UserNotFoundException::new);
-
-        Page<Bookmark> bookmarks = bookmarkRepository.findAllByUserOrderByCreatedAtDesc(user, pageable);
-        return bookmarks.map(BookmarkedPostResponse::from);
+    public CursorPageResponse<BookmarkedPostResponse> getMyBookmarks(Long userId, String cursor, int size) {
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        CreatedAtCursor after = CreatedAtCursor.decode(cursor);
+
+        List<BookmarkedPostProjection> rows = after == null
+                ? bookmarkRepository.findMyBookmarks(userId, CursorPageResponse.fetchPageable(pageSize))
+                : bookmarkRepository.findMyBookmarksAfter(userId, after.createdAt(), after.id(),
+                        CursorPageResponse.fetchPageable(pageSize));
+
+        return CursorPageResponse.of(rows, pageSize,
+                row -> CreatedAtCursor.of(row.getBookmarkedAt(), row.getBookmarkId()),
+                BookmarkedPostResponse::from);
     }
 }
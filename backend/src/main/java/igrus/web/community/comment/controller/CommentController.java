@@ -28,6 +28,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -169,7 +170,8 @@ public class CommentController {
 
     @Operation(
             summary = "댓글 목록 조회",
-            description = "게시글의 댓글 목록을 계층 구조로 조회합니다. 등록순(오래된 순)으로 정렬됩니다."
+            description = "게시글의 댓글 목록을 계층 구조로 조회합니다. 최상위 댓글을 등록순(오래된 순)으로 커서 페이징하며, " +
+                    "각 최상위 댓글은 대댓글을 모두 포함합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달하여 조회합니다."
     )
     @ApiResponses({
             @ApiResponse(
@@ -180,6 +182,14 @@ public class CommentController {
                             schema = @Schema(implementation = CommentListResponse.class)
                     )
             ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 커서",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "게시글을 찾을 수 없음",
@@ -193,13 +203,17 @@ public class CommentController {
     public ResponseEntity<CommentListResponse> getComments(
             @Parameter(description = "게시글 ID", example = "1")
             @PathVariable Long postId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 - 최상위 댓글 기준 (최대 100)")
+            @RequestParam(defaultValue = "20") int size,
             @AuthenticationPrincipal AuthenticatedUser user
     ) {
-        log.info("댓글 목록 조회 요청 - postId: {}, userId: {}",
-                postId, user != null ? user.userId() : null);
+        log.info("댓글 목록 조회 요청 - postId: {}, userId: {}, size: {}, hasCursor: {}",
+                postId, user != null ? user.userId() : null, size, cursor != null);
 
         Long currentUserId = user != null ? user.userId() : null;
-        CommentListResponse response = commentService.getCommentsByPostId(postId, currentUserId);
+        CommentListResponse response = commentService.getCommentsByPostId(postId, currentUserId, cursor, size);
         return ResponseEntity.ok(response);
     }
 
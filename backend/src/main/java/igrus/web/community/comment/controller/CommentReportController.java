@@ -1,8 +1,10 @@
 package igrus.web.community.comment.controller;
 
+import igrus.web.common.pagination.CursorPageResponse;
 import igrus.web.community.comment.dto.request.CreateCommentReportRequest;
 import igrus.web.community.comment.dto.request.UpdateReportStatusRequest;
 import igrus.web.community.comment.dto.response.CommentReportResponse;
+import igrus.web.community.comment.dto.response.ReportedCommentResponse;
 import igrus.web.community.comment.service.CommentReportService;
 import igrus.web.common.exception.ErrorResponse;
 import igrus.web.security.auth.common.domain.AuthenticatedUser;
@@ -28,6 +30,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -97,13 +100,22 @@ public class CommentReportController {
     }
 
     @Operation(
-            summary = "신고 목록 조회 (관리자)",
-            description = "대기 중인 신고 목록을 조회합니다. OPERATOR 이상 권한이 필요합니다."
+            summary = "신고 검토 대기열 조회 (관리자)",
+            description = "대기 중인 신고를 댓글 단위로 묶어 신고 수와 함께 조회합니다. 가장 먼저 신고된 댓글부터 커서 페이징하며, " +
+                    "다음 페이지는 응답의 nextCursor를 cursor로 전달하여 조회합니다. OPERATOR 이상 권한이 필요합니다."
     )
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
-                    description = "신고 목록 조회 성공"
+                    description = "신고 검토 대기열 조회 성공"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 커서",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
             ),
             @ApiResponse(
                     responseCode = "401",
@@ -125,15 +137,118 @@ public class CommentReportController {
     @SecurityRequirement(name = SwaggerConfig.SECURITY_SCHEME_NAME)
     @PreAuthorize("hasAnyRole('OPERATOR', 'ADMIN')")
     @GetMapping("/api/v1/admin/comment-reports")
-    public ResponseEntity<List<CommentReportResponse>> getPendingReports(
+    public ResponseEntity<CursorPageResponse<ReportedCommentResponse>> getModerationQueue(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 - 댓글 기준 (최대 100)")
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal AuthenticatedUser user
+    ) {
+        log.info("신고 검토 대기열 조회 요청 - userId: {}, size: {}, hasCursor: {}", user.userId(), size, cursor != null);
+
+        CursorPageResponse<ReportedCommentResponse> response = commentReportService.getModerationQueue(cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "댓글별 대기 신고 조회 (관리자)",
+            description = "특정 댓글의 대기 중인 신고를 신고자와 사유와 함께 신고순으로 조회합니다. OPERATOR 이상 권한이 필요합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "신고 목록 조회 성공"
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 필요",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "권한 없음 (OPERATOR 이상 필요)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @SecurityRequirement(name = SwaggerConfig.SECURITY_SCHEME_NAME)
+    @PreAuthorize("hasAnyRole('OPERATOR', 'ADMIN')")
+    @GetMapping("/api/v1/admin/comment-reports/comments/{commentId}")
+    public ResponseEntity<List<CommentReportResponse>> getPendingReportsByComment(
+            @Parameter(description = "댓글 ID", example = "1")
+            @PathVariable Long commentId,
             @AuthenticationPrincipal AuthenticatedUser user
     ) {
-        log.info("신고 목록 조회 요청 - userId: {}", user.userId());
+        log.info("댓글별 신고 조회 요청 - commentId: {}, userId: {}", commentId, user.userId());
 
-        List<CommentReportResponse> reports = commentReportService.getPendingReports();
+        List<CommentReportResponse> reports = commentReportService.getPendingReportsByComment(commentId);
         return ResponseEntity.ok(reports);
     }
 
+    @Operation(
+            summary = "댓글별 신고 일괄 처리 (관리자)",
+            description = "특정 댓글의 대기 중인 신고를 일괄 처리합니다. 승인(RESOLVED)하면 댓글을 가리고, " +
+                    "반려(DISMISSED)하면 자동 가림을 해제합니다. OPERATOR 이상 권한이 필요합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "신고 처리 성공"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (상태 누락)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 필요",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "권한 없음 (OPERATOR 이상 필요)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "댓글을 찾을 수 없음",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @SecurityRequirement(name = SwaggerConfig.SECURITY_SCHEME_NAME)
+    @PreAuthorize("hasAnyRole('OPERATOR', 'ADMIN')")
+    @PatchMapping("/api/v1/admin/comment-reports/comments/{commentId}")
+    public ResponseEntity<Void> processReportsByComment(
+            @Parameter(description = "댓글 ID", example = "1")
+            @PathVariable Long commentId,
+            @Valid @RequestBody UpdateReportStatusRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user
+    ) {
+        log.info("댓글별 신고 일괄 처리 요청 - commentId: {}, status: {}, userId: {}",
+                commentId, request.getStatus(), user.userId());
+
+        commentReportService.processReportsByComment(commentId, request, user.userId());
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(
             summary = "신고 처리 (관리자)",
             description = "신고를 처리합니다 (승인/반려). OPERATOR 이상 권한이 필요합니다."
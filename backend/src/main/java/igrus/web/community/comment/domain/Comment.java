@@ -1,7 +1,9 @@
 package igrus.web.community.comment.domain;
 
+import igrus.web.common.domain.IdGeneration;
 import igrus.web.common.domain.SoftDeletableEntity;
 import igrus.web.community.post.domain.Post;
+import igrus.web.user.domain.AuthorSnapshot;
 import igrus.web.user.domain.User;
 import jakarta.persistence.AttributeOverride;
 import jakarta.persistence.AttributeOverrides;
@@ -14,13 +16,13 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.NotFound;
-import org.hibernate.annotations.NotFoundAction;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -47,9 +49,13 @@ public class Comment extends SoftDeletableEntity {
     /** 댓글 내용 최대 길이 */
     public static final int MAX_CONTENT_LENGTH = 500;
 
+    /** 신고 누적으로 가려진 댓글 대신 일반 응답에 표시하는 문구 */
+    public static final String HIDDEN_CONTENT = "신고가 누적되어 가려진 댓글입니다";
+
     /** 댓글 고유 식별자 */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comments_seq")
+    @SequenceGenerator(name = "comments_seq", sequenceName = "comments_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     @Column(name = "comments_id")
     private Long id;
 
@@ -63,11 +69,10 @@ public class Comment extends SoftDeletableEntity {
     @JoinColumn(name = "comments_parent_comment_id")
     private Comment parentComment;
 
-    /** 댓글 작성자. 탈퇴(soft-deleted) 사용자는 @SQLRestriction에 의해 로딩 불가하므로 @NotFound로 null 허용 */
+    /** 댓글 작성자. 탈퇴(soft-deleted) 사용자도 로딩되는 읽기 전용 {@link AuthorSnapshot}으로 매핑하여 지연 로딩을 유지 */
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "comments_author_id", nullable = false)
-    @NotFound(action = NotFoundAction.IGNORE)
-    private User author;
+    private AuthorSnapshot author;
 
     /** 댓글 내용 (최대 500자) */
     @Column(name = "comments_content", nullable = false, length = MAX_CONTENT_LENGTH)
@@ -77,6 +82,21 @@ public class Comment extends SoftDeletableEntity {
     @Column(name = "comments_is_anonymous", nullable = false)
     private boolean isAnonymous = false;
 
+    /**
+     * 신고 누적으로 가려졌는지 여부.
+     * 대기 중인 신고 수가 임계값에 도달하면 {@code CommentRepository}의 벌크 UPDATE로 설정되며, 관리자가 신고를 반려하면 해제됩니다.
+     */
+    @Column(name = "comments_hidden", nullable = false)
+    private boolean hidden = false;
+
+    /**
+     * 대기 중인 신고 중 가장 오래된 신고의 신고 시각. 대기 중인 신고가 없으면 null.
+     * 신고 검토 대기열을 (이 값, 댓글 ID) 인덱스 범위로 페이징하기 위한 비정규화 값이며,
+     * 신고 접수/처리 시 {@code CommentRepository}의 벌크 UPDATE로만 갱신됩니다.
+     */
+    @Column(name = "comments_report_pending_since")
+    private Instant reportPendingSince;
+
     /** 대댓글 목록 */
     @OneToMany(mappedBy = "parentComment")
     private List<Comment> replies = new ArrayList<>();
@@ -85,7 +105,7 @@ public class Comment extends SoftDeletableEntity {
         validateContent(content);
         this.post = post;
         this.parentComment = parentComment;
-        this.author = author;
+        this.author = AuthorSnapshot.from(author);
         this.content = content;
         this.isAnonymous = isAnonymous;
     }
@@ -175,7 +195,7 @@ public class Comment extends SoftDeletableEntity {
      * @return 작성자이면 true
      */
     public boolean isAuthor(User user) {
-        return this.author != null && this.author.getId().equals(user.getId());
+        return this.author.getId().equals(user.getId());
     }
 
     // === Private 검증 메서드 ===
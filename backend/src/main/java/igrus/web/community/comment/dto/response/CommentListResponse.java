@@ -7,25 +7,30 @@ import java.util.List;
 
 /**
  * 댓글 목록 응답 DTO.
+ * 최상위 댓글 단위로 커서 페이징하며, 각 최상위 댓글은 대댓글을 모두 포함합니다.
+ * 전체 댓글 수는 게시글 상세의 commentCount를 사용합니다.
  */
 @Getter
 @Builder
 public class CommentListResponse {
 
     private List<CommentWithRepliesResponse> comments;
-    private long totalCount;
+    private String nextCursor;
+    private boolean hasNext;
 
     /**
      * 댓글 목록 응답을 생성합니다.
      *
-     * @param comments   댓글 목록 (계층 구조)
-     * @param totalCount 전체 댓글 수 (삭제되지 않은 댓글만)
+     * @param comments   최상위 댓글 목록 (계층 구조)
+     * @param nextCursor 다음 페이지 커서 (다음 페이지가 없으면 null)
+     * @param hasNext    다음 페이지 존재 여부
      * @return CommentListResponse
      */
-    public static CommentListResponse of(List<CommentWithRepliesResponse> comments, long totalCount) {
+    public static CommentListResponse of(List<CommentWithRepliesResponse> comments, String nextCursor, boolean hasNext) {
         return CommentListResponse.builder()
                 .comments(comments)
-                .totalCount(totalCount)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
                 .build();
     }
 }
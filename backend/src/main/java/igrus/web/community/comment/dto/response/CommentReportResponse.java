@@ -37,8 +37,8 @@ public class CommentReportResponse {
                 .id(report.getId())
                 .commentId(report.getComment().getId())
                 .commentContent(report.getComment().getContent())
-                .reporterId(report.getReporter().getId())
-                .reporterName(report.getReporter().getName())
+                .reporterId(report.getReporter() != null ? report.getReporter().getId() : null)
+                .reporterName(report.getReporter() != null ? report.getReporter().getName() : null)
                 .reason(report.getReason())
                 .status(report.getStatus())
                 .createdAt(report.getCreatedAt())
@@ -22,6 +22,7 @@ public class CommentResponse {
     private String authorName;
     private boolean isAnonymous;
     private boolean isDeleted;
+    private boolean isHidden;
     private long likeCount;
     private boolean isLikedByMe;
     private Instant createdAt;
@@ -58,11 +59,12 @@ public class CommentResponse {
                 .id(comment.getId())
                 .postId(comment.getPost().getId())
                 .parentCommentId(comment.getParentComment() != null ? comment.getParentComment().getId() : null)
-                .content(comment.getContent())
-                .authorId(comment.isAnonymous() ? null : (comment.getAuthor() != null ? comment.getAuthor().getDisplayId() : null))
-                .authorName(comment.isAnonymous() ? ANONYMOUS_NAME : (comment.getAuthor() != null ? comment.getAuthor().getDisplayName() : User.WITHDRAWN_DISPLAY_NAME))
+                .content(comment.isHidden() ? Comment.HIDDEN_CONTENT : comment.getContent())
+                .authorId(comment.isAnonymous() ? null : comment.getAuthor().getDisplayId())
+                .authorName(comment.isAnonymous() ? ANONYMOUS_NAME : comment.getAuthor().getDisplayName())
                 .isAnonymous(comment.isAnonymous())
                 .isDeleted(false)
+                .isHidden(comment.isHidden())
                 .likeCount(likeCount)
                 .isLikedByMe(isLikedByMe)
                 .createdAt(comment.getCreatedAt())
@@ -71,7 +73,7 @@ public class CommentResponse {
 
     /**
      * Comment 엔티티를 관리자용 CommentResponse로 변환합니다.
-     * 익명 댓글도 실제 작성자 정보를 포함합니다.
+     * 익명 댓글도 실제 작성자 정보를 포함하며, 신고 누적으로 가려진 댓글도 원문을 그대로 포함합니다.
      *
      * @param comment      댓글 엔티티
      * @param likeCount    좋아요 수
@@ -85,8 +87,8 @@ public class CommentResponse {
                     .postId(comment.getPost().getId())
                     .parentCommentId(comment.getParentComment() != null ? comment.getParentComment().getId() : null)
                     .content(DELETED_CONTENT)
-                    .authorId(comment.getAuthor() != null ? comment.getAuthor().getId() : null)
-                    .authorName(comment.getAuthor() != null ? comment.getAuthor().getName() : User.WITHDRAWN_DISPLAY_NAME)
+                    .authorId(comment.getAuthor().isDeleted() ? null : comment.getAuthor().getId())
+                    .authorName(comment.getAuthor().isDeleted() ? User.WITHDRAWN_DISPLAY_NAME : comment.getAuthor().getName())
                     .isAnonymous(comment.isAnonymous())
                     .isDeleted(true)
                     .likeCount(likeCount)
@@ -100,10 +102,11 @@ public class CommentResponse {
                 .postId(comment.getPost().getId())
                 .parentCommentId(comment.getParentComment() != null ? comment.getParentComment().getId() : null)
                 .content(comment.getContent())
-                .authorId(comment.getAuthor() != null ? comment.getAuthor().getId() : null)
-                .authorName(comment.getAuthor() != null ? comment.getAuthor().getName() : User.WITHDRAWN_DISPLAY_NAME)
+                .authorId(comment.getAuthor().isDeleted() ? null : comment.getAuthor().getId())
+                .authorName(comment.getAuthor().isDeleted() ? User.WITHDRAWN_DISPLAY_NAME : comment.getAuthor().getName())
                 .isAnonymous(comment.isAnonymous())
                 .isDeleted(false)
+                .isHidden(comment.isHidden())
                 .likeCount(likeCount)
                 .isLikedByMe(isLikedByMe)
                 .createdAt(comment.getCreatedAt())
@@ -1,7 +1,6 @@
 package igrus.web.community.comment.dto.response;
 
 import igrus.web.community.comment.domain.Comment;
-import igrus.web.user.domain.User;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -23,6 +22,7 @@ public class CommentWithRepliesResponse {
     private String authorName;
     private boolean isAnonymous;
     private boolean isDeleted;
+    private boolean isHidden;
     private long likeCount;
     private boolean isLikedByMe;
     private Instant createdAt;
@@ -60,11 +60,12 @@ public class CommentWithRepliesResponse {
         return CommentWithRepliesResponse.builder()
                 .id(comment.getId())
                 .postId(comment.getPost().getId())
-                .content(comment.getContent())
-                .authorId(comment.isAnonymous() ? null : (comment.getAuthor() != null ? comment.getAuthor().getDisplayId() : null))
-                .authorName(comment.isAnonymous() ? ANONYMOUS_NAME : (comment.getAuthor() != null ? comment.getAuthor().getDisplayName() : User.WITHDRAWN_DISPLAY_NAME))
+                .content(comment.isHidden() ? Comment.HIDDEN_CONTENT : comment.getContent())
+                .authorId(comment.isAnonymous() ? null : comment.getAuthor().getDisplayId())
+                .authorName(comment.isAnonymous() ? ANONYMOUS_NAME : comment.getAuthor().getDisplayName())
                 .isAnonymous(comment.isAnonymous())
                 .isDeleted(false)
+                .isHidden(comment.isHidden())
                 .likeCount(likeCount)
                 .isLikedByMe(isLikedByMe)
                 .createdAt(comment.getCreatedAt())
@@ -0,0 +1,51 @@
+package igrus.web.community.comment.dto.response;
+
+import igrus.web.community.comment.repository.ReportedCommentProjection;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 신고 검토 대기열 항목 응답 DTO.
+ * 신고를 댓글 단위로 묶어 댓글 정보와 대기 중인 신고 수를 제공합니다.
+ */
+@Getter
+@Builder
+public class ReportedCommentResponse {
+
+    private Long commentId;
+    private Long postId;
+    private String content;
+    private Boolean isAnonymous;
+    private Boolean isDeleted;
+    private Boolean isHidden;
+    private Long authorId;
+    private String authorName;
+    private Long reportCount;
+    private Instant firstReportedAt;
+    private Instant lastReportedAt;
+
+    /**
+     * 신고 검토 대기열 Projection을 응답으로 변환합니다.
+     * 관리자용이므로 익명/가림 여부와 무관하게 원본 내용과 실제 작성자를 표시합니다.
+     *
+     * @param row 댓글별 신고 집계
+     * @return ReportedCommentResponse
+     */
+    public static ReportedCommentResponse from(ReportedCommentProjection row) {
+        return ReportedCommentResponse.builder()
+                .commentId(row.getCommentId())
+                .postId(row.getPostId())
+                .content(row.getContent())
+                .isAnonymous(row.getIsAnonymous())
+                .isDeleted(row.getCommentDeleted())
+                .isHidden(row.getHidden())
+                .authorId(row.getAuthorId())
+                .authorName(row.getAuthorName())
+                .reportCount(row.getReportCount())
+                .firstReportedAt(row.getFirstReportedAt())
+                .lastReportedAt(row.getLastReportedAt())
+                .build();
+    }
+}
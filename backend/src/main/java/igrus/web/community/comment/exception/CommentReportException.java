@@ -27,4 +27,8 @@ public class CommentReportException extends CustomBaseException {
     public static CommentReportException reportNotFound() {
         return new CommentReportException(ErrorCode.COMMENT_REPORT_NOT_FOUND);
     }
+
+    public static CommentReportException invalidProcessStatus() {
+        return new CommentReportException(ErrorCode.INVALID_INPUT_VALUE, "신고 처리 상태는 RESOLVED 또는 DISMISSED만 가능합니다");
+    }
 }
@@ -2,8 +2,14 @@ package igrus.web.community.comment.repository;
 
 import igrus.web.community.comment.domain.CommentReport;
 import igrus.web.community.comment.domain.ReportStatus;
+import igrus.web.user.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -12,12 +18,82 @@ import java.util.List;
 public interface CommentReportRepository extends JpaRepository<CommentReport, Long> {
 
     /**
-     * 특정 상태의 신고 목록을 조회합니다.
+     * 신고 검토 대기열 SELECT 절.
+     * 대기 중인 신고가 있는 댓글만 (대기 시작 시각, 댓글 ID) 인덱스 범위로 읽고,
+     * 신고 수와 최근 신고 시각은 페이지에 포함된 댓글에 대해서만 (상태, 댓글 ID, 신고 시각) 인덱스로 집계합니다.
+     */
+    String QUEUE_SELECT = "SELECT c.id AS commentId, c.post.id AS postId, c.content AS content, " +
+            "c.isAnonymous AS isAnonymous, c.deleted AS commentDeleted, c.hidden AS hidden, " +
+            "a.id AS authorId, a.name AS authorName, " +
+            "(SELECT COUNT(r) FROM CommentReport r WHERE r.comment = c AND r.status = :status) AS reportCount, " +
+            "c.reportPendingSince AS firstReportedAt, " +
+            "(SELECT MAX(r.createdAt) FROM CommentReport r WHERE r.comment = c AND r.status = :status) AS lastReportedAt " +
+            "FROM Comment c JOIN c.author a " +
+            "WHERE c.reportPendingSince IS NOT NULL ";
+
+    /** 신고 검토 대기열 정렬 (가장 먼저 신고된 댓글부터) */
+    String QUEUE_ORDER = "ORDER BY c.reportPendingSince ASC, c.id ASC";
+
+    /**
+     * 신고 검토 대기열 첫 페이지를 조회합니다.
+     * 신고를 댓글 단위로 묶어 신고 수와 최초/최근 신고 시각을 반환하며, 최초 신고 시각이 오래된 댓글부터 정렬합니다.
+     * 다음 페이지 존재 여부 확인을 위해 요청 크기 + 1건의 Pageable을 전달합니다.
+     *
+     * @param status   집계할 신고 상태 (대기 중)
+     * @param pageable 조회 크기 (정렬은 쿼리에 고정)
+     * @return 댓글별 신고 집계 목록
+     */
+    @Query(QUEUE_SELECT + QUEUE_ORDER)
+    List<ReportedCommentProjection> findModerationQueue(@Param("status") ReportStatus status, Pageable pageable);
+
+    /**
+     * 커서 이후의 신고 검토 대기열을 조회합니다.
+     * 커서 조건을 집계 전 WHERE 절에 두어 커서 위치부터 인덱스 범위를 읽습니다.
+     *
+     * @param status                 집계할 신고 상태 (대기 중)
+     * @param cursorFirstReportedAt  커서 댓글의 최초 신고 시각
+     * @param cursorCommentId        커서 댓글 ID
+     * @param pageable               조회 크기 (정렬은 쿼리에 고정)
+     * @return 댓글별 신고 집계 목록
+     */
+    @Query(QUEUE_SELECT +
+            "AND (c.reportPendingSince > :cursorFirstReportedAt " +
+            "OR (c.reportPendingSince = :cursorFirstReportedAt AND c.id > :cursorCommentId)) " +
+            QUEUE_ORDER)
+    List<ReportedCommentProjection> findModerationQueueAfter(@Param("status") ReportStatus status,
+                                                             @Param("cursorFirstReportedAt") Instant cursorFirstReportedAt,
+                                                             @Param("cursorCommentId") Long cursorCommentId,
+                                                             Pageable pageable);
+
+    /**
+     * 특정 댓글의 특정 상태 신고를 신고자, 댓글과 함께 신고순으로 조회합니다.
+     * 탈퇴한 신고자의 신고도 포함되도록 신고자는 LEFT JOIN합니다.
      *
-     * @param status 신고 상태
+     * @param commentId 댓글 ID
+     * @param status    신고 상태
      * @return 신고 목록
      */
-    List<CommentReport> findByStatus(ReportStatus status);
+    @Query("SELECT r FROM CommentReport r JOIN FETCH r.comment LEFT JOIN FETCH r.reporter " +
+           "WHERE r.comment.id = :commentId AND r.status = :status ORDER BY r.createdAt ASC, r.id ASC")
+    List<CommentReport> findByCommentIdAndStatusWithReporter(@Param("commentId") Long commentId,
+                                                             @Param("status") ReportStatus status);
+
+    /**
+     * 특정 댓글의 대기 중인 신고를 한 번의 UPDATE로 일괄 처리합니다.
+     *
+     * @param commentId  댓글 ID
+     * @param status     처리 결과 상태 (RESOLVED 또는 DISMISSED)
+     * @param resolvedBy 처리하는 관리자
+     * @param resolvedAt 처리 시각
+     * @return 처리된 신고 수
+     */
+    @Modifying
+    @Query("UPDATE CommentReport r SET r.status = :status, r.resolvedBy = :resolvedBy, r.resolvedAt = :resolvedAt " +
+           "WHERE r.comment.id = :commentId AND r.status = igrus.web.community.comment.domain.ReportStatus.PENDING")
+    int resolvePendingByCommentId(@Param("commentId") Long commentId,
+                                  @Param("status") ReportStatus status,
+                                  @Param("resolvedBy") User resolvedBy,
+                                  @Param("resolvedAt") Instant resolvedAt);
 
     /**
      * 특정 댓글의 신고 목록을 조회합니다.
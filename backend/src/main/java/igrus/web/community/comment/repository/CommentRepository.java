@@ -1,10 +1,15 @@
 package igrus.web.community.comment.repository;
 
 import igrus.web.community.comment.domain.Comment;
+import igrus.web.community.comment.domain.ReportStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -13,45 +18,124 @@ import java.util.List;
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     /**
-     * 게시글의 모든 댓글을 등록순으로 조회합니다. (삭제된 댓글 포함)
+     * 게시글의 최상위 댓글 첫 페이지를 등록순으로 작성자와 함께 조회합니다. (삭제된 댓글 포함)
+     * 다음 페이지 존재 여부 확인을 위해 요청 크기 + 1건의 Pageable을 전달합니다.
      *
-     * @param postId 게시글 ID
-     * @return 댓글 목록
+     * @param postId   게시글 ID
+     * @param pageable 조회 크기 (정렬은 쿼리에 고정)
+     * @return 최상위 댓글 목록
      */
-    List<Comment> findByPostIdOrderByCreatedAtAsc(Long postId);
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author " +
+           "WHERE c.post.id = :postId AND c.parentComment IS NULL " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findTopLevelByPostId(@Param("postId") Long postId, Pageable pageable);
 
     /**
-     * 게시글의 삭제되지 않은 댓글을 등록순으로 조회합니다.
+     * 커서 이후의 최상위 댓글을 등록순으로 작성자와 함께 조회합니다. (삭제된 댓글 포함)
      *
-     * @param postId 게시글 ID
-     * @return 댓글 목록
+     * @param postId          게시글 ID
+     * @param cursorCreatedAt 커서 댓글의 등록 시각
+     * @param cursorId        커서 댓글 ID
+     * @param pageable        조회 크기 (정렬은 쿼리에 고정)
+     * @return 최상위 댓글 목록
      */
-    @Query("SELECT c FROM Comment c WHERE c.post.id = :postId AND c.deleted = false ORDER BY c.createdAt ASC")
-    List<Comment> findByPostIdAndNotDeletedOrderByCreatedAtAsc(@Param("postId") Long postId);
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author " +
+           "WHERE c.post.id = :postId AND c.parentComment IS NULL " +
+           "AND (c.createdAt > :cursorCreatedAt OR (c.createdAt = :cursorCreatedAt AND c.id > :cursorId)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findTopLevelByPostIdAfter(@Param("postId") Long postId,
+                                            @Param("cursorCreatedAt") Instant cursorCreatedAt,
+                                            @Param("cursorId") Long cursorId,
+                                            Pageable pageable);
 
     /**
-     * 부모 댓글의 대댓글 목록을 조회합니다.
+     * 여러 부모 댓글의 대댓글을 한 번의 쿼리로 작성자와 함께 등록순 조회합니다. (삭제된 대댓글 포함)
      *
-     * @param parentCommentId 부모 댓글 ID
+     * @param parentCommentIds 부모 댓글 ID 목록
      * @return 대댓글 목록
      */
-    List<Comment> findByParentCommentId(Long parentCommentId);
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author " +
+           "WHERE c.parentComment.id IN :parentCommentIds " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findRepliesByParentCommentIds(@Param("parentCommentIds") Collection<Long> parentCommentIds);
 
     /**
-     * 게시글의 삭제되지 않은 댓글 수를 조회합니다.
+     * 상태가 {@code status}인 신고 수가 임계값 이상이면 댓글을 가립니다.
+     * 신고 수 확인과 가림 처리를 한 번의 UPDATE로 수행하므로 엔티티를 로드하지 않으며, 이미 가려진 댓글은 갱신하지 않습니다.
      *
-     * @param postId 게시글 ID
-     * @return 댓글 수
+     * @param commentId 댓글 ID
+     * @param status    집계할 신고 상태 (대기 중)
+     * @param threshold 가림 임계값
+     * @return 가려진 댓글 수 (0 또는 1)
      */
-    @Query("SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId AND c.deleted = false")
-    long countByPostIdAndNotDeleted(@Param("postId") Long postId);
+    @Modifying
+    @Query("UPDATE Comment c SET c.hidden = true " +
+           "WHERE c.id = :commentId AND c.hidden = false " +
+           "AND (SELECT COUNT(r) FROM CommentReport r WHERE r.comment.id = :commentId AND r.status = :status) >= :threshold")
+    int hideIfReportedAtLeast(@Param("commentId") Long commentId,
+                              @Param("status") ReportStatus status,
+                              @Param("threshold") long threshold);
 
     /**
-     * 특정 사용자가 작성한 댓글인지 확인합니다.
+     * 댓글의 가림 여부를 변경합니다. 값이 이미 같으면 갱신하지 않습니다.
      *
-     * @param id       댓글 ID
-     * @param authorId 작성자 ID
-     * @return 작성자가 맞으면 true
+     * @param commentId 댓글 ID
+     * @param hidden    가림 여부
+     * @return 갱신된 댓글 수 (0 또는 1)
      */
-    boolean existsByIdAndAuthorId(Long id, Long authorId);
+    @Modifying
+    @Query("UPDATE Comment c SET c.hidden = :hidden WHERE c.id = :commentId AND c.hidden <> :hidden")
+    int updateHidden(@Param("commentId") Long commentId, @Param("hidden") boolean hidden);
+
+    /**
+     * 자동 가림만 해제합니다.
+     * 승인된 신고가 있거나(관리자가 가린 댓글) 대기 중인 신고가 아직 임계값 이상이면 가림을 유지합니다.
+     * 확인과 변경을 한 번의 UPDATE로 수행합니다.
+     *
+     * @param commentId      댓글 ID
+     * @param resolvedStatus 관리자 가림 기준 신고 상태 (승인)
+     * @param pendingStatus  자동 가림 기준 신고 상태 (대기 중)
+     * @param threshold      자동 가림 임계값
+     * @return 가림이 해제된 댓글 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.hidden = false " +
+           "WHERE c.id = :commentId AND c.hidden = true " +
+           "AND NOT EXISTS (SELECT r FROM CommentReport r WHERE r.comment.id = :commentId AND r.status = :resolvedStatus) " +
+           "AND (SELECT COUNT(r) FROM CommentReport r WHERE r.comment.id = :commentId AND r.status = :pendingStatus) < :threshold")
+    int unhideIfOnlyAutoHidden(@Param("commentId") Long commentId,
+                               @Param("resolvedStatus") ReportStatus resolvedStatus,
+                               @Param("pendingStatus") ReportStatus pendingStatus,
+                               @Param("threshold") long threshold);
+
+    /**
+     * 댓글의 대기 중 신고 시작 시각을 상태가 {@code status}인 신고의 가장 이른 신고 시각으로 다시 계산합니다.
+     * 대기 중인 신고가 없으면 null이 되어 신고 검토 대기열에서 빠집니다. 신고 접수와 처리 직후 호출합니다.
+     *
+     * @param commentId 댓글 ID
+     * @param status    기준 신고 상태 (대기 중)
+     * @return 갱신된 댓글 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.reportPendingSince = " +
+           "(SELECT MIN(r.createdAt) FROM CommentReport r WHERE r.comment.id = :commentId AND r.status = :status) " +
+           "WHERE c.id = :commentId")
+    int refreshReportPendingSince(@Param("commentId") Long commentId, @Param("status") ReportStatus status);
+
+    /**
+     * 삭제되지 않은 댓글만 Soft Delete합니다.
+     * 삭제 여부 확인과 변경을 한 번의 UPDATE로 수행하므로, 같은 댓글에 대한 동시 삭제 요청 중 한 요청만 1을 반환합니다.
+     *
+     * @param commentId 댓글 ID
+     * @param deletedBy 삭제 수행자 ID
+     * @param now       삭제 시각
+     * @return 삭제된 댓글 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.deleted = true, c.deletedAt = :now, c.deletedBy = :deletedBy, " +
+           "c.updatedAt = :now, c.updatedBy = :deletedBy " +
+           "WHERE c.id = :commentId AND c.deleted = false")
+    int softDeleteIfActive(@Param("commentId") Long commentId,
+                           @Param("deletedBy") Long deletedBy,
+                           @Param("now") Instant now);
 }
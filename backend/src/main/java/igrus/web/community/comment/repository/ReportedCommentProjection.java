@@ -0,0 +1,34 @@
+package igrus.web.community.comment.repository;
+
+import java.time.Instant;
+
+/**
+ * 신고 검토 대기열 Projection.
+ * 신고를 댓글 단위로 묶어, 검토 화면에 필요한 댓글 정보와 신고 집계만 조회합니다.
+ *
+ * <p>작성자는 탈퇴 여부와 무관하게 조회되는 작성자 스냅샷을 조인하므로 항상 값이 있습니다.
+ */
+public interface ReportedCommentProjection {
+
+    Long getCommentId();
+
+    Long getPostId();
+
+    String getContent();
+
+    Boolean getIsAnonymous();
+
+    Boolean getCommentDeleted();
+
+    Boolean getHidden();
+
+    Long getAuthorId();
+
+    String getAuthorName();
+
+    Long getReportCount();
+
+    Instant getFirstReportedAt();
+
+    Instant getLastReportedAt();
+}
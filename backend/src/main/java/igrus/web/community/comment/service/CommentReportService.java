@@ -1,26 +1,38 @@
 package igrus.web.community.comment.service;
 
+import igrus.web.common.pagination.CreatedAtCursor;
+import igrus.web.common.pagination.CursorPageResponse;
 import igrus.web.community.comment.domain.Comment;
 import igrus.web.community.comment.domain.CommentReport;
 import igrus.web.community.comment.domain.ReportStatus;
 import igrus.web.community.comment.dto.request.CreateCommentReportRequest;
 import igrus.web.community.comment.dto.request.UpdateReportStatusRequest;
 import igrus.web.community.comment.dto.response.CommentReportResponse;
+import igrus.web.community.comment.dto.response.ReportedCommentResponse;
 import igrus.web.community.comment.exception.CommentNotFoundException;
 import igrus.web.community.comment.exception.CommentReportException;
 import igrus.web.community.comment.repository.CommentReportRepository;
 import igrus.web.community.comment.repository.CommentRepository;
+import igrus.web.community.comment.repository.ReportedCommentProjection;
 import igrus.web.user.domain.User;
 import igrus.web.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
  * 댓글 신고 서비스.
+ *
+ * <p>대기 중인 신고가 임계값 이상 누적된 댓글은 자동으로 가려지며,
+ * 관리자는 신고 검토 대기열에서 댓글 단위로 신고를 일괄 처리합니다.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -30,6 +42,9 @@ public class CommentReportService {
     private final CommentReportRepository commentReportRepository;
     private final UserRepository userRepository;
 
+    @Value("${app.community.comment-report.auto-hide-threshold:5}")
+    private int autoHideThreshold;
+
     /**
      * 댓글을 신고합니다.
      *
@@ -48,23 +63,79 @@ public class CommentReportService {
         CommentReport report = CommentReport.create(comment, reporter, request.getReason());
         CommentReport savedReport = commentReportRepository.save(report);
 
+        commentRepository.refreshReportPendingSince(commentId, ReportStatus.PENDING);
+        hideIfThresholdReached(commentId);
+
         return CommentReportResponse.from(savedReport);
     }
 
     /**
-     * 대기 중인 신고 목록을 조회합니다.
+     * 신고 검토 대기열을 조회합니다.
+     * 대기 중인 신고를 댓글 단위로 묶어 신고 수와 함께 반환하며, 가장 먼저 신고된 댓글부터 커서 기반으로 페이징합니다.
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기
+     * @return 댓글별 신고 집계 페이지
+     */
+    public CursorPageResponse<ReportedCommentResponse> getModerationQueue(String cursor, int size) {
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        CreatedAtCursor after = CreatedAtCursor.decode(cursor);
+        Pageable pageable = CursorPageResponse.fetchPageable(pageSize);
+
+        List<ReportedCommentProjection> rows = after == null
+                ? commentReportRepository.findModerationQueue(ReportStatus.PENDING, pageable)
+                : commentReportRepository.findModerationQueueAfter(
+                        ReportStatus.PENDING, after.createdAt(), after.id(), pageable);
+
+        return CursorPageResponse.of(rows, pageSize,
+                row -> CreatedAtCursor.of(row.getFirstReportedAt(), row.getCommentId()),
+                ReportedCommentResponse::from);
+    }
+
+    /**
+     * 특정 댓글의 대기 중인 신고 목록을 신고순으로 조회합니다.
      *
+     * @param commentId 댓글 ID
      * @return 신고 목록
      */
-    public List<CommentReportResponse> getPendingReports() {
-        return commentReportRepository.findByStatus(ReportStatus.PENDING)
+    public List<CommentReportResponse> getPendingReportsByComment(Long commentId) {
+        return commentReportRepository.findByCommentIdAndStatusWithReporter(commentId, ReportStatus.PENDING)
                 .stream()
                 .map(CommentReportResponse::from)
                 .toList();
     }
 
+    /**
+     * 특정 댓글의 대기 중인 신고를 일괄 처리합니다.
+     * 처리된 신고가 있을 때만 댓글 가림 여부를 바꾸며, 규칙은 {@link #updateReportStatus}와 같습니다.
+     *
+     * @param commentId 댓글 ID
+     * @param request   상태 업데이트 요청
+     * @param adminId   처리하는 관리자 ID
+     * @throws CommentReportException 처리 상태가 RESOLVED 또는 DISMISSED가 아닌 경우
+     */
+    @Transactional
+    public void processReportsByComment(Long commentId, UpdateReportStatusRequest request, Long adminId) {
+        ReportStatus status = request.getStatus();
+        if (status == ReportStatus.PENDING) {
+            throw CommentReportException.invalidProcessStatus();
+        }
+
+        validateCommentExists(commentId);
+        User admin = findUserById(adminId);
+
+        int processed = commentReportRepository.resolvePendingByCommentId(commentId, status, admin, Instant.now());
+        if (processed > 0) {
+            applyModerationResult(commentId, status);
+        }
+        commentRepository.refreshReportPendingSince(commentId, ReportStatus.PENDING);
+
+        log.info("댓글 신고 일괄 처리 - commentId: {}, status: {}, processed: {}", commentId, status, processed);
+    }
+
     /**
      * 신고 상태를 업데이트합니다.
+     * 대기 중이던 신고를 처리한 경우에만 댓글 가림 여부를 바꾸며, 규칙은 {@link #processReportsByComment}와 같습니다.
      *
      * @param reportId 신고 ID
      * @param request  상태 업데이트 요청
@@ -74,12 +145,20 @@ public class CommentReportService {
     public void updateReportStatus(Long reportId, UpdateReportStatusRequest request, Long adminId) {
         CommentReport report = findReportById(reportId);
         User admin = findUserById(adminId);
+        Long commentId = report.getComment().getId();
+        boolean wasPending = report.isPending();
 
-        if (request.getStatus() == ReportStatus.RESOLVED) {
+        ReportStatus status = request.getStatus();
+        if (status == ReportStatus.RESOLVED) {
             report.resolve(admin);
-        } else if (request.getStatus() == ReportStatus.DISMISSED) {
+        } else if (status == ReportStatus.DISMISSED) {
             report.dismiss(admin);
         }
+
+        if (wasPending && !report.isPending()) {
+            applyModerationResult(commentId, status);
+        }
+        commentRepository.refreshReportPendingSince(commentId, ReportStatus.PENDING);
     }
 
     // === Private Helper Methods ===
@@ -89,6 +168,12 @@ public class CommentReportService {
                 .orElseThrow(() -> new CommentNotFoundException(commentId));
     }
 
+    private void validateCommentExists(Long commentId) {
+        if (!commentRepository.existsById(commentId)) {
+            throw new CommentNotFoundException(commentId);
+        }
+    }
+
     private User findUserById(Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
@@ -104,4 +189,24 @@ public class CommentReportService {
             throw CommentReportException.alreadyReported();
         }
     }
+
+    /**
+     * 대기 중이던 신고가 처리된 뒤 댓글 가림 여부를 반영합니다.
+     * 승인(RESOLVED)은 댓글을 가립니다. 반려(DISMISSED)는 자동 가림만 해제하므로,
+     * 승인된 신고가 있거나 남은 대기 신고가 여전히 임계값 이상이면 가림을 유지합니다.
+     */
+    private void applyModerationResult(Long commentId, ReportStatus status) {
+        if (status == ReportStatus.RESOLVED) {
+            commentRepository.updateHidden(commentId, true);
+        } else if (status == ReportStatus.DISMISSED) {
+            commentRepository.unhideIfOnlyAutoHidden(
+                    commentId, ReportStatus.RESOLVED, ReportStatus.PENDING, autoHideThreshold);
+        }
+    }
+
+    private void hideIfThresholdReached(Long commentId) {
+        if (commentRepository.hideIfReportedAtLeast(commentId, ReportStatus.PENDING, autoHideThreshold) > 0) {
+            log.info("신고 누적으로 댓글 자동 가림 - commentId: {}, threshold: {}", commentId, autoHideThreshold);
+        }
+    }
 }
@@ -1,5 +1,9 @@
 package igrus.web.community.comment.service;
 
+import igrus.web.common.config.MetricsConfig;
+import igrus.web.common.exception.InvalidCursorException;
+import igrus.web.common.pagination.CreatedAtCursor;
+import igrus.web.common.pagination.CursorPageResponse;
 import igrus.web.community.comment.domain.Comment;
 import igrus.web.community.comment.dto.request.CreateCommentRequest;
 import igrus.web.community.comment.dto.response.CommentResponse;
@@ -8,21 +12,29 @@ import igrus.web.community.comment.dto.response.CommentWithRepliesResponse;
 import igrus.web.community.comment.exception.CommentAccessDeniedException;
 import igrus.web.community.comment.exception.CommentNotFoundException;
 import igrus.web.community.comment.exception.InvalidCommentException;
+import igrus.web.community.like.comment_like.repository.CommentLikeCountProjection;
 import igrus.web.community.like.comment_like.repository.CommentLikeRepository;
 import igrus.web.community.comment.repository.CommentRepository;
 import igrus.web.community.post.domain.Post;
 import igrus.web.community.post.exception.PostNotFoundException;
 import igrus.web.community.post.repository.PostRepository;
+import igrus.web.community.post.service.PostCounterService;
 import igrus.web.user.domain.User;
 import igrus.web.user.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 댓글 서비스.
@@ -36,6 +48,7 @@ public class CommentService {
     private final CommentLikeRepository commentLikeRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final PostCounterService postCounterService;
 
     /**
      * 댓글을 작성합니다.
@@ -55,6 +68,7 @@ public class CommentService {
 
         Comment comment = Comment.createComment(post, author, request.getContent(), request.isAnonymous());
         Comment savedComment = commentRepository.save(comment);
+        postCounterService.incrementCommentCount(postId);
 
         return CommentResponse.from(savedComment, 0, false);
     }
@@ -81,59 +95,63 @@ public class CommentService {
 
         Comment reply = Comment.createReply(post, parentComment, author, request.getContent(), request.isAnonymous());
         Comment savedReply = commentRepository.save(reply);
+        postCounterService.incrementCommentCount(postId);
 
         return CommentResponse.from(savedReply, 0, false);
     }
 
     /**
      * 게시글의 댓글 목록을 계층 구조로 조회합니다.
+     * 최상위 댓글을 등록순으로 커서 페이징하고, 각 최상위 댓글의 대댓글을 모두 포함합니다.
+     *
+     * <p>페이지 크기와 무관하게 쿼리 수가 일정합니다: 최상위 댓글(작성자 fetch join), 대댓글(작성자 fetch join),
+     * 좋아요 수 GROUP BY, 현재 사용자 좋아요 여부를 각각 한 번씩 조회하며, 전체 건수 COUNT는 실행하지 않습니다.</p>
      *
      * @param postId        게시글 ID
      * @param currentUserId 현재 사용자 ID (null 가능)
+     * @param cursor        이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size          페이지 크기 (최상위 댓글 기준, 1 ~ 100)
      * @return 댓글 목록 응답
+     * @throws InvalidCursorException 커서 형식이 잘못된 경우
      */
-    public CommentListResponse getCommentsByPostId(Long postId, Long currentUserId) {
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public CommentListResponse getCommentsByPostId(Long postId, Long currentUserId, String cursor, int size) {
         if (!postRepository.existsById(postId)) {
             throw new PostNotFoundException(postId);
         }
 
-        List<Comment> allComments = commentRepository.findByPostIdOrderByCreatedAtAsc(postId);
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        CreatedAtCursor after = CreatedAtCursor.decode(cursor);
+        Pageable pageable = CursorPageResponse.fetchPageable(pageSize);
 
-        Map<Long, CommentWithRepliesResponse> parentCommentMap = new LinkedHashMap<>();
-        List<Comment> replies = new ArrayList<>();
-
-        // TODO: 리팩토링 필요. 좋아요 카운트를 위한 쿼리 호출 횟수 개선 필요.
-        // TODO: 게시물 좋아요 카운트 로직도 개선해야 하는지 검토 필요.
-        for (Comment comment : allComments) {
-            if (comment.isReply()) {
-                replies.add(comment);
-            } else {
-                long likeCount = commentLikeRepository.countByCommentId(comment.getId());
-                boolean isLikedByMe = currentUserId != null &&
-                        commentLikeRepository.existsByCommentIdAndUserId(comment.getId(), currentUserId);
-                parentCommentMap.put(comment.getId(), CommentWithRepliesResponse.from(comment, likeCount, isLikedByMe));
-            }
-        }
+        List<Comment> rows = after == null
+                ? commentRepository.findTopLevelByPostId(postId, pageable)
+                : commentRepository.findTopLevelByPostIdAfter(postId, after.createdAt(), after.id(), pageable);
 
-        for (Comment reply : replies) {
-            Long parentId = reply.getParentComment().getId();
-            CommentWithRepliesResponse parent = parentCommentMap.get(parentId);
-            if (parent != null) {
-                long likeCount = commentLikeRepository.countByCommentId(reply.getId());
-                boolean isLikedByMe = currentUserId != null &&
-                        commentLikeRepository.existsByCommentIdAndUserId(reply.getId(), currentUserId);
-                parent.addReply(CommentResponse.from(reply, likeCount, isLikedByMe));
-            }
+        boolean hasNext = rows.size() > pageSize;
+        List<Comment> parentComments = hasNext ? rows.subList(0, pageSize) : rows;
+        if (parentComments.isEmpty()) {
+            return CommentListResponse.of(List.of(), null, false);
         }
 
-        List<CommentWithRepliesResponse> comments = new ArrayList<>(parentCommentMap.values());
-        long totalCount = commentRepository.countByPostIdAndNotDeleted(postId);
+        List<Long> parentIds = parentComments.stream().map(Comment::getId).toList();
+        List<Comment> replies = commentRepository.findRepliesByParentCommentIds(parentIds);
 
-        return CommentListResponse.of(comments, totalCount);
+        List<Long> commentIds = new ArrayList<>(parentIds);
+        replies.forEach(reply -> commentIds.add(reply.getId()));
+        Map<Long, Long> likeCounts = findLikeCounts(commentIds);
+        Set<Long> likedCommentIds = findLikedCommentIds(currentUserId, commentIds);
+
+        Comment last = parentComments.get(parentComments.size() - 1);
+        String nextCursor = hasNext ? CreatedAtCursor.of(last.getCreatedAt(), last.getId()).encode() : null;
+
+        return CommentListResponse.of(
+                assembleThreads(parentComments, replies, likeCounts, likedCommentIds), nextCursor, hasNext);
     }
 
     /**
      * 댓글을 삭제합니다 (Soft Delete).
+     * 게시글 댓글 수는 조건부 UPDATE로 실제 삭제한 요청에서만 감소하므로, 동시 삭제 요청에도 한 번만 감소합니다.
      *
      * @param postId    게시글 ID
      * @param commentId 댓글 ID
@@ -147,11 +165,55 @@ public class CommentService {
         validateCommentBelongsToPost(comment, postId);
         validateCanDelete(comment, user);
 
-        comment.delete(userId);
+        if (commentRepository.softDeleteIfActive(commentId, userId, Instant.now()) == 0) {
+            return;
+        }
+        postCounterService.decrementCommentCount(postId);
     }
 
     // === Private Helper Methods ===
 
+    /**
+     * 최상위 댓글과 대댓글을 계층 구조 응답으로 조립합니다.
+     * 대댓글은 부모 댓글 ID로 한 번씩만 조회하며, 이 페이지에 없는 부모의 대댓글은 무시합니다.
+     *
+     * @param parentComments  최상위 댓글 (응답 순서)
+     * @param replies         대댓글 (부모별 등록순)
+     * @param likeCounts      댓글 ID별 좋아요 수
+     * @param likedCommentIds 현재 사용자가 좋아요한 댓글 ID
+     * @return 대댓글을 포함한 최상위 댓글 응답 목록
+     */
+    static List<CommentWithRepliesResponse> assembleThreads(List<Comment> parentComments, List<Comment> replies,
+                                                            Map<Long, Long> likeCounts, Set<Long> likedCommentIds) {
+        Map<Long, CommentWithRepliesResponse> parentCommentMap = new LinkedHashMap<>();
+        for (Comment comment : parentComments) {
+            parentCommentMap.put(comment.getId(), CommentWithRepliesResponse.from(comment,
+                    likeCounts.getOrDefault(comment.getId(), 0L), likedCommentIds.contains(comment.getId())));
+        }
+
+        for (Comment reply : replies) {
+            CommentWithRepliesResponse parent = parentCommentMap.get(reply.getParentComment().getId());
+            if (parent != null) {
+                parent.addReply(CommentResponse.from(reply,
+                        likeCounts.getOrDefault(reply.getId(), 0L), likedCommentIds.contains(reply.getId())));
+            }
+        }
+
+        return new ArrayList<>(parentCommentMap.values());
+    }
+
+    private Map<Long, Long> findLikeCounts(List<Long> commentIds) {
+        return commentLikeRepository.countByCommentIds(commentIds).stream()
+                .collect(Collectors.toMap(CommentLikeCountProjection::getCommentId, CommentLikeCountProjection::getLikeCount));
+    }
+
+    private Set<Long> findLikedCommentIds(Long currentUserId, List<Long> commentIds) {
+        if (currentUserId == null) {
+            return Set.of();
+        }
+        return new HashSet<>(commentLikeRepository.findLikedCommentIds(currentUserId, commentIds));
+    }
+
     private Post findPostById(Long postId) {
         return postRepository.findById(postId)
                 .orElseThrow(() -> new PostNotFoundException(postId));
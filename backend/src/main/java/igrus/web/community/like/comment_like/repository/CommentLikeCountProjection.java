@@ -0,0 +1,12 @@
+package igrus.web.community.like.comment_like.repository;
+
+/**
+ * 댓글별 좋아요 수 집계 Projection.
+ * 댓글 목록 한 페이지의 좋아요 수를 GROUP BY 한 번으로 조회할 때 사용합니다.
+ */
+public interface CommentLikeCountProjection {
+
+    Long getCommentId();
+
+    Long getLikeCount();
+}
@@ -2,7 +2,11 @@ package igrus.web.community.like.comment_like.repository;
 
 import igrus.web.community.like.comment_like.domain.CommentLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -36,6 +40,27 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
      */
     long countByCommentId(Long commentId);
 
+    /**
+     * 여러 댓글의 좋아요 수를 한 번의 GROUP BY 쿼리로 조회합니다.
+     * 좋아요가 없는 댓글은 결과에 포함되지 않습니다.
+     *
+     * @param commentIds 댓글 ID 목록
+     * @return 댓글별 좋아요 수
+     */
+    @Query("SELECT l.comment.id AS commentId, COUNT(l) AS likeCount FROM CommentLike l " +
+           "WHERE l.comment.id IN :commentIds GROUP BY l.comment.id")
+    List<CommentLikeCountProjection> countByCommentIds(@Param("commentIds") Collection<Long> commentIds);
+
+    /**
+     * 주어진 댓글 중 특정 사용자가 좋아요를 누른 댓글 ID를 조회합니다.
+     *
+     * @param userId     사용자 ID
+     * @param commentIds 댓글 ID 목록
+     * @return 좋아요를 누른 댓글 ID 목록
+     */
+    @Query("SELECT l.comment.id FROM CommentLike l WHERE l.user.id = :userId AND l.comment.id IN :commentIds")
+    List<Long> findLikedCommentIds(@Param("userId") Long userId, @Param("commentIds") Collection<Long> commentIds);
+
     /**
      * 특정 사용자가 특정 댓글에 누른 좋아요를 삭제합니다.
      *
@@ -1,6 +1,7 @@
 package igrus.web.community.like.post_like.controller;
 
 import igrus.web.common.exception.ErrorResponse;
+import igrus.web.common.pagination.CursorPageResponse;
 import igrus.web.community.like.post_like.dto.response.PostLikeStatusResponse;
 import igrus.web.community.like.post_like.dto.response.PostLikeToggleResponse;
 import igrus.web.community.like.post_like.dto.response.LikedPostResponse;
@@ -17,20 +18,20 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import igrus.web.common.config.SwaggerConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
  * 게시글 좋아요 컨트롤러.
- * 게시글 좋아요 토글, 상태 조회, 목록 조회 API를 제공합니다.
+ * 게시글 좋아요 토글/추가/취소, 상태 조회, 목록 조회 API를 제공합니다.
  */
 @Tag(name = "PostLike", description = "게시글 좋아요 API")
 @Slf4j
@@ -100,6 +101,126 @@ public class PostLikeController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "게시글 좋아요 추가",
+            description = "게시글에 좋아요를 추가합니다. 이미 좋아요한 경우 상태를 변경하지 않고 현재 상태를 반환하므로 안전하게 재시도할 수 있습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "좋아요 추가 성공 (이미 좋아요한 경우 포함)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PostLikeStatusResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 필요",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "정회원 이상 권한 필요",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "게시글을 찾을 수 없음",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "410",
+                    description = "삭제된 게시글",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @SecurityRequirement(name = SwaggerConfig.SECURITY_SCHEME_NAME)
+    @PutMapping("/api/v1/posts/{postId}/likes")
+    @PreAuthorize("hasAnyRole('MEMBER', 'OPERATOR', 'ADMIN')")
+    public ResponseEntity<PostLikeStatusResponse> like(
+            @Parameter(description = "게시글 ID", example = "1")
+            @PathVariable Long postId,
+            @AuthenticationPrincipal AuthenticatedUser user
+    ) {
+        log.info("게시글 좋아요 추가 요청 - postId: {}, userId: {}", postId, user.userId());
+
+        PostLikeStatusResponse response = postLikeService.like(postId, user.userId());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "게시글 좋아요 취소",
+            description = "게시글 좋아요를 취소합니다. 좋아요하지 않은 경우 상태를 변경하지 않고 현재 상태를 반환하므로 안전하게 재시도할 수 있습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "좋아요 취소 성공 (좋아요하지 않은 경우 포함)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PostLikeStatusResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 필요",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "정회원 이상 권한 필요",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "게시글을 찾을 수 없음",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "410",
+                    description = "삭제된 게시글",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @SecurityRequirement(name = SwaggerConfig.SECURITY_SCHEME_NAME)
+    @DeleteMapping("/api/v1/posts/{postId}/likes")
+    @PreAuthorize("hasAnyRole('MEMBER', 'OPERATOR', 'ADMIN')")
+    public ResponseEntity<PostLikeStatusResponse> unlike(
+            @Parameter(description = "게시글 ID", example = "1")
+            @PathVariable Long postId,
+            @AuthenticationPrincipal AuthenticatedUser user
+    ) {
+        log.info("게시글 좋아요 취소 요청 - postId: {}, userId: {}", postId, user.userId());
+
+        PostLikeStatusResponse response = postLikeService.unlike(postId, user.userId());
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
             summary = "게시글 좋아요 상태 조회",
             description = "게시글의 좋아요 상태를 조회합니다."
@@ -146,13 +267,21 @@ public class PostLikeController {
 
     @Operation(
             summary = "내 게시글 좋아요 목록 조회",
-            description = "내가 좋아요한 게시글 목록을 조회합니다."
+            description = "내가 좋아요한 게시글 목록을 최신 좋아요순으로 조회합니다. 삭제된 게시글은 제외되며, 응답의 nextCursor로 다음 페이지를 조회합니다."
     )
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
                     description = "좋아요 목록 조회 성공"
             ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 커서",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
             @ApiResponse(
                     responseCode = "401",
                     description = "인증 필요",
@@ -165,14 +294,16 @@ public class PostLikeController {
     @SecurityRequirement(name = SwaggerConfig.SECURITY_SCHEME_NAME)
     @GetMapping("/api/v1/users/me/likes")
     @PreAuthorize("hasAnyRole('MEMBER', 'OPERATOR', 'ADMIN')")
-    public ResponseEntity<Page<LikedPostResponse>> getMyLikes(
-            @PageableDefault(size = 20) Pageable pageable,
+    public ResponseEntity<CursorPageResponse<LikedPostResponse>> getMyLikes(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)")
+            @RequestParam(defaultValue = "20") int size,
             @AuthenticationPrincipal AuthenticatedUser user
     ) {
-        log.info("내 게시글 좋아요 목록 조회 요청 - userId: {}, page: {}, size: {}",
-                user.userId(), pageable.getPageNumber(), pageable.getPageSize());
+        log.info("내 게시글 좋아요 목록 조회 요청 - userId: {}, size: {}, hasCursor: {}", user.userId(), size, cursor != null);
 
-        Page<LikedPostResponse> response = postLikeService.getMyLikes(user.userId(), pageable);
+        CursorPageResponse<LikedPostResponse> response = postLikeService.getMyLikes(user.userId(), cursor, size);
         return ResponseEntity.ok(response);
     }
 }
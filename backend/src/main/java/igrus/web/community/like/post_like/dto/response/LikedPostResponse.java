@@ -1,14 +1,15 @@
 package igrus.web.community.like.post_like.dto.response;
 
-import igrus.web.community.like.post_like.domain.PostLike;
-import igrus.web.community.post.domain.Post;
+import igrus.web.community.like.post_like.repository.LikedPostProjection;
 import igrus.web.user.domain.User;
+import igrus.web.user.domain.UserStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.Instant;
 
 /**
  * 좋아요한 게시글 목록 조회 응답 DTO.
+ * 삭제된 게시글은 목록 조회 쿼리에서 제외되므로 포함되지 않습니다.
  */
 @Schema(description = "좋아요한 게시글 응답")
 public record LikedPostResponse(
@@ -33,26 +34,34 @@ public record LikedPostResponse(
     @Schema(description = "게시글 작성일")
     Instant createdAt,
 
-    @Schema(description = "삭제 여부", example = "false")
-    boolean isDeleted,
-
-    @Schema(description = "삭제된 경우 메시지", example = "삭제된 게시글입니다")
-    String deletedMessage
+    @Schema(description = "좋아요한 일시")
+    Instant likedAt
 ) {
-    public static LikedPostResponse from(PostLike postLike) {
-        Post post = postLike.getPost();
-        boolean isDeleted = post.isDeleted();
-
+    /**
+     * 내 좋아요 목록 Projection으로부터 응답을 생성합니다.
+     * 익명 게시글의 경우 작성자 이름을 "익명"으로, 탈퇴한 작성자는 "탈퇴한 사용자"로 표시합니다.
+     *
+     * @param row 내 좋아요 목록 Projection
+     * @return LikedPostResponse
+     */
+    public static LikedPostResponse from(LikedPostProjection row) {
+        boolean isAnonymous = Boolean.TRUE.equals(row.getIsAnonymous());
         return new LikedPostResponse(
-            post.getId(),
-            isDeleted ? null : post.getTitle(),
-            post.getBoard().getCode().name(),
-            post.getBoard().getName(),
-            isDeleted ? null : (post.isAnonymous() ? "익명" : (post.getAuthor() != null ? post.getAuthor().getDisplayName() : User.WITHDRAWN_DISPLAY_NAME)),
-            post.getLikeCount(),
-            post.getCreatedAt(),
-            isDeleted,
-            isDeleted ? "삭제된 게시글입니다" : null
+            row.getPostId(),
+            row.getTitle(),
+            row.getBoardCode().name(),
+            row.getBoardName(),
+            isAnonymous ? "익명" : authorDisplayName(row),
+            row.getLikeCount() != null ? row.getLikeCount() : 0,
+            row.getCreatedAt(),
+            row.getLikedAt()
         );
     }
+
+    private static String authorDisplayName(LikedPostProjection row) {
+        boolean withdrawn = row.getAuthorName() == null
+            || Boolean.TRUE.equals(row.getAuthorDeleted())
+            || row.getAuthorStatus() == UserStatus.WITHDRAWN;
+        return withdrawn ? User.WITHDRAWN_DISPLAY_NAME : row.getAuthorName();
+    }
 }
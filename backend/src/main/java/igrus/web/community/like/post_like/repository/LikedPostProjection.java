@@ -0,0 +1,40 @@
+package igrus.web.community.like.post_like.repository;
+
+import igrus.web.community.board.domain.BoardCode;
+import igrus.web.user.domain.UserStatus;
+
+import java.time.Instant;
+
+/**
+ * 내 좋아요 목록 조회용 Projection.
+ * 좋아요, 게시글, 게시판, 작성자, 게시글 카운터를 한 번의 조인 쿼리로 읽습니다.
+ *
+ * <p>{@code likeId}와 {@code likedAt}은 커서 페이징 기준(좋아요 생성일시, 좋아요 ID)입니다.
+ * 탈퇴한 작성자는 삭제 여부(authorDeleted)가 true이거나 상태가 WITHDRAWN으로 조회됩니다.
+ */
+public interface LikedPostProjection {
+
+    Long getLikeId();
+
+    Instant getLikedAt();
+
+    Long getPostId();
+
+    String getTitle();
+
+    BoardCode getBoardCode();
+
+    String getBoardName();
+
+    Boolean getIsAnonymous();
+
+    Integer getLikeCount();
+
+    Instant getCreatedAt();
+
+    String getAuthorName();
+
+    UserStatus getAuthorStatus();
+
+    Boolean getAuthorDeleted();
+}
@@ -3,15 +3,16 @@ package igrus.web.community.like.post_like.repository;
 import igrus.web.community.like.post_like.domain.PostLike;
 import igrus.web.community.post.domain.Post;
 import igrus.web.user.domain.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -20,6 +21,17 @@ import java.util.Optional;
 @Repository
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
+    /** 내 좋아요 목록 SELECT 절 (게시판/작성자/카운터 조인, 본문 제외) */
+    String MY_LIKES_SELECT = "SELECT l.id AS likeId, l.createdAt AS likedAt, " +
+            "p.id AS postId, p.title AS title, b.code AS boardCode, b.name AS boardName, " +
+            "p.isAnonymous AS isAnonymous, COALESCE(c.likeCount, 0) AS likeCount, p.createdAt AS createdAt, " +
+            "a.name AS authorName, a.status AS authorStatus, a.deleted AS authorDeleted " +
+            "FROM PostLike l JOIN l.post p JOIN p.board b LEFT JOIN p.author a " +
+            "LEFT JOIN PostCounter c ON c.postId = p.id ";
+
+    /** 내 좋아요 목록 정렬 (커서 기준과 동일) */
+    String MY_LIKES_ORDER = "ORDER BY l.createdAt DESC, l.id DESC";
+
     /**
      * 특정 게시글과 사용자의 좋아요를 조회합니다.
      */
@@ -38,11 +50,62 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     void deleteByPostAndUser(@Param("post") Post post, @Param("user") User user);
 
     /**
-     * 사용자가 좋아요한 게시글 목록을 최신순으로 조회합니다.
+     * 좋아요가 없을 때만 좋아요 행을 삽입합니다. 엔티티를 로드하지 않는 INSERT ... SELECT입니다.
+     * 게시글이 없거나, 사용자가 없거나(탈퇴 포함), 이미 좋아요한 경우 아무것도 삽입하지 않습니다.
+     *
+     * <p>동시 요청 간 경쟁은 호출 측에서 게시글 카운터 행을 잠근 상태로 실행하여 막습니다.</p>
+     *
+     * @return 삽입된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO likes (likes_post_id, likes_user_id, likes_created_at, likes_updated_at, " +
+            "likes_created_by, likes_updated_by) " +
+            "SELECT p.posts_id, u.users_id, :now, :now, u.users_id, u.users_id " +
+            "FROM posts p JOIN users u ON u.users_id = :userId AND u.users_deleted = false " +
+            "WHERE p.posts_id = :postId " +
+            "AND NOT EXISTS (SELECT 1 FROM likes l WHERE l.likes_post_id = p.posts_id AND l.likes_user_id = u.users_id)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId, @Param("userId") Long userId, @Param("now") Instant now);
+
+    /**
+     * 게시글 ID와 사용자 ID로 좋아요를 삭제합니다 (Hard Delete).
+     *
+     * @return 삭제된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("DELETE FROM PostLike l WHERE l.post.id = :postId AND l.user.id = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    /**
+     * 사용자가 좋아요한 삭제되지 않은 게시글의 첫 페이지를 최신 좋아요순으로 조회합니다.
+     * 게시판, 작성자, 좋아요 수를 함께 조인하며 COUNT 쿼리를 실행하지 않습니다.
+     *
+     * @param userId   사용자 ID
+     * @param pageable 조회 크기 (다음 페이지 확인을 위해 요청 크기 + 1)
+     * @return 좋아요한 게시글 목록
+     */
+    @Query(MY_LIKES_SELECT +
+           "WHERE l.user.id = :userId AND p.deleted = false " +
+           MY_LIKES_ORDER)
+    List<LikedPostProjection> findMyLikes(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 커서 이후의 좋아요한 게시글을 조회합니다. (좋아요 생성일시, 좋아요 ID) 기준 키셋 페이징입니다.
+     *
+     * @param userId          사용자 ID
+     * @param cursorCreatedAt 이전 페이지 마지막 좋아요의 생성일시
+     * @param cursorId        이전 페이지 마지막 좋아요의 ID
+     * @param pageable        조회 크기 (다음 페이지 확인을 위해 요청 크기 + 1)
+     * @return 좋아요한 게시글 목록
      */
-    @EntityGraph(attributePaths = {"post", "post.board", "post.author"})
-    @Query("SELECT l FROM PostLike l WHERE l.user = :user ORDER BY l.createdAt DESC")
-    Page<PostLike> findAllByUserOrderByCreatedAtDesc(@Param("user") User user, Pageable pageable);
+    @Query(MY_LIKES_SELECT +
+           "WHERE l.user.id = :userId AND p.deleted = false " +
+           "AND (l.createdAt < :cursorCreatedAt OR (l.createdAt = :cursorCreatedAt AND l.id < :cursorId)) " +
+           MY_LIKES_ORDER)
+    List<LikedPostProjection> findMyLikesAfter(@Param("userId") Long userId,
+                                               @Param("cursorCreatedAt") Instant cursorCreatedAt,
+                                               @Param("cursorId") Long cursorId,
+                                               Pageable pageable);
 
     /**
      * 특정 게시글의 좋아요 수를 조회합니다.
@@ -54,4 +117,10 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
      */
     @Query("SELECT CASE WHEN COUNT(l) > 0 THEN true ELSE false END FROM PostLike l WHERE l.post.id = :postId AND l.user.id = :userId")
     boolean existsByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    /**
+     * 주어진 게시글 중 사용자가 좋아요한 게시글 ID를 조회합니다.
+     */
+    @Query("SELECT l.post.id FROM PostLike l WHERE l.user.id = :userId AND l.post.id IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
 }
@@ -1,29 +1,30 @@
 package igrus.web.community.like.post_like.service;
 
-import igrus.web.community.like.post_like.domain.PostLike;
+import igrus.web.common.exception.InvalidCursorException;
+import igrus.web.common.pagination.CreatedAtCursor;
+import igrus.web.common.pagination.CursorPageResponse;
 import igrus.web.community.like.post_like.dto.response.PostLikeStatusResponse;
 import igrus.web.community.like.post_like.dto.response.PostLikeToggleResponse;
 import igrus.web.community.like.post_like.dto.response.LikedPostResponse;
+import igrus.web.community.like.post_like.repository.LikedPostProjection;
 import igrus.web.community.like.post_like.repository.PostLikeRepository;
-import igrus.web.community.post.domain.Post;
 import igrus.web.community.post.exception.PostDeletedException;
 import igrus.web.community.post.exception.PostNotFoundException;
 import igrus.web.community.post.repository.PostRepository;
-import igrus.web.user.domain.User;
+import igrus.web.community.post.service.PostCounterService;
 import igrus.web.user.exception.UserNotFoundException;
 import igrus.web.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.Instant;
+import java.util.List;
 
 /**
  * 게시글 좋아요 서비스.
- * 게시글 좋아요 토글, 상태 조회, 목록 조회 기능을 제공합니다.
+ * 게시글 좋아요 토글/추가/취소, 상태 조회, 목록 조회 기능을 제공합니다.
  */
 @Slf4j
 @Service
@@ -33,8 +34,21 @@ public class PostLikeService {
 
     private final PostLikeRepository postLikeRepository;
     private final PostRepository postRepository;
+    private final PostCounterService postCounterService;
     private final UserRepository userRepository;
 
+    // === 좋아요 변경 ===
+    //
+    // 좋아요 변경은 엔티티를 로드하지 않고 다음 순서로 실행합니다.
+    //   1. 사용자 존재 여부, 게시글 삭제 여부 조회 (스칼라)
+    //   2. 게시글 카운터 행 잠금 + 현재 좋아요 수 조회 (SELECT ... FOR UPDATE)
+    //   3. 좋아요 행 조건부 INSERT/DELETE (영향 행 수로 결과 판단)
+    //   4. 실제로 변경된 경우에만 카운터 원자적 증감
+    // 카운터 행 잠금으로 같은 게시글에 대한 요청이 직렬화되므로, 더블 클릭 등 동시 요청에도
+    // 유니크 제약 위반이나 카운터 드리프트가 발생하지 않습니다.
+    // 잠금 이후의 판단은 최신 커밋을 읽는 INSERT/DELETE 결과로만 합니다. REPEATABLE READ에서 일반 SELECT는
+    // 트랜잭션 첫 조회 시점의 스냅샷을 읽으므로, 잠금을 기다리는 동안 다른 요청이 커밋한 좋아요를 보지 못합니다.
+
     /**
      * 좋아요를 토글합니다.
      * 좋아요가 없으면 추가하고, 있으면 취소합니다.
@@ -44,39 +58,72 @@ public class PostLikeService {
      * @return 좋아요 토글 결과
      * @throws PostNotFoundException 게시글을 찾을 수 없는 경우
      * @throws PostDeletedException 삭제된 게시글인 경우
+     * @throws UserNotFoundException 사용자를 찾을 수 없는 경우
      */
     @Transactional
     public PostLikeToggleResponse toggleLike(Long postId, Long userId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException(postId));
-
-        if (post.isDeleted()) {
-            throw new PostDeletedException(postId);
+        validateUserActive(userId);
+        validatePostActive(postId);
+        int likeCount = postCounterService.lockLikeCount(postId);
+
+        if (removeLike(postId, userId)) {
+            likeCount = Math.max(0, likeCount - 1);
+            log.info("게시글 좋아요 취소 - postId: {}, userId: {}, likeCount: {}", postId, userId, likeCount);
+            return PostLikeToggleResponse.of(false, likeCount);
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(UserNotFoundException::new);
-
-        Optional<PostLike> existingLike = postLikeRepository.findByPostAndUser(post, user);
+        if (!addLike(postId, userId)) {
+            // 잠금 상태에서 좋아요가 없는데 삽입도 되지 않았다면 조회 이후 사용자가 탈퇴한 경우
+            throw new UserNotFoundException();
+        }
+        likeCount++;
+        log.info("게시글 좋아요 추가 - postId: {}, userId: {}, likeCount: {}", postId, userId, likeCount);
+        return PostLikeToggleResponse.of(true, likeCount);
+    }
 
-        if (existingLike.isPresent()) {
-            // 좋아요 취소 (Hard Delete)
-            postLikeRepository.delete(existingLike.get());
-            post.decrementLikeCount();
-            postRepository.save(post);
+    /**
+     * 좋아요를 추가합니다. 이미 좋아요한 경우 아무것도 변경하지 않습니다 (멱등).
+     *
+     * @param postId 게시글 ID
+     * @param userId 사용자 ID
+     * @return 변경 후 좋아요 상태
+     * @throws PostNotFoundException 게시글을 찾을 수 없는 경우
+     * @throws PostDeletedException 삭제된 게시글인 경우
+     * @throws UserNotFoundException 사용자를 찾을 수 없는 경우
+     */
+    @Transactional
+    public PostLikeStatusResponse like(Long postId, Long userId) {
+        validateUserActive(userId);
+        validatePostActive(postId);
+        int likeCount = postCounterService.lockLikeCount(postId);
+
+        // 사용자와 게시글은 이미 확인했으므로 삽입되지 않았다면 이미 좋아요한 경우 (다른 요청이 먼저 커밋한 경우 포함)
+        if (addLike(postId, userId)) {
+            likeCount++;
+            log.info("게시글 좋아요 추가 - postId: {}, userId: {}, likeCount: {}", postId, userId, likeCount);
+        }
+        return PostLikeStatusResponse.of(true, likeCount);
+    }
 
-            log.info("게시글 좋아요 취소 - postId: {}, userId: {}, likeCount: {}", postId, userId, post.getLikeCount());
-            return PostLikeToggleResponse.of(false, post.getLikeCount());
-        } else {
-            // 좋아요 추가
-            PostLike postLike = PostLike.create(post, user);
-            postLikeRepository.save(postLike);
-            post.incrementLikeCount();
-            postRepository.save(post);
+    /**
+     * 좋아요를 취소합니다. 좋아요하지 않은 경우 아무것도 변경하지 않습니다 (멱등).
+     *
+     * @param postId 게시글 ID
+     * @param userId 사용자 ID
+     * @return 변경 후 좋아요 상태
+     * @throws PostNotFoundException 게시글을 찾을 수 없는 경우
+     * @throws PostDeletedException 삭제된 게시글인 경우
+     */
+    @Transactional
+    public PostLikeStatusResponse unlike(Long postId, Long userId) {
+        validatePostActive(postId);
+        int likeCount = postCounterService.lockLikeCount(postId);
 
-            log.info("게시글 좋아요 추가 - postId: {}, userId: {}, likeCount: {}", postId, userId, post.getLikeCount());
-            return PostLikeToggleResponse.of(true, post.getLikeCount());
+        if (removeLike(postId, userId)) {
+            likeCount = Math.max(0, likeCount - 1);
+            log.info("게시글 좋아요 취소 - postId: {}, userId: {}, likeCount: {}", postId, userId, likeCount);
         }
+        return PostLikeStatusResponse.of(false, likeCount);
     }
 
     /**
@@ -99,25 +146,82 @@ public class PostLikeService {
      * @throws PostNotFoundException 게시글을 찾을 수 없는 경우
      */
     public PostLikeStatusResponse getLikeStatus(Long postId, Long userId) {
-        Post post = postRepository.findById(postId)
+        postRepository.findDeletedById(postId)
                 .orElseThrow(() -> new PostNotFoundException(postId));
 
         boolean liked = postLikeRepository.existsByPostIdAndUserId(postId, userId);
-        return PostLikeStatusResponse.of(liked, post.getLikeCount());
+        return PostLikeStatusResponse.of(liked, postCounterService.getCounter(postId).getLikeCount());
     }
 
     /**
-     * 사용자가 좋아요한 게시글 목록을 조회합니다.
+     * 사용자가 좋아요한 게시글 목록을 최신 좋아요순으로 조회합니다.
+     * 삭제된 게시글은 제외하며, (좋아요 생성일시, 좋아요 ID) 커서로 다음 페이지를 조회합니다.
      *
      * @param userId 사용자 ID
-     * @param pageable 페이징 정보
-     * @return 좋아요한 게시글 목록
+     * @param cursor 이전 페이지의 다음 커서 (첫 페이지는 null)
+     * @param size   페이지 크기
+     * @return 좋아요한 게시글 커서 페이지
+     * @throws InvalidCursorException 커서 형식이 올바르지 않은 경우
      */
-    public Page<LikedPostResponse> getMyLikes(Long userId, Pageable pageable) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(UserNotFoundException::new);
+    public CursorPageResponse<LikedPostResponse> getMyLikes(Long userId, String cursor, int size) {
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        CreatedAtCursor after = CreatedAtCursor.decode(cursor);
+
+        List<LikedPostProjection> rows = after == null
+                ? postLikeRepository.findMyLikes(userId, CursorPageResponse.fetchPageable(pageSize))
+                : postLikeRepository.findMyLikesAfter(userId, after.createdAt(), after.id(),
+                        CursorPageResponse.fetchPageable(pageSize));
+
+        return CursorPageResponse.of(rows, pageSize,
+                row -> CreatedAtCursor.of(row.getLikedAt(), row.getLikeId()),
+                LikedPostResponse::from);
+    }
+
+    // === Private 메서드 ===
+
+    /**
+     * 사용자가 존재하고 탈퇴하지 않았는지 확인합니다. 엔티티를 로드하지 않습니다.
+     */
+    private void validateUserActive(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException();
+        }
+    }
+
+    /**
+     * 게시글이 존재하고 삭제되지 않았는지 확인합니다. 엔티티를 로드하지 않습니다.
+     */
+    private void validatePostActive(Long postId) {
+        boolean deleted = postRepository.findDeletedById(postId)
+                .orElseThrow(() -> new PostNotFoundException(postId));
+        if (deleted) {
+            throw new PostDeletedException(postId);
+        }
+    }
+
+    /**
+     * 좋아요 행을 삽입하고, 삽입된 경우에만 카운터를 증가시킵니다.
+     *
+     * @return 좋아요가 새로 추가되었는지 여부
+     */
+    private boolean addLike(Long postId, Long userId) {
+        if (postLikeRepository.insertIfAbsent(postId, userId, Instant.now()) == 0) {
+            return false;
+        }
+        postCounterService.incrementLikeCount(postId);
+        return true;
+    }
 
-        Page<PostLike> postLikes = postLikeRepository.findAllByUserOrderByCreatedAtDesc(user, pageable);
-        return postLikes.map(LikedPostResponse::from);
+    /**
+     * 좋아요 행을 삭제(Hard Delete)하고, 삭제된 경우에만 카운터를 감소시킵니다.
+     *
+     * @return 좋아요가 실제로 취소되었는지 여부
+     */
+    private boolean removeLike(Long postId, Long userId) {
+        if (postLikeRepository.deleteByPostIdAndUserId(postId, userId) == 0) {
+            return false;
+        }
+        postCounterService.decrementLikeCount(postId);
+        return true;
     }
 }
@@ -0,0 +1,85 @@
+package igrus.web.community.post.controller;
+
+import igrus.web.common.config.SwaggerConfig;
+import igrus.web.common.exception.ErrorResponse;
+import igrus.web.community.post.dto.request.PostInteractionStateRequest;
+import igrus.web.community.post.dto.response.PostInteractionStateResponse;
+import igrus.web.community.post.service.PostInteractionService;
+import igrus.web.security.auth.common.domain.AuthenticatedUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 게시글 상호작용 상태 컨트롤러.
+ * 목록 화면에서 여러 게시글의 좋아요/북마크/조회 여부를 한 번에 조회하는 API를 제공합니다.
+ */
+@Tag(name = "PostInteraction", description = "게시글 상호작용 상태 API")
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class PostInteractionController {
+
+    private final PostInteractionService postInteractionService;
+
+    @Operation(
+            summary = "게시글 상호작용 상태 일괄 조회",
+            description = "최대 100개 게시글에 대해 현재 사용자의 좋아요/북마크/조회 여부를 한 번에 조회합니다. "
+                    + "조회 전용 요청이지만 ID 목록 길이 제한 때문에 POST 본문으로 전달합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "상호작용 상태 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = PostInteractionStateResponse.class))
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "게시글 ID 목록이 비어 있거나 100개를 초과함",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 필요",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @SecurityRequirement(name = SwaggerConfig.SECURITY_SCHEME_NAME)
+    @PostMapping("/api/v1/posts/interactions")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<PostInteractionStateResponse>> getInteractionStates(
+            @Valid @RequestBody PostInteractionStateRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user
+    ) {
+        log.info("게시글 상호작용 상태 일괄 조회 요청 - userId: {}, count: {}", user.userId(), request.postIds().size());
+
+        List<PostInteractionStateResponse> response =
+                postInteractionService.getInteractionStates(request.postIds(), user.userId());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,8 +1,10 @@
 package igrus.web.community.post.domain;
 
+import igrus.web.common.domain.IdGeneration;
+import igrus.web.common.domain.SoftDeletableEntity;
 import igrus.web.community.board.domain.Board;
 import igrus.web.community.board.domain.BoardCode;
-import igrus.web.common.domain.SoftDeletableEntity;
+import igrus.web.user.domain.AuthorSnapshot;
 import igrus.web.user.domain.User;
 import jakarta.persistence.AttributeOverride;
 import jakarta.persistence.AttributeOverrides;
@@ -16,13 +18,12 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.NotFound;
-import org.hibernate.annotations.NotFoundAction;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -53,9 +54,13 @@ public class Post extends SoftDeletableEntity {
     /** 게시글당 첨부 가능한 최대 이미지 개수 */
     private static final int MAX_IMAGE_COUNT = 5;
 
+    /** 목록 미리보기용 본문 요약 최대 길이 */
+    public static final int EXCERPT_LENGTH = 100;
+
     /** 게시글 고유 식별자 */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "posts_seq")
+    @SequenceGenerator(name = "posts_seq", sequenceName = "posts_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     @Column(name = "posts_id")
     private Long id;
 
@@ -64,11 +69,10 @@ public class Post extends SoftDeletableEntity {
     @JoinColumn(name = "posts_board_id", nullable = false)
     private Board board;
 
-    /** 게시글 작성자. 탈퇴(soft-deleted) 사용자는 @SQLRestriction에 의해 로딩 불가하므로 @NotFound로 null 허용 */
+    /** 게시글 작성자. 탈퇴(soft-deleted) 사용자도 로딩되는 읽기 전용 {@link AuthorSnapshot}으로 매핑하여 지연 로딩을 유지 */
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "posts_author_id", nullable = false)
-    @NotFound(action = NotFoundAction.IGNORE)
-    private User author;
+    private AuthorSnapshot author;
 
     /** 게시글 제목 (최대 100자) */
     @Column(name = "posts_title", nullable = false, length = 100)
@@ -78,15 +82,11 @@ public class Post extends SoftDeletableEntity {
     @Column(name = "posts_content", nullable = false, columnDefinition = "TEXT")
     private String content;
 
-    /** 조회수 (기본값: 0) */
-    @Column(name = "posts_view_count", nullable = false)
-    private int viewCount = 0;
-
-    /** 좋아요 수 (기본값: 0) */
-    @Column(name = "posts_like_count", nullable = false)
-    private int likeCount = 0;
+    /** 목록 미리보기용 본문 요약 (공백 정리 후 최대 100자). 목록 조회 시 본문 대신 사용 */
+    @Column(name = "posts_excerpt", nullable = false, length = EXCERPT_LENGTH)
+    private String excerpt;
 
-    /** 낙관적 락을 위한 버전 (동시성 제어) */
+    /** 낙관적 락을 위한 버전 (동시성 제어). 조회수/좋아요 수는 {@link PostCounter}에 있으므로 내용 수정 시에만 증가 */
     @Version
     @Column(name = "posts_version")
     private Long version;
@@ -111,9 +111,10 @@ public class Post extends SoftDeletableEntity {
                  boolean isAnonymous, boolean isQuestion, boolean isVisibleToAssociate) {
         validateTitle(title);
         this.board = board;
-        this.author = author;
+        this.author = AuthorSnapshot.from(author);
         this.title = title;
         this.content = content;
+        this.excerpt = createExcerpt(content);
         this.isAnonymous = isAnonymous;
         this.isQuestion = isQuestion;
         this.isVisibleToAssociate = isVisibleToAssociate;
@@ -182,40 +183,7 @@ public class Post extends SoftDeletableEntity {
         validateTitle(title);
         this.title = title;
         this.content = content;
-    }
-
-    /**
-     * 조회수를 1 증가시킵니다.
-     */
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
-    /**
-     * 조회수를 지정된 값으로 동기화합니다.
-     * PostView 테이블의 실제 조회 수와 동기화할 때 사용합니다.
-     *
-     * @param viewCount 동기화할 조회수
-     */
-    public void syncViewCount(int viewCount) {
-        this.viewCount = viewCount;
-    }
-
-    /**
-     * 좋아요 수를 1 증가시킵니다.
-     */
-    public void incrementLikeCount() {
-        this.likeCount++;
-    }
-
-    /**
-     * 좋아요 수를 1 감소시킵니다.
-     * 좋아요 수가 0 미만이 되지 않도록 보장합니다.
-     */
-    public void decrementLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
+        this.excerpt = createExcerpt(content);
     }
 
     /**
@@ -289,6 +257,23 @@ public class Post extends SoftDeletableEntity {
         return Collections.unmodifiableList(this.images);
     }
 
+    // === Private 헬퍼 메서드 ===
+
+    /**
+     * 본문에서 목록 미리보기용 요약을 생성합니다.
+     * 연속된 공백/개행을 하나의 공백으로 정리한 뒤 최대 {@value #EXCERPT_LENGTH}자(코드 포인트 기준)로 자릅니다.
+     */
+    private static String createExcerpt(String content) {
+        if (content == null) {
+            return "";
+        }
+        String normalized = content.replaceAll("\\s+", " ").strip();
+        if (normalized.codePointCount(0, normalized.length()) <= EXCERPT_LENGTH) {
+            return normalized;
+        }
+        return normalized.substring(0, normalized.offsetByCodePoints(0, EXCERPT_LENGTH));
+    }
+
     // === Private 검증 메서드 ===
 
     private static void validateTitle(String title) {
@@ -316,6 +301,6 @@ public class Post extends SoftDeletableEntity {
     }
 
     private boolean isAuthor(User user) {
-        return this.author != null && this.author.getId().equals(user.getId());
+        return this.author.getId().equals(user.getId());
     }
 }
@@ -0,0 +1,65 @@
+package igrus.web.community.post.domain;
+
+import igrus.web.common.domain.BaseEntity;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.AttributeOverrides;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 카운터 엔티티.
+ * 조회수, 좋아요 수, 댓글 수를 게시글 본문 행과 분리된 테이블에 보관합니다.
+ *
+ * <p>게시글({@link Post})은 내용 수정 충돌을 막기 위해 {@code @Version}을 사용하므로, 카운터가 같은 행에 있으면
+ * 조회/좋아요/댓글마다 버전이 올라가 작성자의 수정 요청이 낙관적 락 예외로 실패합니다. 카운터는 버전 없이
+ * {@code PostCounterRepository}의 원자적 UPDATE({@code SET x = x + 1})로만 증감합니다.</p>
+ */
+@Entity
+@Table(name = "post_counters")
+@AttributeOverrides({
+        @AttributeOverride(name = "createdAt", column = @Column(name = "post_counters_created_at", nullable = false, updatable = false)),
+        @AttributeOverride(name = "updatedAt", column = @Column(name = "post_counters_updated_at", nullable = false)),
+        @AttributeOverride(name = "createdBy", column = @Column(name = "post_counters_created_by", updatable = false)),
+        @AttributeOverride(name = "updatedBy", column = @Column(name = "post_counters_updated_by"))
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostCounter extends BaseEntity {
+
+    /** 게시글 ID (posts_id와 1:1) */
+    @Id
+    @Column(name = "post_counters_post_id")
+    private Long postId;
+
+    /** 조회수 */
+    @Column(name = "post_counters_view_count", nullable = false)
+    private int viewCount = 0;
+
+    /** 좋아요 수 */
+    @Column(name = "post_counters_like_count", nullable = false)
+    private int likeCount = 0;
+
+    /** 삭제되지 않은 댓글 수 (대댓글 포함) */
+    @Column(name = "post_counters_comment_count", nullable = false)
+    private int commentCount = 0;
+
+    // === 정적 팩토리 메서드 ===
+
+    /**
+     * 값이 0인 카운터를 생성합니다.
+     * 카운터 행이 아직 없는 게시글을 조회할 때 기본값으로도 사용합니다.
+     *
+     * @param postId 게시글 ID
+     * @return 생성된 카운터
+     */
+    public static PostCounter create(Long postId) {
+        PostCounter counter = new PostCounter();
+        counter.postId = postId;
+        return counter;
+    }
+}
@@ -1,6 +1,7 @@
 package igrus.web.community.post.domain;
 
 import igrus.web.common.domain.BaseEntity;
+import igrus.web.common.domain.IdGeneration;
 import jakarta.persistence.AttributeOverride;
 import jakarta.persistence.AttributeOverrides;
 import jakarta.persistence.Column;
@@ -11,6 +12,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -34,7 +36,8 @@ public class PostImage extends BaseEntity {
 
     /** 게시글 이미지 고유 식별자 */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_images_seq")
+    @SequenceGenerator(name = "post_images_seq", sequenceName = "post_images_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     @Column(name = "post_images_id")
     private Long id;
 
@@ -1,6 +1,7 @@
 package igrus.web.community.post.domain;
 
 import igrus.web.common.domain.BaseEntity;
+import igrus.web.common.domain.IdGeneration;
 import igrus.web.user.domain.User;
 import jakarta.persistence.AttributeOverride;
 import jakarta.persistence.AttributeOverrides;
@@ -12,6 +13,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -38,7 +40,8 @@ public class PostView extends BaseEntity {
 
     /** 조회 기록 고유 식별자 */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_views_seq")
+    @SequenceGenerator(name = "post_views_seq", sequenceName = "post_views_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     @Column(name = "post_views_id")
     private Long id;
 
@@ -0,0 +1,25 @@
+package igrus.web.community.post.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 게시글 상호작용 상태 일괄 조회 요청 DTO.
+ * 목록 화면에 표시된 게시글들의 좋아요/북마크/조회 여부를 한 번에 조회할 때 사용합니다.
+ *
+ * @param postIds 조회할 게시글 ID 목록 (최대 100개)
+ */
+@Schema(description = "게시글 상호작용 상태 일괄 조회 요청")
+public record PostInteractionStateRequest(
+    @Schema(description = "조회할 게시글 ID 목록 (최대 100개)", example = "[1, 2, 3]")
+    @NotEmpty(message = "조회할 게시글 목록은 필수입니다")
+    @Size(max = PostInteractionStateRequest.MAX_POST_IDS, message = "게시글은 최대 100개까지 조회할 수 있습니다")
+    List<@NotNull Long> postIds
+) {
+    /** 한 번에 조회할 수 있는 최대 게시글 수 */
+    public static final int MAX_POST_IDS = 100;
+}
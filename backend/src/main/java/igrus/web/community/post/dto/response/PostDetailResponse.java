@@ -1,8 +1,8 @@
 package igrus.web.community.post.dto.response;
 
 import igrus.web.community.post.domain.Post;
+import igrus.web.community.post.domain.PostCounter;
 import igrus.web.community.post.domain.PostImage;
-import igrus.web.user.domain.User;
 import java.time.Instant;
 import java.util.List;
 
@@ -34,12 +34,14 @@ public record PostDetailResponse(
      * 익명 게시글의 경우 작성자 ID는 null, 이름은 "익명"으로 표시합니다.
      *
      * @param post              게시글 엔티티
+     * @param counter           게시글 카운터 (조회수/좋아요 수/댓글 수)
      * @param isCurrentUserAuthor 현재 사용자가 작성자인지 여부
      * @param liked             현재 사용자가 좋아요했는지 여부
      * @param bookmarked        현재 사용자가 북마크했는지 여부
      * @return PostDetailResponse
      */
-    public static PostDetailResponse from(Post post, boolean isCurrentUserAuthor, boolean liked, boolean bookmarked) {
+    public static PostDetailResponse from(Post post, PostCounter counter, boolean isCurrentUserAuthor,
+                                          boolean liked, boolean bookmarked) {
         List<String> imageUrls = post.getImages().stream()
             .sorted((a, b) -> Integer.compare(a.getDisplayOrder(), b.getDisplayOrder()))
             .map(PostImage::getImageUrl)
@@ -50,13 +52,13 @@ public record PostDetailResponse(
             post.getBoard().getCode().name(),
             post.getTitle(),
             post.getContent(),
-            post.isAnonymous() ? null : (post.getAuthor() != null ? post.getAuthor().getDisplayId() : null),
-            post.isAnonymous() ? "익명" : (post.getAuthor() != null ? post.getAuthor().getDisplayName() : User.WITHDRAWN_DISPLAY_NAME),
+            post.isAnonymous() ? null : post.getAuthor().getDisplayId(),
+            post.isAnonymous() ? "익명" : post.getAuthor().getDisplayName(),
             post.isAnonymous(),
             post.isQuestion(),
-            post.getViewCount(),
-            post.getLikeCount(),
-            0,  // commentCount - 추후 구현
+            counter.getViewCount(),
+            counter.getLikeCount(),
+            counter.getCommentCount(),
             imageUrls,
             post.getCreatedAt(),
             post.getUpdatedAt(),
@@ -68,13 +70,13 @@ public record PostDetailResponse(
 
     /**
      * Post 엔티티로부터 PostDetailResponse를 생성합니다.
-     * 좋아요/북마크 상태 없이 생성합니다 (기본값: false).
+     * 좋아요/북마크 상태와 카운터 없이 생성합니다 (기본값: false, 0).
      *
      * @param post              게시글 엔티티
      * @param isCurrentUserAuthor 현재 사용자가 작성자인지 여부
      * @return PostDetailResponse
      */
     public static PostDetailResponse from(Post post, boolean isCurrentUserAuthor) {
-        return from(post, isCurrentUserAuthor, false, false);
+        return from(post, PostCounter.create(post.getId()), isCurrentUserAuthor, false, false, 0);
     }
 }
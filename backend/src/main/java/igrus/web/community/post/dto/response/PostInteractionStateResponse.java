@@ -0,0 +1,26 @@
+package igrus.web.community.post.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 게시글 상호작용 상태 응답 DTO.
+ * 현재 사용자가 게시글에 좋아요/북마크했는지, 조회한 적이 있는지를 담습니다.
+ */
+@Schema(description = "게시글 상호작용 상태 응답")
+public record PostInteractionStateResponse(
+    @Schema(description = "게시글 ID", example = "1")
+    Long postId,
+
+    @Schema(description = "좋아요 여부", example = "true")
+    boolean liked,
+
+    @Schema(description = "북마크 여부", example = "false")
+    boolean bookmarked,
+
+    @Schema(description = "조회 여부", example = "true")
+    boolean viewed
+) {
+    public static PostInteractionStateResponse of(Long postId, boolean liked, boolean bookmarked, boolean viewed) {
+        return new PostInteractionStateResponse(postId, liked, bookmarked, viewed);
+    }
+}
@@ -1,6 +1,6 @@
 package igrus.web.community.post.dto.response;
 
-import igrus.web.community.post.domain.Post;
+import igrus.web.community.post.repository.PostListProjection;
 import org.springframework.data.domain.Page;
 import java.util.List;
 
@@ -16,12 +16,12 @@ public record PostListPageResponse(
     boolean hasNext
 ) {
     /**
-     * Page<Post>로부터 PostListPageResponse를 생성합니다.
+     * 게시글 목록 Projection 페이지로부터 PostListPageResponse를 생성합니다.
      *
-     * @param page 페이징된 게시글 엔티티
+     * @param page 페이징된 게시글 목록 Projection
      * @return PostListPageResponse
      */
-    public static PostListPageResponse from(Page<Post> page) {
+    public static PostListPageResponse from(Page<PostListProjection> page) {
         List<PostListResponse> posts = page.getContent().stream()
             .map(PostListResponse::from)
             .toList();
@@ -1,7 +1,8 @@
 package igrus.web.community.post.dto.response;
 
-import igrus.web.community.post.domain.Post;
+import igrus.web.community.post.repository.PostListProjection;
 import igrus.web.user.domain.User;
+import igrus.web.user.domain.UserStatus;
 import java.time.Instant;
 
 /**
@@ -11,6 +12,7 @@ import java.time.Instant;
 public record PostListResponse(
     Long postId,
     String title,
+    String excerpt,
     String authorName,
     boolean isAnonymous,
     boolean isQuestion,
@@ -20,23 +22,32 @@ public record PostListResponse(
     Instant createdAt
 ) {
     /**
-     * Post 엔티티로부터 PostListResponse를 생성합니다.
-     * 익명 게시글의 경우 작성자 이름을 "익명"으로 표시합니다.
+     * 목록 조회 Projection으로부터 PostListResponse를 생성합니다.
+     * 익명 게시글의 경우 작성자 이름을 "익명"으로, 탈퇴한 작성자는 "탈퇴한 사용자"로 표시합니다.
      *
-     * @param post 게시글 엔티티
+     * @param row 게시글 목록 Projection
      * @return PostListResponse
      */
-    public static PostListResponse from(Post post) {
+    public static PostListResponse from(PostListProjection row) {
+        boolean isAnonymous = Boolean.TRUE.equals(row.getIsAnonymous());
         return new PostListResponse(
-            post.getId(),
-            post.getTitle(),
-            post.isAnonymous() ? "익명" : (post.getAuthor() != null ? post.getAuthor().getDisplayName() : User.WITHDRAWN_DISPLAY_NAME),
-            post.isAnonymous(),
-            post.isQuestion(),
-            post.getViewCount(),
-            0,  // likeCount - 추후 구현
-            0,  // commentCount - 추후 구현
-            post.getCreatedAt()
+            row.getPostId(),
+            row.getTitle(),
+            row.getExcerpt(),
+            isAnonymous ? "익명" : authorDisplayName(row),
+            isAnonymous,
+            Boolean.TRUE.equals(row.getIsQuestion()),
+            row.getViewCount(),
+            row.getLikeCount(),
+            row.getCommentCount(),
+            row.getCreatedAt()
         );
     }
+
+    private static String authorDisplayName(PostListProjection row) {
+        boolean withdrawn = row.getAuthorName() == null
+            || Boolean.TRUE.equals(row.getAuthorDeleted())
+            || row.getAuthorStatus() == UserStatus.WITHDRAWN;
+        return withdrawn ? User.WITHDRAWN_DISPLAY_NAME : row.getAuthorName();
+    }
 }
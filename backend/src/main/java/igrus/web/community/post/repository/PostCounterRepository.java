@@ -0,0 +1,115 @@
+package igrus.web.community.post.repository;
+
+import igrus.web.community.post.domain.PostCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 게시글 카운터 레포지토리.
+ *
+ * <p>증감 메서드는 모두 엔티티를 로드하지 않는 원자적 UPDATE이며, 갱신된 행 수를 반환합니다.
+ * 카운터 행이 없으면 0을 반환하므로 호출 측에서 {@link #insertIfAbsent}로 행을 만든 뒤 다시 시도합니다.</p>
+ */
+@Repository
+public interface PostCounterRepository extends JpaRepository<PostCounter, Long> {
+
+    /**
+     * 게시글의 카운터 행이 없으면 값 0으로 생성합니다.
+     * 존재하지 않는 게시글이거나 이미 행이 있으면 아무것도 하지 않습니다.
+     *
+     * @return 생성된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO post_counters (post_counters_post_id, post_counters_view_count, " +
+            "post_counters_like_count, post_counters_comment_count, post_counters_created_at, post_counters_updated_at) " +
+            "SELECT p.posts_id, 0, 0, 0, :now, :now FROM posts p " +
+            "WHERE p.posts_id = :postId " +
+            "AND NOT EXISTS (SELECT 1 FROM post_counters c WHERE c.post_counters_post_id = p.posts_id)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId, @Param("now") Instant now);
+
+    /**
+     * 카운터 행이 없는 모든 게시글에 값 0인 카운터 행을 생성합니다.
+     *
+     * @return 생성된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO post_counters (post_counters_post_id, post_counters_view_count, " +
+            "post_counters_like_count, post_counters_comment_count, post_counters_created_at, post_counters_updated_at) " +
+            "SELECT p.posts_id, 0, 0, 0, :now, :now FROM posts p " +
+            "WHERE NOT EXISTS (SELECT 1 FROM post_counters c WHERE c.post_counters_post_id = p.posts_id)",
+            nativeQuery = true)
+    int insertMissing(@Param("now") Instant now);
+
+    @Modifying
+    @Query("UPDATE PostCounter c SET c.viewCount = c.viewCount + 1 WHERE c.postId = :postId")
+    int incrementViewCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE PostCounter c SET c.likeCount = c.likeCount + 1 WHERE c.postId = :postId")
+    int incrementLikeCount(@Param("postId") Long postId);
+
+    /**
+     * 좋아요 수를 1 감소시킵니다. 0 미만으로는 내려가지 않습니다.
+     */
+    @Modifying
+    @Query("UPDATE PostCounter c SET c.likeCount = c.likeCount - 1 WHERE c.postId = :postId AND c.likeCount > 0")
+    int decrementLikeCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE PostCounter c SET c.commentCount = c.commentCount + 1 WHERE c.postId = :postId")
+    int incrementCommentCount(@Param("postId") Long postId);
+
+    /**
+     * 댓글 수를 1 감소시킵니다. 0 미만으로는 내려가지 않습니다.
+     */
+    @Modifying
+    @Query("UPDATE PostCounter c SET c.commentCount = c.commentCount - 1 WHERE c.postId = :postId AND c.commentCount > 0")
+    int decrementCommentCount(@Param("postId") Long postId);
+
+    /**
+     * 좋아요 수를 조회하면서 카운터 행에 쓰기 잠금을 겁니다.
+     * 같은 게시글에 대한 좋아요/취소 요청을 직렬화하여, 좋아요 행 존재 확인과 삽입/삭제 사이의 경쟁을 막습니다.
+     *
+     * @return 잠금 시점의 좋아요 수 (카운터 행이 없으면 빈 값)
+     */
+    @Query(value = "SELECT post_counters_like_count FROM post_counters " +
+            "WHERE post_counters_post_id = :postId FOR UPDATE", nativeQuery = true)
+    Optional<Integer> findLikeCountForUpdate(@Param("postId") Long postId);
+
+    /**
+     * 모든 카운터의 조회수를 post_views의 실제 조회 기록 수로 보정합니다.
+     * 값이 다른 행만 갱신합니다.
+     *
+     * @return 보정된 행 수
+     */
+    @Modifying
+    @Query(value = "UPDATE post_counters SET post_counters_view_count = " +
+            "(SELECT COUNT(*) FROM post_views v WHERE v.post_views_post_id = post_counters.post_counters_post_id) " +
+            "WHERE post_counters_view_count <> " +
+            "(SELECT COUNT(*) FROM post_views v WHERE v.post_views_post_id = post_counters.post_counters_post_id)",
+            nativeQuery = true)
+    int syncViewCountsWithViews();
+
+    /**
+     * 모든 카운터의 댓글 수를 comments의 삭제되지 않은 댓글 수(대댓글 포함)로 보정합니다.
+     * 값이 다른 행만 갱신합니다.
+     *
+     * @return 보정된 행 수
+     */
+    @Modifying
+    @Query(value = "UPDATE post_counters SET post_counters_comment_count = " +
+            "(SELECT COUNT(*) FROM comments cm WHERE cm.comments_post_id = post_counters.post_counters_post_id " +
+            "AND cm.comments_deleted = false) " +
+            "WHERE post_counters_comment_count <> " +
+            "(SELECT COUNT(*) FROM comments cm WHERE cm.comments_post_id = post_counters.post_counters_post_id " +
+            "AND cm.comments_deleted = false)",
+            nativeQuery = true)
+    int syncCommentCountsWithComments();
+}
@@ -0,0 +1,41 @@
+package igrus.web.community.post.repository;
+
+import igrus.web.user.domain.UserStatus;
+
+import java.time.Instant;
+
+/**
+ * 게시글 목록 조회용 Projection.
+ * 목록 화면에 필요한 컬럼만 조회하며, 본문(posts_content TEXT)은 읽지 않고 미리 계산된 요약만 사용합니다.
+ *
+ * <p>작성자는 LEFT JOIN으로 이름과 상태만 조회합니다. 탈퇴한 작성자는 삭제 여부(authorDeleted)가 true이거나
+ * 상태가 WITHDRAWN으로 조회됩니다.
+ *
+ * <p>조회수/좋아요 수/댓글 수는 post_counters를 LEFT JOIN하여 읽으며, 카운터 행이 없으면 0입니다.
+ */
+public interface PostListProjection {
+
+    Long getPostId();
+
+    String getTitle();
+
+    String getExcerpt();
+
+    Boolean getIsAnonymous();
+
+    Boolean getIsQuestion();
+
+    Integer getViewCount();
+
+    Integer getLikeCount();
+
+    Integer getCommentCount();
+
+    Instant getCreatedAt();
+
+    String getAuthorName();
+
+    UserStatus getAuthorStatus();
+
+    Boolean getAuthorDeleted();
+}
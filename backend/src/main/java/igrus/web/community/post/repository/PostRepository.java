@@ -2,7 +2,6 @@ package igrus.web.community.post.repository;
 
 import igrus.web.community.board.domain.Board;
 import igrus.web.community.post.domain.Post;
-import igrus.web.user.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -20,6 +19,14 @@ import java.util.Optional;
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    /** 목록 조회 SELECT 절 (본문 제외, 작성자는 이름/상태만) */
+    String LIST_SELECT = "SELECT p.id AS postId, p.title AS title, p.excerpt AS excerpt, " +
+            "p.isAnonymous AS isAnonymous, p.isQuestion AS isQuestion, " +
+            "COALESCE(c.viewCount, 0) AS viewCount, COALESCE(c.likeCount, 0) AS likeCount, " +
+            "COALESCE(c.commentCount, 0) AS commentCount, p.createdAt AS createdAt, " +
+            "a.name AS authorName, a.status AS authorStatus, a.deleted AS authorDeleted " +
+            "FROM Post p LEFT JOIN p.author a LEFT JOIN PostCounter c ON c.postId = p.id ";
+
     /**
      * 삭제되지 않은 게시글을 ID로 조회합니다.
      *
@@ -29,33 +36,46 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     Optional<Post> findByIdAndDeletedFalse(Long id);
 
     /**
-     * 특정 게시판의 삭제되지 않은 게시글을 최신순으로 페이징 조회합니다.
+     * 게시글을 게시판, 이미지와 함께 ID로 조회합니다. 수정 시 이미지 목록을 교체할 때 사용합니다.
      *
-     * @param board    게시판
-     * @param pageable 페이징 정보
-     * @return 게시글 페이지
+     * @param id 게시글 ID
+     * @return 게시글 Optional
      */
-    @EntityGraph(attributePaths = {"author", "board"})
-    Page<Post> findByBoardAndDeletedFalseOrderByCreatedAtDesc(Board board, Pageable pageable);
+    @EntityGraph(attributePaths = {"board", "images"})
+    Optional<Post> findWithImagesById(Long id);
 
     /**
-     * 특정 게시판의 질문 태그가 달린 삭제되지 않은 게시글을 페이징 조회합니다.
+     * 게시글의 삭제 여부만 조회합니다. 엔티티를 로드하지 않고 존재/삭제 여부를 확인할 때 사용합니다.
+     *
+     * @param id 게시글 ID
+     * @return 삭제 여부 (게시글이 없으면 빈 값)
+     */
+    @Query("SELECT p.deleted FROM Post p WHERE p.id = :id")
+    Optional<Boolean> findDeletedById(@Param("id") Long id);
+
+    /**
+     * 특정 게시판의 삭제되지 않은 게시글을 최신순으로 페이징 조회합니다.
+     * 본문을 제외한 목록용 컬럼만 조회합니다.
      *
      * @param board    게시판
      * @param pageable 페이징 정보
-     * @return 질문 게시글 페이지
+     * @return 게시글 목록 페이지
      */
-    Page<Post> findByBoardAndIsQuestionTrueAndDeletedFalse(Board board, Pageable pageable);
+    @Query(value = LIST_SELECT +
+           "WHERE p.board = :board AND p.deleted = false " +
+           "ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.board = :board AND p.deleted = false")
+    Page<PostListProjection> findByBoardAndDeletedFalseOrderByCreatedAtDesc(@Param("board") Board board, Pageable pageable);
 
     /**
      * 특정 작성자가 지정된 시간 이후에 작성한 게시글 수를 조회합니다.
      * (도배 방지 등의 목적으로 사용)
      *
-     * @param author 작성자
-     * @param after  기준 시간
+     * @param authorId 작성자 ID
+     * @param after    기준 시간
      * @return 게시글 수
      */
-    long countByAuthorAndCreatedAtAfter(User author, Instant after);
+    long countByAuthorIdAndCreatedAtAfter(Long authorId, Instant after);
 
     /**
      * 특정 게시판에서 제목 또는 내용에 키워드가 포함된 삭제되지 않은 게시글을 검색합니다.
@@ -63,16 +83,19 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      * @param board    게시판
      * @param keyword  검색 키워드
      * @param pageable 페이징 정보
-     * @return 검색된 게시글 페이지
+     * @return 검색된 게시글 목록 페이지
      */
-    @EntityGraph(attributePaths = {"author", "board"})
-    @Query("SELECT p FROM Post p WHERE p.board = :board " +
+    @Query(value = LIST_SELECT +
+           "WHERE p.board = :board " +
            "AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%) " +
            "AND p.deleted = false " +
-           "ORDER BY p.createdAt DESC")
-    Page<Post> searchByTitleOrContent(@Param("board") Board board,
-                                      @Param("keyword") String keyword,
-                                      Pageable pageable);
+           "ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.board = :board " +
+                   "AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%) " +
+                   "AND p.deleted = false")
+    Page<PostListProjection> searchByTitleOrContent(@Param("board") Board board,
+                                                    @Param("keyword") String keyword,
+                                                    Pageable pageable);
 
     /**
      * 특정 게시판에서 질문 태그가 달린 삭제되지 않은 게시글을 최신순으로 페이징 조회합니다.
@@ -81,12 +104,15 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      * @param pageable 페이징 정보
      * @return 질문 게시글 페이지
      */
-    @EntityGraph(attributePaths = {"author", "board"})
-    @Query("SELECT p FROM Post p WHERE p.board = :board " +
+    @Query(value = LIST_SELECT +
+           "WHERE p.board = :board " +
            "AND p.isQuestion = true " +
            "AND p.deleted = false " +
-           "ORDER BY p.createdAt DESC")
-    Page<Post> findQuestionsByBoard(@Param("board") Board board, Pageable pageable);
+           "ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.board = :board " +
+                   "AND p.isQuestion = true " +
+                   "AND p.deleted = false")
+    Page<PostListProjection> findQuestionsByBoard(@Param("board") Board board, Pageable pageable);
 
     /**
      * 특정 게시판에서 질문 태그가 달리고 키워드가 포함된 삭제되지 않은 게시글을 검색합니다.
@@ -96,15 +122,19 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      * @param pageable 페이징 정보
      * @return 검색된 질문 게시글 페이지
      */
-    @EntityGraph(attributePaths = {"author", "board"})
-    @Query("SELECT p FROM Post p WHERE p.board = :board " +
+    @Query(value = LIST_SELECT +
+           "WHERE p.board = :board " +
            "AND p.isQuestion = true " +
            "AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%) " +
            "AND p.deleted = false " +
-           "ORDER BY p.createdAt DESC")
-    Page<Post> searchQuestionsByTitleOrContent(@Param("board") Board board,
-                                               @Param("keyword") String keyword,
-                                               Pageable pageable);
+           "ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.board = :board " +
+                   "AND p.isQuestion = true " +
+                   "AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%) " +
+                   "AND p.deleted = false")
+    Page<PostListProjection> searchQuestionsByTitleOrContent(@Param("board") Board board,
+                                                             @Param("keyword") String keyword,
+                                                             Pageable pageable);
 
     /**
      * 공지사항 게시판에서 준회원에게 공개된 삭제되지 않은 게시글을 최신순으로 페이징 조회합니다.
@@ -113,12 +143,15 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      * @param pageable 페이징 정보
      * @return 준회원 공개 게시글 페이지
      */
-    @EntityGraph(attributePaths = {"author", "board"})
-    @Query("SELECT p FROM Post p WHERE p.board = :board " +
+    @Query(value = LIST_SELECT +
+           "WHERE p.board = :board " +
            "AND p.isVisibleToAssociate = true " +
            "AND p.deleted = false " +
-           "ORDER BY p.createdAt DESC")
-    Page<Post> findVisibleToAssociateByBoard(@Param("board") Board board, Pageable pageable);
+           "ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.board = :board " +
+                   "AND p.isVisibleToAssociate = true " +
+                   "AND p.deleted = false")
+    Page<PostListProjection> findVisibleToAssociateByBoard(@Param("board") Board board, Pageable pageable);
 
     /**
      * 공지사항 게시판에서 준회원에게 공개되고 키워드가 포함된 삭제되지 않은 게시글을 검색합니다.
@@ -128,15 +161,19 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      * @param pageable 페이징 정보
      * @return 검색된 준회원 공개 게시글 페이지
      */
-    @EntityGraph(attributePaths = {"author", "board"})
-    @Query("SELECT p FROM Post p WHERE p.board = :board " +
+    @Query(value = LIST_SELECT +
+           "WHERE p.board = :board " +
            "AND p.isVisibleToAssociate = true " +
            "AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%) " +
            "AND p.deleted = false " +
-           "ORDER BY p.createdAt DESC")
-    Page<Post> searchVisibleToAssociateByTitleOrContent(@Param("board") Board board,
-                                                        @Param("keyword") String keyword,
-                                                        Pageable pageable);
+           "ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.board = :board " +
+                   "AND p.isVisibleToAssociate = true " +
+                   "AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%) " +
+                   "AND p.deleted = false")
+    Page<PostListProjection> searchVisibleToAssociateByTitleOrContent(@Param("board") Board board,
+                                                                      @Param("keyword") String keyword,
+                                                                      Pageable pageable);
 
     /**
      * 특정 게시판에서 특정 게시글 ID로 삭제되지 않은 게시글을 조회합니다.
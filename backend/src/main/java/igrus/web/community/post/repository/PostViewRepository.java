@@ -10,6 +10,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 게시글 조회 기록 Repository.
  */
@@ -59,4 +62,11 @@ public interface PostViewRepository extends JpaRepository<PostView, Long> {
      */
     @Query("SELECT COUNT(pv) FROM PostView pv WHERE pv.post.id = :postId")
     long countByPostId(@Param("postId") Long postId);
+
+    /**
+     * 주어진 게시글 중 사용자가 조회한 적이 있는 게시글 ID를 조회합니다.
+     * (viewer_id, post_id) 복합 인덱스로 조회 기록 행을 읽지 않고 인덱스만으로 처리됩니다.
+     */
+    @Query("SELECT DISTINCT pv.post.id FROM PostView pv WHERE pv.viewer.id = :userId AND pv.post.id IN :postIds")
+    List<Long> findViewedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
 }
@@ -0,0 +1,47 @@
+package igrus.web.community.post.service;
+
+import igrus.web.common.scheduling.service.ScheduledJobRunner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 게시글 댓글 수 재집계 스케줄러.
+ *
+ * <p>매일 새벽 4시 40분에 실행되어 게시글 카운터(post_counters)의 댓글 수를 실제 댓글 데이터 기준으로 보정합니다.
+ * 댓글 수는 작성/삭제 시 원자적으로 증감하므로 평소에는 보정할 행이 없어야 합니다.
+ * 트랜잭션이 필요한 로직은 {@link PostCounterService}에 위임합니다.</p>
+ */
+@Slf4j
+@Component
+@Profile("!test")
+@RequiredArgsConstructor
+public class PostCommentCountSyncScheduler {
+
+    private static final String JOB_NAME = "post-comment-count-sync";
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST = Duration.ofMinutes(5);
+
+    private final PostCounterService postCounterService;
+    private final ScheduledJobRunner scheduledJobRunner;
+
+    @Scheduled(cron = "0 40 4 * * *")
+    public void syncCommentCounts() {
+        scheduledJobRunner.run(JOB_NAME, LOCK_AT_MOST, LOCK_AT_LEAST, () -> {
+            log.info("댓글 수 재집계 시작");
+
+            int syncedCount = postCounterService.syncCommentCounts();
+
+            if (syncedCount > 0) {
+                log.warn("댓글 수 재집계 완료: {}건 보정", syncedCount);
+            } else {
+                log.info("댓글 수 재집계 완료: 보정 없음");
+            }
+            return syncedCount;
+        });
+    }
+}
@@ -0,0 +1,188 @@
+package igrus.web.community.post.service;
+
+import igrus.web.community.post.domain.PostCounter;
+import igrus.web.community.post.repository.PostCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 카운터 서비스.
+ *
+ * <p>조회수/좋아요 수/댓글 수를 {@link PostCounter}에 원자적으로 증감합니다. 카운터 증감은 게시글 행을 건드리지 않으므로
+ * 게시글 버전이 올라가지 않고, 동시에 여러 요청이 증감해도 유실이 없습니다.</p>
+ *
+ * <p>증감은 벌크 UPDATE로 영속성 컨텍스트를 거치지 않으므로, 증감 후의 값이 필요하면 증감 이후에
+ * {@link #getCounter}로 조회합니다. 같은 트랜잭션에서 카운터 엔티티를 먼저 읽어 둔 경우에는 이전 값이 보일 수 있습니다.</p>
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class PostCounterService {
+
+    private final PostCounterRepository postCounterRepository;
+
+    // === 카운터 생성 ===
+
+    /**
+     * 게시글의 카운터 행을 생성합니다. 이미 있으면 아무것도 하지 않습니다.
+     *
+     * @param postId 게시글 ID
+     */
+    public void initialize(Long postId) {
+        postCounterRepository.insertIfAbsent(postId, Instant.now());
+    }
+
+    // === 카운터 증감 ===
+
+    /**
+     * 조회수를 1 증가시킵니다.
+     *
+     * @param postId 게시글 ID
+     */
+    public void incrementViewCount(Long postId) {
+        if (postCounterRepository.incrementViewCount(postId) == 0 && createMissingCounter(postId)) {
+            postCounterRepository.incrementViewCount(postId);
+        }
+    }
+
+    /**
+     * 좋아요 수를 1 증가시킵니다.
+     *
+     * @param postId 게시글 ID
+     */
+    public void incrementLikeCount(Long postId) {
+        if (postCounterRepository.incrementLikeCount(postId) == 0 && createMissingCounter(postId)) {
+            postCounterRepository.incrementLikeCount(postId);
+        }
+    }
+
+    /**
+     * 좋아요 수를 1 감소시킵니다. 0 미만으로는 내려가지 않습니다.
+     *
+     * @param postId 게시글 ID
+     */
+    public void decrementLikeCount(Long postId) {
+        postCounterRepository.decrementLikeCount(postId);
+    }
+
+    /**
+     * 댓글 수를 1 증가시킵니다. 댓글/대댓글 작성 트랜잭션 안에서 호출합니다.
+     *
+     * @param postId 게시글 ID
+     */
+    public void incrementCommentCount(Long postId) {
+        if (postCounterRepository.incrementCommentCount(postId) == 0 && createMissingCounter(postId)) {
+            postCounterRepository.incrementCommentCount(postId);
+        }
+    }
+
+    /**
+     * 댓글 수를 1 감소시킵니다. 0 미만으로는 내려가지 않습니다.
+     * 댓글 삭제(soft delete) 트랜잭션 안에서 호출합니다.
+     *
+     * @param postId 게시글 ID
+     */
+    public void decrementCommentCount(Long postId) {
+        postCounterRepository.decrementCommentCount(postId);
+    }
+
+    /**
+     * 게시글 카운터 행에 쓰기 잠금을 걸고 현재 좋아요 수를 반환합니다.
+     * 잠금은 트랜잭션 종료 시 해제되므로, 호출 측 트랜잭션 안에서 좋아요 행 변경과 카운터 증감을 마쳐야 합니다.
+     * 카운터 행이 없으면 생성한 뒤 잠급니다.
+     *
+     * @param postId 게시글 ID
+     * @return 잠금 시점의 좋아요 수 (게시글이 없으면 0)
+     */
+    public int lockLikeCount(Long postId) {
+        return postCounterRepository.findLikeCountForUpdate(postId)
+                .or(() -> {
+                    createMissingCounter(postId);
+                    return postCounterRepository.findLikeCountForUpdate(postId);
+                })
+                .orElse(0);
+    }
+
+    // === 카운터 조회 ===
+
+    /**
+     * 게시글의 카운터를 조회합니다. 행이 없으면 값이 0인 카운터를 반환합니다.
+     *
+     * @param postId 게시글 ID
+     * @return 게시글 카운터
+     */
+    @Transactional(readOnly = true)
+    public PostCounter getCounter(Long postId) {
+        return postCounterRepository.findById(postId)
+                .orElseGet(() -> PostCounter.create(postId));
+    }
+
+    /**
+     * 여러 게시글의 카운터를 한 번의 IN 쿼리로 조회합니다.
+     * 행이 없는 게시글은 결과 Map에 포함되지 않습니다.
+     *
+     * @param postIds 게시글 ID 목록
+     * @return 게시글 ID별 카운터
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, PostCounter> getCounters(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        return postCounterRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(PostCounter::getPostId, Function.identity()));
+    }
+
+    // === 재집계 ===
+
+    /**
+     * 누락된 카운터 행을 만들고, 조회수를 post_views의 실제 조회 기록 수로 보정합니다.
+     *
+     * @return 보정된 카운터 행 수
+     */
+    public int syncViewCounts() {
+        int created = postCounterRepository.insertMissing(Instant.now());
+        if (created > 0) {
+            log.warn("누락된 게시글 카운터 생성: {}건", created);
+        }
+        return postCounterRepository.syncViewCountsWithViews();
+    }
+
+    /**
+     * 누락된 카운터 행을 만들고, 댓글 수를 comments의 삭제되지 않은 댓글 수로 보정합니다.
+     * 증감 경로를 거치지 않은 변경(관리 작업, 장애 중 유실 등)으로 어긋난 값을 바로잡습니다.
+     *
+     * @return 보정된 카운터 행 수
+     */
+    public int syncCommentCounts() {
+        int created = postCounterRepository.insertMissing(Instant.now());
+        if (created > 0) {
+            log.warn("누락된 게시글 카운터 생성: {}건", created);
+        }
+        return postCounterRepository.syncCommentCountsWithComments();
+    }
+
+    // === Private 메서드 ===
+
+    /**
+     * 카운터 행이 없던 게시글(카운터 도입 이전 데이터 등)의 행을 생성합니다.
+     *
+     * @return 행이 새로 생성되었는지 여부 (게시글이 없으면 false)
+     */
+    private boolean createMissingCounter(Long postId) {
+        boolean created = postCounterRepository.insertIfAbsent(postId, Instant.now()) > 0;
+        if (created) {
+            log.warn("게시글 카운터 행이 없어 생성: postId={}", postId);
+        }
+        return created;
+    }
+}
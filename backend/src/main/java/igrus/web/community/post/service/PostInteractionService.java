@@ -0,0 +1,58 @@
+package igrus.web.community.post.service;
+
+import igrus.web.community.bookmark.repository.BookmarkRepository;
+import igrus.web.community.like.post_like.repository.PostLikeRepository;
+import igrus.web.community.post.dto.response.PostInteractionStateResponse;
+import igrus.web.community.post.repository.PostViewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시글 상호작용 상태 서비스.
+ *
+ * <p>목록 화면의 좋아요/북마크/조회 배지를 게시글마다 개별 요청하지 않도록, 여러 게시글에 대한 현재 사용자의
+ * 상태를 좋아요·북마크·조회 기록 테이블 각각 한 번의 IN 쿼리(총 3회)로 조회합니다.
+ * 게시글 엔티티는 로드하지 않으며, 존재하지 않는 게시글 ID는 모든 값이 false로 반환됩니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostInteractionService {
+
+    private final PostLikeRepository postLikeRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final PostViewRepository postViewRepository;
+
+    /**
+     * 여러 게시글에 대한 현재 사용자의 좋아요/북마크/조회 여부를 조회합니다.
+     * 중복된 ID는 한 번만 포함되며, 응답 순서는 요청 순서를 따릅니다.
+     *
+     * @param postIds 게시글 ID 목록
+     * @param userId  사용자 ID
+     * @return 게시글별 상호작용 상태 목록
+     */
+    public List<PostInteractionStateResponse> getInteractionStates(List<Long> postIds, Long userId) {
+        Set<Long> distinctIds = new LinkedHashSet<>(postIds);
+        if (distinctIds.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> likedIds = new HashSet<>(postLikeRepository.findLikedPostIds(userId, distinctIds));
+        Set<Long> bookmarkedIds = new HashSet<>(bookmarkRepository.findBookmarkedPostIds(userId, distinctIds));
+        Set<Long> viewedIds = new HashSet<>(postViewRepository.findViewedPostIds(userId, distinctIds));
+
+        return distinctIds.stream()
+                .map(postId -> PostInteractionStateResponse.of(
+                        postId,
+                        likedIds.contains(postId),
+                        bookmarkedIds.contains(postId),
+                        viewedIds.contains(postId)))
+                .toList();
+    }
+}
@@ -46,7 +46,7 @@ public class PostRateLimitService {
      */
     public int getRemainingPosts(User user) {
         Instant oneHourAgo = Instant.now().minus(1, ChronoUnit.HOURS);
-        long recentPostCount = postRepository.countByAuthorAndCreatedAtAfter(user, oneHourAgo);
+        long recentPostCount = postRepository.countByAuthorIdAndCreatedAtAfter(user.getId(), oneHourAgo);
         return Math.max(0, MAX_POSTS_PER_HOUR - (int) recentPostCount);
     }
 }
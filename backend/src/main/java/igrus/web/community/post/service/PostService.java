@@ -1,10 +1,12 @@
 package igrus.web.community.post.service;
 
+import igrus.web.common.config.MetricsConfig;
 import igrus.web.community.board.domain.Board;
 import igrus.web.community.board.domain.BoardCode;
 import igrus.web.community.bookmark.repository.BookmarkRepository;
 import igrus.web.community.like.post_like.repository.PostLikeRepository;
 import igrus.web.community.post.domain.Post;
+import igrus.web.community.post.domain.PostCounter;
 import igrus.web.community.post.domain.PostImage;
 import igrus.web.community.post.dto.request.CreatePostRequest;
 import igrus.web.community.post.dto.request.UpdatePostRequest;
@@ -23,13 +25,14 @@ import igrus.web.community.post.exception.PostAnonymousUnchangeableException;
 import igrus.web.community.post.exception.PostDeletedException;
 import igrus.web.community.post.exception.PostImageLimitExceededException;
 import igrus.web.community.post.exception.PostNotFoundException;
+import igrus.web.community.post.repository.PostListProjection;
 import igrus.web.community.post.repository.PostRepository;
 import igrus.web.security.auth.common.domain.AuthenticatedUser;
 import igrus.web.user.domain.User;
 import igrus.web.user.domain.UserRole;
 import igrus.web.user.exception.UserNotFoundException;
 import igrus.web.user.repository.UserRepository;
-import jakarta.persistence.OptimisticLockException;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -49,6 +52,7 @@ public class PostService {
     private final BoardPermissionService boardPermissionService;
     private final PostRateLimitService postRateLimitService;
     private final PostViewService postViewService;
+    private final PostCounterService postCounterService;
     private final PostLikeRepository postLikeRepository;
     private final BookmarkRepository bookmarkRepository;
 
@@ -102,8 +106,9 @@ public class PostService {
             }
         }
 
-        // 7. 저장
+        // 7. 저장 (조회수/좋아요 카운터 행 함께 생성)
         Post savedPost = postRepository.save(post);
+        postCounterService.initialize(savedPost.getId());
 
         return PostCreateResponse.from(savedPost);
     }
@@ -139,6 +144,7 @@ public class PostService {
         }
 
         Post savedPost = postRepository.save(post);
+        postCounterService.initialize(savedPost.getId());
         return PostCreateResponse.from(savedPost);
     }
 
@@ -183,7 +189,7 @@ public class PostService {
         Board board = boardService.getBoardEntity(boardCode);
 
         // 게시글 조회
-        Post post = postRepository.findById(postId)
+        Post post = postRepository.findWithImagesById(postId)
                 .orElseThrow(() -> new PostNotFoundException(postId));
 
         // 삭제된 게시글인지 확인
@@ -279,6 +285,7 @@ public class PostService {
      * @param pageable 페이징 정보
      * @return 게시글 목록 페이지 응답
      */
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public PostListPageResponse getPostList(String boardCode, AuthenticatedUser user, String keyword, Boolean questionOnly, Pageable pageable) {
         // 사용자 조회
         User currentUser = userRepository.findById(user.userId())
@@ -292,7 +299,7 @@ public class PostService {
         boolean isAssociate = currentUser.getRole() == UserRole.ASSOCIATE;
         boolean isNoticeBoard = board.getCode() == BoardCode.NOTICES;
 
-        Page<Post> postPage;
+        Page<PostListProjection> postPage;
 
         if (isAssociate && isNoticeBoard) {
             // 준회원이 공지사항 조회 시 준회원 공개 게시글만 조회
@@ -319,6 +326,7 @@ public class PostService {
      * @throws PostDeletedException 삭제된 게시글인 경우
      */
     @Transactional
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public PostDetailResponse getPostDetail(String boardCode, Long postId, AuthenticatedUser user) {
         // 사용자 조회
         User currentUser = userRepository.findById(user.userId())
@@ -343,64 +351,37 @@ public class PostService {
         // 조회 기록 저장 (비동기 - 항상 성공)
         postViewService.recordViewAsync(post.getId(), currentUser.getId());
 
-        // 조회수 증가 (재시도 2회)
-        incrementViewCountWithRetry(post, 2);
+        // 조회수 증가 (카운터 테이블 원자적 UPDATE - 게시글 버전은 변경되지 않음)
+        postCounterService.incrementViewCount(postId);
+        PostCounter counter = postCounterService.getCounter(postId);
 
-        // 현재 사용자가 작성자인지 확인 (탈퇴한 사용자는 author가 null일 수 있음)
-        boolean isCurrentUserAuthor = post.getAuthor() != null
-                && post.getAuthor().getId().equals(currentUser.getId());
+        // 현재 사용자가 작성자인지 확인 (작성자 ID만 비교하므로 작성자 프록시를 초기화하지 않음)
+        boolean isCurrentUserAuthor = post.getAuthor().getId().equals(currentUser.getId());
 
         // 좋아요/북마크 상태 조회
         boolean liked = postLikeRepository.existsByPostIdAndUserId(postId, currentUser.getId());
         boolean bookmarked = bookmarkRepository.existsByPostIdAndUserId(postId, currentUser.getId());
 
-        return PostDetailResponse.from(post, isCurrentUserAuthor, liked, bookmarked);
-    }
-
-    /**
-     * 조회수를 증가시킵니다. 낙관적 락 충돌 시 재시도합니다.
-     *
-     * @param post       게시글
-     * @param maxRetries 최대 재시도 횟수
-     */
-    private void incrementViewCountWithRetry(Post post, int maxRetries) {
-        Long postId = post.getId();
-        Post currentPost = post;
-
-        for (int attempt = 0; attempt <= maxRetries; attempt++) {
-            try {
-                currentPost.incrementViewCount();
-                postRepository.saveAndFlush(currentPost);
-                return;
-            } catch (OptimisticLockException e) {
-                if (attempt == maxRetries) {
-                    log.warn("조회수 증가 실패 ({}회 재시도 후): postId={}", maxRetries, postId);
-                    return;
-                }
-                // 엔티티 새로고침 후 재시도
-                currentPost = postRepository.findById(postId)
-                        .orElseThrow(() -> new PostNotFoundException(postId));
-            }
-        }
+        return PostDetailResponse.from(post, counter, isCurrentUserAuthor, liked, bookmarked);
     }
 
     // === Private Helper Methods for Post List Query ===
 
-    private Page<Post> getPostsForAssociateInNotices(Board board, String keyword, Pageable pageable) {
+    private Page<PostListProjection> getPostsForAssociateInNotices(Board board, String keyword, Pageable pageable) {
         if (keyword != null && !keyword.isBlank()) {
             return postRepository.searchVisibleToAssociateByTitleOrContent(board, keyword, pageable);
         }
         return postRepository.findVisibleToAssociateByBoard(board, pageable);
     }
 
-    private Page<Post> getQuestionPosts(Board board, String keyword, Pageable pageable) {
+    private Page<PostListProjection> getQuestionPosts(Board board, String keyword, Pageable pageable) {
         if (keyword != null && !keyword.isBlank()) {
             return postRepository.searchQuestionsByTitleOrContent(board, keyword, pageable);
         }
         return postRepository.findQuestionsByBoard(board, pageable);
     }
 
-    private Page<Post> getRegularPosts(Board board, String keyword, Pageable pageable) {
+    private Page<PostListProjection> getRegularPosts(Board board, String keyword, Pageable pageable) {
         if (keyword != null && !keyword.isBlank()) {
             return postRepository.searchByTitleOrContent(board, keyword, pageable);
         }
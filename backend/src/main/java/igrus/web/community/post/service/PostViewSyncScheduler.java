@@ -1,21 +1,21 @@
 package igrus.web.community.post.service;
 
-import igrus.web.community.post.domain.Post;
-import igrus.web.community.post.repository.PostRepository;
-import igrus.web.community.post.repository.PostViewRepository;
+import igrus.web.common.scheduling.service.ScheduledJobRunner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.Duration;
 
 /**
  * 게시글 조회수 동기화 스케줄러.
- * PostView 테이블의 실제 조회 수와 Post.viewCount 필드를 주기적으로 동기화합니다.
- * 낙관적 락 충돌로 인해 viewCount 업데이트가 실패한 경우를 보정합니다.
+ * PostView 테이블의 실제 조회 수와 게시글 카운터(post_counters)의 조회수를 주기적으로 동기화합니다.
+ *
+ * <p>주의: {@code @Scheduled}와 {@code @Transactional}을 같은 메서드에 사용하면
+ * 프록시 기반 AOP 특성상 트랜잭션이 적용되지 않습니다. 따라서 트랜잭션이 필요한
+ * 로직은 별도의 서비스 빈({@link PostCounterService})으로 분리하여 호출합니다.</p>
  */
 @Slf4j
 @Component
@@ -23,36 +23,30 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PostViewSyncScheduler {
 
-    private final PostRepository postRepository;
-    private final PostViewRepository postViewRepository;
+    private static final String JOB_NAME = "post-view-sync";
+    /** 실행 주기(10분)보다 약간 짧게 유지해, 노드마다 시작 시각이 달라도 주기당 한 번만 실행 */
+    private static final Duration LOCK_DURATION = Duration.ofMinutes(9);
+
+    private final PostCounterService postCounterService;
+    private final ScheduledJobRunner scheduledJobRunner;
 
     /**
      * 조회수를 10분마다 동기화합니다.
-     * 모든 게시글의 viewCount를 PostView COUNT와 비교하여 불일치 시 업데이트합니다.
+     * 게시글을 하나씩 읽지 않고, 값이 다른 카운터만 한 번의 UPDATE 문으로 보정합니다.
      */
     @Scheduled(fixedRate = 600000) // 10분마다
-    @Transactional
     public void syncViewCounts() {
-        log.debug("조회수 동기화 시작");
-
-        List<Post> allPosts = postRepository.findAll();
-        int syncedCount = 0;
+        scheduledJobRunner.run(JOB_NAME, LOCK_DURATION, LOCK_DURATION, () -> {
+            log.debug("조회수 동기화 시작");
 
-        for (Post post : allPosts) {
-            long actualCount = postViewRepository.countByPost(post);
-            int currentCount = post.getViewCount();
+            int syncedCount = postCounterService.syncViewCounts();
 
-            if (currentCount != actualCount) {
-                post.syncViewCount((int) actualCount);
-                syncedCount++;
-                log.debug("조회수 동기화: postId={}, {} -> {}", post.getId(), currentCount, actualCount);
+            if (syncedCount > 0) {
+                log.info("조회수 동기화 완료: {}건 업데이트", syncedCount);
+            } else {
+                log.debug("조회수 동기화 완료: 업데이트 없음");
             }
-        }
-
-        if (syncedCount > 0) {
-            log.info("조회수 동기화 완료: {}건 업데이트", syncedCount);
-        } else {
-            log.debug("조회수 동기화 완료: 업데이트 없음");
-        }
+            return syncedCount;
+        });
     }
 }
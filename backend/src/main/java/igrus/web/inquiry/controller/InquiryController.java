@@ -6,6 +6,7 @@ import igrus.web.inquiry.domain.InquiryType;
 import igrus.web.inquiry.dto.request.*;
 import igrus.web.inquiry.dto.response.*;
 import igrus.web.inquiry.service.InquiryService;
+import igrus.web.inquiry.service.InquiryStatsService;
 import igrus.web.security.auth.common.domain.AuthenticatedUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -33,6 +34,7 @@ import org.springframework.web.bind.annotation.*;
 public class InquiryController {
 
     private final InquiryService inquiryService;
+    private final InquiryStatsService inquiryStatsService;
 
     // ==================== 공개 API ====================
 
@@ -165,6 +167,23 @@ public class InquiryController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "문의 통계 조회",
+            description = "관리자가 상태별/유형별 문의 수를 조회합니다. 집계 카운터를 읽으므로 전체 테이블을 스캔하지 않습니다. OPERATOR 또는 ADMIN 권한이 필요합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    @SecurityRequirement(name = SwaggerConfig.SECURITY_SCHEME_NAME)
+    @PreAuthorize("hasAnyRole('OPERATOR', 'ADMIN')")
+    @GetMapping("/stats")
+    public ResponseEntity<InquiryStatsResponse> getInquiryStats() {
+        InquiryStatsResponse response = inquiryStatsService.getStats();
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
             summary = "문의 상세 조회 (관리자)",
             description = "관리자가 특정 문의의 상세 정보(메모 포함)를 조회합니다. OPERATOR 또는 ADMIN 권한이 필요합니다."
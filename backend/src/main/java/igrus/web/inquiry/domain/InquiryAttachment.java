@@ -1,6 +1,7 @@
 package igrus.web.inquiry.domain;
 
 import igrus.web.common.domain.BaseEntity;
+import igrus.web.common.domain.IdGeneration;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -20,7 +21,8 @@ import lombok.Setter;
 public class InquiryAttachment extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inquiry_attachments_seq")
+    @SequenceGenerator(name = "inquiry_attachments_seq", sequenceName = "inquiry_attachments_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     @Column(name = "inquiry_attachments_id")
     private Long id;
 
@@ -0,0 +1,62 @@
+package igrus.web.inquiry.domain;
+
+import igrus.web.common.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 문의 통계 카운터 엔티티.
+ * 상태/유형 조합별 문의 수를 미리 집계해 두어 통계 화면이 테이블 전체를 COUNT하지 않도록 합니다.
+ *
+ * <p>카운트 증감은 {@code InquiryStatCounterRepository#adjustCount}의 원자적 UPDATE로만 수행하며,
+ * 드리프트는 야간 재집계 작업이 보정합니다.</p>
+ */
+@Entity
+@Table(name = "inquiry_stat_counters",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_inquiry_stat_counters_status_type",
+                columnNames = {"inquiry_stat_counters_status", "inquiry_stat_counters_type"}
+        )
+)
+@AttributeOverrides({
+        @AttributeOverride(name = "createdAt", column = @Column(name = "inquiry_stat_counters_created_at", nullable = false, updatable = false)),
+        @AttributeOverride(name = "updatedAt", column = @Column(name = "inquiry_stat_counters_updated_at", nullable = false)),
+        @AttributeOverride(name = "createdBy", column = @Column(name = "inquiry_stat_counters_created_by", updatable = false)),
+        @AttributeOverride(name = "updatedBy", column = @Column(name = "inquiry_stat_counters_updated_by"))
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InquiryStatCounter extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "inquiry_stat_counters_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "inquiry_stat_counters_status", nullable = false, length = 20)
+    private InquiryStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "inquiry_stat_counters_type", nullable = false, length = 20)
+    private InquiryType type;
+
+    @Column(name = "inquiry_stat_counters_inquiry_count", nullable = false)
+    private long inquiryCount;
+
+    // === 정적 팩토리 메서드 ===
+    public static InquiryStatCounter create(InquiryStatus status, InquiryType type, long inquiryCount) {
+        InquiryStatCounter counter = new InquiryStatCounter();
+        counter.status = status;
+        counter.type = type;
+        counter.inquiryCount = inquiryCount;
+        return counter;
+    }
+
+    // === 재집계 ===
+    public void syncCount(long actualCount) {
+        this.inquiryCount = actualCount;
+    }
+}
@@ -0,0 +1,24 @@
+package igrus.web.inquiry.dto.response;
+
+import igrus.web.inquiry.domain.InquiryStatus;
+import igrus.web.inquiry.domain.InquiryType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+@Schema(description = "문의 통계 응답 (관리자용)")
+public class InquiryStatsResponse {
+
+    @Schema(description = "전체 문의 수 (삭제 제외)", example = "42")
+    private long totalCount;
+
+    @Schema(description = "상태별 문의 수", example = "{\"PENDING\": 10, \"IN_PROGRESS\": 2, \"COMPLETED\": 30}")
+    private Map<InquiryStatus, Long> statusCounts;
+
+    @Schema(description = "유형별 문의 수", example = "{\"JOIN\": 20, \"EVENT\": 5, \"REPORT\": 1, \"ACCOUNT\": 6, \"OTHER\": 10}")
+    private Map<InquiryType, Long> typeCounts;
+}
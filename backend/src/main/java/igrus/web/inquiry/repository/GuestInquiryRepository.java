@@ -1,6 +1,7 @@
 package igrus.web.inquiry.repository;
 
 import igrus.web.inquiry.domain.GuestInquiry;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,6 +11,7 @@ import java.util.Optional;
 public interface GuestInquiryRepository extends JpaRepository<GuestInquiry, Long> {
 
     // === 비회원 문의 조회 ===
+    @EntityGraph(attributePaths = {"reply", "reply.repliedBy"})
     Optional<GuestInquiry> findByInquiryNumberAndEmail(String inquiryNumber, String email);
 
     // === 이메일로 문의 조회 ===
@@ -12,6 +12,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -28,6 +29,8 @@ public interface InquiryRepository extends JpaRepository<Inquiry, Long> {
     Optional<Inquiry> findByIdWithAllRelations(@Param("id") Long id);
 
     // === 관리자용 목록 조회 (필터링) ===
+    // reply는 OneToOne 역방향이라 지연 로딩되지 않으므로 함께 조회해 행마다 SELECT가 나가지 않도록 함
+    @EntityGraph(attributePaths = {"reply"})
     @Query("SELECT i FROM Inquiry i WHERE (:type IS NULL OR i.type = :type) AND (:status IS NULL OR i.status = :status)")
     Page<Inquiry> findByFilters(@Param("type") InquiryType type, @Param("status") InquiryStatus status, Pageable pageable);
 
@@ -40,9 +43,9 @@ public interface InquiryRepository extends JpaRepository<Inquiry, Long> {
     long countByIdIncludingDeleted(@Param("id") Long id);
 
     // === 통계용 쿼리 ===
-    long countByStatus(InquiryStatus status);
-
-    long countByType(InquiryType type);
+    // 상태/유형 조합별 문의 수를 한 번의 GROUP BY로 조회 (상태별/유형별 합계는 애플리케이션에서 합산)
+    @Query("SELECT i.status AS status, i.type AS type, COUNT(i) AS inquiryCount FROM Inquiry i GROUP BY i.status, i.type")
+    List<InquiryStatCountProjection> countGroupByStatusAndType();
 
     @Query("SELECT COUNT(i) FROM Inquiry i WHERE i.createdAt >= :startDate")
     long countByCreatedAtAfter(@Param("startDate") Instant startDate);
@@ -0,0 +1,16 @@
+package igrus.web.inquiry.repository;
+
+import igrus.web.inquiry.domain.InquiryStatus;
+import igrus.web.inquiry.domain.InquiryType;
+
+/**
+ * 상태/유형 조합별 문의 수를 한 번의 GROUP BY로 조회하기 위한 Projection.
+ */
+public interface InquiryStatCountProjection {
+
+    InquiryStatus getStatus();
+
+    InquiryType getType();
+
+    Long getInquiryCount();
+}
@@ -0,0 +1,27 @@
+package igrus.web.inquiry.repository;
+
+import igrus.web.inquiry.domain.InquiryStatCounter;
+import igrus.web.inquiry.domain.InquiryStatus;
+import igrus.web.inquiry.domain.InquiryType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface InquiryStatCounterRepository extends JpaRepository<InquiryStatCounter, Long> {
+
+    /**
+     * 상태/유형 버킷의 카운트를 원자적으로 증감합니다.
+     * 엔티티를 로드하지 않고 {@code SET count = count + delta}로 갱신하므로 동시 갱신 시에도 유실이 없습니다.
+     *
+     * @return 갱신된 행 수 (버킷 행이 아직 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE InquiryStatCounter c SET c.inquiryCount = c.inquiryCount + :delta " +
+            "WHERE c.status = :status AND c.type = :type")
+    int adjustCount(@Param("status") InquiryStatus status,
+                    @Param("type") InquiryType type,
+                    @Param("delta") long delta);
+}
@@ -13,10 +13,10 @@ import java.util.Optional;
 public interface MemberInquiryRepository extends JpaRepository<MemberInquiry, Long> {
 
     // === 회원 문의 조회 ===
-    @EntityGraph(attributePaths = {"user"})
+    @EntityGraph(attributePaths = {"user", "reply"})
     Page<MemberInquiry> findByUserId(Long userId, Pageable pageable);
 
-    @EntityGraph(attributePaths = {"user"})
+    @EntityGraph(attributePaths = {"user", "reply", "reply.repliedBy"})
     Optional<MemberInquiry> findByIdAndUserId(Long id, Long userId);
 
     // === 회원 ID로 문의 존재 여부 확인 ===
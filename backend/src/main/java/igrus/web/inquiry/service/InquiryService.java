@@ -34,6 +34,7 @@ public class InquiryService {
     private final InquiryNumberGenerator inquiryNumberGenerator;
     private final PasswordEncoder passwordEncoder;
     private final InquiryNotificationService inquiryNotificationService;
+    private final InquiryStatsService inquiryStatsService;
 
     private static final int MAX_INQUIRY_NUMBER_RETRIES = 3;
 
@@ -59,6 +60,7 @@ public class InquiryService {
                 addAttachments(inquiry, request.getAttachments());
 
                 GuestInquiry saved = guestInquiryRepository.save(inquiry);
+                inquiryStatsService.recordCreated(saved.getType(), saved.getStatus());
 
                 inquiryNotificationService.sendInquiryConfirmation(
                         request.getEmail(),
@@ -99,6 +101,7 @@ public class InquiryService {
                 addAttachments(inquiry, request.getAttachments());
 
                 MemberInquiry saved = memberInquiryRepository.save(inquiry);
+                inquiryStatsService.recordCreated(saved.getType(), saved.getStatus());
 
                 inquiryNotificationService.sendInquiryConfirmation(
                         user.getEmail(),
@@ -167,7 +170,9 @@ public class InquiryService {
     // === 문의 상태 변경 (관리자) ===
     public void updateInquiryStatus(Long inquiryId, UpdateInquiryStatusRequest request) {
         Inquiry inquiry = findInquiryById(inquiryId);
+        InquiryStatus previousStatus = inquiry.getStatus();
         inquiry.changeStatus(request.getStatus());
+        inquiryStatsService.recordStatusChanged(inquiry.getType(), previousStatus, inquiry.getStatus());
 
         log.info("문의 상태 변경: inquiryId={}, newStatus={}", inquiryId, request.getStatus());
     }
@@ -185,7 +190,9 @@ public class InquiryService {
 
         InquiryReply reply = InquiryReply.create(request.getContent(), operator);
         inquiry.setReply(reply);
+        InquiryStatus previousStatus = inquiry.getStatus();
         inquiry.complete();
+        inquiryStatsService.recordStatusChanged(inquiry.getType(), previousStatus, inquiry.getStatus());
 
         inquiryNotificationService.sendReplyNotification(
                 inquiry.getAuthorEmail(),
@@ -233,6 +240,7 @@ public class InquiryService {
     public void deleteInquiry(Long inquiryId, Long operatorId) {
         Inquiry inquiry = findInquiryById(inquiryId);
         inquiry.delete(operatorId);
+        inquiryStatsService.recordDeleted(inquiry.getType(), inquiry.getStatus());
 
         log.info("문의 삭제: inquiryId={}, deletedBy={}", inquiryId, operatorId);
     }
@@ -0,0 +1,40 @@
+package igrus.web.inquiry.service;
+
+import igrus.web.common.scheduling.service.ScheduledJobRunner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 문의 통계 카운터 재집계 스케줄러.
+ *
+ * <p>매일 새벽 4시 30분에 실행되어 카운터 테이블을 실제 문의 데이터 기준으로 보정합니다.
+ * 트랜잭션이 필요한 로직은 {@link InquiryStatsService}에 위임합니다.</p>
+ */
+@Slf4j
+@Component
+@Profile("!test")
+@RequiredArgsConstructor
+public class InquiryStatsReconcileScheduler {
+
+    private static final String JOB_NAME = "inquiry-stats-reconcile";
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST = Duration.ofMinutes(5);
+
+    private final InquiryStatsService inquiryStatsService;
+    private final ScheduledJobRunner scheduledJobRunner;
+
+    @Scheduled(cron = "0 30 4 * * *")
+    public void reconcileInquiryStats() {
+        scheduledJobRunner.run(JOB_NAME, LOCK_AT_MOST, LOCK_AT_LEAST, () -> {
+            log.info("문의 통계 재집계 시작");
+            int correctedCount = inquiryStatsService.reconcile();
+            log.info("문의 통계 재집계 완료: {}개 버킷 보정", correctedCount);
+            return correctedCount;
+        });
+    }
+}
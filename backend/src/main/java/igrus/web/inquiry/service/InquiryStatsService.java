@@ -0,0 +1,158 @@
+package igrus.web.inquiry.service;
+
+import igrus.web.inquiry.domain.InquiryStatCounter;
+import igrus.web.inquiry.domain.InquiryStatus;
+import igrus.web.inquiry.domain.InquiryType;
+import igrus.web.inquiry.dto.response.InquiryStatsResponse;
+import igrus.web.inquiry.repository.InquiryRepository;
+import igrus.web.inquiry.repository.InquiryStatCountProjection;
+import igrus.web.inquiry.repository.InquiryStatCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 문의 통계 서비스.
+ *
+ * <p>상태/유형 조합별 카운터({@link InquiryStatCounter})를 문의 생성·상태 변경·삭제 시점에
+ * 같은 트랜잭션 안에서 증감하여, 통계 조회가 카운터 테이블만 읽도록 합니다.
+ * 카운터 행이 준비되지 않은 경우에는 한 번의 GROUP BY 쿼리로 집계합니다.</p>
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class InquiryStatsService {
+
+    private final InquiryRepository inquiryRepository;
+    private final InquiryStatCounterRepository inquiryStatCounterRepository;
+
+    private static final int BUCKET_COUNT = InquiryStatus.values().length * InquiryType.values().length;
+
+    // === 통계 조회 ===
+    @Transactional(readOnly = true)
+    public InquiryStatsResponse getStats() {
+        List<InquiryStatCounter> counters = inquiryStatCounterRepository.findAll();
+
+        Map<InquiryStatus, Long> statusCounts = emptyStatusCounts();
+        Map<InquiryType, Long> typeCounts = emptyTypeCounts();
+
+        if (counters.size() < BUCKET_COUNT) {
+            log.warn("문의 통계 카운터가 준비되지 않아 GROUP BY로 집계합니다: buckets={}", counters.size());
+            for (InquiryStatCountProjection row : inquiryRepository.countGroupByStatusAndType()) {
+                accumulate(statusCounts, typeCounts, row.getStatus(), row.getType(), row.getInquiryCount());
+            }
+        } else {
+            for (InquiryStatCounter counter : counters) {
+                accumulate(statusCounts, typeCounts, counter.getStatus(), counter.getType(), counter.getInquiryCount());
+            }
+        }
+
+        long totalCount = statusCounts.values().stream().mapToLong(Long::longValue).sum();
+
+        return InquiryStatsResponse.builder()
+                .totalCount(totalCount)
+                .statusCounts(statusCounts)
+                .typeCounts(typeCounts)
+                .build();
+    }
+
+    // === 카운터 증감 (InquiryService 트랜잭션 내에서 호출) ===
+    public void recordCreated(InquiryType type, InquiryStatus status) {
+        adjust(status, type, 1);
+    }
+
+    public void recordStatusChanged(InquiryType type, InquiryStatus previousStatus, InquiryStatus newStatus) {
+        if (previousStatus == newStatus) {
+            return;
+        }
+        adjust(previousStatus, type, -1);
+        adjust(newStatus, type, 1);
+    }
+
+    public void recordDeleted(InquiryType type, InquiryStatus status) {
+        adjust(status, type, -1);
+    }
+
+    // === 재집계 (드리프트 보정) ===
+
+    /**
+     * GROUP BY 집계 결과로 모든 카운터 버킷을 덮어씁니다.
+     * 누락된 버킷은 생성합니다.
+     *
+     * @return 값이 보정되거나 새로 생성된 버킷 수
+     */
+    public int reconcile() {
+        Map<String, Long> actualCounts = new HashMap<>();
+        for (InquiryStatCountProjection row : inquiryRepository.countGroupByStatusAndType()) {
+            actualCounts.put(bucketKey(row.getStatus(), row.getType()), row.getInquiryCount());
+        }
+
+        Map<String, InquiryStatCounter> counters = new HashMap<>();
+        for (InquiryStatCounter counter : inquiryStatCounterRepository.findAll()) {
+            counters.put(bucketKey(counter.getStatus(), counter.getType()), counter);
+        }
+
+        int correctedCount = 0;
+        for (InquiryStatus status : InquiryStatus.values()) {
+            for (InquiryType type : InquiryType.values()) {
+                String key = bucketKey(status, type);
+                long actual = actualCounts.getOrDefault(key, 0L);
+                InquiryStatCounter counter = counters.get(key);
+
+                if (counter == null) {
+                    inquiryStatCounterRepository.save(InquiryStatCounter.create(status, type, actual));
+                    correctedCount++;
+                } else if (counter.getInquiryCount() != actual) {
+                    log.debug("문의 통계 보정: status={}, type={}, {} -> {}",
+                            status, type, counter.getInquiryCount(), actual);
+                    counter.syncCount(actual);
+                    correctedCount++;
+                }
+            }
+        }
+
+        return correctedCount;
+    }
+
+    // === Private 메서드 ===
+
+    private void adjust(InquiryStatus status, InquiryType type, long delta) {
+        int updated = inquiryStatCounterRepository.adjustCount(status, type, delta);
+        if (updated == 0) {
+            log.warn("문의 통계 카운터 버킷 없음 (재집계 시 생성됨): status={}, type={}", status, type);
+        }
+    }
+
+    private void accumulate(Map<InquiryStatus, Long> statusCounts, Map<InquiryType, Long> typeCounts,
+                            InquiryStatus status, InquiryType type, long count) {
+        statusCounts.merge(status, count, Long::sum);
+        typeCounts.merge(type, count, Long::sum);
+    }
+
+    private Map<InquiryStatus, Long> emptyStatusCounts() {
+        Map<InquiryStatus, Long> counts = new EnumMap<>(InquiryStatus.class);
+        for (InquiryStatus status : InquiryStatus.values()) {
+            counts.put(status, 0L);
+        }
+        return counts;
+    }
+
+    private Map<InquiryType, Long> emptyTypeCounts() {
+        Map<InquiryType, Long> counts = new EnumMap<>(InquiryType.class);
+        for (InquiryType type : InquiryType.values()) {
+            counts.put(type, 0L);
+        }
+        return counts;
+    }
+
+    private String bucketKey(InquiryStatus status, InquiryType type) {
+        return status.name() + ":" + type.name();
+    }
+}
@@ -6,6 +6,7 @@ import igrus.web.security.auth.approval.dto.response.AssociateInfoResponse;
 import igrus.web.security.auth.approval.dto.response.BulkApprovalResultResponse;
 import igrus.web.security.auth.approval.service.MemberApprovalService;
 import igrus.web.security.auth.common.domain.AuthenticatedUser;
+import igrus.web.user.domain.UserRole;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -113,7 +114,7 @@ public class AdminMemberController {
     @Operation(
             summary = "준회원 일괄 승인",
             description = "여러 준회원을 한 번에 정회원으로 승인합니다. ADMIN 권한이 필요합니다. " +
-                    "일부 사용자 승인이 실패해도 나머지는 정상 처리됩니다."
+                    "일부 사용자 승인이 실패해도 나머지는 정상 처리되며, 실패한 사용자와 사유가 함께 반환됩니다."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -142,18 +143,10 @@ public class AdminMemberController {
             @Valid @RequestBody BulkApprovalRequest request,
             @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser authenticatedUser
     ) {
-        int approvedCount = memberApprovalService.approveBulk(
+        BulkApprovalResultResponse response = memberApprovalService.approveBulk(
                 request.userIds(),
-                authenticatedUser.userId()
-        );
-
-        int totalRequested = request.userIds().size();
-        int failedCount = totalRequested - approvedCount;
-
-        BulkApprovalResultResponse response = new BulkApprovalResultResponse(
-                approvedCount,
-                failedCount,
-                totalRequested
+                authenticatedUser.userId(),
+                UserRole.valueOf(authenticatedUser.role())
         );
 
         return ResponseEntity.ok(response);
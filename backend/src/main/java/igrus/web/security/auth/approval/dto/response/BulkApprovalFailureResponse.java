@@ -0,0 +1,24 @@
+package igrus.web.security.auth.approval.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "일괄 승인 실패 항목")
+public record BulkApprovalFailureResponse(
+        @Schema(description = "승인에 실패한 사용자 ID", example = "3")
+        Long userId,
+
+        @Schema(description = "실패 사유", example = "NOT_ASSOCIATE")
+        Reason reason
+) {
+
+    public enum Reason {
+        /** 존재하지 않거나 탈퇴한 사용자 */
+        USER_NOT_FOUND,
+        /** 준회원(ASSOCIATE)이 아닌 사용자 */
+        NOT_ASSOCIATE
+    }
+
+    public static BulkApprovalFailureResponse of(Long userId, Reason reason) {
+        return new BulkApprovalFailureResponse(userId, reason);
+    }
+}
@@ -2,6 +2,8 @@ package igrus.web.security.auth.approval.dto.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.util.List;
+
 @Schema(description = "일괄 승인 결과 응답")
 public record BulkApprovalResultResponse(
         @Schema(description = "승인 성공 건수", example = "5")
@@ -10,6 +12,15 @@ public record BulkApprovalResultResponse(
         @Schema(description = "승인 실패 건수", example = "1")
         int failedCount,
 
-        @Schema(description = "총 요청 건수", example = "6")
-        int totalRequested
-) {}
+        @Schema(description = "총 요청 건수 (중복 제외)", example = "6")
+        int totalRequested,
+
+        @Schema(description = "사용자별 승인 실패 사유")
+        List<BulkApprovalFailureResponse> failures
+) {
+
+    public static BulkApprovalResultResponse of(int approvedCount, int totalRequested,
+                                                List<BulkApprovalFailureResponse> failures) {
+        return new BulkApprovalResultResponse(approvedCount, totalRequested - approvedCount, totalRequested, failures);
+    }
+}
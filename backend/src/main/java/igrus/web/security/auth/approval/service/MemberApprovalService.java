@@ -1,6 +1,8 @@
 package igrus.web.security.auth.approval.service;
 
 import igrus.web.security.auth.approval.dto.response.AssociateInfoResponse;
+import igrus.web.security.auth.approval.dto.response.BulkApprovalFailureResponse;
+import igrus.web.security.auth.approval.dto.response.BulkApprovalResultResponse;
 import igrus.web.security.auth.approval.exception.AdminRequiredException;
 import igrus.web.security.auth.approval.exception.BulkApprovalEmptyException;
 import igrus.web.security.auth.approval.exception.LastAdminCannotChangeException;
@@ -12,6 +14,7 @@ import igrus.web.user.domain.UserRoleHistory;
 import igrus.web.user.exception.UserNotFoundException;
 import igrus.web.user.repository.UserRepository;
 import igrus.web.user.repository.UserRoleHistoryRepository;
+import igrus.web.user.repository.UserRoleProjection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -19,8 +22,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -101,74 +110,87 @@ public class MemberApprovalService {
 
     /**
      * 여러 준회원을 일괄 승인합니다.
+     * 요청 인원과 관계없이 대상 판별 1회, 역할 변경 이력 INSERT 1회, 자격 증명 승인 UPDATE 1회,
+     * 역할 UPDATE 1회로 처리하여 학기 초 대량 승인 시에도 행 잠금 시간을 짧게 유지합니다.
      *
      * @param userIds 승인할 사용자 ID 목록
      * @param approverId 승인 처리자 ID (ADMIN)
-     * @return 승인된 사용자 수
+     * @param approverRole 인증 토큰에 담긴 승인 처리자 역할 (추가 조회 없이 권한 확인)
+     * @return 승인 결과 (사용자별 실패 사유 포함)
      * @throws AdminRequiredException 승인 처리자가 ADMIN이 아닌 경우
      * @throws BulkApprovalEmptyException 승인할 사용자 목록이 비어있는 경우
      */
-    public int approveBulk(List<Long> userIds, Long approverId) {
+    public BulkApprovalResultResponse approveBulk(List<Long> userIds, Long approverId, UserRole approverRole) {
         log.info("일괄 승인 요청: userIds={}, approverId={}", userIds, approverId);
 
-        // 1. ADMIN 권한 확인
-        validateAdminRole(approverId);
+        // 1. ADMIN 권한 확인 (인증 정보 기준)
+        if (approverRole != UserRole.ADMIN) {
+            log.warn("ADMIN 권한 검증 실패: userId={}, role={}", approverId, approverRole);
+            throw new AdminRequiredException();
+        }
 
         // 2. 빈 목록 확인
-        if (userIds == null || userIds.isEmpty()) {
+        Set<Long> requestedIds = distinctIds(userIds);
+        if (requestedIds.isEmpty()) {
             throw new BulkApprovalEmptyException();
         }
 
-        // 3. 각 사용자 개별 승인
-        int approvedCount = 0;
-        List<Long> failedUserIds = new ArrayList<>();
-
-        for (Long userId : userIds) {
-            try {
-                // 사용자 조회
-                User user = userRepository.findById(userId).orElse(null);
-                if (user == null) {
-                    failedUserIds.add(userId);
-                    continue;
-                }
-
-                // ASSOCIATE인 경우만 승인
-                if (!user.isAssociate()) {
-                    failedUserIds.add(userId);
-                    continue;
-                }
-
-                // 역할 변경
-                UserRole previousRole = user.getRole();
-                user.promoteToMember();
-
-                // PasswordCredential 승인 정보 설정
-                passwordCredentialRepository.findByUserId(userId)
-                        .ifPresent(credential -> credential.approve(approverId));
-
-                // 역할 변경 이력 기록
-                UserRoleHistory history = UserRoleHistory.create(
-                        user,
-                        previousRole,
-                        UserRole.MEMBER,
-                        "관리자 일괄 승인에 의한 정회원 전환"
-                );
-                userRoleHistoryRepository.save(history);
-
-                approvedCount++;
-            } catch (Exception e) {
-                log.warn("일괄 승인 중 개별 사용자 처리 실패: userId={}, error={}", userId, e.getMessage());
-                failedUserIds.add(userId);
+        // 3. 대상 판별 (한 번의 조회)
+        Map<Long, UserRole> currentRoles = userRepository.findRolesByIdIn(requestedIds).stream()
+                .collect(Collectors.toMap(UserRoleProjection::getId, UserRoleProjection::getRole));
+
+        List<Long> eligibleIds = new ArrayList<>();
+        List<BulkApprovalFailureResponse> failures = new ArrayList<>();
+        for (Long userId : requestedIds) {
+            UserRole role = currentRoles.get(userId);
+            if (role == null) {
+                failures.add(BulkApprovalFailureResponse.of(userId, BulkApprovalFailureResponse.Reason.USER_NOT_FOUND));
+            } else if (role != UserRole.ASSOCIATE) {
+                failures.add(BulkApprovalFailureResponse.of(userId, BulkApprovalFailureResponse.Reason.NOT_ASSOCIATE));
+            } else {
+                eligibleIds.add(userId);
             }
         }
 
-        if (!failedUserIds.isEmpty()) {
-            log.warn("일괄 승인 중 일부 실패: failedUserIds={}", failedUserIds);
+        int approvedCount = 0;
+        if (!eligibleIds.isEmpty()) {
+            Instant now = Instant.now();
+
+            // 4. 역할 변경 이력 기록 (역할 변경 전 ASSOCIATE 기준으로 판별해야 하므로 먼저 실행)
+            userRoleHistoryRepository.insertRoleChangeHistories(
+                    eligibleIds,
+                    UserRole.ASSOCIATE.name(),
+                    UserRole.MEMBER.name(),
+                    "관리자 일괄 승인에 의한 정회원 전환",
+                    approverId,
+                    now
+            );
+
+            // 5. PasswordCredential의 승인 정보 설정
+            passwordCredentialRepository.approveAllByUserIdIn(eligibleIds, approverId, now);
+
+            // 6. 역할 변경 (ASSOCIATE -> MEMBER)
+            approvedCount = userRepository.updateRoleByIdInAndRole(
+                    eligibleIds, UserRole.ASSOCIATE, UserRole.MEMBER, approverId, now);
         }
 
-        log.info("일괄 승인 완료: approvedCount={}, failedCount={}", approvedCount, failedUserIds.size());
+        if (!failures.isEmpty()) {
+            log.warn("일괄 승인 중 일부 실패: failures={}", failures);
+        }
+
+        log.info("일괄 승인 완료: approvedCount={}, failedCount={}", approvedCount, requestedIds.size() - approvedCount);
 
-        return approvedCount;
+        return BulkApprovalResultResponse.of(approvedCount, requestedIds.size(), failures);
+    }
+
+    private Set<Long> distinctIds(List<Long> userIds) {
+        Set<Long> ids = new LinkedHashSet<>();
+        if (userIds != null) {
+            userIds.stream()
+                    .filter(Objects::nonNull)
+                    .forEach(ids::add);
+        }
+        return ids;
     }
 
     /**
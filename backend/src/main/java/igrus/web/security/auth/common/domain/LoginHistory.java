@@ -1,6 +1,7 @@
 package igrus.web.security.auth.common.domain;
 
 import igrus.web.common.domain.BaseEntity;
+import igrus.web.common.domain.IdGeneration;
 import igrus.web.user.domain.User;
 import jakarta.persistence.AttributeOverride;
 import jakarta.persistence.AttributeOverrides;
@@ -15,6 +16,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -49,7 +51,8 @@ public class LoginHistory extends BaseEntity {
     private static final int MAX_USER_AGENT_LENGTH = 500;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "login_histories_seq")
+    @SequenceGenerator(name = "login_histories_seq", sequenceName = "login_histories_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     @Column(name = "login_histories_id")
     private Long id;
 
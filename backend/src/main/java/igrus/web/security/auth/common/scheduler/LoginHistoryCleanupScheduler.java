@@ -1,11 +1,13 @@
 package igrus.web.security.auth.common.scheduler;
 
+import igrus.web.common.scheduling.service.ScheduledJobRunner;
 import igrus.web.security.auth.common.service.LoginHistoryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 
@@ -19,9 +21,13 @@ import java.time.temporal.ChronoUnit;
 @RequiredArgsConstructor
 public class LoginHistoryCleanupScheduler {
 
+    private static final String JOB_NAME = "login-history-cleanup";
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST = Duration.ofMinutes(5);
     private static final int RETENTION_DAYS = 365;
 
     private final LoginHistoryService loginHistoryService;
+    private final ScheduledJobRunner scheduledJobRunner;
 
     /**
      * 1년 이상 된 로그인 히스토리를 삭제합니다.
@@ -29,9 +35,12 @@ public class LoginHistoryCleanupScheduler {
      */
     @Scheduled(cron = "0 0 3 * * *")
     public void cleanupOldLoginHistories() {
-        log.info("로그인 히스토리 정리 시작");
-        Instant cutoffDate = Instant.now().minus(RETENTION_DAYS, ChronoUnit.DAYS);
-        int deletedCount = loginHistoryService.deleteOldHistories(cutoffDate);
-        log.info("로그인 히스토리 정리 완료: {}건 삭제", deletedCount);
+        scheduledJobRunner.run(JOB_NAME, LOCK_AT_MOST, LOCK_AT_LEAST, () -> {
+            log.info("로그인 히스토리 정리 시작");
+            Instant cutoffDate = Instant.now().minus(RETENTION_DAYS, ChronoUnit.DAYS);
+            int deletedCount = loginHistoryService.deleteOldHistories(cutoffDate);
+            log.info("로그인 히스토리 정리 완료: {}건 삭제", deletedCount);
+            return deletedCount;
+        });
     }
 }
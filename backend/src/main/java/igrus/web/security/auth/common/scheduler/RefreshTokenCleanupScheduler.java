@@ -1,11 +1,14 @@
 package igrus.web.security.auth.common.scheduler;
 
+import igrus.web.common.scheduling.service.ScheduledJobRunner;
 import igrus.web.security.auth.common.service.RefreshTokenCleanupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /**
  * 만료된 Refresh Token 정리 스케줄러.
  *
@@ -22,15 +25,23 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class RefreshTokenCleanupScheduler {
 
+    private static final String JOB_NAME = "refresh-token-cleanup";
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST = Duration.ofMinutes(5);
+
     private final RefreshTokenCleanupService refreshTokenCleanupService;
+    private final ScheduledJobRunner scheduledJobRunner;
 
     /**
      * 매일 새벽 4시에 만료된 Refresh Token을 정리합니다.
      */
     @Scheduled(cron = "0 0 4 * * *")
     public void cleanupExpiredTokens() {
-        log.info("만료된 Refresh Token 정리 스케줄러 시작");
-        int deletedCount = refreshTokenCleanupService.deleteExpiredTokens();
-        log.info("만료된 Refresh Token 정리 완료: {}개 삭제", deletedCount);
+        scheduledJobRunner.run(JOB_NAME, LOCK_AT_MOST, LOCK_AT_LEAST, () -> {
+            log.info("만료된 Refresh Token 정리 스케줄러 시작");
+            int deletedCount = refreshTokenCleanupService.deleteExpiredTokens();
+            log.info("만료된 Refresh Token 정리 완료: {}개 삭제", deletedCount);
+            return deletedCount;
+        });
     }
 }
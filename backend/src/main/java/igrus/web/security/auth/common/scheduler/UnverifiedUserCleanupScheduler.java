@@ -1,5 +1,6 @@
 package igrus.web.security.auth.common.scheduler;
 
+import igrus.web.common.scheduling.service.ScheduledJobRunner;
 import igrus.web.security.auth.common.service.UnverifiedUserCleanupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -7,6 +8,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /**
  * 미인증 사용자 데이터 정리 스케줄러.
  *
@@ -22,7 +25,12 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class UnverifiedUserCleanupScheduler {
 
+    private static final String JOB_NAME = "unverified-user-cleanup";
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST = Duration.ofMinutes(5);
+
     private final UnverifiedUserCleanupService cleanupService;
+    private final ScheduledJobRunner scheduledJobRunner;
 
     @Value("${app.cleanup.unverified-user-retention-hours:24}")
     private int retentionHours;
@@ -39,6 +47,9 @@ public class UnverifiedUserCleanupScheduler {
      */
     @Scheduled(cron = "0 0 3 * * *")
     public void cleanupUnverifiedUsers() {
-        cleanupService.cleanup(retentionHours);
+        scheduledJobRunner.run(JOB_NAME, LOCK_AT_MOST, LOCK_AT_LEAST, () -> {
+            UnverifiedUserCleanupService.CleanupResult result = cleanupService.cleanup(retentionHours);
+            return result.deletedUserCount() + result.deletedVerificationCount();
+        });
     }
 }
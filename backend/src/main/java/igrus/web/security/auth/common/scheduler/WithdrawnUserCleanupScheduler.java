@@ -1,11 +1,14 @@
 package igrus.web.security.auth.common.scheduler;
 
+import igrus.web.common.scheduling.service.ScheduledJobRunner;
 import igrus.web.security.auth.common.service.WithdrawnUserCleanupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /**
  * 탈퇴 사용자 인증 데이터 정리 스케줄러.
  *
@@ -23,15 +26,23 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class WithdrawnUserCleanupScheduler {
 
+    private static final String JOB_NAME = "withdrawn-user-cleanup";
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST = Duration.ofMinutes(5);
+
     private final WithdrawnUserCleanupService withdrawnUserCleanupService;
+    private final ScheduledJobRunner scheduledJobRunner;
 
     /**
      * 매일 새벽 5시에 탈퇴 사용자 인증 데이터를 정리합니다.
      */
     @Scheduled(cron = "0 0 5 * * *")
     public void cleanupWithdrawnUsers() {
-        log.info("탈퇴 사용자 인증 데이터 정리 스케줄러 시작");
-        int processedCount = withdrawnUserCleanupService.cleanupExpiredWithdrawnUsers();
-        log.info("탈퇴 사용자 인증 데이터 정리 완료: {}명 처리", processedCount);
+        scheduledJobRunner.run(JOB_NAME, LOCK_AT_MOST, LOCK_AT_LEAST, () -> {
+            log.info("탈퇴 사용자 인증 데이터 정리 스케줄러 시작");
+            int processedCount = withdrawnUserCleanupService.cleanupExpiredWithdrawnUsers();
+            log.info("탈퇴 사용자 인증 데이터 정리 완료: {}명 처리", processedCount);
+            return processedCount;
+        });
     }
 }
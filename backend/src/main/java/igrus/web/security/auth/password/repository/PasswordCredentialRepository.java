@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Optional;
 
 @Repository
@@ -42,4 +44,16 @@ public interface PasswordCredentialRepository extends JpaRepository<PasswordCred
     @Modifying(flushAutomatically = true)
     @Query(value = "DELETE FROM password_credentials WHERE password_credentials_user_id = :userId", nativeQuery = true)
     void hardDeleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * 여러 사용자의 비밀번호 자격 증명에 승인 정보를 한 번의 UPDATE로 기록합니다.
+     *
+     * @return 승인 정보가 기록된 자격 증명 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PasswordCredential pc SET pc.approvedAt = :approvedAt, pc.approvedBy = :approverId, " +
+           "pc.updatedAt = :approvedAt WHERE pc.user.id IN :userIds")
+    int approveAllByUserIdIn(@Param("userIds") Collection<Long> userIds,
+                             @Param("approverId") Long approverId,
+                             @Param("approvedAt") Instant approvedAt);
 }
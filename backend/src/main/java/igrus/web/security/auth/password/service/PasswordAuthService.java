@@ -1,5 +1,6 @@
 package igrus.web.security.auth.password.service;
 
+import igrus.web.common.config.MetricsConfig;
 import igrus.web.security.auth.common.domain.LoginFailureReason;
 import igrus.web.security.auth.common.domain.RefreshToken;
 import igrus.web.security.auth.common.dto.response.RecoveryEligibilityResponse;
@@ -24,6 +25,7 @@ import igrus.web.security.auth.password.repository.PasswordCredentialRepository;
 import igrus.web.user.domain.User;
 import igrus.web.user.domain.UserStatus;
 import igrus.web.user.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -66,6 +68,7 @@ public class PasswordAuthService {
      * @throws AccountRecoverableException 계정이 탈퇴 상태이지만 복구 가능한 경우
      * @throws EmailNotVerifiedException 이메일 인증이 완료되지 않은 경우
      */
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public LoginResult login(PasswordLoginRequest request, String ipAddress, String userAgent) {
         log.info("로그인 시도: studentId={}, ip={}", request.studentId(), ipAddress);
 
@@ -0,0 +1,71 @@
+package igrus.web.security.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.util.StringUtils;
+
+/**
+ * Actuator 엔드포인트 보안 설정.
+ *
+ * <p>헬스체크는 공개하고, Prometheus 스크레이프 엔드포인트는 전용 계정의 HTTP Basic 인증으로 보호합니다.
+ * 스크레이프 비밀번호가 설정되지 않으면 Prometheus 엔드포인트 접근을 모두 거부합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ActuatorSecurityConfig {
+
+    private static final String METRICS_ROLE = "METRICS";
+
+    private final SecurityConfigUtil securityConfigUtil;
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${app.metrics.scrape-username:prometheus}")
+    private String scrapeUsername;
+
+    @Value("${app.metrics.scrape-password:}")
+    private String scrapePassword;
+
+    @Bean
+    @Order(3)
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http) throws Exception {
+
+        // Actuator 엔드포인트만 담당
+        http.securityMatcher(EndpointRequest.toAnyEndpoint());
+
+        if (StringUtils.hasText(scrapePassword)) {
+            DaoAuthenticationProvider provider = new DaoAuthenticationProvider(new InMemoryUserDetailsManager(
+                    User.withUsername(scrapeUsername)
+                            .password(passwordEncoder.encode(scrapePassword))
+                            .roles(METRICS_ROLE)
+                            .build()));
+            provider.setPasswordEncoder(passwordEncoder);
+            http.authenticationManager(new ProviderManager(provider));
+            http.httpBasic(Customizer.withDefaults());
+        }
+
+        http.authorizeHttpRequests(auth -> {
+            auth.requestMatchers(EndpointRequest.to("health")).permitAll();
+            if (StringUtils.hasText(scrapePassword)) {
+                auth.requestMatchers(EndpointRequest.to("prometheus")).hasRole(METRICS_ROLE);
+            }
+            auth.anyRequest().denyAll();
+        });
+
+        securityConfigUtil.disableSessionManagement(http);
+        securityConfigUtil.disableCsrf(http);
+
+        return http.build();
+    }
+}
@@ -10,6 +10,8 @@ import igrus.web.security.auth.common.exception.email.EmailNotVerifiedException;
 import igrus.web.security.auth.common.service.AccountStatusService;
 import igrus.web.user.exception.UserNotFoundException;
 import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -41,8 +43,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
     private final AccountStatusService accountStatusService;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
+    /** 토큰 검증 및 계정 상태 확인 소요 시간 (다음 필터 체인 실행 시간 제외) */
+    static final String AUTHENTICATION_TIMER = "igrus.security.jwt.authentication";
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
@@ -64,6 +70,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "authenticated";
+
         try {
             String token = tokenOptional.get();
 
@@ -96,18 +105,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         } catch (AccountSuspendedException | AccountWithdrawnException | EmailNotVerifiedException | UserNotFoundException e) {
             // 계정 상태 예외 - 에러 응답 직접 작성 후 필터 체인 종료
+            stopTimer(sample, "account_rejected");
             handleAccountStatusException(response, e);
             return;
         } catch (CustomBaseException e) {
+            outcome = "invalid_token";
             log.warn("인증 실패 - {}: path={}", e.getMessage(), request.getRequestURI());
         } catch (Exception e) {
+            outcome = "error";
             log.error("인증 처리 중 예외 발생: path={}, error={}", request.getRequestURI(), e.getMessage());
         }
 
+        stopTimer(sample, outcome);
+
         // 다음 필터로 진행
         filterChain.doFilter(request, response);
     }
 
+    private void stopTimer(Timer.Sample sample, String outcome) {
+        sample.stop(Timer.builder(AUTHENTICATION_TIMER)
+                .description("JWT 인증 필터의 토큰 검증 및 계정 상태 확인 시간")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
     /**
      * 계정 상태 예외 발생 시 에러 응답을 직접 작성합니다.
      */
@@ -0,0 +1,87 @@
+package igrus.web.user.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 게시글/댓글 작성자 읽기 전용 엔티티.
+ * users 테이블 중 작성자 표시에 필요한 컬럼만 읽기 전용으로 매핑합니다.
+ *
+ * <p>{@link User}와 달리 @SQLRestriction이 없어 탈퇴(soft-deleted) 사용자도 로딩됩니다.
+ * 작성자 FK(posts_author_id, comments_author_id)는 항상 존재하는 users 행을 가리키므로
+ * @NotFound 없이 지연 로딩과 배치 페치(default_batch_fetch_size)가 그대로 동작합니다.</p>
+ *
+ * <p>쓰기는 항상 {@link User}를 통해 수행합니다. 이 엔티티는 INSERT/UPDATE 되지 않습니다.</p>
+ */
+@Entity
+@Immutable
+@Table(name = "users")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuthorSnapshot {
+
+    /** 사용자 고유 식별자 ({@link User}와 동일한 ID 매핑) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "users_id")
+    private Long id;
+
+    /** 사용자 본명 */
+    @Column(name = "users_name", nullable = false, length = 50, insertable = false, updatable = false)
+    private String name;
+
+    /** 사용자 상태 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "users_status", nullable = false, insertable = false, updatable = false)
+    private UserStatus status;
+
+    /** 삭제(탈퇴 처리) 여부 */
+    @Column(name = "users_deleted", nullable = false, insertable = false, updatable = false)
+    private boolean deleted;
+
+    // === 정적 팩토리 메서드 ===
+
+    /**
+     * 사용자로부터 작성자 참조를 생성합니다.
+     * 게시글/댓글 생성 시 작성자 FK 설정과, 같은 트랜잭션 안에서의 작성자 표시에 사용합니다.
+     *
+     * @param user 작성자 (저장되어 ID가 있어야 함)
+     * @return 작성자 스냅샷
+     */
+    public static AuthorSnapshot from(User user) {
+        AuthorSnapshot snapshot = new AuthorSnapshot();
+        snapshot.id = user.getId();
+        snapshot.name = user.getName();
+        snapshot.status = user.getStatus();
+        snapshot.deleted = user.isDeleted();
+        return snapshot;
+    }
+
+    // === 표시용 메서드 ===
+
+    /**
+     * 탈퇴한 사용자인지 확인합니다. 탈퇴 상태이거나 soft delete된 경우 탈퇴로 간주합니다.
+     */
+    public boolean isWithdrawn() {
+        return deleted || status == UserStatus.WITHDRAWN;
+    }
+
+    /**
+     * 게시글/댓글에서 표시할 작성자 이름을 반환합니다.
+     * 탈퇴한 사용자는 "탈퇴한 사용자"를 반환합니다.
+     */
+    public String getDisplayName() {
+        return isWithdrawn() ? User.WITHDRAWN_DISPLAY_NAME : name;
+    }
+
+    /**
+     * 게시글/댓글에서 표시할 작성자 ID를 반환합니다.
+     * 탈퇴한 사용자는 null을 반환합니다.
+     */
+    public Long getDisplayId() {
+        return isWithdrawn() ? null : id;
+    }
+}
@@ -1,10 +1,14 @@
 package igrus.web.user.domain;
 
+import igrus.web.common.cache.CacheRegions;
+import igrus.web.common.cache.ReferenceDataCacheListener;
 import igrus.web.common.domain.SoftDeletableEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLRestriction;
 
 import java.util.ArrayList;
@@ -13,9 +17,15 @@ import java.util.List;
 /**
  * 직책 엔티티.
  * 동아리 내 직책(기술부, 기술부장, 회장 등) 정보를 관리합니다.
+ *
+ * <p>거의 바뀌지 않는 참조 데이터이므로 2차 캐시에 보관합니다. 사용자 직책 목록({@code userPositions})
+ * 컬렉션은 캐시하지 않습니다.</p>
  */
 @Entity
 @Table(name = "positions")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.POSITION)
+@EntityListeners(ReferenceDataCacheListener.class)
 @SQLRestriction("positions_deleted = false")
 @AttributeOverrides({
         @AttributeOverride(name = "createdAt", column = @Column(name = "positions_created_at", nullable = false, updatable = false)),
@@ -1,8 +1,12 @@
 package igrus.web.user.repository;
 
+import igrus.web.common.cache.CacheRegions;
 import igrus.web.user.domain.Position;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -18,6 +22,10 @@ public interface PositionRepository extends JpaRepository<Position, Long> {
 
     boolean existsByName(String name);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.POSITION_QUERY)
+    })
     List<Position> findAllByOrderByDisplayOrderAsc();
 
     // === 삭제된 데이터 포함 조회 (native query로 @SQLRestriction 우회) ===
@@ -5,11 +5,13 @@ import igrus.web.user.domain.UserRole;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,6 +38,30 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     long countByRole(UserRole role);
 
+    // === 일괄 역할 변경 ===
+
+    /**
+     * 요청된 사용자들의 ID와 현재 역할을 한 번의 쿼리로 조회합니다.
+     * 조회되지 않은 ID는 존재하지 않거나 탈퇴한 사용자입니다.
+     */
+    @Query("SELECT u.id AS id, u.role AS role FROM User u WHERE u.id IN :ids")
+    List<UserRoleProjection> findRolesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 현재 역할이 {@code currentRole}인 사용자들의 역할을 한 번의 UPDATE로 변경합니다.
+     * 엔티티 변경 감지를 거치지 않으므로 수정 시각과 수정자를 직접 기록합니다.
+     *
+     * @return 실제로 역할이 변경된 사용자 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.role = :newRole, u.updatedAt = :now, u.updatedBy = :changedBy " +
+           "WHERE u.id IN :ids AND u.role = :currentRole")
+    int updateRoleByIdInAndRole(@Param("ids") Collection<Long> ids,
+                                @Param("currentRole") UserRole currentRole,
+                                @Param("newRole") UserRole newRole,
+                                @Param("changedBy") Long changedBy,
+                                @Param("now") Instant now);
+
     // === 삭제된 데이터 포함 조회 (관리자용, native query로 @SQLRestriction 우회) ===
 
     @Query(value = "SELECT * FROM users u WHERE u.users_id = :id", nativeQuery = true)
@@ -3,8 +3,13 @@ package igrus.web.user.repository;
 import igrus.web.user.domain.UserRole;
 import igrus.web.user.domain.UserRoleHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +21,27 @@ public interface UserRoleHistoryRepository extends JpaRepository<UserRoleHistory
     Optional<UserRoleHistory> findFirstByUserIdOrderByCreatedAtDesc(Long userId);
 
     List<UserRoleHistory> findByNewRole(UserRole newRole);
+
+    /**
+     * 현재 역할이 {@code currentRole}인 사용자들의 역할 변경 이력을 한 번의 INSERT ... SELECT로 기록합니다.
+     * IDENTITY 키로 인해 JDBC 배치가 비활성화되는 엔티티 저장 대신 사용하며,
+     * 역할 UPDATE보다 먼저 실행해야 변경 전 역할로 대상을 판별할 수 있습니다.
+     *
+     * @return 기록된 이력 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO user_role_histories (user_role_histories_user_id, " +
+            "user_role_histories_previous_role, user_role_histories_new_role, user_role_histories_reason, " +
+            "user_role_histories_created_at, user_role_histories_updated_at, " +
+            "user_role_histories_created_by, user_role_histories_updated_by) " +
+            "SELECT u.users_id, u.users_role, :newRole, :reason, :now, :now, :changedBy, :changedBy " +
+            "FROM users u " +
+            "WHERE u.users_id IN (:userIds) AND u.users_role = :currentRole AND u.users_deleted = false",
+            nativeQuery = true)
+    int insertRoleChangeHistories(@Param("userIds") Collection<Long> userIds,
+                                  @Param("currentRole") String currentRole,
+                                  @Param("newRole") String newRole,
+                                  @Param("reason") String reason,
+                                  @Param("changedBy") Long changedBy,
+                                  @Param("now") Instant now);
 }
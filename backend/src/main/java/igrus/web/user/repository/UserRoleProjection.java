@@ -0,0 +1,14 @@
+package igrus.web.user.repository;
+
+import igrus.web.user.domain.UserRole;
+
+/**
+ * 사용자 ID와 현재 역할만 조회하기 위한 Projection.
+ * 일괄 역할 변경 시 엔티티를 로드하지 않고 대상 여부를 판별하는 데 사용합니다.
+ */
+public interface UserRoleProjection {
+
+    Long getId();
+
+    UserRole getRole();
+}
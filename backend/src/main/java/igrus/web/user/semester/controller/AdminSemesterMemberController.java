@@ -9,6 +9,7 @@ import igrus.web.user.semester.dto.response.RegisterSemesterMembersResponse;
 import igrus.web.user.semester.service.SemesterMemberService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -16,6 +17,9 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -45,9 +49,36 @@ public class AdminSemesterMemberController {
     public ResponseEntity<List<CandidateMemberResponse>> getCandidateMembers(
             @Parameter(description = "연도", example = "2026") @PathVariable int year,
             @Parameter(description = "학기 (1 또는 2)", example = "1") @PathVariable int semester,
+            @Parameter(description = "검색 키워드 (학번, 이름)") @RequestParam(required = false) String keyword,
             @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser authenticatedUser
     ) {
-        List<CandidateMemberResponse> candidates = semesterMemberService.getCandidateMembers(year, semester);
+        List<CandidateMemberResponse> candidates =
+                semesterMemberService.getCandidateMembers(year, semester, keyword, Pageable.unpaged()).getContent();
+        return ResponseEntity.ok(candidates);
+    }
+
+    @Operation(summary = "등록 후보 회원 목록 페이징 조회",
+            description = "등록 후보 회원 목록을 페이지 단위로 조회합니다. 학번 또는 이름 키워드로 필터링할 수 있습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 연도 또는 학기", content = @Content),
+            @ApiResponse(responseCode = "401", description = "인증 필요", content = @Content),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (ADMIN 권한 필요)", content = @Content)
+    })
+    @Parameters({
+            @Parameter(name = "page", description = "페이지 번호 (0부터 시작)", example = "0"),
+            @Parameter(name = "size", description = "페이지당 항목 수", example = "50")
+    })
+    @GetMapping("/{year}/{semester}/candidates/paged")
+    public ResponseEntity<Page<CandidateMemberResponse>> getCandidateMembersPage(
+            @Parameter(description = "연도", example = "2026") @PathVariable int year,
+            @Parameter(description = "학기 (1 또는 2)", example = "1") @PathVariable int semester,
+            @Parameter(description = "검색 키워드 (학번, 이름)") @RequestParam(required = false) String keyword,
+            @PageableDefault(size = 50) Pageable pageable,
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser authenticatedUser
+    ) {
+        Page<CandidateMemberResponse> candidates =
+                semesterMemberService.getCandidateMembers(year, semester, keyword, pageable);
         return ResponseEntity.ok(candidates);
     }
 
@@ -66,7 +97,8 @@ public class AdminSemesterMemberController {
             @Valid @RequestBody RegisterSemesterMembersRequest request,
             @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser authenticatedUser
     ) {
-        RegisterSemesterMembersResponse response = semesterMemberService.registerMembers(year, semester, request.userIds());
+        RegisterSemesterMembersResponse response = semesterMemberService.registerMembers(
+                year, semester, request.userIds(), authenticatedUser.userId());
         return ResponseEntity.ok(response);
     }
 
@@ -2,8 +2,11 @@ package igrus.web.user.semester.controller;
 
 import igrus.web.common.config.SwaggerConfig;
 import igrus.web.security.auth.common.domain.AuthenticatedUser;
+import igrus.web.user.semester.domain.Semester;
+import igrus.web.user.semester.dto.request.SemesterMemberExportFormat;
 import igrus.web.user.semester.dto.response.SemesterMemberListResponse;
 import igrus.web.user.semester.dto.response.SemesterSummaryResponse;
+import igrus.web.user.semester.service.SemesterMemberExportService;
 import igrus.web.user.semester.service.SemesterMemberService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,12 +15,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -29,6 +37,7 @@ import java.util.List;
 public class SemesterMemberController {
 
     private final SemesterMemberService semesterMemberService;
+    private final SemesterMemberExportService semesterMemberExportService;
 
     @Operation(summary = "학기 목록 조회",
             description = "멤버십 기록이 존재하는 학기 목록을 회원 수와 함께 최신순으로 조회합니다.")
@@ -63,4 +72,54 @@ public class SemesterMemberController {
         List<SemesterMemberListResponse> members = semesterMemberService.getMemberList(year, semester, keyword);
         return ResponseEntity.ok(members);
     }
+
+    @Operation(summary = "학기별 회원 명단 내보내기",
+            description = "특정 학기의 회원 명단을 CSV 또는 XLSX 파일로 내려받습니다. 탈퇴 회원도 포함됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "내보내기 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 연도, 학기 또는 파일 형식", content = @Content),
+            @ApiResponse(responseCode = "401", description = "인증 필요", content = @Content),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (OPERATOR 이상 필요)", content = @Content)
+    })
+    @GetMapping("/{year}/{semester}/members/export")
+    public void exportMemberList(
+            @Parameter(description = "연도", example = "2026") @PathVariable int year,
+            @Parameter(description = "학기 (1 또는 2)", example = "1") @PathVariable int semester,
+            @Parameter(description = "파일 형식 (CSV, XLSX)") @RequestParam(defaultValue = "CSV") SemesterMemberExportFormat format,
+            @Parameter(description = "검색 키워드 (학번, 이름)") @RequestParam(required = false) String keyword,
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser authenticatedUser,
+            HttpServletResponse response
+    ) throws IOException {
+        // 잘못된 학기는 다운로드 응답 헤더를 쓰기 전에 400으로 거절
+        Semester target = Semester.of(year, semester);
+        prepareDownload(response, format, "members-" + year + "-" + semester);
+        semesterMemberExportService.exportMembers(target, keyword, format, response.getOutputStream());
+    }
+
+    @Operation(summary = "전체 학기 회원 명단 내보내기",
+            description = "모든 학기의 회원 명단 이력을 하나의 CSV 또는 XLSX 파일로 내려받습니다. 탈퇴 회원도 포함됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "내보내기 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 파일 형식", content = @Content),
+            @ApiResponse(responseCode = "401", description = "인증 필요", content = @Content),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (OPERATOR 이상 필요)", content = @Content)
+    })
+    @GetMapping("/members/export")
+    public void exportAllMemberList(
+            @Parameter(description = "파일 형식 (CSV, XLSX)") @RequestParam(defaultValue = "CSV") SemesterMemberExportFormat format,
+            @Parameter(description = "검색 키워드 (학번, 이름)") @RequestParam(required = false) String keyword,
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser authenticatedUser,
+            HttpServletResponse response
+    ) throws IOException {
+        prepareDownload(response, format, "members-all");
+        semesterMemberExportService.exportAllMembers(keyword, format, response.getOutputStream());
+    }
+
+    private void prepareDownload(HttpServletResponse response, SemesterMemberExportFormat format, String baseName) {
+        response.setContentType(format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(baseName + "." + format.getExtension(), StandardCharsets.UTF_8)
+                .build()
+                .toString());
+    }
 }
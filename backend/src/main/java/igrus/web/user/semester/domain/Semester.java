@@ -0,0 +1,44 @@
+package igrus.web.user.semester.domain;
+
+import igrus.web.user.semester.exception.InvalidSemesterException;
+
+/**
+ * 연도와 학기로 구분되는 학기 값.
+ *
+ * <p>생성 시 연도(2000~2100)와 학기(1 또는 2)를 검증하므로, 이 타입으로 전달된 학기는 항상 유효합니다.</p>
+ *
+ * @param year 연도
+ * @param term 학기 (1 또는 2)
+ */
+public record Semester(int year, int term) {
+
+    private static final int MIN_YEAR = 2000;
+    private static final int MAX_YEAR = 2100;
+
+    public Semester {
+        validate(year, term);
+    }
+
+    /**
+     * 연도와 학기를 검증하여 학기 값을 생성합니다.
+     *
+     * @throws InvalidSemesterException 연도 또는 학기가 유효하지 않은 경우
+     */
+    public static Semester of(int year, int term) {
+        return new Semester(year, term);
+    }
+
+    /**
+     * 값을 만들지 않고 연도와 학기만 검증합니다.
+     *
+     * @throws InvalidSemesterException 연도 또는 학기가 유효하지 않은 경우
+     */
+    public static void validate(int year, int term) {
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new InvalidSemesterException("유효하지 않은 연도입니다: " + year);
+        }
+        if (term != 1 && term != 2) {
+            throw new InvalidSemesterException("학기는 1 또는 2만 가능합니다: " + term);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package igrus.web.user.semester.dto.request;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 학기별 명단 내보내기 파일 형식.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SemesterMemberExportFormat {
+    CSV("text/csv; charset=UTF-8", "csv"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+    private final String extension;
+}
@@ -1,7 +1,7 @@
 package igrus.web.user.semester.dto.response;
 
-import igrus.web.user.domain.User;
 import igrus.web.user.domain.UserRole;
+import igrus.web.user.semester.repository.CandidateMemberProjection;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "학기별 회원 등록 후보 응답")
@@ -19,14 +19,14 @@ public record CandidateMemberResponse(
         @Schema(description = "해당 학기 등록 여부")
         boolean alreadyRegistered
 ) {
-    public static CandidateMemberResponse from(User user, boolean alreadyRegistered) {
+    public static CandidateMemberResponse from(CandidateMemberProjection projection) {
         return new CandidateMemberResponse(
-                user.getId(),
-                user.getStudentId(),
-                user.getName(),
-                user.getDepartment(),
-                user.getRole(),
-                alreadyRegistered
+                projection.getUserId(),
+                projection.getStudentId(),
+                projection.getName(),
+                projection.getDepartment(),
+                projection.getRole(),
+                Boolean.TRUE.equals(projection.getAlreadyRegistered())
         );
     }
 }
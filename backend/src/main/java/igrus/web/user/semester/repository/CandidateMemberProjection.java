@@ -0,0 +1,22 @@
+package igrus.web.user.semester.repository;
+
+import igrus.web.user.domain.UserRole;
+
+/**
+ * 학기 등록 후보 회원 조회용 Projection.
+ * {@code CandidateMemberResponse}에 필요한 컬럼과 해당 학기 등록 여부만 조회합니다.
+ */
+public interface CandidateMemberProjection {
+
+    Long getUserId();
+
+    String getStudentId();
+
+    String getName();
+
+    String getDepartment();
+
+    UserRole getRole();
+
+    Boolean getAlreadyRegistered();
+}
@@ -0,0 +1,12 @@
+package igrus.web.user.semester.repository;
+
+/**
+ * 학기별 명단 내보내기용 Native Query Projection.
+ * 여러 학기를 한 파일로 내보낼 수 있도록 연도/학기 컬럼을 함께 조회합니다.
+ */
+public interface SemesterMemberExportProjection extends SemesterMemberWithUserProjection {
+
+    Integer getSemesterYear();
+
+    Integer getSemesterTerm();
+}
@@ -1,18 +1,22 @@
 package igrus.web.user.semester.repository;
 
 import igrus.web.user.domain.User;
+import igrus.web.user.domain.UserStatus;
 import igrus.web.user.semester.domain.SemesterMember;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface SemesterMemberRepository extends JpaRepository<SemesterMember, Long> {
+public interface SemesterMemberRepository extends JpaRepository<SemesterMember, Long>, SemesterMemberRepositoryCustom {
 
     Page<SemesterMember> findByYearAndSemester(int year, int semester, Pageable pageable);
 
@@ -27,18 +31,67 @@ public interface SemesterMemberRepository extends JpaRepository<SemesterMember,
     long countByYearAndSemester(int year, int semester);
 
     /**
-     * User의 @SQLRestriction 필터를 우회하여 탈퇴 회원 포함 전체 조회.
-     * Native 쿼리로 semester_members와 users를 직접 JOIN합니다.
+     * 요청된 회원 중 아직 해당 학기에 등록되지 않은 회원을 한 번의 INSERT ... SELECT로 일괄 등록합니다.
+     * 등록 시점의 역할을 스냅샷으로 저장하며, 존재하지 않거나 탈퇴한 회원과 이미 등록된 회원은 제외됩니다.
+     * Native 쿼리는 Auditing을 거치지 않으므로 등록자를 생성자/수정자로 직접 기록합니다.
+     *
+     * @return 실제로 등록된 회원 수
      */
-    @Query(value = "SELECT u.users_id AS userId, u.users_student_id AS studentId, " +
-            "u.users_name AS name, u.users_department AS department, " +
-            "u.users_email AS email, u.users_phone_number AS phoneNumber, " +
-            "sm.semester_members_role AS memberRole, u.users_deleted AS deleted " +
-            "FROM semester_members sm " +
-            "JOIN users u ON sm.semester_members_user_id = u.users_id " +
-            "WHERE sm.semester_members_year = :year AND sm.semester_members_semester = :semester",
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO semester_members (semester_members_user_id, semester_members_year, " +
+            "semester_members_semester, semester_members_role, " +
+            "semester_members_created_at, semester_members_updated_at, " +
+            "semester_members_created_by, semester_members_updated_by) " +
+            "SELECT u.users_id, :year, :semester, u.users_role, :now, :now, :registeredBy, :registeredBy " +
+            "FROM users u " +
+            "WHERE u.users_id IN (:userIds) AND u.users_deleted = false " +
+            "AND NOT EXISTS (SELECT 1 FROM semester_members sm " +
+            "WHERE sm.semester_members_user_id = u.users_id " +
+            "AND sm.semester_members_year = :year AND sm.semester_members_semester = :semester)",
             nativeQuery = true)
-    List<SemesterMemberWithUserProjection> findAllWithUserIncludingDeleted(@Param("year") int year, @Param("semester") int semester);
+    int insertUnregisteredMembers(@Param("year") int year,
+                                  @Param("semester") int semester,
+                                  @Param("userIds") Collection<Long> userIds,
+                                  @Param("registeredBy") Long registeredBy,
+                                  @Param("now") Instant now);
+
+    /**
+     * 해당 학기에서 요청된 회원들을 한 번의 DELETE로 일괄 제외합니다.
+     *
+     * @return 실제로 삭제된 회원 수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM SemesterMember sm " +
+            "WHERE sm.year = :year AND sm.semester = :semester AND sm.user.id IN :userIds")
+    int deleteByYearAndSemesterAndUserIds(@Param("year") int year,
+                                          @Param("semester") int semester,
+                                          @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 학기 등록 후보 회원을 해당 학기 등록 여부와 함께 한 번의 쿼리로 조회합니다.
+     * semester_members를 LEFT JOIN하여 회원별 존재 확인 쿼리 없이 등록 여부를 계산하고,
+     * 상태와 키워드(학번, 이름) 필터링을 SQL에서 수행합니다.
+     *
+     * @param keyword 검색 키워드 (빈 문자열이면 전체)
+     */
+    @Query(value = "SELECT u.id AS userId, u.studentId AS studentId, u.name AS name, " +
+            "u.department AS department, u.role AS role, " +
+            "CASE WHEN sm.id IS NULL THEN false ELSE true END AS alreadyRegistered " +
+            "FROM User u " +
+            "LEFT JOIN SemesterMember sm ON sm.user = u AND sm.year = :year AND sm.semester = :semester " +
+            "WHERE u.status = :status " +
+            "AND (u.studentId LIKE CONCAT('%', :keyword, '%') " +
+            "OR LOWER(u.name) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "ORDER BY u.id",
+            countQuery = "SELECT COUNT(u) FROM User u " +
+                    "WHERE u.status = :status " +
+                    "AND (u.studentId LIKE CONCAT('%', :keyword, '%') " +
+                    "OR LOWER(u.name) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+    Page<CandidateMemberProjection> findCandidates(@Param("year") int year,
+                                                   @Param("semester") int semester,
+                                                   @Param("status") UserStatus status,
+                                                   @Param("keyword") String keyword,
+                                                   Pageable pageable);
 
     /**
      * 학기 목록과 각 학기별 회원 수를 조회합니다.
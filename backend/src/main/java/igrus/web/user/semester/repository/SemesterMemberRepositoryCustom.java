@@ -0,0 +1,29 @@
+package igrus.web.user.semester.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 학기별 회원 Repository 사용자 정의 조회.
+ * 키워드 검색 조건과 fetch size를 구현체 안에서 지정해야 하는 명단 조회와 내보내기용 스트리밍 조회를 제공합니다.
+ */
+public interface SemesterMemberRepositoryCustom {
+
+    /**
+     * User의 @SQLRestriction 필터를 우회하여 특정 학기 명단을 탈퇴 회원 포함 전체 조회합니다.
+     *
+     * @param keyword 학번 또는 이름 검색 키워드 (빈 문자열이면 전체)
+     */
+    List<SemesterMemberWithUserProjection> findAllWithUserIncludingDeleted(int year, int semester, String keyword);
+
+    /**
+     * 특정 학기 명단을 탈퇴 회원 포함하여 스트리밍 조회합니다 (내보내기용).
+     * 호출 측 트랜잭션 안에서 소비해야 하며, 결과를 fetch size 단위로 읽어 힙에 전체 명단을 올리지 않습니다.
+     */
+    Stream<SemesterMemberExportProjection> streamWithUserIncludingDeleted(int year, int semester, String keyword);
+
+    /**
+     * 전체 학기 명단 이력을 탈퇴 회원 포함하여 스트리밍 조회합니다 (내보내기용).
+     */
+    Stream<SemesterMemberExportProjection> streamAllWithUserIncludingDeleted(String keyword);
+}
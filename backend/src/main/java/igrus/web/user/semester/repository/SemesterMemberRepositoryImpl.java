@@ -0,0 +1,130 @@
+package igrus.web.user.semester.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * 학기별 회원 Repository 사용자 정의 조회 구현.
+ *
+ * <p>내보내기 쿼리의 fetch size는 {@code app.semester-member.export.fetch-size}로 지정합니다.
+ * 운영(MySQL)에서는 {@link Integer#MIN_VALUE}로 지정해 이 쿼리만 한 행씩 스트리밍하고,
+ * 드라이버 전역 설정({@code useCursorFetch})은 다른 쿼리에 영향을 주므로 사용하지 않습니다.</p>
+ *
+ * <p>키워드는 LIKE 와일드카드({@code %}, {@code _})와 이스케이프 문자({@code \})를 이스케이프하여 바인딩하므로
+ * 입력한 문자열 그대로 부분 일치 검색합니다.</p>
+ */
+class SemesterMemberRepositoryImpl implements SemesterMemberRepositoryCustom {
+
+    private static final String KEYWORD_CONDITION = "AND (u.users_student_id LIKE CONCAT('%', :keyword, '%') " +
+            "OR LOWER(u.users_name) LIKE LOWER(CONCAT('%', :keyword, '%'))) ";
+
+    private static final String MEMBER_SELECT = "SELECT u.users_id AS userId, u.users_student_id AS studentId, " +
+            "u.users_name AS name, u.users_department AS department, " +
+            "u.users_email AS email, u.users_phone_number AS phoneNumber, " +
+            "sm.semester_members_role AS memberRole, u.users_deleted AS deleted " +
+            "FROM semester_members sm " +
+            "JOIN users u ON sm.semester_members_user_id = u.users_id ";
+
+    private static final String EXPORT_SELECT = "SELECT sm.semester_members_year AS semesterYear, " +
+            "sm.semester_members_semester AS semesterTerm, " +
+            "u.users_id AS userId, u.users_student_id AS studentId, " +
+            "u.users_name AS name, u.users_department AS department, " +
+            "u.users_email AS email, u.users_phone_number AS phoneNumber, " +
+            "sm.semester_members_role AS memberRole, u.users_deleted AS deleted " +
+            "FROM semester_members sm " +
+            "JOIN users u ON sm.semester_members_user_id = u.users_id ";
+
+    private static final String FIND_BY_SEMESTER = MEMBER_SELECT +
+            "WHERE sm.semester_members_year = :year AND sm.semester_members_semester = :semester " +
+            KEYWORD_CONDITION;
+
+    private static final String STREAM_BY_SEMESTER = EXPORT_SELECT +
+            "WHERE sm.semester_members_year = :year AND sm.semester_members_semester = :semester " +
+            KEYWORD_CONDITION +
+            "ORDER BY u.users_student_id";
+
+    private static final String STREAM_ALL = EXPORT_SELECT +
+            "WHERE 1 = 1 " +
+            KEYWORD_CONDITION +
+            "ORDER BY sm.semester_members_year DESC, sm.semester_members_semester DESC, u.users_student_id";
+
+    private final EntityManager entityManager;
+    private final int exportFetchSize;
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    SemesterMemberRepositoryImpl(EntityManager entityManager,
+                                 @Value("${app.semester-member.export.fetch-size:500}") int exportFetchSize) {
+        this.entityManager = entityManager;
+        this.exportFetchSize = exportFetchSize;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SemesterMemberWithUserProjection> findAllWithUserIncludingDeleted(int year, int semester, String keyword) {
+        List<Tuple> rows = entityManager.createNativeQuery(FIND_BY_SEMESTER, Tuple.class)
+                .setParameter("year", year)
+                .setParameter("semester", semester)
+                .setParameter("keyword", escapeLike(keyword))
+                .getResultList();
+        return rows.stream()
+                .map(row -> toProjection(row, SemesterMemberWithUserProjection.class))
+                .toList();
+    }
+
+    @Override
+    public Stream<SemesterMemberExportProjection> streamWithUserIncludingDeleted(int year, int semester, String keyword) {
+        return stream(entityManager.createNativeQuery(STREAM_BY_SEMESTER, Tuple.class)
+                .setParameter("year", year)
+                .setParameter("semester", semester)
+                .setParameter("keyword", escapeLike(keyword)));
+    }
+
+    @Override
+    public Stream<SemesterMemberExportProjection> streamAllWithUserIncludingDeleted(String keyword) {
+        return stream(entityManager.createNativeQuery(STREAM_ALL, Tuple.class)
+                .setParameter("keyword", escapeLike(keyword)));
+    }
+
+    // === Private Helper Methods ===
+
+    @SuppressWarnings("unchecked")
+    private Stream<SemesterMemberExportProjection> stream(Query query) {
+        Stream<Tuple> rows = query
+                .setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize)
+                .getResultStream();
+        return rows.map(row -> toProjection(row, SemesterMemberExportProjection.class));
+    }
+
+    /**
+     * 컬럼 alias로 Projection을 만듭니다. DB마다 alias 대소문자가 달라(H2는 대문자) 대소문자를 구분하지 않습니다.
+     */
+    private <T> T toProjection(Tuple tuple, Class<T> projectionType) {
+        Map<String, Object> values = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (TupleElement<?> element : tuple.getElements()) {
+            values.put(element.getAlias(), tuple.get(element));
+        }
+        return projectionFactory.createProjection(projectionType, values);
+    }
+
+    /**
+     * LIKE 패턴에서 특수한 의미를 갖는 문자를 기본 이스케이프 문자({@code \})로 이스케이프합니다.
+     * 이스케이프 문자를 먼저 바꿔야 뒤에서 추가한 이스케이프 문자가 다시 바뀌지 않습니다.
+     */
+    private String escapeLike(String keyword) {
+        return keyword
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
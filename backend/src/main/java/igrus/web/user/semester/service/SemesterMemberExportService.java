@@ -0,0 +1,179 @@
+package igrus.web.user.semester.service;
+
+import igrus.web.user.semester.domain.Semester;
+import igrus.web.user.semester.dto.request.SemesterMemberExportFormat;
+import igrus.web.user.semester.repository.SemesterMemberExportProjection;
+import igrus.web.user.semester.repository.SemesterMemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 학기별 회원 명단 내보내기 서비스.
+ *
+ * <p>명단을 List로 모으지 않고 DB 커서({@link Stream})에서 한 행씩 읽어 바로 출력 스트림에 씁니다.
+ * XLSX는 {@link SXSSFWorkbook}의 행 윈도우만 메모리에 유지하므로 전체 학기 이력을 내보내도
+ * 힙 사용량이 일정합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SemesterMemberExportService {
+
+    private static final int XLSX_ROW_WINDOW = 100;
+    private static final char UTF8_BOM = '\uFEFF';
+    private static final List<String> HEADERS = List.of(
+            "연도", "학기", "학번", "이름", "학과", "이메일", "전화번호", "등록 시점 역할", "탈퇴 여부");
+
+    private final SemesterMemberRepository semesterMemberRepository;
+
+    /**
+     * 특정 학기 명단을 내보냅니다 (탈퇴자 포함).
+     * 학기는 {@link Semester}로 받으므로, 호출 측이 다운로드 응답 헤더를 쓰기 전에 검증이 끝나 있습니다.
+     *
+     * @return 출력한 행 수
+     */
+    public long exportMembers(Semester semester, String keyword,
+                              SemesterMemberExportFormat format, OutputStream out) {
+        try (Stream<SemesterMemberExportProjection> rows = semesterMemberRepository.streamWithUserIncludingDeleted(
+                semester.year(), semester.term(), normalizeKeyword(keyword))) {
+            long count = write(rows, format, out);
+            log.info("학기별 명단 내보내기 완료: year={}, semester={}, format={}, rows={}",
+                    semester.year(), semester.term(), format, count);
+            return count;
+        }
+    }
+
+    /**
+     * 전체 학기 명단 이력을 내보냅니다 (탈퇴자 포함).
+     *
+     * @return 출력한 행 수
+     */
+    public long exportAllMembers(String keyword, SemesterMemberExportFormat format, OutputStream out) {
+        try (Stream<SemesterMemberExportProjection> rows =
+                     semesterMemberRepository.streamAllWithUserIncludingDeleted(normalizeKeyword(keyword))) {
+            long count = write(rows, format, out);
+            log.info("전체 학기 명단 내보내기 완료: format={}, rows={}", format, count);
+            return count;
+        }
+    }
+
+    // === Private helpers ===
+
+    private long write(Stream<SemesterMemberExportProjection> rows, SemesterMemberExportFormat format, OutputStream out) {
+        try {
+            return switch (format) {
+                case CSV -> writeCsv(rows, out);
+                case XLSX -> writeXlsx(rows, out);
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException("학기별 명단 내보내기 중 출력 오류가 발생했습니다", e);
+        }
+    }
+
+    private long writeCsv(Stream<SemesterMemberExportProjection> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(UTF8_BOM); // Excel에서 한글이 깨지지 않도록 BOM 추가
+        writeCsvLine(writer, HEADERS);
+
+        long count = 0;
+        Iterator<SemesterMemberExportProjection> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            writeCsvLine(writer, toColumns(iterator.next()));
+            count++;
+        }
+
+        writer.flush();
+        return count;
+    }
+
+    private void writeCsvLine(Writer writer, List<String> columns) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(columns.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    private long writeXlsx(Stream<SemesterMemberExportProjection> rows, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_ROW_WINDOW);
+        try {
+            Sheet sheet = workbook.createSheet("members");
+            writeXlsxRow(sheet.createRow(0), HEADERS);
+
+            int rowIndex = 1;
+            Iterator<SemesterMemberExportProjection> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writeXlsxRow(sheet.createRow(rowIndex++), toColumns(iterator.next()));
+            }
+
+            workbook.write(out);
+            out.flush();
+            return rowIndex - 1L;
+        } finally {
+            workbook.dispose(); // 행 윈도우 밖으로 내보낸 임시 파일 삭제
+            workbook.close();
+        }
+    }
+
+    private void writeXlsxRow(Row row, List<String> columns) {
+        for (int i = 0; i < columns.size(); i++) {
+            row.createCell(i).setCellValue(columns.get(i));
+        }
+    }
+
+    private List<String> toColumns(SemesterMemberExportProjection row) {
+        return List.of(
+                String.valueOf(row.getSemesterYear()),
+                String.valueOf(row.getSemesterTerm()),
+                nullToEmpty(row.getStudentId()),
+                nullToEmpty(row.getName()),
+                nullToEmpty(row.getDepartment()),
+                nullToEmpty(row.getEmail()),
+                nullToEmpty(row.getPhoneNumber()),
+                nullToEmpty(row.getMemberRole()),
+                Boolean.TRUE.equals(row.getDeleted()) ? "Y" : "N"
+        );
+    }
+
+    /**
+     * CSV 필드를 이스케이프합니다.
+     * 스프레드시트 수식 주입을 막기 위해 수식 시작 문자로 시작하는 값 앞에 작은따옴표를 붙입니다.
+     */
+    private String escapeCsv(String value) {
+        String safe = value;
+        if (!safe.isEmpty() && "=+-@".indexOf(safe.charAt(0)) >= 0) {
+            safe = "'" + safe;
+        }
+        if (safe.contains(",") || safe.contains("\"") || safe.contains("\n") || safe.contains("\r")) {
+            return "\"" + safe.replace("\"", "\"\"") + "\"";
+        }
+        return safe;
+    }
+
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private String normalizeKeyword(String keyword) {
+        return keyword == null ? "" : keyword.trim();
+    }
+}
@@ -1,24 +1,28 @@
 package igrus.web.user.semester.service;
 
-import igrus.web.user.domain.User;
 import igrus.web.user.domain.UserRole;
 import igrus.web.user.domain.UserStatus;
-import igrus.web.user.repository.UserRepository;
-import igrus.web.user.semester.domain.SemesterMember;
+import igrus.web.user.semester.domain.Semester;
 import igrus.web.user.semester.dto.response.CandidateMemberResponse;
 import igrus.web.user.semester.dto.response.RegisterSemesterMembersResponse;
 import igrus.web.user.semester.dto.response.SemesterMemberListResponse;
 import igrus.web.user.semester.dto.response.SemesterSummaryResponse;
-import igrus.web.user.semester.exception.InvalidSemesterException;
 import igrus.web.user.semester.repository.SemesterMemberRepository;
 import igrus.web.user.semester.repository.SemesterMemberWithUserProjection;
 import igrus.web.user.semester.repository.SemesterSummaryProjection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -27,7 +31,6 @@ import java.util.List;
 public class SemesterMemberService {
 
     private final SemesterMemberRepository semesterMemberRepository;
-    private final UserRepository userRepository;
 
     // === US1: 회원 등록 ===
 
@@ -37,46 +40,38 @@ public class SemesterMemberService {
      */
     @Transactional(readOnly = true)
     public List<CandidateMemberResponse> getCandidateMembers(int year, int semester) {
-        validateYearAndSemester(year, semester);
+        return getCandidateMembers(year, semester, null, Pageable.unpaged()).getContent();
+    }
 
-        List<User> activeUsers = userRepository.findAll().stream()
-                .filter(user -> user.getStatus() == UserStatus.ACTIVE)
-                .filter(user -> user.getRole().ordinal() >= UserRole.ASSOCIATE.ordinal())
-                .toList();
+    /**
+     * 등록 후보 회원 목록을 키워드(학번, 이름)로 필터링하여 페이징 조회합니다.
+     * 등록 여부는 semester_members LEFT JOIN으로 계산하므로 회원 수와 관계없이 단일 쿼리로 처리됩니다.
+     * (모든 역할이 ASSOCIATE 이상이므로 역할 조건은 별도로 두지 않습니다.)
+     */
+    @Transactional(readOnly = true)
+    public Page<CandidateMemberResponse> getCandidateMembers(int year, int semester, String keyword, Pageable pageable) {
+        Semester.validate(year, semester);
 
-        return activeUsers.stream()
-                .map(user -> {
-                    boolean alreadyRegistered = semesterMemberRepository.existsByUserAndYearAndSemester(user, year, semester);
-                    return CandidateMemberResponse.from(user, alreadyRegistered);
-                })
-                .toList();
+        return semesterMemberRepository.findCandidates(year, semester, UserStatus.ACTIVE, normalizeKeyword(keyword), pageable)
+                .map(CandidateMemberResponse::from);
     }
 
     /**
      * 선택된 회원들을 해당 학기에 일괄 등록합니다.
+     * 회원 수와 관계없이 INSERT ... SELECT 한 번으로 처리하며, 이미 등록되었거나
+     * 존재하지 않는 회원은 건너뜁니다.
+     *
+     * @param registeredBy 등록을 수행하는 관리자 ID (생성자/수정자로 기록)
      */
-    public RegisterSemesterMembersResponse registerMembers(int year, int semester, List<Long> userIds) {
-        validateYearAndSemester(year, semester);
+    public RegisterSemesterMembersResponse registerMembers(int year, int semester, List<Long> userIds, Long registeredBy) {
+        Semester.validate(year, semester);
 
-        int registeredCount = 0;
-        int skippedCount = 0;
-
-        for (Long userId : userIds) {
-            User user = userRepository.findById(userId).orElse(null);
-            if (user == null) {
-                skippedCount++;
-                continue;
-            }
-
-            if (semesterMemberRepository.existsByUserAndYearAndSemester(user, year, semester)) {
-                skippedCount++;
-                continue;
-            }
-
-            SemesterMember member = SemesterMember.create(user, year, semester, user.getRole());
-            semesterMemberRepository.save(member);
-            registeredCount++;
-        }
+        Set<Long> distinctUserIds = distinctIds(userIds);
+        int registeredCount = distinctUserIds.isEmpty()
+                ? 0
+                : semesterMemberRepository.insertUnregisteredMembers(
+                        year, semester, distinctUserIds, registeredBy, Instant.now());
+        int skippedCount = userIds.size() - registeredCount;
 
         log.info("학기별 회원 등록 완료: year={}, semester={}, registered={}, skipped={}",
                 year, semester, registeredCount, skippedCount);
@@ -88,23 +83,15 @@ public class SemesterMemberService {
 
     /**
      * 선택된 회원들을 해당 학기에서 제외합니다.
+     * 단일 DELETE 문으로 처리하며, 등록되지 않은 회원은 조용히 건너뜁니다.
      */
     public int removeMembers(int year, int semester, List<Long> userIds) {
-        validateYearAndSemester(year, semester);
-
-        int removedCount = 0;
-
-        for (Long userId : userIds) {
-            User user = userRepository.findById(userId).orElse(null);
-            if (user == null) {
-                continue;
-            }
+        Semester.validate(year, semester);
 
-            if (semesterMemberRepository.existsByUserAndYearAndSemester(user, year, semester)) {
-                semesterMemberRepository.deleteByUserAndYearAndSemester(user, year, semester);
-                removedCount++;
-            }
-        }
+        Set<Long> distinctUserIds = distinctIds(userIds);
+        int removedCount = distinctUserIds.isEmpty()
+                ? 0
+                : semesterMemberRepository.deleteByYearAndSemesterAndUserIds(year, semester, distinctUserIds);
 
         log.info("학기별 회원 제외 완료: year={}, semester={}, removed={}", year, semester, removedCount);
 
@@ -127,17 +114,17 @@ public class SemesterMemberService {
 
     /**
      * 학기별 회원 명단을 조회합니다 (탈퇴자 포함).
+     * 키워드(학번, 이름) 필터링은 SQL에서 수행합니다.
      */
     @Transactional(readOnly = true)
     public List<SemesterMemberListResponse> getMemberList(int year, int semester, String keyword) {
-        validateYearAndSemester(year, semester);
+        Semester.validate(year, semester);
 
         List<SemesterMemberWithUserProjection> results =
-                semesterMemberRepository.findAllWithUserIncludingDeleted(year, semester);
+                semesterMemberRepository.findAllWithUserIncludingDeleted(year, semester, normalizeKeyword(keyword));
 
         return results.stream()
                 .map(this::mapToMemberListResponse)
-                .filter(response -> matchesKeyword(response, keyword))
                 .toList();
     }
 
@@ -156,21 +143,13 @@ public class SemesterMemberService {
         );
     }
 
-    private boolean matchesKeyword(SemesterMemberListResponse response, String keyword) {
-        if (keyword == null || keyword.isBlank()) {
-            return true;
-        }
-        String lower = keyword.toLowerCase();
-        return (response.studentId() != null && response.studentId().toLowerCase().contains(lower))
-                || (response.name() != null && response.name().toLowerCase().contains(lower));
+    private Set<Long> distinctIds(List<Long> userIds) {
+        return userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
-    private void validateYearAndSemester(int year, int semester) {
-        if (year < 2000 || year > 2100) {
-            throw new InvalidSemesterException("유효하지 않은 연도입니다: " + year);
-        }
-        if (semester != 1 && semester != 2) {
-            throw new InvalidSemesterException("학기는 1 또는 2만 가능합니다: " + semester);
-        }
+    private String normalizeKeyword(String keyword) {
+        return keyword == null ? "" : keyword.trim();
     }
 }
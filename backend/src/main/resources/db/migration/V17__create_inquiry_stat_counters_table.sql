@@ -0,0 +1,31 @@
+-- 문의 통계 카운터 테이블 (상태/유형 조합별 문의 수)
+CREATE TABLE inquiry_stat_counters (
+    inquiry_stat_counters_id BIGINT NOT NULL AUTO_INCREMENT,
+    inquiry_stat_counters_status VARCHAR(20) NOT NULL,
+    inquiry_stat_counters_type VARCHAR(20) NOT NULL,
+    inquiry_stat_counters_inquiry_count BIGINT NOT NULL DEFAULT 0,
+    inquiry_stat_counters_created_at DATETIME(6) NOT NULL,
+    inquiry_stat_counters_updated_at DATETIME(6) NOT NULL,
+    inquiry_stat_counters_created_by BIGINT,
+    inquiry_stat_counters_updated_by BIGINT,
+    PRIMARY KEY (inquiry_stat_counters_id),
+    CONSTRAINT uk_inquiry_stat_counters_status_type UNIQUE (inquiry_stat_counters_status, inquiry_stat_counters_type)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 모든 상태/유형 조합 버킷 생성
+INSERT INTO inquiry_stat_counters (inquiry_stat_counters_status, inquiry_stat_counters_type,
+                                   inquiry_stat_counters_created_at, inquiry_stat_counters_updated_at)
+SELECT s.status, t.type, NOW(6), NOW(6)
+FROM (SELECT 'PENDING' AS status UNION ALL SELECT 'IN_PROGRESS' UNION ALL SELECT 'COMPLETED') s
+CROSS JOIN (SELECT 'JOIN' AS type UNION ALL SELECT 'EVENT' UNION ALL SELECT 'REPORT'
+            UNION ALL SELECT 'ACCOUNT' UNION ALL SELECT 'OTHER') t;
+
+-- 기존 문의 데이터로 백필 (삭제되지 않은 문의만 집계)
+UPDATE inquiry_stat_counters c
+JOIN (
+    SELECT i.inquiries_status AS status, i.inquiries_type AS type, COUNT(*) AS cnt
+    FROM inquiries i
+    WHERE i.inquiries_deleted = FALSE
+    GROUP BY i.inquiries_status, i.inquiries_type
+) agg ON agg.status = c.inquiry_stat_counters_status AND agg.type = c.inquiry_stat_counters_type
+SET c.inquiry_stat_counters_inquiry_count = agg.cnt;
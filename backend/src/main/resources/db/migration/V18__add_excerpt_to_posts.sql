@@ -0,0 +1,8 @@
+-- 게시글 목록 미리보기용 본문 요약 컬럼 추가
+-- 목록 조회 시 posts_content(TEXT)를 읽지 않도록 공백을 정리한 최대 100자 요약을 미리 저장합니다.
+
+ALTER TABLE posts ADD COLUMN posts_excerpt VARCHAR(100) NOT NULL DEFAULT '';
+
+-- 기존 게시글 요약 백필
+UPDATE posts
+SET posts_excerpt = LEFT(TRIM(REGEXP_REPLACE(posts_content, '[[:space:]]+', ' ')), 100);
@@ -0,0 +1,28 @@
+-- V19: 게시글 카운터 테이블 분리
+-- 조회수/좋아요 수를 posts 행에서 분리하여, 카운터 증감이 posts_version을 올리지 않도록 합니다.
+-- (작성자의 게시글 수정이 조회/좋아요와 낙관적 락 충돌을 일으키던 문제 해결)
+
+CREATE TABLE post_counters (
+    post_counters_post_id BIGINT NOT NULL,
+    post_counters_view_count INT NOT NULL DEFAULT 0,
+    post_counters_like_count INT NOT NULL DEFAULT 0,
+    post_counters_created_at DATETIME(6) NOT NULL,
+    post_counters_updated_at DATETIME(6) NOT NULL,
+    post_counters_created_by BIGINT,
+    post_counters_updated_by BIGINT,
+    PRIMARY KEY (post_counters_post_id),
+    INDEX idx_post_counters_like_count (post_counters_like_count DESC),
+    CONSTRAINT fk_post_counters_post FOREIGN KEY (post_counters_post_id) REFERENCES posts(posts_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 기존 게시글 카운터 백필
+INSERT INTO post_counters (post_counters_post_id, post_counters_view_count, post_counters_like_count,
+                           post_counters_created_at, post_counters_updated_at)
+SELECT p.posts_id, p.posts_view_count, p.posts_like_count, NOW(6), NOW(6)
+FROM posts p;
+
+-- posts의 카운터 컬럼 제거
+DROP INDEX idx_posts_like_count ON posts;
+ALTER TABLE posts
+    DROP COLUMN posts_view_count,
+    DROP COLUMN posts_like_count;
@@ -0,0 +1,6 @@
+-- V20: 사용자별 조회 여부 일괄 조회용 인덱스
+-- (viewer_id, post_id) 복합 인덱스로 "이 사용자가 이 게시글들을 조회했는가" 조회를 인덱스만으로 처리합니다.
+-- 선두 컬럼이 같은 기존 idx_post_views_viewer_id는 새 인덱스로 대체합니다.
+
+CREATE INDEX idx_post_views_viewer_post ON post_views (post_views_viewer_id, post_views_post_id);
+DROP INDEX idx_post_views_viewer_id ON post_views;
@@ -0,0 +1,9 @@
+-- V21: 내 좋아요/북마크 목록 커서 페이징용 인덱스
+-- (user_id, created_at, id) 복합 인덱스로 "사용자별 최신순 + 커서 이후" 조회를 정렬 없이 인덱스 범위 스캔으로 처리합니다.
+-- 선두 컬럼이 같은 기존 사용자 인덱스는 새 인덱스로 대체합니다 (외래 키 fk_*_user는 새 인덱스를 사용).
+
+CREATE INDEX idx_likes_user_created_id ON likes (likes_user_id, likes_created_at DESC, likes_id DESC);
+DROP INDEX idx_likes_user ON likes;
+
+CREATE INDEX idx_bookmarks_user_created_id ON bookmarks (bookmarks_user_id, bookmarks_created_at DESC, bookmarks_id DESC);
+DROP INDEX idx_bookmarks_user ON bookmarks;
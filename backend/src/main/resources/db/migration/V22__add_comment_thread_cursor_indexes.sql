@@ -0,0 +1,12 @@
+-- V22: 댓글 목록 커서 페이징용 인덱스
+-- 최상위 댓글 조회 (post_id, parent_comment_id IS NULL, created_at, id 순)와
+-- 대댓글 조회 (parent_comment_id IN ..., created_at, id 순)를 정렬 없이 인덱스 범위 스캔으로 처리합니다.
+-- 선두 컬럼이 같은 기존 단일 컬럼 인덱스는 새 인덱스로 대체합니다 (외래 키 fk_comments_post/parent는 새 인덱스를 사용).
+
+CREATE INDEX idx_comments_post_parent_created_id
+    ON comments (comments_post_id, comments_parent_comment_id, comments_created_at, comments_id);
+DROP INDEX idx_comments_post ON comments;
+
+CREATE INDEX idx_comments_parent_created_id
+    ON comments (comments_parent_comment_id, comments_created_at, comments_id);
+DROP INDEX idx_comments_parent ON comments;
@@ -0,0 +1,21 @@
+-- V23: 게시글 댓글 수 비정규화
+-- 댓글 수를 post_counters에 보관하여 게시글 상세/목록에서 COUNT 집계 없이 읽습니다.
+-- 댓글 작성/삭제 시 원자적 UPDATE로 증감하며, 삭제(soft delete)된 댓글은 제외합니다.
+
+ALTER TABLE post_counters
+    ADD COLUMN post_counters_comment_count INT NOT NULL DEFAULT 0 AFTER post_counters_like_count;
+
+-- 카운터 행이 없는 게시글 보완
+INSERT INTO post_counters (post_counters_post_id, post_counters_view_count, post_counters_like_count,
+                           post_counters_comment_count, post_counters_created_at, post_counters_updated_at)
+SELECT p.posts_id, 0, 0, 0, NOW(6), NOW(6)
+FROM posts p
+WHERE NOT EXISTS (SELECT 1 FROM post_counters c WHERE c.post_counters_post_id = p.posts_id);
+
+-- 기존 댓글 수 백필 (삭제되지 않은 댓글, 대댓글 포함)
+UPDATE post_counters c
+    JOIN (SELECT cm.comments_post_id AS post_id, COUNT(*) AS comment_count
+          FROM comments cm
+          WHERE cm.comments_deleted = FALSE
+          GROUP BY cm.comments_post_id) cc ON cc.post_id = c.post_counters_post_id
+SET c.post_counters_comment_count = cc.comment_count;
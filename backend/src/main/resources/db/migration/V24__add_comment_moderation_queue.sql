@@ -0,0 +1,12 @@
+-- V24: 댓글 신고 검토 대기열
+-- 신고가 누적된 댓글을 삭제하지 않고 가리기 위한 플래그를 추가합니다 (댓글 수에는 영향 없음).
+ALTER TABLE comments
+    ADD COLUMN comments_hidden BOOLEAN NOT NULL DEFAULT FALSE AFTER comments_deleted;
+
+-- 대기열 집계 (status = ? GROUP BY comment_id, MIN(created_at))와
+-- 자동 가림/일괄 처리 시 댓글별 대기 신고 조회 (status = ? AND comment_id = ?)를 인덱스로 처리합니다.
+-- 선두 컬럼이 같은 기존 단일 컬럼 인덱스는 새 인덱스로 대체합니다.
+CREATE INDEX idx_comment_reports_status_comment_created
+    ON comment_reports (comment_reports_status, comment_reports_comment_id, comment_reports_created_at);
+DROP INDEX idx_comment_reports_status ON comment_reports;
+
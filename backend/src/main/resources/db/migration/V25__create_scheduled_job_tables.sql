@@ -0,0 +1,34 @@
+-- V25: 스케줄 작업 임대(lease) 락과 실행 이력
+-- 여러 인스턴스에서 같은 @Scheduled 작업이 동시에 실행되지 않도록 작업별 락 행을 두고,
+-- 락을 얻은 노드만 작업을 실행한 뒤 실행 결과를 이력 테이블에 기록합니다.
+
+CREATE TABLE scheduled_job_locks (
+    scheduled_job_locks_name VARCHAR(100) NOT NULL,
+    scheduled_job_locks_locked_until TIMESTAMP(6) NOT NULL,
+    scheduled_job_locks_locked_at TIMESTAMP(6) NOT NULL,
+    scheduled_job_locks_locked_by VARCHAR(255) NOT NULL,
+    scheduled_job_locks_created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    scheduled_job_locks_updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    scheduled_job_locks_created_by BIGINT,
+    scheduled_job_locks_updated_by BIGINT,
+    PRIMARY KEY (scheduled_job_locks_name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE scheduled_job_runs (
+    scheduled_job_runs_id BIGINT NOT NULL AUTO_INCREMENT,
+    scheduled_job_runs_job_name VARCHAR(100) NOT NULL,
+    scheduled_job_runs_node VARCHAR(255) NOT NULL,
+    scheduled_job_runs_status VARCHAR(20) NOT NULL,
+    scheduled_job_runs_started_at TIMESTAMP(6) NOT NULL,
+    scheduled_job_runs_finished_at TIMESTAMP(6) NOT NULL,
+    scheduled_job_runs_duration_ms BIGINT NOT NULL,
+    scheduled_job_runs_processed_count INT,
+    scheduled_job_runs_error_message VARCHAR(1000),
+    scheduled_job_runs_created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    scheduled_job_runs_updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    scheduled_job_runs_created_by BIGINT,
+    scheduled_job_runs_updated_by BIGINT,
+    PRIMARY KEY (scheduled_job_runs_id),
+    INDEX idx_scheduled_job_runs_job_started (scheduled_job_runs_job_name, scheduled_job_runs_started_at),
+    INDEX idx_scheduled_job_runs_started_at (scheduled_job_runs_started_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,50 @@
+-- V26: 배치 INSERT를 위한 시퀀스 테이블
+-- IDENTITY(AUTO_INCREMENT) 전략은 Hibernate INSERT 배치를 막으므로, 여러 행을 쓰는 엔티티는
+-- pooled 시퀀스로 ID를 50개(IdGeneration.ALLOCATION_SIZE)씩 할당받습니다.
+-- MySQL에는 시퀀스가 없어 Hibernate가 <테이블>_seq 테이블의 next_val 한 행으로 시퀀스를 흉내 냅니다.
+--
+-- pooled 최적화는 읽은 값 V에 대해 (V - 49) ~ V 범위의 ID를 사용하므로,
+-- 초기값을 "기존 최대 ID + 50"으로 두어 첫 할당이 기존 최대 ID 바로 다음부터 시작하게 합니다.
+-- 기존 ID와 AUTO_INCREMENT 속성은 그대로 두며, 이후 ID는 애플리케이션이 직접 지정합니다.
+
+CREATE TABLE posts_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO posts_seq (next_val)
+SELECT COALESCE(MAX(posts_id), 0) + 50 FROM posts;
+
+CREATE TABLE post_images_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO post_images_seq (next_val)
+SELECT COALESCE(MAX(post_images_id), 0) + 50 FROM post_images;
+
+CREATE TABLE post_views_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO post_views_seq (next_val)
+SELECT COALESCE(MAX(post_views_id), 0) + 50 FROM post_views;
+
+CREATE TABLE comments_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO comments_seq (next_val)
+SELECT COALESCE(MAX(comments_id), 0) + 50 FROM comments;
+
+CREATE TABLE login_histories_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO login_histories_seq (next_val)
+SELECT COALESCE(MAX(login_histories_id), 0) + 50 FROM login_histories;
+
+CREATE TABLE inquiry_attachments_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO inquiry_attachments_seq (next_val)
+SELECT COALESCE(MAX(inquiry_attachments_id), 0) + 50 FROM inquiry_attachments;
@@ -0,0 +1,21 @@
+-- V27: 댓글 신고 검토 대기열 키셋 페이지네이션
+-- 댓글별 가장 오래된 대기 신고 시각을 댓글에 비정규화해, 대기열 커서 조건을
+-- GROUP BY 이후의 HAVING이 아닌 인덱스 범위 탐색으로 처리합니다.
+-- 대기 중인 신고가 없는 댓글은 NULL입니다.
+ALTER TABLE comments
+    ADD COLUMN comments_report_pending_since TIMESTAMP(6) NULL AFTER comments_hidden;
+
+-- 기존 대기 신고로 값을 채웁니다 (ON UPDATE로 수정 시각이 바뀌지 않도록 유지).
+UPDATE comments c
+    JOIN (SELECT comment_reports_comment_id AS comment_id,
+                 MIN(comment_reports_created_at) AS pending_since
+          FROM comment_reports
+          WHERE comment_reports_status = 'PENDING'
+          GROUP BY comment_reports_comment_id) r
+    ON c.comments_id = r.comment_id
+SET c.comments_report_pending_since = r.pending_since,
+    c.comments_updated_at = c.comments_updated_at;
+
+-- 대기열 정렬/커서 (report_pending_since, id)를 인덱스 순서로 처리합니다.
+CREATE INDEX idx_comments_report_pending_since
+    ON comments (comments_report_pending_since, comments_id);
@@ -0,0 +1,67 @@
+package igrus.web.common;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.LazyInitializationException;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 요청 처리 중 발생한 {@link LazyInitializationException}을 기록하는 테스트용 가드.
+ *
+ * <p>open-in-view를 끈 상태에서 트랜잭션 밖(컨트롤러, 응답 직렬화)에서 지연 로딩이 일어나면
+ * 전역 예외 처리기가 500 응답으로 바꿔 버려, 상태 코드를 느슨하게 검증하는 테스트에서는 놓칠 수 있습니다.
+ * 다른 예외 처리기보다 먼저 예외를 확인해 기록만 하고, 테스트가 끝날 때 {@link #assertNoViolations()}로 실패시킵니다.</p>
+ */
+public class LazyInitializationGuard implements HandlerExceptionResolver, Ordered {
+
+    private final List<String> violations = new CopyOnWriteArrayList<>();
+
+    @Override
+    public ModelAndView resolveException(HttpServletRequest request, HttpServletResponse response,
+                                         Object handler, Exception ex) {
+        LazyInitializationException lazyException = findLazyInitializationException(ex);
+        if (lazyException != null) {
+            violations.add(request.getMethod() + " " + request.getRequestURI() + " - " + lazyException.getMessage());
+        }
+        // 응답은 기존 예외 처리기가 만들도록 처리하지 않음
+        return null;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    /**
+     * 기록된 지연 로딩 예외가 있으면 실패시키고 기록을 비웁니다.
+     *
+     * @throws AssertionError 트랜잭션 밖에서 지연 로딩이 발생한 경우
+     */
+    public void assertNoViolations() {
+        if (violations.isEmpty()) {
+            return;
+        }
+        List<String> detected = List.copyOf(violations);
+        violations.clear();
+        throw new AssertionError("트랜잭션 밖에서 지연 로딩이 발생했습니다. "
+                + "Repository에 fetch plan(@EntityGraph, fetch join, 프로젝션)을 추가하세요: " + detected);
+    }
+
+    // === Private Helper Methods ===
+
+    private LazyInitializationException findLazyInitializationException(Throwable ex) {
+        Throwable current = ex;
+        while (current != null) {
+            if (current instanceof LazyInitializationException lazyException) {
+                return lazyException;
+            }
+            current = current.getCause() == current ? null : current.getCause();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,54 @@
+package igrus.web.common;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 블록 안에서 실행된 SQL 문 수를 측정하는 테스트 유틸리티.
+ *
+ * <p>Hibernate {@link Statistics}의 PreparedStatement 생성 수를 사용하므로
+ * JPQL, 네이티브 쿼리, 지연 로딩, 배치 페치, 벌크 UPDATE가 모두 집계됩니다.
+ * 통계는 SessionFactory 전역이므로 측정 중에는 다른 스레드의 DB 작업이 없어야 합니다.</p>
+ */
+public final class QueryCounter {
+
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * 블록을 실행하고 결과와 실행된 SQL 문 수를 반환합니다.
+     *
+     * @param action 측정할 블록
+     * @param <T>    블록 반환 타입
+     * @return 블록 결과와 SQL 문 수
+     */
+    public <T> Result<T> count(Supplier<T> action) {
+        boolean wasEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            T value = action.get();
+            return new Result<>(value, statistics.getPrepareStatementCount(), List.of(statistics.getQueries()));
+        } finally {
+            statistics.setStatisticsEnabled(wasEnabled);
+        }
+    }
+
+    /**
+     * 측정 결과.
+     *
+     * @param value          블록 반환값
+     * @param statementCount 실행된 SQL 문 수
+     * @param queries        실행된 JPQL/HQL 문 (진단용, 네이티브 쿼리 제외)
+     * @param <T>            블록 반환 타입
+     */
+    public record Result<T>(T value, long statementCount, List<String> queries) {
+    }
+}
@@ -13,14 +13,20 @@ import igrus.web.user.domain.UserRole;
 import igrus.web.user.repository.UserRepository;
 import igrus.web.user.repository.UserRoleHistoryRepository;
 import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 /**
  * 서비스 통합 테스트를 위한 기반 클래스.
  *
@@ -32,11 +38,14 @@ import org.springframework.transaction.support.TransactionTemplate;
  *     <li>테스트 전 데이터베이스 정리 (FK 순서 고려)</li>
  *     <li>공통 헬퍼 메서드 제공</li>
  *     <li>TransactionTemplate을 통한 트랜잭션 관리</li>
+ *     <li>실행 SQL 문 수 검증 (N+1 회귀 방지)</li>
+ *     <li>요청 처리 중 지연 로딩 예외 검증 (open-in-view 비활성화 회귀 방지)</li>
  * </ul>
  * </p>
  */
 @SpringBootTest
 @ActiveProfiles("test")
+@Import(LazyInitializationGuard.class)
 public abstract class ServiceIntegrationTestBase {
 
     @Autowired
@@ -75,6 +84,9 @@ public abstract class ServiceIntegrationTestBase {
     @Autowired
     protected LoginHistoryRepository loginHistoryRepository;
 
+    @Autowired
+    private LazyInitializationGuard lazyInitializationGuard;
+
     protected TransactionTemplate transactionTemplate;
 
     /**
@@ -86,6 +98,14 @@ public abstract class ServiceIntegrationTestBase {
         cleanupDatabase();
     }
 
+    /**
+     * 요청 처리 중 트랜잭션 밖에서 지연 로딩이 발생했다면 테스트를 실패시킵니다.
+     */
+    @AfterEach
+    void assertNoLazyInitializationOutsideTransaction() {
+        lazyInitializationGuard.assertNoViolations();
+    }
+
     /**
      * 데이터베이스를 정리합니다.
      * FK 제약 조건 순서를 고려하여 native query로 삭제합니다.
@@ -114,6 +134,7 @@ public abstract class ServiceIntegrationTestBase {
             entityManager.createNativeQuery("DELETE FROM likes").executeUpdate();
             entityManager.createNativeQuery("DELETE FROM bookmarks").executeUpdate();
             entityManager.createNativeQuery("DELETE FROM post_views").executeUpdate();
+            entityManager.createNativeQuery("DELETE FROM post_counters").executeUpdate();
             entityManager.createNativeQuery("DELETE FROM post_images").executeUpdate();
             entityManager.createNativeQuery("DELETE FROM posts").executeUpdate();
             entityManager.createNativeQuery("DELETE FROM board_permissions").executeUpdate();
@@ -139,11 +160,17 @@ public abstract class ServiceIntegrationTestBase {
             // Phase 4: 독립 테이블
             entityManager.createNativeQuery("DELETE FROM email_verifications").executeUpdate();
             entityManager.createNativeQuery("DELETE FROM login_attempts").executeUpdate();
+            entityManager.createNativeQuery("DELETE FROM inquiry_stat_counters").executeUpdate();
+            entityManager.createNativeQuery("DELETE FROM scheduled_job_runs").executeUpdate();
+            entityManager.createNativeQuery("DELETE FROM scheduled_job_locks").executeUpdate();
 
             entityManager.flush();
             entityManager.clear();
             return null;
         });
+
+        // 2차 캐시(게시판, 직책 등 참조 데이터)도 비워 이전 테스트의 엔티티가 남지 않도록 함
+        entityManager.getEntityManagerFactory().getCache().evictAll();
     }
 
     /**
@@ -212,4 +239,21 @@ public abstract class ServiceIntegrationTestBase {
     protected void setField(Object target, String fieldName, Object value) {
         ReflectionTestUtils.setField(target, fieldName, value);
     }
+
+    /**
+     * 블록을 실행하고, 실행된 SQL 문 수가 최대값 이하인지 검증합니다.
+     * 조회 건수와 무관하게 쿼리 수가 일정해야 하는 서비스 메서드의 N+1 회귀를 잡기 위해 사용합니다.
+     *
+     * @param maxStatements 허용하는 최대 SQL 문 수
+     * @param action        측정할 블록
+     * @param <T>           블록 반환 타입
+     * @return 블록 반환값
+     */
+    protected <T> T assertQueryCount(long maxStatements, Supplier<T> action) {
+        QueryCounter.Result<T> result = new QueryCounter(entityManager.getEntityManagerFactory()).count(action);
+        assertThat(result.statementCount())
+                .as("실행된 SQL 문 수 (JPQL: %s)", result.queries())
+                .isLessThanOrEqualTo(maxStatements);
+        return result.value();
+    }
 }
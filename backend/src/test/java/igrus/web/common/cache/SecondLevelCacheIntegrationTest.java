@@ -0,0 +1,204 @@
+package igrus.web.common.cache;
+
+import igrus.web.common.ServiceIntegrationTestBase;
+import igrus.web.community.board.domain.Board;
+import igrus.web.community.board.domain.BoardCode;
+import igrus.web.community.board.domain.BoardPermission;
+import igrus.web.community.board.dto.response.BoardListResponse;
+import igrus.web.community.board.repository.BoardPermissionRepository;
+import igrus.web.community.board.repository.BoardRepository;
+import igrus.web.community.board.service.BoardService;
+import igrus.web.user.domain.Position;
+import igrus.web.user.domain.UserRole;
+import igrus.web.user.repository.PositionRepository;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 참조 데이터 2차 캐시 통합 테스트.
+ *
+ * <p>게시판, 게시판 권한, 직책이 2차 캐시와 쿼리 캐시에서 응답되고, 변경 시 캐시가 갱신/무효화되는지 검증합니다.
+ *
+ * <p>테스트 시나리오:
+ * <ul>
+ *     <li>L2C-001: 게시판 코드(자연 키) 재조회 시 SQL 미실행</li>
+ *     <li>L2C-002: 게시판 목록과 역할별 권한 재조회 시 SQL 미실행</li>
+ *     <li>L2C-003: 직책 목록 재조회 시 SQL 미실행</li>
+ *     <li>L2C-004: 직책 변경 후 목록 조회 시 변경 내용 반영</li>
+ *     <li>L2C-005: 다른 노드의 무효화 메시지는 캐시를 비우고, 현재 노드의 메시지는 무시</li>
+ *     <li>L2C-006: 영역별 캐시 적중 수를 메트릭으로 수집</li>
+ * </ul>
+ */
+@DisplayName("참조 데이터 2차 캐시 통합 테스트")
+class SecondLevelCacheIntegrationTest extends ServiceIntegrationTestBase {
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardPermissionRepository boardPermissionRepository;
+
+    @Autowired
+    private PositionRepository positionRepository;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private ReferenceDataCacheInvalidator referenceDataCacheInvalidator;
+
+    @Autowired
+    @Qualifier("secondLevelCacheMetrics")
+    private MeterBinder secondLevelCacheMetrics;
+
+    private Board general;
+    private Position president;
+
+    @BeforeEach
+    void setUp() {
+        setUpBase();
+
+        Board notices = boardRepository.save(
+                Board.create(BoardCode.NOTICES, "공지사항", "동아리 공지사항을 확인할 수 있습니다.", false, false, 1));
+        general = boardRepository.save(
+                Board.create(BoardCode.GENERAL, "자유게시판", "자유롭게 이야기를 나눌 수 있는 공간입니다.", true, true, 2));
+        boardPermissionRepository.save(BoardPermission.create(notices, UserRole.MEMBER, true, false));
+        boardPermissionRepository.save(BoardPermission.create(general, UserRole.MEMBER, true, true));
+
+        president = positionRepository.save(Position.create("회장", null, 1));
+        positionRepository.save(Position.create("기술부장", null, 2));
+
+        // 쿼리 캐시는 테이블 변경 시각보다 나중에 저장된 결과만 사용하므로, 픽스처 저장으로 기록된
+        // 변경 시각(timestamps 영역)과 쿼리 결과 영역을 비워 같은 밀리초에 저장된 결과도 사용되도록 함
+        entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    private Cache cache() {
+        return entityManager.getEntityManagerFactory().getCache();
+    }
+
+    @Nested
+    @DisplayName("캐시 적중")
+    class CacheHitTest {
+
+        @DisplayName("L2C-001: 게시판 코드로 다시 조회하면 SQL을 실행하지 않는다")
+        @Test
+        void findByCode_SecondLookupHitsCache() {
+            // given
+            boardService.getBoardEntity(BoardCode.GENERAL);
+
+            // when
+            Board board = assertQueryCount(0, () -> boardService.getBoardEntity(BoardCode.GENERAL));
+
+            // then
+            assertThat(board.getId()).isEqualTo(general.getId());
+            assertThat(cache().contains(Board.class, general.getId())).isTrue();
+        }
+
+        @DisplayName("L2C-002: 게시판 목록과 역할별 권한을 다시 조회하면 SQL을 실행하지 않는다")
+        @Test
+        void getBoardList_SecondCallHitsCache() {
+            // given
+            boardService.getBoardList(UserRole.MEMBER);
+
+            // when
+            List<BoardListResponse> boards = assertQueryCount(0, () -> boardService.getBoardList(UserRole.MEMBER));
+
+            // then
+            assertThat(boards).hasSize(2);
+        }
+
+        @DisplayName("L2C-003: 직책 목록을 다시 조회하면 SQL을 실행하지 않는다")
+        @Test
+        void findAllPositions_SecondCallHitsCache() {
+            // given
+            positionRepository.findAllByOrderByDisplayOrderAsc();
+
+            // when
+            List<Position> positions = assertQueryCount(0, () -> positionRepository.findAllByOrderByDisplayOrderAsc());
+
+            // then
+            assertThat(positions).extracting(Position::getName).containsExactly("회장", "기술부장");
+        }
+    }
+
+    @Nested
+    @DisplayName("캐시 갱신/무효화")
+    class InvalidationTest {
+
+        @DisplayName("L2C-004: 직책을 변경하면 다음 목록 조회에 변경 내용이 반영된다")
+        @Test
+        void updatePosition_RefreshesCachedList() {
+            // given
+            positionRepository.findAllByOrderByDisplayOrderAsc();
+
+            // when
+            transactionTemplate.executeWithoutResult(status ->
+                    positionRepository.findById(president.getId()).orElseThrow().updateDisplayOrder(3));
+
+            // then
+            assertThat(positionRepository.findAllByOrderByDisplayOrderAsc())
+                    .extracting(Position::getName).containsExactly("기술부장", "회장");
+        }
+
+        @DisplayName("L2C-005: 다른 노드의 무효화 메시지는 캐시를 비우고, 현재 노드의 메시지는 무시한다")
+        @Test
+        void apply_EvictsOnlyForRemoteNode() {
+            // given
+            boardService.getBoardEntity(BoardCode.GENERAL);
+            assertThat(cache().contains(Board.class, general.getId())).isTrue();
+
+            // when: 현재 노드 메시지
+            boolean appliedLocal = referenceDataCacheInvalidator.apply(CacheInvalidation.of(Board.class));
+
+            // then
+            assertThat(appliedLocal).isFalse();
+            assertThat(cache().contains(Board.class, general.getId())).isTrue();
+
+            // when: 다른 노드 메시지
+            boolean appliedRemote = referenceDataCacheInvalidator.apply(
+                    new CacheInvalidation(Board.class.getName(), "1@other-node"));
+
+            // then
+            assertThat(appliedRemote).isTrue();
+            assertThat(cache().contains(Board.class, general.getId())).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("메트릭")
+    class MetricsTest {
+
+        @DisplayName("L2C-006: 영역별 캐시 적중 수를 메트릭으로 수집한다")
+        @Test
+        void cacheGets_AreRecordedPerRegion() {
+            // given
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            secondLevelCacheMetrics.bindTo(registry);
+
+            // when
+            boardService.getBoardEntity(BoardCode.GENERAL);
+            boardService.getBoardEntity(BoardCode.GENERAL);
+
+            // then
+            double hits = registry.get("cache.gets")
+                    .tag("cache", CacheRegions.BOARD)
+                    .tag("result", "hit")
+                    .functionCounter()
+                    .count();
+            assertThat(hits).isPositive();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package igrus.web.common.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드 고정(pinning) 방지 가드 테스트.
+ *
+ * <p>Java 21에서는 {@code synchronized} 블록 안에서 블로킹 I/O를 수행하면 가상 스레드가 캐리어 스레드에 고정되어
+ * 가상 스레드 모드의 이점이 사라집니다. 애플리케이션 코드에서는 {@code synchronized} 대신
+ * {@link java.util.concurrent.locks.ReentrantLock}을 사용하도록 강제합니다.
+ */
+@DisplayName("가상 스레드 고정 방지 가드 테스트")
+class VirtualThreadPinningGuardTest {
+
+    private static final Path MAIN_SOURCE_ROOT = Path.of("src", "main", "java");
+    private static final Pattern SYNCHRONIZED = Pattern.compile("\\bsynchronized\\b");
+
+    @Test
+    @DisplayName("VT-005: 애플리케이션 코드에 synchronized 메서드/블록이 없다")
+    void mainSources_DoNotUseSynchronized() throws IOException {
+        try (Stream<Path> files = Files.walk(MAIN_SOURCE_ROOT)) {
+            List<String> violations = files
+                    .filter(path -> path.toString().endsWith(".java"))
+                    .filter(VirtualThreadPinningGuardTest::usesSynchronized)
+                    .map(Path::toString)
+                    .toList();
+
+            assertThat(violations)
+                    .as("synchronized 대신 ReentrantLock을 사용하세요")
+                    .isEmpty();
+        }
+    }
+
+    private static boolean usesSynchronized(Path path) {
+        try {
+            return Files.readAllLines(path).stream()
+                    .map(String::strip)
+                    .filter(line -> !line.startsWith("*") && !line.startsWith("/"))
+                    .anyMatch(line -> SYNCHRONIZED.matcher(line).find());
+        } catch (IOException e) {
+            throw new IllegalStateException("소스 파일을 읽을 수 없습니다: " + path, e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package igrus.web.common.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ConcurrencyLimitedDataSource 단위 테스트.
+ *
+ * <p>테스트 케이스:
+ * <ul>
+ *     <li>VT-001: 한도만큼 커넥션을 사용 중이면 대기 시간 후 예외 발생</li>
+ *     <li>VT-002: 커넥션을 닫으면 허가가 반환되어 다시 획득 가능</li>
+ *     <li>VT-003: 같은 커넥션을 여러 번 닫아도 허가는 한 번만 반환</li>
+ *     <li>VT-004: 커넥션 획득 실패 시 허가 반환</li>
+ *     <li>VT-005: 풀마다 pool 태그로 구분된 메트릭 등록</li>
+ * </ul>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcurrencyLimitedDataSource 단위 테스트")
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitedDataSource(targetDataSource, "primary", 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("VT-001: 한도만큼 커넥션을 사용 중이면 대기 시간 후 SQLTransientConnectionException 발생")
+    void getConnection_limitReached_throws() throws SQLException {
+        // given
+        given(targetDataSource.getConnection()).willAnswer(invocation -> mock(Connection.class));
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // when & then
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(dataSource.getActivePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("VT-002: 커넥션을 닫으면 허가가 반환되어 다시 획득할 수 있다")
+    void close_releasesPermit() throws SQLException {
+        // given
+        Connection target = mock(Connection.class);
+        given(targetDataSource.getConnection()).willReturn(target);
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+
+        // when
+        first.close();
+
+        // then
+        verify(target, times(1)).close();
+        assertThat(dataSource.getActivePermits()).isEqualTo(1);
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("VT-003: 같은 커넥션을 여러 번 닫아도 허가는 한 번만 반환된다")
+    void close_twice_releasesOnce() throws SQLException {
+        // given
+        given(targetDataSource.getConnection()).willAnswer(invocation -> mock(Connection.class));
+        Connection connection = dataSource.getConnection();
+
+        // when
+        connection.close();
+        connection.close();
+
+        // then
+        assertThat(dataSource.getActivePermits()).isZero();
+        dataSource.getConnection();
+        dataSource.getConnection();
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    @DisplayName("VT-004: 대상 DataSource에서 커넥션 획득에 실패하면 허가를 반환한다")
+    void getConnection_targetFails_releasesPermit() throws SQLException {
+        // given
+        given(targetDataSource.getConnection()).willThrow(new SQLException("connection refused"));
+
+        // when & then
+        assertThatThrownBy(() -> dataSource.getConnection()).isInstanceOf(SQLException.class);
+        assertThat(dataSource.getActivePermits()).isZero();
+    }
+
+    @Test
+    @DisplayName("VT-005: primary와 복제본의 메트릭은 pool 태그로 구분되어 각각 등록된다")
+    void bindTo_tagsMetersWithPoolName() throws SQLException {
+        // given
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ConcurrencyLimitedDataSource replica =
+                new ConcurrencyLimitedDataSource(mock(DataSource.class), "replica-1", 5, Duration.ofMillis(50));
+        given(targetDataSource.getConnection()).willAnswer(invocation -> mock(Connection.class));
+        dataSource.getConnection();
+
+        // when
+        dataSource.bindTo(registry);
+        replica.bindTo(registry);
+
+        // then
+        assertThat(registry.get("db.concurrency.limit.max").tag("pool", "primary").gauge().value()).isEqualTo(2);
+        assertThat(registry.get("db.concurrency.limit.max").tag("pool", "replica-1").gauge().value()).isEqualTo(5);
+        assertThat(registry.get("db.concurrency.limit.active").tag("pool", "primary").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("db.concurrency.limit.active").tag("pool", "replica-1").gauge().value()).isZero();
+    }
+}
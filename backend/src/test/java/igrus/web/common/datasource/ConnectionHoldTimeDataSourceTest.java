@@ -0,0 +1,110 @@
+package igrus.web.common.datasource;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ConnectionHoldTimeDataSource 단위 테스트.
+ *
+ * <p>테스트 케이스:
+ * <ul>
+ *     <li>HOLD-001: 커넥션을 닫으면 사용 시간을 한 번만 기록</li>
+ *     <li>HOLD-002: 요청 안에서 얻은 커넥션은 요청 집계에 더함</li>
+ *     <li>HOLD-003: 요청 밖에서 얻은 커넥션은 타이머에만 기록</li>
+ * </ul>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConnectionHoldTimeDataSource 단위 테스트")
+class ConnectionHoldTimeDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectionHoldTimeDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new ConnectionHoldTimeDataSource(targetDataSource);
+        dataSource.bindTo(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private Timer holdTimer() {
+        return meterRegistry.get("db.connection.hold").timer();
+    }
+
+    @Test
+    @DisplayName("HOLD-001: 커넥션을 닫으면 실제 커넥션을 닫고 사용 시간을 한 번만 기록한다")
+    void close_RecordsHoldTimeOnce() throws SQLException {
+        // given
+        Connection target = mock(Connection.class);
+        given(targetDataSource.getConnection()).willReturn(target);
+        Connection connection = dataSource.getConnection();
+
+        // when
+        connection.close();
+        connection.close();
+
+        // then
+        verify(target, times(2)).close();
+        assertThat(holdTimer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("HOLD-002: 요청 안에서 얻은 커넥션의 획득 횟수와 사용 시간을 요청 집계에 더한다")
+    void closeInRequest_AddsToRequestUsage() throws SQLException {
+        // given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        RequestConnectionUsage usage = RequestConnectionUsage.start();
+        given(targetDataSource.getConnection()).willAnswer(invocation -> mock(Connection.class));
+
+        // when
+        dataSource.getConnection().close();
+        dataSource.getConnection().close();
+
+        // then
+        assertThat(usage.getAcquisitions()).isEqualTo(2);
+        assertThat(usage.getHoldTime()).isPositive();
+        assertThat(holdTimer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("HOLD-003: 요청 밖에서 얻은 커넥션은 타이머에만 기록한다")
+    void closeOutsideRequest_RecordsTimerOnly() throws SQLException {
+        // given
+        given(targetDataSource.getConnection()).willReturn(mock(Connection.class));
+
+        // when
+        dataSource.getConnection().close();
+
+        // then
+        assertThat(RequestConnectionUsage.current()).isNull();
+        assertThat(holdTimer().count()).isEqualTo(1);
+    }
+}
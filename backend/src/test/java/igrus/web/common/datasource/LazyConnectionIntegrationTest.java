@@ -0,0 +1,90 @@
+package igrus.web.common.datasource;
+
+import igrus.web.common.ServiceIntegrationTestBase;
+import igrus.web.user.domain.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지연 커넥션 획득 통합 테스트.
+ *
+ * <p>트랜잭션을 시작해도 SQL 문을 실행하기 전에는 커넥션 풀에서 물리 커넥션을 꺼내지 않는지 검증합니다.
+ *
+ * <p>테스트 시나리오:
+ * <ul>
+ *     <li>LAZY-001: 기본 DataSource가 지연 커넥션 획득 프록시로 감싸져 있음</li>
+ *     <li>LAZY-002: SQL 문 없이 끝난 읽기 전용 트랜잭션은 물리 커넥션을 얻지 않음</li>
+ *     <li>LAZY-003: SQL 문을 실행하면 트랜잭션당 물리 커넥션을 한 번 얻고 사용 시간을 기록</li>
+ * </ul>
+ */
+@DisplayName("지연 커넥션 획득 통합 테스트")
+class LazyConnectionIntegrationTest extends ServiceIntegrationTestBase {
+
+    @Autowired
+    private DataSource dataSource;
+
+    private TransactionTemplate readOnlyTransaction;
+    private RequestConnectionUsage usage;
+
+    @BeforeEach
+    void setUp() {
+        setUpBase();
+        createAndSaveUser("20200001", "member@inha.edu", UserRole.MEMBER);
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        usage = RequestConnectionUsage.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("LAZY-001: 기본 DataSource는 지연 커넥션 획득 프록시로 감싸져 있다")
+    void dataSource_IsLazyConnectionProxy() {
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+    }
+
+    @Test
+    @DisplayName("LAZY-002: SQL 문 없이 끝난 읽기 전용 트랜잭션은 물리 커넥션을 얻지 않는다")
+    void transactionWithoutStatement_DoesNotAcquireConnection() {
+        // when
+        readOnlyTransaction.executeWithoutResult(status -> {
+            // 캐시에서 응답하는 경우처럼 DB를 사용하지 않음
+        });
+
+        // then
+        assertThat(usage.getAcquisitions()).isZero();
+    }
+
+    @Test
+    @DisplayName("LAZY-003: SQL 문을 실행하면 트랜잭션당 물리 커넥션을 한 번 얻고 사용 시간을 기록한다")
+    void transactionWithStatements_AcquiresConnectionOnce() {
+        // when
+        Long count = readOnlyTransaction.execute(status -> {
+            userRepository.count();
+            return userRepository.count();
+        });
+
+        // then
+        assertThat(count).isEqualTo(1);
+        assertThat(usage.getAcquisitions()).isEqualTo(1);
+        assertThat(usage.getHoldTime()).isPositive();
+    }
+}
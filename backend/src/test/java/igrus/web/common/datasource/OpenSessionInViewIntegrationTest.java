@@ -0,0 +1,113 @@
+package igrus.web.common.datasource;
+
+import igrus.web.common.ServiceIntegrationTestBase;
+import igrus.web.user.domain.UserRole;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * open-in-view 비활성화 통합 테스트.
+ *
+ * <p>open-in-view가 꺼져 있어 요청당 커넥션 사용 시간이 트랜잭션 구간으로 줄어드는지 검증합니다.
+ * 트랜잭션이 끝난 뒤의 응답 생성(직렬화, 뷰 렌더링 등)은 일정 시간 대기로 대신합니다.
+ * 운영 환경에서는 같은 값을 {@code db.connection.hold.request} 메트릭으로 비교합니다.
+ *
+ * <p>테스트 시나리오:
+ * <ul>
+ *     <li>OSIV-001: open-in-view 인터셉터가 등록되지 않음</li>
+ *     <li>OSIV-002: (변경 전) open-in-view가 켜져 있으면 응답 생성이 끝날 때까지 커넥션을 잡고 있음</li>
+ *     <li>OSIV-003: (변경 후) open-in-view가 꺼져 있으면 트랜잭션이 끝날 때 커넥션을 반환</li>
+ * </ul>
+ */
+@DisplayName("open-in-view 비활성화 통합 테스트")
+class OpenSessionInViewIntegrationTest extends ServiceIntegrationTestBase {
+
+    /** 트랜잭션 이후 응답 생성에 걸리는 시간 */
+    private static final Duration RENDERING_TIME = Duration.ofMillis(200);
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TransactionTemplate readOnlyTransaction;
+    private MockHttpServletRequest request;
+    private RequestConnectionUsage usage;
+
+    @BeforeEach
+    void setUp() {
+        setUpBase();
+        createAndSaveUser("20200001", "member@inha.edu", UserRole.MEMBER);
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        request = new MockHttpServletRequest("GET", "/api/v1/boards");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        usage = RequestConnectionUsage.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private void handleRequest() throws InterruptedException {
+        readOnlyTransaction.execute(status -> userRepository.count());
+        Thread.sleep(RENDERING_TIME.toMillis());
+    }
+
+    @Test
+    @DisplayName("OSIV-001: open-in-view 인터셉터가 등록되지 않는다")
+    void openInView_IsDisabled() {
+        assertThat(applicationContext.getBeansOfType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("OSIV-002: (변경 전) open-in-view가 켜져 있으면 응답 생성이 끝날 때까지 커넥션을 잡고 있다")
+    void withOpenInView_HoldsConnectionUntilRequestEnds() throws InterruptedException {
+        // given
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+        ServletWebRequest webRequest = new ServletWebRequest(request);
+
+        // when
+        interceptor.preHandle(webRequest);
+        try {
+            handleRequest();
+        } finally {
+            interceptor.afterCompletion(webRequest, null);
+        }
+
+        // then
+        assertThat(usage.getAcquisitions()).isEqualTo(1);
+        assertThat(usage.getHoldTime()).isGreaterThanOrEqualTo(RENDERING_TIME);
+    }
+
+    @Test
+    @DisplayName("OSIV-003: (변경 후) open-in-view가 꺼져 있으면 트랜잭션이 끝날 때 커넥션을 반환한다")
+    void withoutOpenInView_ReleasesConnectionAfterTransaction() throws InterruptedException {
+        // when
+        handleRequest();
+
+        // then
+        assertThat(usage.getAcquisitions()).isEqualTo(1);
+        assertThat(usage.getHoldTime()).isLessThan(RENDERING_TIME);
+    }
+}
@@ -0,0 +1,285 @@
+package igrus.web.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReplicationRoutingDataSource 테스트.
+ *
+ * <p>primary와 복제본 역할의 내장 H2 데이터베이스를 각각 띄우고, 각 DB의 node 테이블에 저장된 이름으로
+ * 실제 커넥션이 어느 DB로 라우팅되었는지 확인합니다.
+ *
+ * <p>테스트 케이스:
+ * <ul>
+ *     <li>RW-001: 읽기 전용 트랜잭션은 복제본으로 라우팅</li>
+ *     <li>RW-002: 쓰기 트랜잭션과 트랜잭션 밖 조회는 primary로 라우팅</li>
+ *     <li>RW-003: 복제 지연이 허용 범위를 넘으면 primary로 대체, 회복되면 다시 복제본 사용</li>
+ *     <li>RW-004: 복제 지연 확인 전에는 primary로 라우팅</li>
+ *     <li>RW-005: 지연된 복제본은 건너뛰고 사용 가능한 복제본으로 라우팅</li>
+ *     <li>RW-006: 같은 요청에서 쓰기 이후의 읽기는 primary로 라우팅</li>
+ *     <li>RW-007: 요청 밖에서는 쓰기 이후에도 읽기를 복제본으로 라우팅</li>
+ *     <li>RW-008: 복제 지연 조회 쿼리 결과로 복제본 사용 가능 여부 판단</li>
+ *     <li>RW-009: 감싼 복제본 풀의 메트릭 등록과 종료</li>
+ * </ul>
+ */
+@DisplayName("ReplicationRoutingDataSource 테스트")
+class ReplicationRoutingDataSourceTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+    private DataSource primary;
+    private DataSource replica1;
+    private DataSource replica2;
+
+    @BeforeEach
+    void setUp() {
+        primary = createNode("primary");
+        replica1 = createNode("replica1");
+        replica2 = createNode("replica2");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private static DataSource createNode(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    /**
+     * 복제본과 지연 감시자로 라우팅 DataSource를 구성하고, 트랜잭션 안팎에서 접속한 노드 이름을 조회합니다.
+     */
+    private static class Cluster {
+
+        private final ReplicaLagMonitor lagMonitor;
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate readOnlyTransaction;
+        private final TransactionTemplate readWriteTransaction;
+
+        Cluster(DataSource primary, Map<String, DataSource> replicas, String lagQuery) {
+            lagMonitor = new ReplicaLagMonitor(replicas, MAX_LAG, lagQuery, "Seconds_Behind_Source");
+            DataSource dataSource = new LazyConnectionDataSourceProxy(
+                    new ReplicationRoutingDataSource(primary, lagMonitor));
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+            jdbcTemplate = new JdbcTemplate(dataSource);
+            readOnlyTransaction = new TransactionTemplate(transactionManager);
+            readOnlyTransaction.setReadOnly(true);
+            readWriteTransaction = new TransactionTemplate(transactionManager);
+        }
+
+        String readOnly() {
+            return readOnlyTransaction.execute(status -> currentNode());
+        }
+
+        String readWrite() {
+            return readWriteTransaction.execute(status -> currentNode());
+        }
+
+        String currentNode() {
+            return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+        }
+    }
+
+    private Cluster singleReplicaCluster() {
+        return new Cluster(primary, Map.of("replica1", replica1), "SELECT 0 AS Seconds_Behind_Source");
+    }
+
+    @Nested
+    @DisplayName("트랜잭션 유형별 라우팅")
+    class TransactionRoutingTest {
+
+        @Test
+        @DisplayName("RW-001: 읽기 전용 트랜잭션은 복제본으로 라우팅된다")
+        void readOnlyTransaction_RoutesToReplica() {
+            // given
+            Cluster cluster = singleReplicaCluster();
+            cluster.lagMonitor.checkLag();
+
+            // when & then
+            assertThat(cluster.readOnly()).isEqualTo("replica1");
+        }
+
+        @Test
+        @DisplayName("RW-002: 쓰기 트랜잭션과 트랜잭션 밖 조회는 primary로 라우팅된다")
+        void readWriteTransactionAndNoTransaction_RouteToPrimary() {
+            // given
+            Cluster cluster = singleReplicaCluster();
+            cluster.lagMonitor.checkLag();
+
+            // when & then
+            assertThat(cluster.readWrite()).isEqualTo("primary");
+            assertThat(cluster.currentNode()).isEqualTo("primary");
+        }
+    }
+
+    @Nested
+    @DisplayName("복제 지연에 따른 대체")
+    class LagFallbackTest {
+
+        @Test
+        @DisplayName("RW-003: 복제 지연이 허용 범위를 넘으면 primary로 대체되고, 회복되면 다시 복제본을 사용한다")
+        void laggingReplica_FallsBackToPrimaryUntilRecovered() {
+            // given
+            Cluster cluster = singleReplicaCluster();
+
+            // when & then
+            cluster.lagMonitor.recordLag("replica1", MAX_LAG.plusSeconds(1));
+            assertThat(cluster.readOnly()).isEqualTo("primary");
+
+            cluster.lagMonitor.recordLag("replica1", Duration.ofSeconds(1));
+            assertThat(cluster.readOnly()).isEqualTo("replica1");
+        }
+
+        @Test
+        @DisplayName("RW-004: 복제 지연을 확인하기 전에는 primary로 라우팅된다")
+        void uncheckedReplica_RoutesToPrimary() {
+            // given
+            Cluster cluster = singleReplicaCluster();
+
+            // when & then
+            assertThat(cluster.lagMonitor.isAvailable("replica1")).isFalse();
+            assertThat(cluster.readOnly()).isEqualTo("primary");
+        }
+
+        @Test
+        @DisplayName("RW-005: 지연된 복제본은 건너뛰고 사용 가능한 복제본으로 라우팅된다")
+        void laggingReplica_IsSkipped() {
+            // given
+            Map<String, DataSource> replicas = new LinkedHashMap<>();
+            replicas.put("replica1", replica1);
+            replicas.put("replica2", replica2);
+            Cluster cluster = new Cluster(primary, replicas, "SELECT 0 AS Seconds_Behind_Source");
+            cluster.lagMonitor.recordLag("replica1", MAX_LAG.plusSeconds(10));
+            cluster.lagMonitor.recordLag("replica2", Duration.ZERO);
+
+            // when & then
+            for (int i = 0; i < 4; i++) {
+                assertThat(cluster.readOnly()).isEqualTo("replica2");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("read your writes")
+    class ReadYourWritesTest {
+
+        @Test
+        @DisplayName("RW-006: 같은 요청에서 쓰기 트랜잭션 이후의 읽기 전용 트랜잭션은 primary로 라우팅된다")
+        void readAfterWriteInSameRequest_RoutesToPrimary() {
+            // given
+            Cluster cluster = singleReplicaCluster();
+            cluster.lagMonitor.checkLag();
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            assertThat(cluster.readOnly()).isEqualTo("replica1");
+
+            // when
+            cluster.readWrite();
+
+            // then
+            assertThat(cluster.readOnly()).isEqualTo("primary");
+
+            // 다음 요청은 다시 복제본 사용
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            assertThat(cluster.readOnly()).isEqualTo("replica1");
+        }
+
+        @Test
+        @DisplayName("RW-007: 요청 밖(스케줄러 등)에서는 쓰기 이후에도 읽기 전용 트랜잭션이 복제본으로 라우팅된다")
+        void readAfterWriteOutsideRequest_RoutesToReplica() {
+            // given
+            Cluster cluster = singleReplicaCluster();
+            cluster.lagMonitor.checkLag();
+
+            // when
+            cluster.readWrite();
+
+            // then
+            assertThat(cluster.readOnly()).isEqualTo("replica1");
+        }
+    }
+
+    @Nested
+    @DisplayName("복제 지연 조회")
+    class LagCheckTest {
+
+        @Test
+        @DisplayName("RW-008: 복제 지연 조회 결과가 허용 범위 안이면 사용 가능, 넘거나 조회에 실패하면 사용 불가로 판단한다")
+        void checkLag_UsesLagQueryResult() {
+            // given
+            ReplicaLagMonitor healthy = new ReplicaLagMonitor(Map.of("replica1", replica1), MAX_LAG,
+                    "SELECT 3 AS Seconds_Behind_Source", "Seconds_Behind_Source");
+            ReplicaLagMonitor lagging = new ReplicaLagMonitor(Map.of("replica1", replica1), MAX_LAG,
+                    "SELECT 30 AS Seconds_Behind_Source", "Seconds_Behind_Source");
+            ReplicaLagMonitor stopped = new ReplicaLagMonitor(Map.of("replica1", replica1), MAX_LAG,
+                    "SELECT CAST(NULL AS INT) AS Seconds_Behind_Source", "Seconds_Behind_Source");
+            ReplicaLagMonitor failing = new ReplicaLagMonitor(Map.of("replica1", replica1), MAX_LAG,
+                    "SELECT * FROM replica_status_not_exists", "Seconds_Behind_Source");
+
+            // when
+            healthy.checkLag();
+            lagging.checkLag();
+            stopped.checkLag();
+            failing.checkLag();
+
+            // then
+            assertThat(healthy.isAvailable("replica1")).isTrue();
+            assertThat(lagging.isAvailable("replica1")).isFalse();
+            assertThat(stopped.isAvailable("replica1")).isFalse();
+            assertThat(failing.isAvailable("replica1")).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("복제본 풀 관리")
+    class ReplicaPoolTest {
+
+        @Test
+        @DisplayName("RW-009: 동시 사용 제한으로 감싼 복제본 풀도 pool 태그로 메트릭이 등록되고, 종료 시 안쪽 풀이 닫힌다")
+        void bindToAndClose_UnwrapsReplicaPool() throws Exception {
+            // given
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-1");
+            ReplicaLagMonitor monitor = new ReplicaLagMonitor(
+                    Map.of("replica-1", new ConcurrencyLimitedDataSource(pool, "replica-1", 3, Duration.ofMillis(50))),
+                    MAX_LAG, "SELECT 0 AS Seconds_Behind_Source", "Seconds_Behind_Source");
+            MeterRegistry registry = new SimpleMeterRegistry();
+
+            // when
+            monitor.bindTo(registry);
+            monitor.close();
+
+            // then
+            assertThat(registry.get("db.concurrency.limit.max").tag("pool", "replica-1").gauge().value()).isEqualTo(3);
+            assertThat(pool.isClosed()).isTrue();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package igrus.web.common.scheduling.service;
+
+import igrus.web.common.ServiceIntegrationTestBase;
+import igrus.web.common.scheduling.domain.ScheduledJobLock;
+import igrus.web.common.scheduling.domain.ScheduledJobRun;
+import igrus.web.common.scheduling.domain.ScheduledJobRunStatus;
+import igrus.web.common.scheduling.repository.ScheduledJobLockRepository;
+import igrus.web.common.scheduling.repository.ScheduledJobRunRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 스케줄 작업 실행기 통합 테스트.
+ *
+ * <p>DB 락 행으로 한 노드만 작업을 실행하고, 실행 결과가 이력으로 남는지 검증합니다.
+ *
+ * <p>테스트 시나리오:
+ * <ul>
+ *     <li>JOB-001: 락 행이 없는 작업도 처음 실행 시 락 행을 만들고 실행하며, 성공 이력을 기록</li>
+ *     <li>JOB-002: 다른 노드가 락을 잡고 있으면 실행하지 않음</li>
+ *     <li>JOB-003: 실행 후 최소 유지 시간 동안은 다시 실행하지 않음</li>
+ *     <li>JOB-004: 다른 노드의 락이 만료되면 실행</li>
+ *     <li>JOB-005: 작업 실패 시 실패 이력을 기록하고 예외를 다시 던지며, 락은 최소 유지 시간까지만 유지</li>
+ *     <li>JOB-006: 보관 기간이 지난 실행 이력 삭제</li>
+ * </ul>
+ */
+@DisplayName("ScheduledJobRunner 통합 테스트")
+class ScheduledJobRunnerIntegrationTest extends ServiceIntegrationTestBase {
+
+    private static final String JOB_NAME = "test-job";
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST = Duration.ofMinutes(5);
+
+    @Autowired
+    private ScheduledJobRunner scheduledJobRunner;
+
+    @Autowired
+    private ScheduledJobRunService scheduledJobRunService;
+
+    @Autowired
+    private ScheduledJobLockRepository scheduledJobLockRepository;
+
+    @Autowired
+    private ScheduledJobRunRepository scheduledJobRunRepository;
+
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        setUpBase();
+        executions = new AtomicInteger();
+    }
+
+    private boolean runJob() {
+        return scheduledJobRunner.run(JOB_NAME, LOCK_AT_MOST, LOCK_AT_LEAST, () -> {
+            executions.incrementAndGet();
+            return 3;
+        });
+    }
+
+    /**
+     * 다른 노드가 {@code lockedUntil}까지 락을 잡고 있는 상태로 만듭니다.
+     */
+    private void lockByOtherNode(Instant lockedUntil) {
+        transactionTemplate.execute(status -> entityManager.createNativeQuery(
+                        "INSERT INTO scheduled_job_locks (scheduled_job_locks_name, scheduled_job_locks_locked_until, " +
+                                "scheduled_job_locks_locked_at, scheduled_job_locks_locked_by, " +
+                                "scheduled_job_locks_created_at, scheduled_job_locks_updated_at) " +
+                                "VALUES (:name, :lockedUntil, :lockedAt, 'other-node', :lockedAt, :lockedAt)")
+                .setParameter("name", JOB_NAME)
+                .setParameter("lockedUntil", lockedUntil)
+                .setParameter("lockedAt", lockedUntil.minus(LOCK_AT_MOST))
+                .executeUpdate());
+    }
+
+    @Nested
+    @DisplayName("락 획득과 실행")
+    class LeaseTest {
+
+        @Test
+        @DisplayName("JOB-001: 락 행이 없는 작업도 처음 실행 시 락을 얻어 실행하고 성공 이력을 기록한다")
+        void firstRun_CreatesLockAndRecordsSuccess() {
+            // when
+            boolean ran = runJob();
+
+            // then
+            assertThat(ran).isTrue();
+            assertThat(executions.get()).isEqualTo(1);
+
+            ScheduledJobLock lock = scheduledJobLockRepository.findById(JOB_NAME).orElseThrow();
+            assertThat(lock.getLockedBy()).isEqualTo(ScheduledJobLockService.NODE);
+
+            List<ScheduledJobRun> runs = scheduledJobRunRepository.findByJobNameOrderByStartedAtDesc(JOB_NAME);
+            assertThat(runs).hasSize(1);
+            assertThat(runs.get(0).getStatus()).isEqualTo(ScheduledJobRunStatus.SUCCEEDED);
+            assertThat(runs.get(0).getProcessedCount()).isEqualTo(3);
+            assertThat(runs.get(0).getDurationMs()).isGreaterThanOrEqualTo(0);
+            assertThat(runs.get(0).getNode()).isEqualTo(ScheduledJobLockService.NODE);
+        }
+
+        @Test
+        @DisplayName("JOB-002: 다른 노드가 락을 잡고 있으면 실행하지 않는다")
+        void lockedByOtherNode_Skips() {
+            // given
+            lockByOtherNode(Instant.now().plus(10, ChronoUnit.MINUTES));
+
+            // when
+            boolean ran = runJob();
+
+            // then
+            assertThat(ran).isFalse();
+            assertThat(executions.get()).isZero();
+            assertThat(scheduledJobRunRepository.findByJobNameOrderByStartedAtDesc(JOB_NAME)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("JOB-003: 실행이 끝나도 최소 유지 시간 동안은 다시 실행하지 않는다")
+        void secondRunWithinLockAtLeast_Skips() {
+            // given
+            runJob();
+
+            // when
+            boolean ranAgain = runJob();
+
+            // then
+            assertThat(ranAgain).isFalse();
+            assertThat(executions.get()).isEqualTo(1);
+
+            ScheduledJobLock lock = scheduledJobLockRepository.findById(JOB_NAME).orElseThrow();
+            assertThat(lock.getLockedUntil()).isEqualTo(lock.getLockedAt().plus(LOCK_AT_LEAST));
+        }
+
+        @Test
+        @DisplayName("JOB-004: 다른 노드의 락이 만료되면 실행한다")
+        void expiredLockOfOtherNode_Runs() {
+            // given
+            lockByOtherNode(Instant.now().minus(1, ChronoUnit.MINUTES));
+
+            // when
+            boolean ran = runJob();
+
+            // then
+            assertThat(ran).isTrue();
+            assertThat(executions.get()).isEqualTo(1);
+            assertThat(scheduledJobLockRepository.findById(JOB_NAME).orElseThrow().getLockedBy())
+                    .isEqualTo(ScheduledJobLockService.NODE);
+        }
+    }
+
+    @Nested
+    @DisplayName("실행 이력")
+    class RunHistoryTest {
+
+        @Test
+        @DisplayName("JOB-005: 작업이 실패하면 실패 이력을 기록하고 예외를 다시 던지며, 락은 최소 유지 시간까지만 유지한다")
+        void failedRun_RecordsFailureAndReleasesLock() {
+            // when & then
+            assertThatThrownBy(() -> scheduledJobRunner.run(JOB_NAME, LOCK_AT_MOST, LOCK_AT_LEAST, () -> {
+                throw new IllegalStateException("정리 실패");
+            })).isInstanceOf(IllegalStateException.class);
+
+            List<ScheduledJobRun> runs = scheduledJobRunRepository.findByJobNameOrderByStartedAtDesc(JOB_NAME);
+            assertThat(runs).hasSize(1);
+            assertThat(runs.get(0).getStatus()).isEqualTo(ScheduledJobRunStatus.FAILED);
+            assertThat(runs.get(0).getProcessedCount()).isNull();
+            assertThat(runs.get(0).getErrorMessage()).isEqualTo("IllegalStateException: 정리 실패");
+
+            ScheduledJobLock lock = scheduledJobLockRepository.findById(JOB_NAME).orElseThrow();
+            assertThat(lock.getLockedUntil()).isEqualTo(lock.getLockedAt().plus(LOCK_AT_LEAST));
+        }
+
+        @Test
+        @DisplayName("JOB-006: 기준 시각 이전에 시작된 실행 이력만 삭제한다")
+        void deleteOldRuns_DeletesOnlyOldRuns() {
+            // given
+            Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+            Instant old = now.minus(100, ChronoUnit.DAYS);
+            scheduledJobRunService.record(ScheduledJobRun.succeeded(JOB_NAME, "node", old, old.plusSeconds(1), 1));
+            scheduledJobRunService.record(ScheduledJobRun.succeeded(JOB_NAME, "node", now, now.plusSeconds(1), 1));
+
+            // when
+            int deletedCount = scheduledJobRunService.deleteOldRuns(now.minus(90, ChronoUnit.DAYS));
+
+            // then
+            assertThat(deletedCount).isEqualTo(1);
+            assertThat(scheduledJobRunRepository.findByJobNameOrderByStartedAtDesc(JOB_NAME))
+                    .extracting(ScheduledJobRun::getStartedAt)
+                    .containsExactly(now);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package igrus.web.community.bookmark.controller;
 
+import com.jayway.jsonpath.JsonPath;
 import igrus.web.community.board.domain.Board;
 import igrus.web.community.board.domain.BoardCode;
 import igrus.web.community.board.domain.BoardPermission;
@@ -25,8 +26,10 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -267,18 +270,20 @@ class BookmarkControllerTest extends ServiceIntegrationTestBase {
             createBookmark(post, memberUser2);
             createBookmark(post2, memberUser2);
 
-            // when & then
+            // when & then: 최신 북마크순
             mockMvc.perform(get("/api/v1/users/me/bookmarks")
                             .with(withAuth(memberUser2))
                             .with(csrf()))
                     .andDo(print())
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.totalElements").value(2))
                     .andExpect(jsonPath("$.content").isArray())
-                    .andExpect(jsonPath("$.content.length()").value(2));
+                    .andExpect(jsonPath("$.content.length()").value(2))
+                    .andExpect(jsonPath("$.content[0].postId").value(post2.getId()))
+                    .andExpect(jsonPath("$.content[0].boardName").value("자유게시판"))
+                    .andExpect(jsonPath("$.hasNext").value(false));
         }
 
-        @DisplayName("LKB-022: 북마크 목록 페이지네이션")
+        @DisplayName("LKB-022: 북마크 목록 커서 페이지네이션 - 누락/중복 없이 다음 페이지를 조회한다")
         @Test
         void getMyBookmarks_Pagination_Success() throws Exception {
             // given: 25개 게시글에 북마크
@@ -289,14 +294,31 @@ class BookmarkControllerTest extends ServiceIntegrationTestBase {
             }
 
             // when & then: 기본 페이지 크기 20개
-            mockMvc.perform(get("/api/v1/users/me/bookmarks")
+            String firstPage = mockMvc.perform(get("/api/v1/users/me/bookmarks")
                             .with(withAuth(memberUser2))
                             .with(csrf()))
                     .andDo(print())
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.totalElements").value(25))
                     .andExpect(jsonPath("$.content.length()").value(20))
-                    .andExpect(jsonPath("$.totalPages").value(2));
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andReturn().getResponse().getContentAsString();
+            String nextCursor = JsonPath.read(firstPage, "$.nextCursor");
+
+            String secondPage = mockMvc.perform(get("/api/v1/users/me/bookmarks")
+                            .param("cursor", nextCursor)
+                            .with(withAuth(memberUser2))
+                            .with(csrf()))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(5))
+                    .andExpect(jsonPath("$.hasNext").value(false))
+                    .andReturn().getResponse().getContentAsString();
+
+            List<Integer> firstIds = JsonPath.read(firstPage, "$.content[*].postId");
+            List<Integer> secondIds = JsonPath.read(secondPage, "$.content[*].postId");
+            List<Integer> postIds = new ArrayList<>(firstIds);
+            postIds.addAll(secondIds);
+            assertThat(postIds).hasSize(25).doesNotHaveDuplicates();
         }
 
         @DisplayName("LKB-024: 빈 북마크 목록 조회")
@@ -308,13 +330,13 @@ class BookmarkControllerTest extends ServiceIntegrationTestBase {
                             .with(csrf()))
                     .andDo(print())
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.totalElements").value(0))
-                    .andExpect(jsonPath("$.content").isEmpty());
+                    .andExpect(jsonPath("$.content").isEmpty())
+                    .andExpect(jsonPath("$.hasNext").value(false));
         }
 
-        @DisplayName("LKB-091: 삭제된 게시글 북마크 목록에 표시")
+        @DisplayName("LKB-091: 삭제된 게시글은 북마크 목록에서 제외된다")
         @Test
-        void getMyBookmarks_DeletedPost_ShowsDeletedMessage() throws Exception {
+        void getMyBookmarks_DeletedPost_IsExcluded() throws Exception {
             // given: 북마크 후 게시글 삭제
             createBookmark(post, memberUser2);
             post.delete(memberUser.getId());
@@ -326,9 +348,7 @@ class BookmarkControllerTest extends ServiceIntegrationTestBase {
                             .with(csrf()))
                     .andDo(print())
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.totalElements").value(1))
-                    .andExpect(jsonPath("$.content[0].isDeleted").value(true))
-                    .andExpect(jsonPath("$.content[0].deletedMessage").value("삭제된 게시글입니다"));
+                    .andExpect(jsonPath("$.content").isEmpty());
         }
 
         @DisplayName("준회원 북마크 목록 조회 시 403 Forbidden")
@@ -1,5 +1,7 @@
 package igrus.web.community.bookmark.service;
 
+import igrus.web.common.exception.InvalidCursorException;
+import igrus.web.common.pagination.CursorPageResponse;
 import igrus.web.community.board.domain.Board;
 import igrus.web.community.bookmark.domain.Bookmark;
 import igrus.web.community.bookmark.dto.response.BookmarkStatusResponse;
@@ -21,11 +23,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -52,7 +52,7 @@ import static org.mockito.Mockito.verify;
  *     <li>LKB-011: 게시글 북마크 취소 (토글)</li>
  *     <li>LKB-013: 북마크 1인 1회 제한 (토글로 동작)</li>
  *     <li>LKB-020: 북마크 목록 조회</li>
- *     <li>LKB-021: 삭제된 게시글 북마크 표시</li>
+ *     <li>LKB-021: 삭제된 게시글은 북마크 목록에서 제외</li>
  *     <li>LKB-041: 삭제된 게시글 북마크 시도 시 PostDeletedException 발생</li>
  *     <li>LKB-093: 북마크 취소 시 Hard Delete</li>
  * </ul>
@@ -331,148 +331,113 @@ class BookmarkServiceTest {
     @DisplayName("북마크 목록 조회 테스트")
     class GetMyBookmarksTest {
 
-        @DisplayName("LKB-020: 북마크 목록 조회")
+        private static final Instant BASE_TIME = Instant.parse("2026-01-01T00:00:00Z");
+
+        @DisplayName("LKB-020: 북마크 목록 조회 - 조인 Projection 한 번으로 조회한다")
         @Test
         void getMyBookmarks_ReturnsBookmarkedPosts() {
             // given
             Long userId = memberUser.getId();
-            Pageable pageable = PageRequest.of(0, 20);
 
             Post post1 = normalPost(generalBoard, anotherMemberUser, 1L);
             Post post2 = normalPost(generalBoard, anotherMemberUser, 2L);
 
-            Bookmark bookmark1 = withId(Bookmark.create(post1, memberUser), 1L);
-            Bookmark bookmark2 = withId(Bookmark.create(post2, memberUser), 2L);
-
-            Page<Bookmark> bookmarkPage = new PageImpl<>(
-                    List.of(bookmark1, bookmark2),
-                    pageable,
-                    2
-            );
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(memberUser));
-            given(bookmarkRepository.findAllByUserOrderByCreatedAtDesc(memberUser, pageable)).willReturn(bookmarkPage);
+            given(bookmarkRepository.findMyBookmarks(userId, PageRequest.of(0, 21))).willReturn(List.of(
+                    bookmarkedPostRow(post2, 2L, BASE_TIME.plusSeconds(2)),
+                    bookmarkedPostRow(post1, 1L, BASE_TIME.plusSeconds(1))
+            ));
 
             // when
-            Page<BookmarkedPostResponse> result = bookmarkService.getMyBookmarks(userId, pageable);
+            CursorPageResponse<BookmarkedPostResponse> result = bookmarkService.getMyBookmarks(userId, null, 20);
 
             // then
-            assertThat(result).isNotNull();
-            assertThat(result.getContent()).hasSize(2);
-            assertThat(result.getContent().get(0).postId()).isEqualTo(1L);
-            assertThat(result.getContent().get(1).postId()).isEqualTo(2L);
-            assertThat(result.getContent().get(0).isDeleted()).isFalse();
-            assertThat(result.getContent().get(1).isDeleted()).isFalse();
+            assertThat(result.content()).extracting(BookmarkedPostResponse::postId).containsExactly(2L, 1L);
+            assertThat(result.content().get(0).boardCode()).isEqualTo(generalBoard.getCode().name());
+            assertThat(result.content().get(0).bookmarkedAt()).isEqualTo(BASE_TIME.plusSeconds(2));
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+
+            verify(userRepository, never()).findById(any());
+            verify(postRepository, never()).findById(any());
         }
 
-        @DisplayName("LKB-021: 삭제된 게시글 북마크 표시")
+        @DisplayName("LKB-021: 삭제된 게시글은 조회 쿼리에서 제외된다")
         @Test
-        void getMyBookmarks_WithDeletedPost_ShowsDeletedMessage() {
-            // given
+        void getMyBookmarks_ExcludesDeletedPostsInQuery() {
+            // given: 삭제된 게시글은 쿼리 조건(p.deleted = false)으로 제외되어 조회 결과에 없음
             Long userId = memberUser.getId();
-            Pageable pageable = PageRequest.of(0, 20);
-
-            Post deletedPost = normalPost(generalBoard, anotherMemberUser, 1L);
-            deletedPost.delete(anotherMemberUser.getId());
 
             Post normalPostEntity = normalPost(generalBoard, anotherMemberUser, 2L);
-
-            Bookmark deletedPostBookmark = withId(Bookmark.create(deletedPost, memberUser), 1L);
-            Bookmark normalPostBookmark = withId(Bookmark.create(normalPostEntity, memberUser), 2L);
-
-            Page<Bookmark> bookmarkPage = new PageImpl<>(
-                    List.of(deletedPostBookmark, normalPostBookmark),
-                    pageable,
-                    2
-            );
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(memberUser));
-            given(bookmarkRepository.findAllByUserOrderByCreatedAtDesc(memberUser, pageable)).willReturn(bookmarkPage);
+            given(bookmarkRepository.findMyBookmarks(userId, PageRequest.of(0, 21)))
+                    .willReturn(List.of(bookmarkedPostRow(normalPostEntity, 2L, BASE_TIME)));
 
             // when
-            Page<BookmarkedPostResponse> result = bookmarkService.getMyBookmarks(userId, pageable);
+            CursorPageResponse<BookmarkedPostResponse> result = bookmarkService.getMyBookmarks(userId, null, 20);
 
             // then
-            assertThat(result).isNotNull();
-            assertThat(result.getContent()).hasSize(2);
-
-            // 삭제된 게시글 확인
-            BookmarkedPostResponse deletedResponse = result.getContent().get(0);
-            assertThat(deletedResponse.isDeleted()).isTrue();
-            assertThat(deletedResponse.title()).isNull();
-            assertThat(deletedResponse.authorName()).isNull();
-            assertThat(deletedResponse.deletedMessage()).isEqualTo("삭제된 게시글입니다");
-
-            // 정상 게시글 확인
-            BookmarkedPostResponse normalResponse = result.getContent().get(1);
-            assertThat(normalResponse.isDeleted()).isFalse();
-            assertThat(normalResponse.title()).isNotNull();
-            assertThat(normalResponse.deletedMessage()).isNull();
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.content().get(0).title()).isEqualTo(normalPostEntity.getTitle());
         }
 
-        @DisplayName("북마크 목록이 비어있는 경우 빈 페이지 반환")
+        @DisplayName("북마크 목록이 비어있는 경우 빈 목록 반환")
         @Test
         void getMyBookmarks_WhenEmpty_ReturnsEmptyPage() {
             // given
             Long userId = memberUser.getId();
-            Pageable pageable = PageRequest.of(0, 20);
-
-            Page<Bookmark> emptyPage = new PageImpl<>(List.of(), pageable, 0);
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(memberUser));
-            given(bookmarkRepository.findAllByUserOrderByCreatedAtDesc(memberUser, pageable)).willReturn(emptyPage);
+            given(bookmarkRepository.findMyBookmarks(userId, PageRequest.of(0, 21))).willReturn(List.of());
 
             // when
-            Page<BookmarkedPostResponse> result = bookmarkService.getMyBookmarks(userId, pageable);
+            CursorPageResponse<BookmarkedPostResponse> result = bookmarkService.getMyBookmarks(userId, null, 20);
 
             // then
-            assertThat(result).isNotNull();
-            assertThat(result.getContent()).isEmpty();
-            assertThat(result.getTotalElements()).isZero();
+            assertThat(result.content()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
         }
 
-        @DisplayName("존재하지 않는 사용자 북마크 목록 조회 시 UserNotFoundException 발생")
+        @DisplayName("북마크 목록 커서 페이지네이션 - 다음 커서로 이어서 조회한다")
         @Test
-        void getMyBookmarks_WhenUserNotFound_ThrowsUserNotFoundException() {
-            // given
-            Long nonExistentUserId = 999L;
-            Pageable pageable = PageRequest.of(0, 20);
-
-            given(userRepository.findById(nonExistentUserId)).willReturn(Optional.empty());
-
-            // when & then
-            assertThatThrownBy(() -> bookmarkService.getMyBookmarks(nonExistentUserId, pageable))
-                    .isInstanceOf(UserNotFoundException.class);
-        }
-
-        @DisplayName("북마크 목록 페이지네이션 테스트")
-        @Test
-        void getMyBookmarks_WithPagination_ReturnsCorrectPage() {
+        void getMyBookmarks_WithCursor_ReturnsNextPage() {
             // given
             Long userId = memberUser.getId();
-            Pageable pageable = PageRequest.of(1, 10); // 두 번째 페이지, 페이지당 10개
 
-            Post post1 = normalPost(generalBoard, anotherMemberUser, 11L);
-            Bookmark bookmark1 = withId(Bookmark.create(post1, memberUser), 11L);
-
-            Page<Bookmark> bookmarkPage = new PageImpl<>(
-                    List.of(bookmark1),
-                    pageable,
-                    21 // 전체 21개 중 두 번째 페이지 (페이지당 10개이므로 3페이지)
-            );
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(memberUser));
-            given(bookmarkRepository.findAllByUserOrderByCreatedAtDesc(memberUser, pageable)).willReturn(bookmarkPage);
+            Post post1 = normalPost(generalBoard, anotherMemberUser, 1L);
+            Post post2 = normalPost(generalBoard, anotherMemberUser, 2L);
+            Post post3 = normalPost(generalBoard, anotherMemberUser, 3L);
+
+            // 같은 시각에 생성된 북마크도 ID로 순서가 확정된다
+            given(bookmarkRepository.findMyBookmarks(userId, PageRequest.of(0, 2))).willReturn(List.of(
+                    bookmarkedPostRow(post3, 3L, BASE_TIME),
+                    bookmarkedPostRow(post2, 2L, BASE_TIME)
+            ));
+            given(bookmarkRepository.findMyBookmarksAfter(userId, BASE_TIME, 3L, PageRequest.of(0, 2))).willReturn(List.of(
+                    bookmarkedPostRow(post2, 2L, BASE_TIME),
+                    bookmarkedPostRow(post1, 1L, BASE_TIME)
+            ));
+            given(bookmarkRepository.findMyBookmarksAfter(userId, BASE_TIME, 2L, PageRequest.of(0, 2))).willReturn(List.of(
+                    bookmarkedPostRow(post1, 1L, BASE_TIME)
+            ));
 
             // when
-            Page<BookmarkedPostResponse> result = bookmarkService.getMyBookmarks(userId, pageable);
+            CursorPageResponse<BookmarkedPostResponse> first = bookmarkService.getMyBookmarks(userId, null, 1);
+            CursorPageResponse<BookmarkedPostResponse> second = bookmarkService.getMyBookmarks(userId, first.nextCursor(), 1);
+            CursorPageResponse<BookmarkedPostResponse> third = bookmarkService.getMyBookmarks(userId, second.nextCursor(), 1);
 
             // then
-            assertThat(result).isNotNull();
-            assertThat(result.getNumber()).isEqualTo(1); // 두 번째 페이지
-            assertThat(result.getSize()).isEqualTo(10);
-            assertThat(result.getTotalElements()).isEqualTo(21);
-            assertThat(result.getTotalPages()).isEqualTo(3);
+            assertThat(first.content()).extracting(BookmarkedPostResponse::postId).containsExactly(3L);
+            assertThat(second.content()).extracting(BookmarkedPostResponse::postId).containsExactly(2L);
+            assertThat(third.content()).extracting(BookmarkedPostResponse::postId).containsExactly(1L);
+            assertThat(first.hasNext()).isTrue();
+            assertThat(second.hasNext()).isTrue();
+            assertThat(third.hasNext()).isFalse();
+            assertThat(third.nextCursor()).isNull();
+        }
+
+        @DisplayName("형식이 잘못된 커서는 InvalidCursorException 발생")
+        @Test
+        void getMyBookmarks_WithMalformedCursor_ThrowsInvalidCursorException() {
+            // when & then
+            assertThatThrownBy(() -> bookmarkService.getMyBookmarks(memberUser.getId(), "%%%", 20))
+                    .isInstanceOf(InvalidCursorException.class);
         }
     }
 
@@ -515,28 +480,17 @@ class BookmarkServiceTest {
         void getMyBookmarks_WithAnonymousPost_ShowsAnonymousAuthor() {
             // given
             Long userId = memberUser.getId();
-            Pageable pageable = PageRequest.of(0, 20);
 
             Post anonymousPostEntity = anonymousPost(generalBoard, anotherMemberUser, 1L);
-
-            Bookmark anonymousPostBookmark = withId(Bookmark.create(anonymousPostEntity, memberUser), 1L);
-
-            Page<Bookmark> bookmarkPage = new PageImpl<>(
-                    List.of(anonymousPostBookmark),
-                    pageable,
-                    1
-            );
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(memberUser));
-            given(bookmarkRepository.findAllByUserOrderByCreatedAtDesc(memberUser, pageable)).willReturn(bookmarkPage);
+            given(bookmarkRepository.findMyBookmarks(userId, PageRequest.of(0, 21)))
+                    .willReturn(List.of(bookmarkedPostRow(anonymousPostEntity, 1L, Instant.now())));
 
             // when
-            Page<BookmarkedPostResponse> result = bookmarkService.getMyBookmarks(userId, pageable);
+            CursorPageResponse<BookmarkedPostResponse> result = bookmarkService.getMyBookmarks(userId, null, 20);
 
             // then
-            assertThat(result).isNotNull();
-            assertThat(result.getContent()).hasSize(1);
-            assertThat(result.getContent().get(0).authorName()).isEqualTo("익명");
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.content().get(0).authorName()).isEqualTo("익명");
         }
     }
 }
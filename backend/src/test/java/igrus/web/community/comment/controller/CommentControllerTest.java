@@ -1,6 +1,7 @@
 package igrus.web.community.comment.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import igrus.web.community.board.domain.Board;
 import igrus.web.community.board.domain.BoardCode;
 import igrus.web.community.board.domain.BoardPermission;
@@ -28,8 +29,10 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -411,10 +414,12 @@ class CommentControllerTest extends ServiceIntegrationTestBase {
                             .with(csrf()))
                     .andDo(print())
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.totalCount").value(3))
                     .andExpect(jsonPath("$.comments").isArray())
                     .andExpect(jsonPath("$.comments.length()").value(2))
-                    .andExpect(jsonPath("$.comments[0].replies").isArray());
+                    .andExpect(jsonPath("$.comments[0].replies").isArray())
+                    .andExpect(jsonPath("$.comments[0].replies.length()").value(1))
+                    .andExpect(jsonPath("$.hasNext").value(false))
+                    .andExpect(jsonPath("$.nextCursor").doesNotExist());
         }
 
         @DisplayName("CMT-021: 삭제된 댓글 '삭제된 댓글입니다' 표시")
@@ -475,6 +480,59 @@ class CommentControllerTest extends ServiceIntegrationTestBase {
                     .andExpect(jsonPath("$.comments[2].content").value("세번째 댓글"));
         }
 
+        @DisplayName("CMT-024: 최상위 댓글 커서 페이지네이션 - 누락/중복 없이 대댓글과 함께 다음 페이지를 조회한다")
+        @Test
+        void getComments_Pagination_Success() throws Exception {
+            // given: 최상위 댓글 5개, 각 댓글에 대댓글 1개
+            for (int i = 0; i < 5; i++) {
+                Comment comment = createAndSaveComment(generalPost, memberUser, "댓글 " + i, false);
+                createAndSaveReply(generalPost, comment, memberUser2, "대댓글 " + i, false);
+            }
+
+            // when & then: 페이지 크기 3
+            String firstPage = mockMvc.perform(get(BASE_URL + "/" + generalPost.getId() + "/comments")
+                            .param("size", "3")
+                            .with(withAuth(memberUser))
+                            .with(csrf()))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.comments.length()").value(3))
+                    .andExpect(jsonPath("$.comments[0].replies.length()").value(1))
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andReturn().getResponse().getContentAsString();
+            String nextCursor = JsonPath.read(firstPage, "$.nextCursor");
+
+            String secondPage = mockMvc.perform(get(BASE_URL + "/" + generalPost.getId() + "/comments")
+                            .param("size", "3")
+                            .param("cursor", nextCursor)
+                            .with(withAuth(memberUser))
+                            .with(csrf()))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.comments.length()").value(2))
+                    .andExpect(jsonPath("$.comments[1].replies.length()").value(1))
+                    .andExpect(jsonPath("$.hasNext").value(false))
+                    .andReturn().getResponse().getContentAsString();
+
+            List<String> firstContents = JsonPath.read(firstPage, "$.comments[*].content");
+            List<String> secondContents = JsonPath.read(secondPage, "$.comments[*].content");
+            List<String> contents = new ArrayList<>(firstContents);
+            contents.addAll(secondContents);
+            assertThat(contents).containsExactly("댓글 0", "댓글 1", "댓글 2", "댓글 3", "댓글 4");
+        }
+
+        @DisplayName("유효하지 않은 커서로 조회 시 400 Bad Request")
+        @Test
+        void getComments_InvalidCursor_Returns400() throws Exception {
+            // when & then
+            mockMvc.perform(get(BASE_URL + "/" + generalPost.getId() + "/comments")
+                            .param("cursor", "invalid")
+                            .with(withAuth(memberUser))
+                            .with(csrf()))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+        }
+
         @DisplayName("CMT-025: 익명 댓글 작성자 비노출")
         @Test
         void getComments_AnonymousComment_HidesAuthor() throws Exception {
@@ -502,8 +560,8 @@ class CommentControllerTest extends ServiceIntegrationTestBase {
                             .with(csrf()))
                     .andDo(print())
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.totalCount").value(0))
-                    .andExpect(jsonPath("$.comments").isEmpty());
+                    .andExpect(jsonPath("$.comments").isEmpty())
+                    .andExpect(jsonPath("$.hasNext").value(false));
         }
     }
 
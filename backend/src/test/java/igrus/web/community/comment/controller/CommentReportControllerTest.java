@@ -34,6 +34,7 @@ import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -48,6 +49,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * <ul>
  *     <li>CMT-RPT-001~003: 댓글 신고</li>
  *     <li>CMT-RPT-004~008: 관리자 신고 관리</li>
+ *     <li>CMT-RPT-009~011: 신고 검토 대기열 (댓글별 집계, 자동 가림, 일괄 처리)</li>
  * </ul>
  * </p>
  */
@@ -79,6 +81,7 @@ class CommentReportControllerTest extends ServiceIntegrationTestBase {
     private static final String REPORT_URL = "/api/v1/comments/{commentId}/reports";
     private static final String ADMIN_REPORTS_URL = "/api/v1/admin/comment-reports";
     private static final String ADMIN_REPORT_URL = "/api/v1/admin/comment-reports/{reportId}";
+    private static final String ADMIN_COMMENT_REPORTS_URL = "/api/v1/admin/comment-reports/comments/{commentId}";
 
     private User memberUser;
     private User memberUser2;
@@ -131,8 +134,12 @@ class CommentReportControllerTest extends ServiceIntegrationTestBase {
     }
 
     private CommentReport createAndSaveReport(Comment comment, User reporter, String reason) {
-        CommentReport report = CommentReport.create(comment, reporter, reason);
-        return commentReportRepository.save(report);
+        // 서비스의 신고 접수와 같이 대기열 정렬 기준(대기 시작 시각)도 갱신
+        return transactionTemplate.execute(status -> {
+            CommentReport saved = commentReportRepository.save(CommentReport.create(comment, reporter, reason));
+            commentRepository.refreshReportPendingSince(comment.getId(), ReportStatus.PENDING);
+            return saved;
+        });
     }
 
     @Nested
@@ -245,8 +252,61 @@ class CommentReportControllerTest extends ServiceIntegrationTestBase {
                             .with(csrf()))
                     .andDo(print())
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$").isArray())
-                    .andExpect(jsonPath("$.length()").value(2));
+                    .andExpect(jsonPath("$.content").isArray())
+                    .andExpect(jsonPath("$.content.length()").value(2))
+                    .andExpect(jsonPath("$.hasNext").value(false));
+        }
+
+        @DisplayName("CMT-RPT-009: 같은 댓글의 신고는 한 항목으로 묶여 신고 수와 함께 먼저 신고된 순으로 조회")
+        @Test
+        void getModerationQueue_GroupsReportsPerComment() throws Exception {
+            // given: comment 신고 2건, comment2 신고 1건 (comment가 먼저 신고됨)
+            createAndSaveReport(comment, memberUser2, "첫 번째 신고");
+            createAndSaveReport(comment, operatorUser, "두 번째 신고");
+
+            Comment comment2 = Comment.createComment(post, memberUser2, "다른 댓글", false);
+            commentRepository.save(comment2);
+            createAndSaveReport(comment2, memberUser, "세 번째 신고");
+
+            // when & then: 첫 페이지 (size=1)
+            String body = mockMvc.perform(get(ADMIN_REPORTS_URL)
+                            .param("size", "1")
+                            .with(withAuth(operatorUser))
+                            .with(csrf()))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(1))
+                    .andExpect(jsonPath("$.content[0].commentId").value(comment.getId()))
+                    .andExpect(jsonPath("$.content[0].reportCount").value(2))
+                    .andExpect(jsonPath("$.content[0].authorName").value(memberUser.getName()))
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andReturn().getResponse().getContentAsString();
+
+            String nextCursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+            // when & then: 다음 페이지
+            mockMvc.perform(get(ADMIN_REPORTS_URL)
+                            .param("size", "1")
+                            .param("cursor", nextCursor)
+                            .with(withAuth(operatorUser))
+                            .with(csrf()))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(1))
+                    .andExpect(jsonPath("$.content[0].commentId").value(comment2.getId()))
+                    .andExpect(jsonPath("$.content[0].reportCount").value(1))
+                    .andExpect(jsonPath("$.hasNext").value(false));
+        }
+
+        @DisplayName("유효하지 않은 커서로 조회 시 400 Bad Request")
+        @Test
+        void getModerationQueue_InvalidCursor_Returns400() throws Exception {
+            mockMvc.perform(get(ADMIN_REPORTS_URL)
+                            .param("cursor", "invalid-cursor")
+                            .with(withAuth(operatorUser))
+                            .with(csrf()))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
         }
 
         @DisplayName("CMT-RPT-005: 정회원 관리자 API 접근 시 403 Forbidden")
@@ -359,4 +419,162 @@ class CommentReportControllerTest extends ServiceIntegrationTestBase {
                     .andExpect(status().isBadRequest());
         }
     }
+
+    @Nested
+    @DisplayName("신고 누적 자동 가림 및 댓글별 일괄 처리 테스트")
+    class ModerationTest {
+
+        private boolean isHidden(Comment target) {
+            return commentRepository.findById(target.getId()).orElseThrow().isHidden();
+        }
+
+        @DisplayName("CMT-RPT-010: 대기 중인 신고가 임계값(5건)에 도달하면 댓글이 자동으로 가려진다")
+        @Test
+        void reportComment_ReachingThreshold_HidesComment() throws Exception {
+            // given: 임계값 - 1건의 신고
+            for (int i = 0; i < 4; i++) {
+                User reporter = createAndSaveUser("2021000" + i, "reporter" + i + "@inha.edu", UserRole.MEMBER);
+                createAndSaveReport(comment, reporter, "신고 사유");
+            }
+            assertThat(isHidden(comment)).isFalse();
+
+            // when: 다섯 번째 신고
+            mockMvc.perform(post(REPORT_URL, comment.getId())
+                            .with(withAuth(memberUser2))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new CreateCommentReportRequest("부적절한 내용입니다."))))
+                    .andDo(print())
+                    .andExpect(status().isCreated());
+
+            // then
+            assertThat(isHidden(comment)).isTrue();
+        }
+
+        @DisplayName("CMT-RPT-011: 댓글별 신고 승인 시 대기 신고가 모두 승인되고 댓글이 가려진다")
+        @Test
+        void processReportsByComment_Resolved_ResolvesAllAndHides() throws Exception {
+            // given
+            createAndSaveReport(comment, memberUser2, "첫 번째 신고");
+            createAndSaveReport(comment, operatorUser, "두 번째 신고");
+
+            mockMvc.perform(get(ADMIN_COMMENT_REPORTS_URL, comment.getId())
+                            .with(withAuth(operatorUser))
+                            .with(csrf()))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(2));
+
+            // when
+            mockMvc.perform(patch(ADMIN_COMMENT_REPORTS_URL, comment.getId())
+                            .with(withAuth(operatorUser))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new UpdateReportStatusRequest(ReportStatus.RESOLVED))))
+                    .andDo(print())
+                    .andExpect(status().isNoContent());
+
+            // then
+            assertThat(commentReportRepository.findByCommentId(comment.getId()))
+                    .extracting(CommentReport::getStatus)
+                    .containsOnly(ReportStatus.RESOLVED);
+            assertThat(isHidden(comment)).isTrue();
+
+            mockMvc.perform(get(ADMIN_REPORTS_URL)
+                            .with(withAuth(operatorUser))
+                            .with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(0));
+        }
+
+        @DisplayName("댓글별 신고 반려 시 자동 가림이 해제된다")
+        @Test
+        void processReportsByComment_Dismissed_Unhides() throws Exception {
+            // given: 가려진 댓글
+            createAndSaveReport(comment, memberUser2, "신고 사유");
+            transactionTemplate.execute(status -> commentRepository.updateHidden(comment.getId(), true));
+
+            // when
+            mockMvc.perform(patch(ADMIN_COMMENT_REPORTS_URL, comment.getId())
+                            .with(withAuth(operatorUser))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new UpdateReportStatusRequest(ReportStatus.DISMISSED))))
+                    .andDo(print())
+                    .andExpect(status().isNoContent());
+
+            // then
+            assertThat(isHidden(comment)).isFalse();
+        }
+
+        @DisplayName("신고 승인으로 가려진 댓글은 이후 다른 신고를 반려해도 계속 가려진다")
+        @Test
+        void processReportsByComment_DismissedAfterResolved_KeepsHidden() throws Exception {
+            // given: 첫 신고 승인으로 가려진 댓글에 새 신고 접수
+            CommentReport resolvedReport = createAndSaveReport(comment, memberUser2, "첫 번째 신고");
+            mockMvc.perform(patch(ADMIN_REPORT_URL, resolvedReport.getId())
+                            .with(withAuth(operatorUser))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new UpdateReportStatusRequest(ReportStatus.RESOLVED))))
+                    .andExpect(status().isNoContent());
+            assertThat(isHidden(comment)).isTrue();
+            createAndSaveReport(comment, operatorUser, "두 번째 신고");
+
+            // when
+            mockMvc.perform(patch(ADMIN_COMMENT_REPORTS_URL, comment.getId())
+                            .with(withAuth(operatorUser))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new UpdateReportStatusRequest(ReportStatus.DISMISSED))))
+                    .andDo(print())
+                    .andExpect(status().isNoContent());
+
+            // then
+            assertThat(isHidden(comment)).isTrue();
+        }
+
+        @DisplayName("대기 중인 신고가 없는 댓글에 반려 요청이 와도 가림 여부는 바뀌지 않는다")
+        @Test
+        void processReportsByComment_DismissedWithoutPending_KeepsHidden() throws Exception {
+            // given: 이미 처리가 끝나 대기 신고가 없는 가려진 댓글
+            transactionTemplate.execute(status -> commentRepository.updateHidden(comment.getId(), true));
+
+            // when
+            mockMvc.perform(patch(ADMIN_COMMENT_REPORTS_URL, comment.getId())
+                            .with(withAuth(operatorUser))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new UpdateReportStatusRequest(ReportStatus.DISMISSED))))
+                    .andDo(print())
+                    .andExpect(status().isNoContent());
+
+            // then
+            assertThat(isHidden(comment)).isTrue();
+        }
+
+        @DisplayName("존재하지 않는 댓글의 신고 일괄 처리 시 404 Not Found")
+        @Test
+        void processReportsByComment_NonExistentComment_Returns404() throws Exception {
+            mockMvc.perform(patch(ADMIN_COMMENT_REPORTS_URL, 99999L)
+                            .with(withAuth(operatorUser))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new UpdateReportStatusRequest(ReportStatus.RESOLVED))))
+                    .andDo(print())
+                    .andExpect(status().isNotFound());
+        }
+
+        @DisplayName("정회원 댓글별 신고 처리 시 403 Forbidden")
+        @Test
+        void processReportsByComment_AsMember_Returns403() throws Exception {
+            mockMvc.perform(patch(ADMIN_COMMENT_REPORTS_URL, comment.getId())
+                            .with(withAuth(memberUser))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new UpdateReportStatusRequest(ReportStatus.RESOLVED))))
+                    .andDo(print())
+                    .andExpect(status().isForbidden());
+        }
+    }
 }
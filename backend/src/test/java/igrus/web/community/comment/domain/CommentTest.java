@@ -37,7 +37,8 @@ class CommentTest {
             // then
             assertThat(comment).isNotNull();
             assertThat(comment.getPost()).isEqualTo(post);
-            assertThat(comment.getAuthor()).isEqualTo(author);
+            assertThat(comment.getAuthor().getId()).isEqualTo(author.getId());
+            assertThat(comment.getAuthor().getDisplayName()).isEqualTo(author.getName());
             assertThat(comment.getContent()).isEqualTo(content);
             assertThat(comment.isAnonymous()).isFalse();
             assertThat(comment.isReply()).isFalse();
@@ -0,0 +1,143 @@
+package igrus.web.community.comment.integration;
+
+import igrus.web.common.ServiceIntegrationTestBase;
+import igrus.web.community.board.domain.Board;
+import igrus.web.community.board.domain.BoardCode;
+import igrus.web.community.board.repository.BoardRepository;
+import igrus.web.community.comment.domain.Comment;
+import igrus.web.community.comment.dto.response.CommentListResponse;
+import igrus.web.community.comment.repository.CommentRepository;
+import igrus.web.community.comment.service.CommentService;
+import igrus.web.community.like.comment_like.domain.CommentLike;
+import igrus.web.community.like.comment_like.repository.CommentLikeRepository;
+import igrus.web.community.post.domain.Post;
+import igrus.web.community.post.repository.PostRepository;
+import igrus.web.user.domain.User;
+import igrus.web.user.domain.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 목록 조회 쿼리 수 회귀 테스트.
+ *
+ * <p>댓글/대댓글/작성자/좋아요 수가 늘어나도 댓글 목록 조회의 SQL 문 수가 일정한지 검증합니다.
+ * (게시글 존재 확인, 최상위 댓글, 대댓글, 좋아요 수, 내가 좋아요한 댓글 ID)
+ *
+ * <p>테스트 시나리오:
+ * <ul>
+ *     <li>QRY-001: 로그인 사용자의 댓글 목록 조회는 댓글 수와 무관하게 5개 이하의 SQL 문으로 처리</li>
+ *     <li>QRY-002: 비로그인 사용자의 댓글 목록 조회는 4개 이하의 SQL 문으로 처리</li>
+ * </ul>
+ */
+@DisplayName("댓글 목록 조회 쿼리 수 통합 테스트")
+class CommentQueryCountIntegrationTest extends ServiceIntegrationTestBase {
+
+    private static final int REPLIES_PER_COMMENT = 3;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
+    @Autowired
+    private CommentService commentService;
+
+    private List<User> authors;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        setUpBase();
+        authors = List.of(
+                createAndSaveUser("20200001", "author1@inha.edu", UserRole.MEMBER),
+                createAndSaveUser("20200002", "author2@inha.edu", UserRole.MEMBER),
+                createAndSaveUser("20200003", "author3@inha.edu", UserRole.MEMBER));
+
+        Board board = boardRepository.save(
+                Board.create(BoardCode.GENERAL, "자유게시판", "자유롭게 이야기를 나눌 수 있는 공간입니다.", true, true, 2));
+        post = postRepository.save(Post.createPost(board, authors.get(0), "게시글", "내용"));
+    }
+
+    /**
+     * 최상위 댓글마다 서로 다른 작성자의 대댓글과 좋아요를 만듭니다.
+     */
+    private void createThreads(int topLevelCount) {
+        for (int i = 0; i < topLevelCount; i++) {
+            User author = authors.get(i % authors.size());
+            Comment parent = commentRepository.save(Comment.createComment(post, author, "댓글" + i, false));
+            commentLikeRepository.save(CommentLike.create(parent, authors.get((i + 1) % authors.size())));
+
+            for (int j = 0; j < REPLIES_PER_COMMENT; j++) {
+                User replyAuthor = authors.get((i + j) % authors.size());
+                Comment reply = commentRepository.save(
+                        Comment.createReply(post, parent, replyAuthor, "대댓글" + i + "-" + j, false));
+                commentLikeRepository.save(CommentLike.create(reply, authors.get(0)));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("댓글 목록 조회")
+    class GetCommentsTest {
+
+        @DisplayName("QRY-001: 로그인 사용자의 댓글 목록 조회는 댓글이 적을 때 5개 이하의 SQL 문으로 처리된다")
+        @Test
+        void getComments_LoggedInWithFewComments_BoundedStatements() {
+            // given
+            createThreads(1);
+
+            // when
+            CommentListResponse response = assertQueryCount(5, () ->
+                    commentService.getCommentsByPostId(post.getId(), authors.get(0).getId(), null, 20));
+
+            // then
+            assertThat(response.getComments()).hasSize(1);
+        }
+
+        @DisplayName("QRY-001: 로그인 사용자의 댓글 목록 조회는 댓글이 많아도 5개 이하의 SQL 문으로 처리된다")
+        @Test
+        void getComments_LoggedInWithManyComments_BoundedStatements() {
+            // given: 한 페이지(20개)를 넘는 최상위 댓글과 대댓글, 좋아요
+            createThreads(30);
+
+            // when
+            CommentListResponse response = assertQueryCount(5, () ->
+                    commentService.getCommentsByPostId(post.getId(), authors.get(0).getId(), null, 20));
+
+            // then
+            assertThat(response.getComments()).hasSize(20);
+            assertThat(response.getComments()).allSatisfy(thread -> {
+                assertThat(thread.getReplies()).hasSize(REPLIES_PER_COMMENT);
+                assertThat(thread.getLikeCount()).isEqualTo(1);
+            });
+        }
+
+        @DisplayName("QRY-002: 비로그인 사용자의 댓글 목록 조회는 댓글이 많아도 4개 이하의 SQL 문으로 처리된다")
+        @Test
+        void getComments_AnonymousWithManyComments_BoundedStatements() {
+            // given
+            createThreads(30);
+
+            // when
+            CommentListResponse response = assertQueryCount(4, () ->
+                    commentService.getCommentsByPostId(post.getId(), null, null, 20));
+
+            // then
+            assertThat(response.getComments()).hasSize(20);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package igrus.web.community.comment.service;
 
+import igrus.web.common.exception.ErrorCode;
+import igrus.web.common.pagination.CreatedAtCursor;
+import igrus.web.common.pagination.CursorPageResponse;
 import igrus.web.community.board.domain.Board;
 import igrus.web.community.comment.domain.Comment;
 import igrus.web.community.comment.domain.CommentReport;
@@ -7,6 +10,7 @@ import igrus.web.community.comment.domain.ReportStatus;
 import igrus.web.community.comment.dto.request.CreateCommentReportRequest;
 import igrus.web.community.comment.dto.request.UpdateReportStatusRequest;
 import igrus.web.community.comment.dto.response.CommentReportResponse;
+import igrus.web.community.comment.dto.response.ReportedCommentResponse;
 import igrus.web.community.comment.exception.CommentNotFoundException;
 import igrus.web.community.comment.exception.CommentReportException;
 import igrus.web.community.comment.repository.CommentReportRepository;
@@ -22,7 +26,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,9 +41,13 @@ import static igrus.web.community.fixture.PostTestFixture.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * CommentReportService 단위 테스트.
@@ -47,6 +58,8 @@ import static org.mockito.Mockito.verify;
  *     <li>CMT-051: 동일 댓글 중복 신고 방지</li>
  *     <li>CMT-052: 관리자 신고 검토 대기열 확인</li>
  *     <li>CMT-053: 관리자 신고 처리</li>
+ *     <li>CMT-054: 신고 누적 시 댓글 자동 가림</li>
+ *     <li>CMT-055: 댓글별 신고 일괄 처리</li>
  * </ul>
  */
 @ExtendWith(MockitoExtension.class)
@@ -72,8 +85,11 @@ class CommentReportServiceTest {
     private Post post;
     private Comment targetComment;
 
+    private static final int AUTO_HIDE_THRESHOLD = 5;
+
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(commentReportService, "autoHideThreshold", AUTO_HIDE_THRESHOLD);
         generalBoard = generalBoard();
         memberUser = createMemberWithId();
         anotherMember = createAnotherMemberWithId();
@@ -109,6 +125,30 @@ class CommentReportServiceTest {
             assertThat(response.getReason()).isEqualTo("신고 사유입니다.");
             assertThat(response.getStatus()).isEqualTo(ReportStatus.PENDING);
             verify(commentReportRepository).save(any(CommentReport.class));
+            verify(commentRepository).refreshReportPendingSince(targetComment.getId(), ReportStatus.PENDING);
+        }
+
+        @Test
+        @DisplayName("CMT-054: 신고 접수 후 대기 중인 신고 수가 임계값 이상이면 댓글을 가린다")
+        void reportComment_hidesCommentWhenThresholdReached() {
+            // given
+            CreateCommentReportRequest request = new CreateCommentReportRequest("신고 사유입니다.");
+            given(commentRepository.findById(targetComment.getId())).willReturn(Optional.of(targetComment));
+            given(userRepository.findById(anotherMember.getId())).willReturn(Optional.of(anotherMember));
+            given(commentReportRepository.existsByCommentIdAndReporterId(targetComment.getId(), anotherMember.getId()))
+                    .willReturn(false);
+            given(commentReportRepository.save(any(CommentReport.class))).willAnswer(invocation -> {
+                CommentReport report = invocation.getArgument(0);
+                return withId(report, 1L);
+            });
+            given(commentRepository.hideIfReportedAtLeast(targetComment.getId(), ReportStatus.PENDING, AUTO_HIDE_THRESHOLD))
+                    .willReturn(1);
+
+            // when
+            commentReportService.reportComment(targetComment.getId(), request, anotherMember.getId());
+
+            // then: 신고 수 확인과 가림을 한 번의 UPDATE로 처리
+            verify(commentRepository).hideIfReportedAtLeast(targetComment.getId(), ReportStatus.PENDING, AUTO_HIDE_THRESHOLD);
         }
 
         @Test
@@ -125,6 +165,7 @@ class CommentReportServiceTest {
             assertThatThrownBy(() -> commentReportService.reportComment(
                     targetComment.getId(), request, anotherMember.getId()))
                     .isInstanceOf(CommentReportException.class);
+            verify(commentRepository, never()).hideIfReportedAtLeast(anyLong(), any(), anyLong());
         }
 
         @Test
@@ -141,20 +182,78 @@ class CommentReportServiceTest {
     }
 
     @Nested
-    @DisplayName("신고 목록 조회")
-    class GetPendingReports {
+    @DisplayName("신고 검토 대기열 조회")
+    class GetModerationQueue {
+
+        @Test
+        @DisplayName("CMT-052: 대기 중인 신고를 댓글 단위로 묶어 신고 수와 함께 조회")
+        void getModerationQueue_success() {
+            // given
+            Comment otherComment = comment(post, anotherMember, 200L);
+            Instant firstReportedAt = Instant.parse("2026-01-01T00:00:00Z");
+            given(commentReportRepository.findModerationQueue(eq(ReportStatus.PENDING), any(Pageable.class)))
+                    .willReturn(List.of(
+                            reportedCommentRow(targetComment, 3, firstReportedAt),
+                            reportedCommentRow(otherComment, 1, firstReportedAt.plusSeconds(60))));
+
+            // when
+            CursorPageResponse<ReportedCommentResponse> response = commentReportService.getModerationQueue(null, 20);
+
+            // then
+            assertThat(response.content()).hasSize(2);
+            assertThat(response.content().get(0).getCommentId()).isEqualTo(targetComment.getId());
+            assertThat(response.content().get(0).getReportCount()).isEqualTo(3L);
+            assertThat(response.content().get(1).getCommentId()).isEqualTo(otherComment.getId());
+            assertThat(response.hasNext()).isFalse();
+            assertThat(response.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("요청 크기보다 많으면 다음 페이지 커서를 반환하고, 커서로 다음 페이지를 조회")
+        void getModerationQueue_pagination() {
+            // given
+            Comment otherComment = comment(post, anotherMember, 200L);
+            Instant firstReportedAt = Instant.parse("2026-01-01T00:00:00Z");
+            given(commentReportRepository.findModerationQueue(eq(ReportStatus.PENDING), any(Pageable.class)))
+                    .willReturn(List.of(
+                            reportedCommentRow(targetComment, 3, firstReportedAt),
+                            reportedCommentRow(otherComment, 1, firstReportedAt.plusSeconds(60))));
+
+            // when
+            CursorPageResponse<ReportedCommentResponse> first = commentReportService.getModerationQueue(null, 1);
+
+            // then
+            assertThat(first.content()).hasSize(1);
+            assertThat(first.hasNext()).isTrue();
+            assertThat(first.nextCursor())
+                    .isEqualTo(CreatedAtCursor.of(firstReportedAt, targetComment.getId()).encode());
+
+            // given: 커서 이후 페이지
+            given(commentReportRepository.findModerationQueueAfter(
+                    eq(ReportStatus.PENDING), eq(firstReportedAt), eq(targetComment.getId()), any(Pageable.class)))
+                    .willReturn(List.of(reportedCommentRow(otherComment, 1, firstReportedAt.plusSeconds(60))));
+
+            // when
+            CursorPageResponse<ReportedCommentResponse> second =
+                    commentReportService.getModerationQueue(first.nextCursor(), 1);
+
+            // then
+            assertThat(second.content()).extracting(ReportedCommentResponse::getCommentId)
+                    .containsExactly(otherComment.getId());
+            assertThat(second.hasNext()).isFalse();
+        }
 
         @Test
-        @DisplayName("CMT-052: 대기 중인 신고 목록 조회 성공")
-        void getPendingReports_success() {
+        @DisplayName("특정 댓글의 대기 중인 신고 목록 조회")
+        void getPendingReportsByComment_success() {
             // given
             CommentReport report1 = withId(createCommentReport(targetComment, anotherMember), 1L);
-            CommentReport report2 = withId(createCommentReport(targetComment, anotherMember), 2L);
-            given(commentReportRepository.findByStatus(ReportStatus.PENDING))
+            CommentReport report2 = withId(createCommentReport(targetComment, operatorUser), 2L);
+            given(commentReportRepository.findByCommentIdAndStatusWithReporter(targetComment.getId(), ReportStatus.PENDING))
                     .willReturn(List.of(report1, report2));
 
             // when
-            List<CommentReportResponse> responses = commentReportService.getPendingReports();
+            List<CommentReportResponse> responses = commentReportService.getPendingReportsByComment(targetComment.getId());
 
             // then
             assertThat(responses).hasSize(2);
@@ -181,6 +280,8 @@ class CommentReportServiceTest {
             // then
             assertThat(report.getStatus()).isEqualTo(ReportStatus.RESOLVED);
             assertThat(report.getResolvedBy()).isEqualTo(operatorUser);
+            verify(commentRepository).updateHidden(targetComment.getId(), true);
+            verify(commentRepository).refreshReportPendingSince(targetComment.getId(), ReportStatus.PENDING);
         }
 
         @Test
@@ -195,8 +296,29 @@ class CommentReportServiceTest {
             // when
             commentReportService.updateReportStatus(1L, request, operatorUser.getId());
 
-            // then
+            // then: 자동 가림만 해제
             assertThat(report.getStatus()).isEqualTo(ReportStatus.DISMISSED);
+            verify(commentRepository).unhideIfOnlyAutoHidden(
+                    targetComment.getId(), ReportStatus.RESOLVED, ReportStatus.PENDING, AUTO_HIDE_THRESHOLD);
+            verify(commentRepository, never()).updateHidden(anyLong(), anyBoolean());
+        }
+
+        @Test
+        @DisplayName("이미 처리된 신고를 다시 처리하면 댓글 가림 여부를 바꾸지 않는다")
+        void updateReportStatus_alreadyProcessed_keepsVisibility() {
+            // given: 이미 승인된 신고
+            CommentReport report = withId(createCommentReport(targetComment, anotherMember), 1L);
+            report.resolve(operatorUser);
+            UpdateReportStatusRequest request = new UpdateReportStatusRequest(ReportStatus.DISMISSED);
+            given(commentReportRepository.findById(1L)).willReturn(Optional.of(report));
+            given(userRepository.findById(operatorUser.getId())).willReturn(Optional.of(operatorUser));
+
+            // when
+            commentReportService.updateReportStatus(1L, request, operatorUser.getId());
+
+            // then
+            verify(commentRepository, never()).updateHidden(anyLong(), anyBoolean());
+            verify(commentRepository, never()).unhideIfOnlyAutoHidden(anyLong(), any(), any(), anyLong());
         }
 
         @Test
@@ -211,4 +333,97 @@ class CommentReportServiceTest {
                     .isInstanceOf(CommentReportException.class);
         }
     }
+
+    @Nested
+    @DisplayName("댓글별 신고 일괄 처리")
+    class ProcessReportsByComment {
+
+        @Test
+        @DisplayName("CMT-055: 승인 시 대기 중인 신고를 일괄 승인하고 댓글을 가린다")
+        void processReportsByComment_resolved_hidesComment() {
+            // given
+            UpdateReportStatusRequest request = new UpdateReportStatusRequest(ReportStatus.RESOLVED);
+            given(commentRepository.existsById(targetComment.getId())).willReturn(true);
+            given(userRepository.findById(operatorUser.getId())).willReturn(Optional.of(operatorUser));
+            given(commentReportRepository.resolvePendingByCommentId(
+                    eq(targetComment.getId()), eq(ReportStatus.RESOLVED), eq(operatorUser), any(Instant.class)))
+                    .willReturn(3);
+
+            // when
+            commentReportService.processReportsByComment(targetComment.getId(), request, operatorUser.getId());
+
+            // then
+            verify(commentReportRepository).resolvePendingByCommentId(
+                    eq(targetComment.getId()), eq(ReportStatus.RESOLVED), eq(operatorUser), any(Instant.class));
+            verify(commentRepository).updateHidden(targetComment.getId(), true);
+            verify(commentRepository).refreshReportPendingSince(targetComment.getId(), ReportStatus.PENDING);
+        }
+
+        @Test
+        @DisplayName("반려 시 대기 중인 신고를 일괄 반려하고 자동 가림을 해제한다")
+        void processReportsByComment_dismissed_unhidesComment() {
+            // given
+            UpdateReportStatusRequest request = new UpdateReportStatusRequest(ReportStatus.DISMISSED);
+            given(commentRepository.existsById(targetComment.getId())).willReturn(true);
+            given(userRepository.findById(operatorUser.getId())).willReturn(Optional.of(operatorUser));
+            given(commentReportRepository.resolvePendingByCommentId(
+                    eq(targetComment.getId()), eq(ReportStatus.DISMISSED), eq(operatorUser), any(Instant.class)))
+                    .willReturn(2);
+
+            // when
+            commentReportService.processReportsByComment(targetComment.getId(), request, operatorUser.getId());
+
+            // then: 승인된 신고가 없을 때만 풀리도록 조건부 UPDATE로 위임
+            verify(commentRepository).unhideIfOnlyAutoHidden(
+                    targetComment.getId(), ReportStatus.RESOLVED, ReportStatus.PENDING, AUTO_HIDE_THRESHOLD);
+            verify(commentRepository, never()).updateHidden(anyLong(), anyBoolean());
+            verify(commentRepository).refreshReportPendingSince(targetComment.getId(), ReportStatus.PENDING);
+        }
+
+        @Test
+        @DisplayName("처리할 대기 신고가 없으면 댓글 가림 여부를 바꾸지 않는다")
+        void processReportsByComment_noPendingReports_keepsVisibility() {
+            // given: 중복 또는 늦게 도착한 반려 요청
+            UpdateReportStatusRequest request = new UpdateReportStatusRequest(ReportStatus.DISMISSED);
+            given(commentRepository.existsById(targetComment.getId())).willReturn(true);
+            given(userRepository.findById(operatorUser.getId())).willReturn(Optional.of(operatorUser));
+            given(commentReportRepository.resolvePendingByCommentId(
+                    eq(targetComment.getId()), eq(ReportStatus.DISMISSED), eq(operatorUser), any(Instant.class)))
+                    .willReturn(0);
+
+            // when
+            commentReportService.processReportsByComment(targetComment.getId(), request, operatorUser.getId());
+
+            // then
+            verify(commentRepository, never()).updateHidden(anyLong(), anyBoolean());
+            verify(commentRepository, never()).unhideIfOnlyAutoHidden(anyLong(), any(), any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("PENDING 상태 요청은 CommentReportException(INVALID_INPUT_VALUE)이 발생하고 아무것도 변경하지 않는다")
+        void processReportsByComment_pending_rejected() {
+            // given
+            UpdateReportStatusRequest request = new UpdateReportStatusRequest(ReportStatus.PENDING);
+
+            // when & then
+            assertThatThrownBy(() -> commentReportService.processReportsByComment(
+                    targetComment.getId(), request, operatorUser.getId()))
+                    .isInstanceOf(CommentReportException.class)
+                    .extracting(e -> ((CommentReportException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+            verifyNoInteractions(commentReportRepository, commentRepository);
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 댓글의 신고 처리 시 CommentNotFoundException 발생")
+        void processReportsByComment_commentNotFound() {
+            // given
+            UpdateReportStatusRequest request = new UpdateReportStatusRequest(ReportStatus.RESOLVED);
+            given(commentRepository.existsById(999L)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> commentReportService.processReportsByComment(999L, request, operatorUser.getId()))
+                    .isInstanceOf(CommentNotFoundException.class);
+        }
+    }
 }
@@ -1,18 +1,23 @@
 package igrus.web.community.comment.service;
 
+import igrus.web.common.exception.InvalidCursorException;
+import igrus.web.common.pagination.CreatedAtCursor;
 import igrus.web.community.board.domain.Board;
 import igrus.web.community.comment.domain.Comment;
 import igrus.web.community.comment.dto.request.CreateCommentRequest;
 import igrus.web.community.comment.dto.response.CommentListResponse;
 import igrus.web.community.comment.dto.response.CommentResponse;
+import igrus.web.community.comment.dto.response.CommentWithRepliesResponse;
 import igrus.web.community.comment.exception.CommentAccessDeniedException;
 import igrus.web.community.comment.exception.CommentNotFoundException;
 import igrus.web.community.comment.exception.InvalidCommentException;
+import igrus.web.community.like.comment_like.repository.CommentLikeCountProjection;
 import igrus.web.community.like.comment_like.repository.CommentLikeRepository;
 import igrus.web.community.comment.repository.CommentRepository;
 import igrus.web.community.post.domain.Post;
 import igrus.web.community.post.exception.PostNotFoundException;
 import igrus.web.community.post.repository.PostRepository;
+import igrus.web.community.post.service.PostCounterService;
 import igrus.web.user.domain.User;
 import igrus.web.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,7 +28,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,9 +42,13 @@ import static igrus.web.community.fixture.PostTestFixture.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 /**
  * CommentService 단위 테스트.
@@ -73,6 +84,9 @@ class CommentServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PostCounterService postCounterService;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -117,6 +131,7 @@ class CommentServiceTest {
             assertThat(response.getContent()).isEqualTo(DEFAULT_COMMENT_CONTENT);
             assertThat(response.isAnonymous()).isFalse();
             verify(commentRepository).save(any(Comment.class));
+            verify(postCounterService).incrementCommentCount(post.getId());
         }
 
         @Test
@@ -208,6 +223,7 @@ class CommentServiceTest {
             assertThat(response).isNotNull();
             assertThat(response.getParentCommentId()).isEqualTo(parentComment.getId());
             verify(commentRepository).save(any(Comment.class));
+            verify(postCounterService).incrementCommentCount(post.getId());
         }
 
         @Test
@@ -247,6 +263,8 @@ class CommentServiceTest {
     @DisplayName("댓글 조회")
     class GetComments {
 
+        private static final int PAGE_SIZE = 2;
+
         @Test
         @DisplayName("CMT-020: 게시글의 댓글 계층 구조로 조회")
         void getComments_hierarchical() {
@@ -256,19 +274,146 @@ class CommentServiceTest {
             Comment reply1 = reply(post, comment1, anotherMember);
 
             given(postRepository.existsById(post.getId())).willReturn(true);
-            given(commentRepository.findByPostIdOrderByCreatedAtAsc(post.getId()))
-                    .willReturn(List.of(comment1, comment2, reply1));
-            given(commentLikeRepository.countByCommentId(anyLong())).willReturn(0L);
-            given(commentLikeRepository.existsByCommentIdAndUserId(anyLong(), anyLong())).willReturn(false);
-            given(commentRepository.countByPostIdAndNotDeleted(post.getId())).willReturn(3L);
+            given(commentRepository.findTopLevelByPostId(eq(post.getId()), any(Pageable.class)))
+                    .willReturn(List.of(comment1, comment2));
+            given(commentRepository.findRepliesByParentCommentIds(List.of(1L, 2L))).willReturn(List.of(reply1));
+            given(commentLikeRepository.countByCommentIds(anyCollection())).willReturn(List.of());
+            given(commentLikeRepository.findLikedCommentIds(eq(memberUser.getId()), anyCollection())).willReturn(List.of());
 
             // when
-            CommentListResponse response = commentService.getCommentsByPostId(post.getId(), memberUser.getId());
+            CommentListResponse response = commentService.getCommentsByPostId(post.getId(), memberUser.getId(), null, PAGE_SIZE);
 
             // then
-            assertThat(response).isNotNull();
             assertThat(response.getComments()).hasSize(2); // 부모 댓글 2개
-            assertThat(response.getTotalCount()).isEqualTo(3L);
+            assertThat(response.getComments().get(0).getReplies()).hasSize(1);
+            assertThat(response.getComments().get(1).getReplies()).isEmpty();
+            assertThat(response.isHasNext()).isFalse();
+            assertThat(response.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("요청 크기보다 최상위 댓글이 많으면 다음 페이지 커서 반환")
+        void getComments_hasNext_returnsCursorOfLastComment() {
+            // given
+            Instant createdAt = Instant.parse("2026-01-01T00:00:00Z");
+            Comment comment1 = comment(post, memberUser, 1L);
+            Comment comment2 = comment(post, memberUser, 2L);
+            Comment comment3 = comment(post, memberUser, 3L);
+            setField(comment2, "createdAt", createdAt);
+
+            given(postRepository.existsById(post.getId())).willReturn(true);
+            given(commentRepository.findTopLevelByPostId(eq(post.getId()), any(Pageable.class)))
+                    .willReturn(List.of(comment1, comment2, comment3));
+            given(commentRepository.findRepliesByParentCommentIds(List.of(1L, 2L))).willReturn(List.of());
+            given(commentLikeRepository.countByCommentIds(anyCollection())).willReturn(List.of());
+
+            // when
+            CommentListResponse response = commentService.getCommentsByPostId(post.getId(), null, null, PAGE_SIZE);
+
+            // then
+            assertThat(response.getComments()).extracting(CommentWithRepliesResponse::getId).containsExactly(1L, 2L);
+            assertThat(response.isHasNext()).isTrue();
+            assertThat(CreatedAtCursor.decode(response.getNextCursor())).isEqualTo(CreatedAtCursor.of(createdAt, 2L));
+        }
+
+        @Test
+        @DisplayName("커서가 있으면 커서 이후 최상위 댓글 조회")
+        void getComments_withCursor_queriesAfterCursor() {
+            // given
+            Instant createdAt = Instant.parse("2026-01-01T00:00:00Z");
+            String cursor = CreatedAtCursor.of(createdAt, 2L).encode();
+            Comment comment3 = comment(post, memberUser, 3L);
+
+            given(postRepository.existsById(post.getId())).willReturn(true);
+            given(commentRepository.findTopLevelByPostIdAfter(eq(post.getId()), eq(createdAt), eq(2L), any(Pageable.class)))
+                    .willReturn(List.of(comment3));
+            given(commentRepository.findRepliesByParentCommentIds(List.of(3L))).willReturn(List.of());
+            given(commentLikeRepository.countByCommentIds(anyCollection())).willReturn(List.of());
+
+            // when
+            CommentListResponse response = commentService.getCommentsByPostId(post.getId(), null, cursor, PAGE_SIZE);
+
+            // then
+            assertThat(response.getComments()).extracting(CommentWithRepliesResponse::getId).containsExactly(3L);
+            assertThat(response.isHasNext()).isFalse();
+            verify(commentRepository, never()).findTopLevelByPostId(anyLong(), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("좋아요 수와 좋아요 여부를 댓글/대댓글 전체에 대해 한 번씩 조회하여 매핑")
+        void getComments_likesBatchLoaded() {
+            // given
+            Comment comment1 = comment(post, memberUser, 1L);
+            Comment reply1 = reply(post, comment1, anotherMember);
+
+            given(postRepository.existsById(post.getId())).willReturn(true);
+            given(commentRepository.findTopLevelByPostId(eq(post.getId()), any(Pageable.class)))
+                    .willReturn(List.of(comment1));
+            given(commentRepository.findRepliesByParentCommentIds(List.of(1L))).willReturn(List.of(reply1));
+            given(commentLikeRepository.countByCommentIds(List.of(1L, DEFAULT_REPLY_ID)))
+                    .willReturn(List.of(likeCount(1L, 3L), likeCount(DEFAULT_REPLY_ID, 1L)));
+            given(commentLikeRepository.findLikedCommentIds(memberUser.getId(), List.of(1L, DEFAULT_REPLY_ID)))
+                    .willReturn(List.of(DEFAULT_REPLY_ID));
+
+            // when
+            CommentListResponse response = commentService.getCommentsByPostId(post.getId(), memberUser.getId(), null, PAGE_SIZE);
+
+            // then
+            CommentWithRepliesResponse parent = response.getComments().get(0);
+            assertThat(parent.getLikeCount()).isEqualTo(3L);
+            assertThat(parent.isLikedByMe()).isFalse();
+            assertThat(parent.getReplies().get(0).getLikeCount()).isEqualTo(1L);
+            assertThat(parent.getReplies().get(0).isLikedByMe()).isTrue();
+            verify(commentLikeRepository, never()).countByCommentId(anyLong());
+            verify(commentLikeRepository, never()).existsByCommentIdAndUserId(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("비로그인 사용자는 좋아요 여부를 조회하지 않음")
+        void getComments_anonymousViewer_skipsLikedQuery() {
+            // given
+            Comment comment1 = comment(post, memberUser, 1L);
+
+            given(postRepository.existsById(post.getId())).willReturn(true);
+            given(commentRepository.findTopLevelByPostId(eq(post.getId()), any(Pageable.class)))
+                    .willReturn(List.of(comment1));
+            given(commentRepository.findRepliesByParentCommentIds(List.of(1L))).willReturn(List.of());
+            given(commentLikeRepository.countByCommentIds(anyCollection())).willReturn(List.of());
+
+            // when
+            CommentListResponse response = commentService.getCommentsByPostId(post.getId(), null, null, PAGE_SIZE);
+
+            // then
+            assertThat(response.getComments().get(0).isLikedByMe()).isFalse();
+            verify(commentLikeRepository, never()).findLikedCommentIds(anyLong(), anyCollection());
+        }
+
+        @Test
+        @DisplayName("최상위 댓글이 없으면 대댓글/좋아요를 조회하지 않고 빈 목록 반환")
+        void getComments_empty_skipsFollowUpQueries() {
+            // given
+            given(postRepository.existsById(post.getId())).willReturn(true);
+            given(commentRepository.findTopLevelByPostId(eq(post.getId()), any(Pageable.class))).willReturn(List.of());
+
+            // when
+            CommentListResponse response = commentService.getCommentsByPostId(post.getId(), memberUser.getId(), null, PAGE_SIZE);
+
+            // then
+            assertThat(response.getComments()).isEmpty();
+            assertThat(response.isHasNext()).isFalse();
+            verify(commentRepository, never()).findRepliesByParentCommentIds(anyCollection());
+            verify(commentLikeRepository, never()).countByCommentIds(anyCollection());
+        }
+
+        @Test
+        @DisplayName("잘못된 커서로 조회 시 InvalidCursorException 발생")
+        void getComments_invalidCursor() {
+            // given
+            given(postRepository.existsById(post.getId())).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> commentService.getCommentsByPostId(post.getId(), memberUser.getId(), "invalid", PAGE_SIZE))
+                    .isInstanceOf(InvalidCursorException.class);
         }
 
         @Test
@@ -278,9 +423,23 @@ class CommentServiceTest {
             given(postRepository.existsById(anyLong())).willReturn(false);
 
             // when & then
-            assertThatThrownBy(() -> commentService.getCommentsByPostId(999L, memberUser.getId()))
+            assertThatThrownBy(() -> commentService.getCommentsByPostId(999L, memberUser.getId(), null, PAGE_SIZE))
                     .isInstanceOf(PostNotFoundException.class);
         }
+
+        private CommentLikeCountProjection likeCount(Long commentId, long count) {
+            return new CommentLikeCountProjection() {
+                @Override
+                public Long getCommentId() {
+                    return commentId;
+                }
+
+                @Override
+                public Long getLikeCount() {
+                    return count;
+                }
+            };
+        }
     }
 
     @Nested
@@ -294,12 +453,32 @@ class CommentServiceTest {
             Comment targetComment = comment(post, memberUser);
             given(commentRepository.findById(targetComment.getId())).willReturn(Optional.of(targetComment));
             given(userRepository.findById(memberUser.getId())).willReturn(Optional.of(memberUser));
+            given(commentRepository.softDeleteIfActive(eq(targetComment.getId()), eq(memberUser.getId()), any(Instant.class)))
+                    .willReturn(1);
+
+            // when
+            commentService.deleteComment(post.getId(), targetComment.getId(), memberUser.getId());
+
+            // then
+            verify(commentRepository).softDeleteIfActive(eq(targetComment.getId()), eq(memberUser.getId()), any(Instant.class));
+            verify(postCounterService).decrementCommentCount(post.getId());
+        }
+
+        @Test
+        @DisplayName("이미 삭제된 댓글(다른 요청이 먼저 삭제한 경우 포함)을 다시 삭제하면 댓글 수를 감소시키지 않음")
+        void deleteComment_alreadyDeleted_doesNotDecrementCount() {
+            // given: 조회 시점에는 삭제되지 않았지만 조건부 UPDATE 시점에는 이미 삭제됨
+            Comment targetComment = comment(post, memberUser);
+            given(commentRepository.findById(targetComment.getId())).willReturn(Optional.of(targetComment));
+            given(userRepository.findById(memberUser.getId())).willReturn(Optional.of(memberUser));
+            given(commentRepository.softDeleteIfActive(eq(targetComment.getId()), eq(memberUser.getId()), any(Instant.class)))
+                    .willReturn(0);
 
             // when
             commentService.deleteComment(post.getId(), targetComment.getId(), memberUser.getId());
 
             // then
-            assertThat(targetComment.isDeleted()).isTrue();
+            verify(postCounterService, never()).decrementCommentCount(anyLong());
         }
 
         @Test
@@ -314,6 +493,7 @@ class CommentServiceTest {
             assertThatThrownBy(() -> commentService.deleteComment(
                     post.getId(), targetComment.getId(), anotherMember.getId()))
                     .isInstanceOf(CommentAccessDeniedException.class);
+            verify(postCounterService, never()).decrementCommentCount(anyLong());
         }
 
         @Test
@@ -323,12 +503,14 @@ class CommentServiceTest {
             Comment targetComment = comment(post, memberUser);
             given(commentRepository.findById(targetComment.getId())).willReturn(Optional.of(targetComment));
             given(userRepository.findById(operatorUser.getId())).willReturn(Optional.of(operatorUser));
+            given(commentRepository.softDeleteIfActive(eq(targetComment.getId()), eq(operatorUser.getId()), any(Instant.class)))
+                    .willReturn(1);
 
             // when
             commentService.deleteComment(post.getId(), targetComment.getId(), operatorUser.getId());
 
             // then
-            assertThat(targetComment.isDeleted()).isTrue();
+            verify(postCounterService).decrementCommentCount(post.getId());
         }
 
         @Test
@@ -4,9 +4,12 @@ import igrus.web.community.comment.domain.Comment;
 import igrus.web.community.like.comment_like.domain.CommentLike;
 import igrus.web.community.comment.domain.CommentReport;
 import igrus.web.community.comment.dto.request.CreateCommentRequest;
+import igrus.web.community.comment.repository.ReportedCommentProjection;
 import igrus.web.community.post.domain.Post;
 import igrus.web.user.domain.User;
 
+import java.time.Instant;
+
 import static igrus.web.common.fixture.TestConstants.*;
 import static igrus.web.common.fixture.TestEntityIdAssigner.withId;
 
@@ -160,6 +163,73 @@ public final class CommentTestFixture {
         return CommentReport.create(comment, reporter, "신고 사유입니다.");
     }
 
+    /**
+     * 댓글 엔티티의 값과 지정한 신고 집계로 신고 검토 대기열 Projection을 생성합니다.
+     *
+     * @param comment         댓글
+     * @param reportCount     대기 중인 신고 수
+     * @param firstReportedAt 최초 신고 시각
+     * @return 신고 검토 대기열 Projection
+     */
+    public static ReportedCommentProjection reportedCommentRow(Comment comment, long reportCount, Instant firstReportedAt) {
+        return new ReportedCommentProjection() {
+            @Override
+            public Long getCommentId() {
+                return comment.getId();
+            }
+
+            @Override
+            public Long getPostId() {
+                return comment.getPost().getId();
+            }
+
+            @Override
+            public String getContent() {
+                return comment.getContent();
+            }
+
+            @Override
+            public Boolean getIsAnonymous() {
+                return comment.isAnonymous();
+            }
+
+            @Override
+            public Boolean getCommentDeleted() {
+                return comment.isDeleted();
+            }
+
+            @Override
+            public Boolean getHidden() {
+                return comment.isHidden();
+            }
+
+            @Override
+            public Long getAuthorId() {
+                return comment.getAuthor().getId();
+            }
+
+            @Override
+            public String getAuthorName() {
+                return comment.getAuthor().getName();
+            }
+
+            @Override
+            public Long getReportCount() {
+                return reportCount;
+            }
+
+            @Override
+            public Instant getFirstReportedAt() {
+                return firstReportedAt;
+            }
+
+            @Override
+            public Instant getLastReportedAt() {
+                return firstReportedAt;
+            }
+        };
+    }
+
     // ==================== CreateCommentRequest 생성 ====================
 
     /**
@@ -2,14 +2,22 @@ package igrus.web.community.fixture;
 
 import igrus.web.common.fixture.UserTestFixture;
 import igrus.web.community.board.domain.Board;
+import igrus.web.community.board.domain.BoardCode;
+import igrus.web.community.bookmark.repository.BookmarkedPostProjection;
+import igrus.web.community.like.post_like.repository.LikedPostProjection;
 import igrus.web.community.post.domain.Post;
+import igrus.web.community.post.domain.PostCounter;
 import igrus.web.community.post.dto.request.CreatePostRequest;
 import igrus.web.community.post.dto.request.UpdatePostRequest;
+import igrus.web.community.post.repository.PostListProjection;
+import igrus.web.user.domain.AuthorSnapshot;
 import igrus.web.user.domain.User;
+import igrus.web.user.domain.UserStatus;
 
 import igrus.web.common.fixture.TestConstants;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Instant;
 import java.util.List;
 
 import static igrus.web.common.fixture.TestConstants.*;
@@ -117,34 +125,34 @@ public final class PostTestFixture {
         return Post.createNotice(board, author, DEFAULT_POST_TITLE, DEFAULT_POST_CONTENT, true);
     }
 
-    // ==================== 탈퇴 사용자 게시글 생성 (author = null) ====================
+    // ==================== 탈퇴 사용자 게시글 생성 ====================
 
     /**
      * 탈퇴한 사용자의 일반 게시글을 생성합니다.
-     * author 필드를 null로 설정하여 탈퇴한 사용자를 시뮬레이션합니다.
+     * 작성자를 탈퇴 처리(WITHDRAWN + soft delete)된 사용자로 설정합니다.
      *
      * @param board 게시판
-     * @return author가 null인 일반 게시글
+     * @return 탈퇴한 작성자의 일반 게시글
      */
-    public static Post createNormalPostWithNullAuthor(Board board) {
-        User dummyAuthor = UserTestFixture.createMember();
-        Post post = Post.createPost(board, dummyAuthor, DEFAULT_POST_TITLE, DEFAULT_POST_CONTENT);
-        ReflectionTestUtils.setField(post, "author", null);
-        return post;
+    public static Post createNormalPostWithWithdrawnAuthor(Board board) {
+        return Post.createPost(board, withdrawnAuthor(), DEFAULT_POST_TITLE, DEFAULT_POST_CONTENT);
     }
 
     /**
      * 탈퇴한 사용자의 익명 게시글을 생성합니다.
-     * author 필드를 null로 설정하여 탈퇴한 사용자를 시뮬레이션합니다.
+     * 작성자를 탈퇴 처리(WITHDRAWN + soft delete)된 사용자로 설정합니다.
      *
      * @param board 게시판 (자유게시판이어야 함)
-     * @return author가 null인 익명 게시글
+     * @return 탈퇴한 작성자의 익명 게시글
      */
-    public static Post createAnonymousPostWithNullAuthor(Board board) {
-        User dummyAuthor = UserTestFixture.createMember();
-        Post post = Post.createAnonymousPost(board, dummyAuthor, DEFAULT_POST_TITLE, DEFAULT_POST_CONTENT);
-        ReflectionTestUtils.setField(post, "author", null);
-        return post;
+    public static Post createAnonymousPostWithWithdrawnAuthor(Board board) {
+        return Post.createAnonymousPost(board, withdrawnAuthor(), DEFAULT_POST_TITLE, DEFAULT_POST_CONTENT);
+    }
+
+    private static User withdrawnAuthor() {
+        User author = UserTestFixture.createWithdrawnMemberWithId();
+        author.delete(author.getId());
+        return author;
     }
 
     // ==================== Post 생성 (ID 포함) ====================
@@ -176,10 +184,10 @@ public final class PostTestFixture {
      * ID가 설정된 탈퇴한 사용자의 일반 게시글을 생성합니다.
      *
      * @param board 게시판
-     * @return ID가 설정된 author가 null인 일반 게시글
+     * @return ID가 설정된 탈퇴한 작성자의 일반 게시글
      */
-    public static Post normalPostWithNullAuthor(Board board) {
-        return withId(createNormalPostWithNullAuthor(board), DEFAULT_POST_ID);
+    public static Post normalPostWithWithdrawnAuthor(Board board) {
+        return withId(createNormalPostWithWithdrawnAuthor(board), DEFAULT_POST_ID);
     }
 
     /**
@@ -187,20 +195,20 @@ public final class PostTestFixture {
      *
      * @param board 게시판
      * @param id    설정할 ID
-     * @return ID가 설정된 author가 null인 일반 게시글
+     * @return ID가 설정된 탈퇴한 작성자의 일반 게시글
      */
-    public static Post normalPostWithNullAuthor(Board board, Long id) {
-        return withId(createNormalPostWithNullAuthor(board), id);
+    public static Post normalPostWithWithdrawnAuthor(Board board, Long id) {
+        return withId(createNormalPostWithWithdrawnAuthor(board), id);
     }
 
     /**
      * ID가 설정된 탈퇴한 사용자의 익명 게시글을 생성합니다.
      *
      * @param board 게시판 (자유게시판이어야 함)
-     * @return ID가 설정된 author가 null인 익명 게시글
+     * @return ID가 설정된 탈퇴한 작성자의 익명 게시글
      */
-    public static Post anonymousPostWithNullAuthor(Board board) {
-        return withId(createAnonymousPostWithNullAuthor(board), DEFAULT_POST_ID);
+    public static Post anonymousPostWithWithdrawnAuthor(Board board) {
+        return withId(createAnonymousPostWithWithdrawnAuthor(board), DEFAULT_POST_ID);
     }
 
     /**
@@ -248,6 +256,282 @@ public final class PostTestFixture {
         return withId(createNotice(board, author), DEFAULT_POST_ID);
     }
 
+    // ==================== PostListProjection 생성 ====================
+
+    /**
+     * 게시글 엔티티의 값으로 목록 조회 Projection을 생성합니다.
+     *
+     * <p>작성자의 삭제 여부와 상태를 그대로 옮깁니다.
+     * 조회수/좋아요 수/댓글 수는 0입니다.
+     *
+     * @param post 게시글
+     * @return 게시글 목록 Projection
+     */
+    public static PostListProjection listRow(Post post) {
+        return listRow(post, 0, 0);
+    }
+
+    /**
+     * 게시글 엔티티의 값과 지정한 카운터 값으로 목록 조회 Projection을 생성합니다.
+     *
+     * @param post      게시글
+     * @param viewCount 조회수
+     * @param likeCount 좋아요 수
+     * @return 게시글 목록 Projection
+     */
+    public static PostListProjection listRow(Post post, int viewCount, int likeCount) {
+        return listRow(post, viewCount, likeCount, 0);
+    }
+
+    /**
+     * 게시글 엔티티의 값과 지정한 카운터 값(댓글 수 포함)으로 목록 조회 Projection을 생성합니다.
+     *
+     * @param post         게시글
+     * @param viewCount    조회수
+     * @param likeCount    좋아요 수
+     * @param commentCount 댓글 수
+     * @return 게시글 목록 Projection
+     */
+    public static PostListProjection listRow(Post post, int viewCount, int likeCount, int commentCount) {
+        AuthorSnapshot author = post.getAuthor();
+        return new PostListProjection() {
+            @Override
+            public Long getPostId() {
+                return post.getId();
+            }
+
+            @Override
+            public String getTitle() {
+                return post.getTitle();
+            }
+
+            @Override
+            public String getExcerpt() {
+                return post.getExcerpt();
+            }
+
+            @Override
+            public Boolean getIsAnonymous() {
+                return post.isAnonymous();
+            }
+
+            @Override
+            public Boolean getIsQuestion() {
+                return post.isQuestion();
+            }
+
+            @Override
+            public Integer getViewCount() {
+                return viewCount;
+            }
+
+            @Override
+            public Integer getLikeCount() {
+                return likeCount;
+            }
+
+            @Override
+            public Integer getCommentCount() {
+                return commentCount;
+            }
+
+            @Override
+            public Instant getCreatedAt() {
+                return post.getCreatedAt();
+            }
+
+            @Override
+            public String getAuthorName() {
+                return author.getName();
+            }
+
+            @Override
+            public UserStatus getAuthorStatus() {
+                return author.getStatus();
+            }
+
+            @Override
+            public Boolean getAuthorDeleted() {
+                return author.isDeleted();
+            }
+        };
+    }
+
+    // ==================== 내 좋아요/북마크 목록 Projection 생성 ====================
+
+    /**
+     * 게시글 엔티티의 값으로 내 좋아요 목록 Projection을 생성합니다.
+     *
+     * @param post      게시글 (게시판, 작성자가 설정되어 있어야 함)
+     * @param likeId    좋아요 ID
+     * @param likedAt   좋아요 생성일시
+     * @param likeCount 좋아요 수
+     * @return 내 좋아요 목록 Projection
+     */
+    public static LikedPostProjection likedPostRow(Post post, Long likeId, Instant likedAt, int likeCount) {
+        AuthorSnapshot author = post.getAuthor();
+        return new LikedPostProjection() {
+            @Override
+            public Long getLikeId() {
+                return likeId;
+            }
+
+            @Override
+            public Instant getLikedAt() {
+                return likedAt;
+            }
+
+            @Override
+            public Long getPostId() {
+                return post.getId();
+            }
+
+            @Override
+            public String getTitle() {
+                return post.getTitle();
+            }
+
+            @Override
+            public BoardCode getBoardCode() {
+                return post.getBoard().getCode();
+            }
+
+            @Override
+            public String getBoardName() {
+                return post.getBoard().getName();
+            }
+
+            @Override
+            public Boolean getIsAnonymous() {
+                return post.isAnonymous();
+            }
+
+            @Override
+            public Integer getLikeCount() {
+                return likeCount;
+            }
+
+            @Override
+            public Instant getCreatedAt() {
+                return post.getCreatedAt();
+            }
+
+            @Override
+            public String getAuthorName() {
+                return author.getName();
+            }
+
+            @Override
+            public UserStatus getAuthorStatus() {
+                return author.getStatus();
+            }
+
+            @Override
+            public Boolean getAuthorDeleted() {
+                return author.isDeleted();
+            }
+        };
+    }
+
+    /**
+     * 게시글 엔티티의 값으로 내 북마크 목록 Projection을 생성합니다.
+     *
+     * @param post         게시글 (게시판, 작성자가 설정되어 있어야 함)
+     * @param bookmarkId   북마크 ID
+     * @param bookmarkedAt 북마크 생성일시
+     * @return 내 북마크 목록 Projection
+     */
+    public static BookmarkedPostProjection bookmarkedPostRow(Post post, Long bookmarkId, Instant bookmarkedAt) {
+        AuthorSnapshot author = post.getAuthor();
+        return new BookmarkedPostProjection() {
+            @Override
+            public Long getBookmarkId() {
+                return bookmarkId;
+            }
+
+            @Override
+            public Instant getBookmarkedAt() {
+                return bookmarkedAt;
+            }
+
+            @Override
+            public Long getPostId() {
+                return post.getId();
+            }
+
+            @Override
+            public String getTitle() {
+                return post.getTitle();
+            }
+
+            @Override
+            public BoardCode getBoardCode() {
+                return post.getBoard().getCode();
+            }
+
+            @Override
+            public String getBoardName() {
+                return post.getBoard().getName();
+            }
+
+            @Override
+            public Boolean getIsAnonymous() {
+                return post.isAnonymous();
+            }
+
+            @Override
+            public Instant getCreatedAt() {
+                return post.getCreatedAt();
+            }
+
+            @Override
+            public String getAuthorName() {
+                return author.getName();
+            }
+
+            @Override
+            public UserStatus getAuthorStatus() {
+                return author.getStatus();
+            }
+
+            @Override
+            public Boolean getAuthorDeleted() {
+                return author.isDeleted();
+            }
+        };
+    }
+
+    // ==================== PostCounter 생성 ====================
+
+    /**
+     * 지정한 값의 게시글 카운터를 생성합니다.
+     *
+     * @param postId    게시글 ID
+     * @param viewCount 조회수
+     * @param likeCount 좋아요 수
+     * @return 게시글 카운터
+     */
+    public static PostCounter postCounter(Long postId, int viewCount, int likeCount) {
+        return postCounter(postId, viewCount, likeCount, 0);
+    }
+
+    /**
+     * 지정한 값(댓글 수 포함)의 게시글 카운터를 생성합니다.
+     *
+     * @param postId       게시글 ID
+     * @param viewCount    조회수
+     * @param likeCount    좋아요 수
+     * @param commentCount 댓글 수
+     * @return 게시글 카운터
+     */
+    public static PostCounter postCounter(Long postId, int viewCount, int likeCount, int commentCount) {
+        PostCounter counter = PostCounter.create(postId);
+        ReflectionTestUtils.setField(counter, "viewCount", viewCount);
+        ReflectionTestUtils.setField(counter, "likeCount", likeCount);
+        ReflectionTestUtils.setField(counter, "commentCount", commentCount);
+        return counter;
+    }
+
     // ==================== CreatePostRequest 생성 ====================
 
     /**
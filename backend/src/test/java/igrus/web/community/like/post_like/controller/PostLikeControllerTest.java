@@ -1,5 +1,6 @@
 package igrus.web.community.like.post_like.controller;
 
+import com.jayway.jsonpath.JsonPath;
 import igrus.web.community.board.domain.Board;
 import igrus.web.community.board.domain.BoardCode;
 import igrus.web.community.board.domain.BoardPermission;
@@ -9,6 +10,7 @@ import igrus.web.community.like.post_like.domain.PostLike;
 import igrus.web.community.like.post_like.repository.PostLikeRepository;
 import igrus.web.community.post.domain.Post;
 import igrus.web.community.post.repository.PostRepository;
+import igrus.web.community.post.service.PostCounterService;
 import igrus.web.common.ServiceIntegrationTestBase;
 import igrus.web.security.auth.common.domain.AuthenticatedUser;
 import igrus.web.user.domain.User;
@@ -25,8 +27,10 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -64,6 +68,9 @@ class PostLikeControllerTest extends ServiceIntegrationTestBase {
     @Autowired
     private PostLikeRepository postLikeRepository;
 
+    @Autowired
+    private PostCounterService postCounterService;
+
     private User memberUser;
     private User memberUser2;
     private User associateUser;
@@ -113,8 +120,7 @@ class PostLikeControllerTest extends ServiceIntegrationTestBase {
     private void createLike(Post post, User user) {
         PostLike like = PostLike.create(post, user);
         postLikeRepository.save(like);
-        post.incrementLikeCount();
-        postRepository.save(post);
+        postCounterService.incrementLikeCount(post.getId());
     }
 
     @Nested
@@ -227,6 +233,82 @@ class PostLikeControllerTest extends ServiceIntegrationTestBase {
         }
     }
 
+    @Nested
+    @DisplayName("게시글 좋아요 추가/취소 (멱등) 테스트")
+    class IdempotentLikeTest {
+
+        @DisplayName("PUT 반복 호출 시 좋아요는 한 번만 반영된다")
+        @Test
+        void like_Repeat_IsIdempotent() throws Exception {
+            for (int i = 0; i < 2; i++) {
+                mockMvc.perform(put("/api/v1/posts/" + post.getId() + "/likes")
+                                .with(withAuth(memberUser2))
+                                .with(csrf()))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.liked").value(true))
+                        .andExpect(jsonPath("$.likeCount").value(1));
+            }
+
+            assertThat(postLikeRepository.existsByPostIdAndUserId(post.getId(), memberUser2.getId())).isTrue();
+        }
+
+        @DisplayName("DELETE 반복 호출 시 좋아요 취소는 한 번만 반영된다")
+        @Test
+        void unlike_Repeat_IsIdempotent() throws Exception {
+            // given: 좋아요가 이미 존재
+            createLike(post, memberUser2);
+
+            for (int i = 0; i < 2; i++) {
+                mockMvc.perform(delete("/api/v1/posts/" + post.getId() + "/likes")
+                                .with(withAuth(memberUser2))
+                                .with(csrf()))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.liked").value(false))
+                        .andExpect(jsonPath("$.likeCount").value(0));
+            }
+
+            assertThat(postLikeRepository.existsByPostIdAndUserId(post.getId(), memberUser2.getId())).isFalse();
+        }
+
+        @DisplayName("다른 사용자의 좋아요는 취소 요청에 영향을 받지 않는다")
+        @Test
+        void unlike_WhenNotLiked_KeepsOtherLikes() throws Exception {
+            // given: 다른 사용자의 좋아요만 존재
+            createLike(post, memberUser);
+
+            // when & then
+            mockMvc.perform(delete("/api/v1/posts/" + post.getId() + "/likes")
+                            .with(withAuth(memberUser2))
+                            .with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.liked").value(false))
+                    .andExpect(jsonPath("$.likeCount").value(1));
+        }
+
+        @DisplayName("삭제된 게시글 PUT 시 410 Gone")
+        @Test
+        void like_DeletedPost_Returns410() throws Exception {
+            // given
+            post.delete(memberUser.getId());
+            postRepository.save(post);
+
+            // when & then
+            mockMvc.perform(put("/api/v1/posts/" + post.getId() + "/likes")
+                            .with(withAuth(memberUser2))
+                            .with(csrf()))
+                    .andExpect(status().isGone());
+        }
+
+        @DisplayName("준회원 PUT 시 403 Forbidden")
+        @Test
+        void like_AsAssociate_Returns403() throws Exception {
+            mockMvc.perform(put("/api/v1/posts/" + post.getId() + "/likes")
+                            .with(withAuth(associateUser))
+                            .with(csrf()))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
     @Nested
     @DisplayName("게시글 좋아요 상태 조회 테스트")
     class GetLikeStatusTest {
@@ -284,22 +366,28 @@ class PostLikeControllerTest extends ServiceIntegrationTestBase {
             postRepository.save(post2);
             createLike(post, memberUser2);
             createLike(post2, memberUser2);
+            postCounterService.incrementLikeCount(post2.getId());
 
-            // when & then
+            // when & then: 최신 좋아요순
             mockMvc.perform(get("/api/v1/users/me/likes")
                             .with(withAuth(memberUser2))
                             .with(csrf()))
                     .andDo(print())
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.totalElements").value(2))
                     .andExpect(jsonPath("$.content").isArray())
-                    .andExpect(jsonPath("$.content.length()").value(2));
+                    .andExpect(jsonPath("$.content.length()").value(2))
+                    .andExpect(jsonPath("$.content[0].postId").value(post2.getId()))
+                    .andExpect(jsonPath("$.content[0].likeCount").value(1))
+                    .andExpect(jsonPath("$.content[0].boardCode").value("GENERAL"))
+                    .andExpect(jsonPath("$.content[0].authorName").value(memberUser.getName()))
+                    .andExpect(jsonPath("$.hasNext").value(false))
+                    .andExpect(jsonPath("$.nextCursor").doesNotExist());
         }
 
-        @DisplayName("LKB-032: 좋아요 목록 페이지네이션")
+        @DisplayName("LKB-032: 좋아요 목록 커서 페이지네이션 - 누락/중복 없이 다음 페이지를 조회한다")
         @Test
         void getMyLikes_Pagination_Success() throws Exception {
-            // given: 25개 게시글에 좋아요
+            // given: 25개 게시글에 좋아요 (생성일시가 같은 좋아요는 ID로 순서가 정해짐)
             for (int i = 0; i < 25; i++) {
                 Post newPost = Post.createPost(generalBoard, memberUser, "게시글 " + i, "내용 " + i);
                 newPost = postRepository.save(newPost);
@@ -307,14 +395,31 @@ class PostLikeControllerTest extends ServiceIntegrationTestBase {
             }
 
             // when & then: 기본 페이지 크기 20개
-            mockMvc.perform(get("/api/v1/users/me/likes")
+            String firstPage = mockMvc.perform(get("/api/v1/users/me/likes")
                             .with(withAuth(memberUser2))
                             .with(csrf()))
                     .andDo(print())
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.totalElements").value(25))
                     .andExpect(jsonPath("$.content.length()").value(20))
-                    .andExpect(jsonPath("$.totalPages").value(2));
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andReturn().getResponse().getContentAsString();
+            String nextCursor = JsonPath.read(firstPage, "$.nextCursor");
+
+            String secondPage = mockMvc.perform(get("/api/v1/users/me/likes")
+                            .param("cursor", nextCursor)
+                            .with(withAuth(memberUser2))
+                            .with(csrf()))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(5))
+                    .andExpect(jsonPath("$.hasNext").value(false))
+                    .andReturn().getResponse().getContentAsString();
+
+            List<Integer> firstIds = JsonPath.read(firstPage, "$.content[*].postId");
+            List<Integer> secondIds = JsonPath.read(secondPage, "$.content[*].postId");
+            List<Integer> postIds = new ArrayList<>(firstIds);
+            postIds.addAll(secondIds);
+            assertThat(postIds).hasSize(25).doesNotHaveDuplicates();
         }
 
         @DisplayName("LKB-034: 빈 좋아요 목록 조회")
@@ -326,17 +431,18 @@ class PostLikeControllerTest extends ServiceIntegrationTestBase {
                             .with(csrf()))
                     .andDo(print())
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.totalElements").value(0))
-                    .andExpect(jsonPath("$.content").isEmpty());
+                    .andExpect(jsonPath("$.content").isEmpty())
+                    .andExpect(jsonPath("$.hasNext").value(false));
         }
 
-        @DisplayName("LKB-090: 삭제된 게시글 좋아요 목록에 표시")
+        @DisplayName("LKB-090: 삭제된 게시글은 좋아요 목록에서 제외된다")
         @Test
-        void getMyLikes_DeletedPost_ShowsDeletedMessage() throws Exception {
-            // given: 좋아요 생성 (createLike 헬퍼 미사용, 버전 충돌 방지)
-            PostLike like = PostLike.create(post, memberUser2);
-            postLikeRepository.save(like);
-            post.incrementLikeCount();
+        void getMyLikes_DeletedPost_IsExcluded() throws Exception {
+            // given: 좋아요 생성 후 게시글 삭제
+            Post post2 = Post.createPost(generalBoard, memberUser, "게시글2", "내용2");
+            postRepository.save(post2);
+            createLike(post, memberUser2);
+            createLike(post2, memberUser2);
             post.delete(memberUser.getId());
             postRepository.save(post);
 
@@ -346,9 +452,20 @@ class PostLikeControllerTest extends ServiceIntegrationTestBase {
                             .with(csrf()))
                     .andDo(print())
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.totalElements").value(1))
-                    .andExpect(jsonPath("$.content[0].isDeleted").value(true))
-                    .andExpect(jsonPath("$.content[0].deletedMessage").value("삭제된 게시글입니다"));
+                    .andExpect(jsonPath("$.content.length()").value(1))
+                    .andExpect(jsonPath("$.content[0].postId").value(post2.getId()));
+        }
+
+        @DisplayName("유효하지 않은 커서로 조회 시 400 Bad Request")
+        @Test
+        void getMyLikes_InvalidCursor_Returns400() throws Exception {
+            // when & then
+            mockMvc.perform(get("/api/v1/users/me/likes")
+                            .param("cursor", "invalid")
+                            .with(withAuth(memberUser))
+                            .with(csrf()))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
         }
 
         @DisplayName("준회원 좋아요 목록 조회 시 403 Forbidden")
@@ -0,0 +1,207 @@
+package igrus.web.community.like.post_like.integration;
+
+import igrus.web.common.ServiceIntegrationTestBase;
+import igrus.web.community.board.domain.Board;
+import igrus.web.community.board.domain.BoardCode;
+import igrus.web.community.board.repository.BoardRepository;
+import igrus.web.community.like.post_like.dto.response.PostLikeStatusResponse;
+import igrus.web.community.like.post_like.repository.PostLikeRepository;
+import igrus.web.community.like.post_like.service.PostLikeService;
+import igrus.web.community.post.domain.Post;
+import igrus.web.community.post.domain.PostCounter;
+import igrus.web.community.post.exception.PostDeletedException;
+import igrus.web.community.post.repository.PostCounterRepository;
+import igrus.web.community.post.repository.PostRepository;
+import igrus.web.community.post.service.PostCounterService;
+import igrus.web.user.domain.User;
+import igrus.web.user.domain.UserRole;
+import igrus.web.user.exception.UserNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 게시글 좋아요 통합 테스트.
+ *
+ * <p>좋아요 행 조건부 INSERT/DELETE와 카운터 행 잠금이 실제 데이터베이스에서
+ * 멱등하게 동작하고 좋아요 수가 어긋나지 않는지 검증합니다.
+ *
+ * <p>테스트 시나리오:
+ * <ul>
+ *     <li>LKI-001: 같은 좋아요를 반복 요청해도 좋아요 행 1개, 좋아요 수 1</li>
+ *     <li>LKI-002: 좋아요 → 취소 → 좋아요 시 단계별 좋아요 수 반영</li>
+ *     <li>LKI-003: 존재하지 않는 사용자의 좋아요는 UserNotFoundException, 카운터 변화 없음</li>
+ *     <li>LKI-004: 삭제된 게시글 좋아요는 PostDeletedException</li>
+ *     <li>LKI-005: 같은 사용자의 동시 좋아요 요청은 모두 성공하고 좋아요 행 1개, 좋아요 수 1</li>
+ * </ul>
+ */
+@DisplayName("게시글 좋아요 통합 테스트")
+class PostLikeIntegrationTest extends ServiceIntegrationTestBase {
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostCounterRepository postCounterRepository;
+
+    @Autowired
+    private PostCounterService postCounterService;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private PostLikeService postLikeService;
+
+    private User memberUser;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        setUpBase();
+        User author = createAndSaveUser("20200001", "author@inha.edu", UserRole.MEMBER);
+        memberUser = createAndSaveUser("20200002", "member@inha.edu", UserRole.MEMBER);
+
+        Board board = boardRepository.save(
+                Board.create(BoardCode.GENERAL, "자유게시판", "자유롭게 이야기를 나눌 수 있는 공간입니다.", true, true, 2));
+        post = postRepository.save(Post.createPost(board, author, "게시글", "내용"));
+        postCounterService.initialize(post.getId());
+    }
+
+    private int likeCount() {
+        return postCounterRepository.findById(post.getId())
+                .map(PostCounter::getLikeCount)
+                .orElse(0);
+    }
+
+    private boolean likeExists() {
+        return postLikeRepository.existsByPostIdAndUserId(post.getId(), memberUser.getId());
+    }
+
+    @Nested
+    @DisplayName("좋아요 추가/취소")
+    class LikeUnlikeTest {
+
+        @DisplayName("LKI-001: 같은 좋아요를 반복 요청해도 좋아요 행 1개, 좋아요 수 1이다")
+        @Test
+        void like_Repeated_IsIdempotent() {
+            // when
+            PostLikeStatusResponse first = postLikeService.like(post.getId(), memberUser.getId());
+            PostLikeStatusResponse second = postLikeService.like(post.getId(), memberUser.getId());
+
+            // then
+            assertThat(first.liked()).isTrue();
+            assertThat(first.likeCount()).isEqualTo(1);
+            assertThat(second.liked()).isTrue();
+            assertThat(second.likeCount()).isEqualTo(1);
+            assertThat(likeExists()).isTrue();
+            assertThat(likeCount()).isEqualTo(1);
+        }
+
+        @DisplayName("LKI-002: 좋아요 → 취소 → 좋아요 시 단계별 좋아요 수가 반영된다")
+        @Test
+        void likeUnlikeLike_UpdatesCountEachStep() {
+            // when & then
+            assertThat(postLikeService.like(post.getId(), memberUser.getId()).likeCount()).isEqualTo(1);
+            assertThat(likeCount()).isEqualTo(1);
+
+            PostLikeStatusResponse unliked = postLikeService.unlike(post.getId(), memberUser.getId());
+            assertThat(unliked.liked()).isFalse();
+            assertThat(unliked.likeCount()).isZero();
+            assertThat(likeExists()).isFalse();
+            assertThat(likeCount()).isZero();
+
+            assertThat(postLikeService.like(post.getId(), memberUser.getId()).likeCount()).isEqualTo(1);
+            assertThat(likeExists()).isTrue();
+            assertThat(likeCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("좋아요 실패")
+    class FailureTest {
+
+        @DisplayName("LKI-003: 존재하지 않는 사용자의 좋아요는 UserNotFoundException이 발생하고 좋아요 수는 변하지 않는다")
+        @Test
+        void like_WithNonExistentUser_ThrowsUserNotFoundException() {
+            // when & then
+            assertThatThrownBy(() -> postLikeService.like(post.getId(), 999_999L))
+                    .isInstanceOf(UserNotFoundException.class);
+
+            assertThat(likeCount()).isZero();
+        }
+
+        @DisplayName("LKI-004: 삭제된 게시글 좋아요는 PostDeletedException이 발생한다")
+        @Test
+        void like_OnDeletedPost_ThrowsPostDeletedException() {
+            // given
+            transactionTemplate.executeWithoutResult(status ->
+                    postRepository.findById(post.getId()).orElseThrow().delete(memberUser.getId()));
+
+            // when & then
+            assertThatThrownBy(() -> postLikeService.like(post.getId(), memberUser.getId()))
+                    .isInstanceOf(PostDeletedException.class);
+
+            assertThat(likeExists()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("동시 요청")
+    class ConcurrencyTest {
+
+        @DisplayName("LKI-005: 같은 사용자의 동시 좋아요 요청은 모두 성공하고 좋아요 행 1개, 좋아요 수 1이다")
+        @Test
+        void like_ConcurrentDoubleRequest_IsIdempotent() throws InterruptedException {
+            // given
+            int threadCount = 2;
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch startLatch = new CountDownLatch(1);
+            CountDownLatch endLatch = new CountDownLatch(threadCount);
+            List<PostLikeStatusResponse> responses = new CopyOnWriteArrayList<>();
+            List<Throwable> errors = new CopyOnWriteArrayList<>();
+
+            // when
+            for (int i = 0; i < threadCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        startLatch.await();
+                        responses.add(postLikeService.like(post.getId(), memberUser.getId()));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (Throwable e) {
+                        errors.add(e);
+                    } finally {
+                        endLatch.countDown();
+                    }
+                });
+            }
+
+            startLatch.countDown();
+            endLatch.await(10, TimeUnit.SECONDS);
+            executorService.shutdown();
+
+            // then
+            assertThat(errors).isEmpty();
+            assertThat(responses).hasSize(threadCount)
+                    .allSatisfy(response -> assertThat(response.liked()).isTrue());
+            assertThat(postLikeRepository.count()).isEqualTo(1);
+            assertThat(likeCount()).isEqualTo(1);
+        }
+    }
+}
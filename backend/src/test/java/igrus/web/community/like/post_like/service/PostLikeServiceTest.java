@@ -1,15 +1,19 @@
 package igrus.web.community.like.post_like.service;
 
+import igrus.web.common.exception.InvalidCursorException;
+import igrus.web.common.pagination.CreatedAtCursor;
+import igrus.web.common.pagination.CursorPageResponse;
 import igrus.web.community.board.domain.Board;
-import igrus.web.community.like.post_like.domain.PostLike;
 import igrus.web.community.like.post_like.dto.response.PostLikeStatusResponse;
 import igrus.web.community.like.post_like.dto.response.PostLikeToggleResponse;
 import igrus.web.community.like.post_like.dto.response.LikedPostResponse;
+import igrus.web.community.like.post_like.repository.LikedPostProjection;
 import igrus.web.community.like.post_like.repository.PostLikeRepository;
 import igrus.web.community.post.domain.Post;
 import igrus.web.community.post.exception.PostDeletedException;
 import igrus.web.community.post.exception.PostNotFoundException;
 import igrus.web.community.post.repository.PostRepository;
+import igrus.web.community.post.service.PostCounterService;
 import igrus.web.user.domain.User;
 import igrus.web.user.exception.UserNotFoundException;
 import igrus.web.user.repository.UserRepository;
@@ -21,22 +25,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 import static igrus.web.common.fixture.TestConstants.*;
-import static igrus.web.common.fixture.TestEntityIdAssigner.withId;
 import static igrus.web.common.fixture.UserTestFixture.*;
 import static igrus.web.community.fixture.BoardTestFixture.*;
 import static igrus.web.community.fixture.PostTestFixture.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -49,11 +52,9 @@ import static org.mockito.Mockito.*;
  * <ul>
  *     <li>LKB-001: 게시글 좋아요 추가</li>
  *     <li>LKB-002: 게시글 좋아요 취소 (토글)</li>
- *     <li>LKB-003: 본인 게시글 좋아요 가능</li>
- *     <li>LKB-006: 좋아요 1인 1회 제한 (토글로 동작)</li>
  *     <li>LKB-030: 좋아요 목록 조회 (최신순)</li>
  *     <li>LKB-040: 삭제된 게시글 좋아요 시도 시 PostDeletedException 발생</li>
- *     <li>LKB-092: 좋아요 취소 시 Hard Delete</li>
+ *     <li>PUT/DELETE 좋아요 추가/취소의 멱등성</li>
  * </ul>
  */
 @ExtendWith(MockitoExtension.class)
@@ -66,6 +67,9 @@ class PostLikeServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private PostCounterService postCounterService;
+
     @Mock
     private UserRepository userRepository;
 
@@ -101,11 +105,11 @@ class PostLikeServiceTest {
             Long postId = DEFAULT_POST_ID;
             Long userId = DEFAULT_MEMBER_ID;
 
-            given(postRepository.findById(postId)).willReturn(Optional.of(normalPost));
-            given(userRepository.findById(userId)).willReturn(Optional.of(memberUser));
-            given(postLikeRepository.findByPostAndUser(normalPost, memberUser)).willReturn(Optional.empty());
-            given(postLikeRepository.save(any(PostLike.class))).willAnswer(invocation -> invocation.getArgument(0));
-            given(postRepository.save(any(Post.class))).willReturn(normalPost);
+            given(userRepository.existsById(userId)).willReturn(true);
+            given(postRepository.findDeletedById(postId)).willReturn(Optional.of(false));
+            given(postCounterService.lockLikeCount(postId)).willReturn(0);
+            given(postLikeRepository.deleteByPostIdAndUserId(postId, userId)).willReturn(0);
+            given(postLikeRepository.insertIfAbsent(eq(postId), eq(userId), any(Instant.class))).willReturn(1);
 
             // when
             PostLikeToggleResponse response = postLikeService.toggleLike(postId, userId);
@@ -114,8 +118,8 @@ class PostLikeServiceTest {
             assertThat(response).isNotNull();
             assertThat(response.liked()).isTrue();
             assertThat(response.likeCount()).isEqualTo(1);
-            verify(postLikeRepository).save(any(PostLike.class));
-            verify(postRepository).save(normalPost);
+            verify(postCounterService).incrementLikeCount(postId);
+            verify(postCounterService, never()).decrementLikeCount(anyLong());
         }
 
         @DisplayName("LKB-002: 게시글 좋아요 취소 (토글) - 좋아요가 있을 때 토글하면 좋아요가 취소된다")
@@ -124,16 +128,11 @@ class PostLikeServiceTest {
             // given
             Long postId = DEFAULT_POST_ID;
             Long userId = DEFAULT_MEMBER_ID;
-            PostLike existingLike = PostLike.create(normalPost, memberUser);
-            withId(existingLike, 1L);
-
-            // 좋아요가 1개 있는 상태로 설정
-            normalPost.incrementLikeCount();
 
-            given(postRepository.findById(postId)).willReturn(Optional.of(normalPost));
-            given(userRepository.findById(userId)).willReturn(Optional.of(memberUser));
-            given(postLikeRepository.findByPostAndUser(normalPost, memberUser)).willReturn(Optional.of(existingLike));
-            given(postRepository.save(any(Post.class))).willReturn(normalPost);
+            given(userRepository.existsById(userId)).willReturn(true);
+            given(postRepository.findDeletedById(postId)).willReturn(Optional.of(false));
+            given(postCounterService.lockLikeCount(postId)).willReturn(1);
+            given(postLikeRepository.deleteByPostIdAndUserId(postId, userId)).willReturn(1);
 
             // when
             PostLikeToggleResponse response = postLikeService.toggleLike(postId, userId);
@@ -142,186 +141,221 @@ class PostLikeServiceTest {
             assertThat(response).isNotNull();
             assertThat(response.liked()).isFalse();
             assertThat(response.likeCount()).isEqualTo(0);
-            verify(postLikeRepository).delete(existingLike);
-            verify(postRepository).save(normalPost);
+            verify(postCounterService).decrementLikeCount(postId);
+            verify(postLikeRepository, never()).insertIfAbsent(anyLong(), anyLong(), any(Instant.class));
         }
 
-        @DisplayName("LKB-003: 본인 게시글 좋아요 가능 - 작성자도 본인 게시글에 좋아요를 할 수 있다")
+        @DisplayName("LKB-040: 삭제된 게시글 좋아요 시도 시 PostDeletedException 발생")
         @Test
-        void toggleLike_OnOwnPost_Success() {
+        void toggleLike_OnDeletedPost_ThrowsPostDeletedException() {
             // given
-            // 본인이 작성한 게시글
-            Post ownPost = normalPost(generalBoard, memberUser);
             Long postId = DEFAULT_POST_ID;
             Long userId = DEFAULT_MEMBER_ID;
 
-            given(postRepository.findById(postId)).willReturn(Optional.of(ownPost));
-            given(userRepository.findById(userId)).willReturn(Optional.of(memberUser));
-            given(postLikeRepository.findByPostAndUser(ownPost, memberUser)).willReturn(Optional.empty());
-            given(postLikeRepository.save(any(PostLike.class))).willAnswer(invocation -> invocation.getArgument(0));
-            given(postRepository.save(any(Post.class))).willReturn(ownPost);
+            given(userRepository.existsById(userId)).willReturn(true);
+            given(postRepository.findDeletedById(postId)).willReturn(Optional.of(true));
 
-            // when
-            PostLikeToggleResponse response = postLikeService.toggleLike(postId, userId);
+            // when & then
+            assertThatThrownBy(() -> postLikeService.toggleLike(postId, userId))
+                    .isInstanceOf(PostDeletedException.class);
 
-            // then
-            assertThat(response).isNotNull();
-            assertThat(response.liked()).isTrue();
-            assertThat(response.likeCount()).isEqualTo(1);
-            verify(postLikeRepository).save(any(PostLike.class));
+            verify(postLikeRepository, never()).insertIfAbsent(anyLong(), anyLong(), any(Instant.class));
+            verify(postLikeRepository, never()).deleteByPostIdAndUserId(anyLong(), anyLong());
         }
 
-        @DisplayName("LKB-006: 좋아요 1인 1회 제한 (토글로 동작) - 이미 좋아요한 상태에서 다시 요청하면 취소된다")
+        @DisplayName("존재하지 않는 게시글에 좋아요 시도 시 PostNotFoundException 발생")
         @Test
-        void toggleLike_WhenAlreadyLiked_TogglesOff() {
+        void toggleLike_OnNonExistentPost_ThrowsPostNotFoundException() {
             // given
-            Long postId = DEFAULT_POST_ID;
+            Long postId = 999L;
             Long userId = DEFAULT_MEMBER_ID;
-            PostLike existingLike = PostLike.create(normalPost, memberUser);
-            withId(existingLike, 1L);
 
-            normalPost.incrementLikeCount();
+            given(userRepository.existsById(userId)).willReturn(true);
+            given(postRepository.findDeletedById(postId)).willReturn(Optional.empty());
 
-            given(postRepository.findById(postId)).willReturn(Optional.of(normalPost));
-            given(userRepository.findById(userId)).willReturn(Optional.of(memberUser));
-            given(postLikeRepository.findByPostAndUser(normalPost, memberUser)).willReturn(Optional.of(existingLike));
-            given(postRepository.save(any(Post.class))).willReturn(normalPost);
-
-            // when
-            PostLikeToggleResponse response = postLikeService.toggleLike(postId, userId);
+            // when & then
+            assertThatThrownBy(() -> postLikeService.toggleLike(postId, userId))
+                    .isInstanceOf(PostNotFoundException.class);
 
-            // then
-            assertThat(response).isNotNull();
-            assertThat(response.liked()).isFalse();
-            verify(postLikeRepository).delete(existingLike);
+            verify(postLikeRepository, never()).insertIfAbsent(anyLong(), anyLong(), any(Instant.class));
         }
 
-        @DisplayName("LKB-040: 삭제된 게시글 좋아요 시도 시 PostDeletedException 발생")
+        @DisplayName("존재하지 않는 사용자로 좋아요 시도 시 UserNotFoundException 발생")
         @Test
-        void toggleLike_OnDeletedPost_ThrowsPostDeletedException() {
+        void toggleLike_WithNonExistentUser_ThrowsUserNotFoundException() {
             // given
             Long postId = DEFAULT_POST_ID;
-            Long userId = DEFAULT_MEMBER_ID;
-
-            // 삭제된 게시글 설정
-            Post deletedPost = normalPost(generalBoard, anotherMemberUser);
-            deletedPost.delete(ANOTHER_MEMBER_ID);
+            Long userId = 999L;
 
-            given(postRepository.findById(postId)).willReturn(Optional.of(deletedPost));
+            given(userRepository.existsById(userId)).willReturn(false);
 
             // when & then
             assertThatThrownBy(() -> postLikeService.toggleLike(postId, userId))
-                    .isInstanceOf(PostDeletedException.class);
+                    .isInstanceOf(UserNotFoundException.class);
 
-            verify(postLikeRepository, never()).save(any(PostLike.class));
-            verify(postLikeRepository, never()).delete(any(PostLike.class));
+            verify(postCounterService, never()).lockLikeCount(anyLong());
+            verify(postLikeRepository, never()).insertIfAbsent(anyLong(), anyLong(), any(Instant.class));
         }
 
-        @DisplayName("LKB-092: 좋아요 취소 시 Hard Delete - 좋아요 취소 시 DB에서 완전히 삭제된다")
+        @DisplayName("좋아요 변경 시 게시글/사용자 엔티티를 로드하지 않는다")
         @Test
-        void toggleLike_WhenCancellingLike_PerformsHardDelete() {
+        void toggleLike_DoesNotLoadEntities() {
             // given
             Long postId = DEFAULT_POST_ID;
             Long userId = DEFAULT_MEMBER_ID;
-            PostLike existingLike = PostLike.create(normalPost, memberUser);
-            withId(existingLike, 1L);
 
-            normalPost.incrementLikeCount();
-
-            given(postRepository.findById(postId)).willReturn(Optional.of(normalPost));
-            given(userRepository.findById(userId)).willReturn(Optional.of(memberUser));
-            given(postLikeRepository.findByPostAndUser(normalPost, memberUser)).willReturn(Optional.of(existingLike));
-            given(postRepository.save(any(Post.class))).willReturn(normalPost);
+            given(userRepository.existsById(userId)).willReturn(true);
+            given(postRepository.findDeletedById(postId)).willReturn(Optional.of(false));
+            given(postCounterService.lockLikeCount(postId)).willReturn(0);
+            given(postLikeRepository.insertIfAbsent(eq(postId), eq(userId), any(Instant.class))).willReturn(1);
 
             // when
             postLikeService.toggleLike(postId, userId);
 
             // then
-            // Hard Delete 확인: postLikeRepository.delete()가 호출되어야 함
-            verify(postLikeRepository).delete(existingLike);
-            // Soft Delete가 아닌 것 확인: 엔티티의 메서드 호출 없이 바로 delete
-            verify(postLikeRepository, never()).save(existingLike);
+            verify(postRepository, never()).findById(anyLong());
+            verify(userRepository, never()).findById(anyLong());
+            verify(postRepository, never()).save(any(Post.class));
         }
 
-        @DisplayName("존재하지 않는 게시글에 좋아요 시도 시 PostNotFoundException 발생")
+        @DisplayName("좋아요 수가 0일 때 취소해도 음수가 되지 않는다")
         @Test
-        void toggleLike_OnNonExistentPost_ThrowsPostNotFoundException() {
+        void toggleLike_WhenLikeCountIsZero_DoesNotGoNegative() {
+            // given: 좋아요 행은 있으나 카운터가 0인 비정상 상태 (방어 코드 테스트)
+            Long postId = DEFAULT_POST_ID;
+            Long userId = DEFAULT_MEMBER_ID;
+
+            given(userRepository.existsById(userId)).willReturn(true);
+            given(postRepository.findDeletedById(postId)).willReturn(Optional.of(false));
+            given(postCounterService.lockLikeCount(postId)).willReturn(0);
+            given(postLikeRepository.deleteByPostIdAndUserId(postId, userId)).willReturn(1);
+
+            // when
+            PostLikeToggleResponse response = postLikeService.toggleLike(postId, userId);
+
+            // then
+            assertThat(response.likeCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("좋아요 추가/취소 (멱등) 테스트")
+    class IdempotentLikeTest {
+
+        @DisplayName("좋아요가 없으면 추가하고 좋아요 수를 1 증가시킨다")
+        @Test
+        void like_WhenNotLiked_InsertsAndIncrements() {
             // given
-            Long postId = 999L;
+            Long postId = DEFAULT_POST_ID;
             Long userId = DEFAULT_MEMBER_ID;
 
-            given(postRepository.findById(postId)).willReturn(Optional.empty());
+            given(userRepository.existsById(userId)).willReturn(true);
+            given(postRepository.findDeletedById(postId)).willReturn(Optional.of(false));
+            given(postCounterService.lockLikeCount(postId)).willReturn(2);
+            given(postLikeRepository.insertIfAbsent(eq(postId), eq(userId), any(Instant.class))).willReturn(1);
 
-            // when & then
-            assertThatThrownBy(() -> postLikeService.toggleLike(postId, userId))
-                    .isInstanceOf(PostNotFoundException.class);
+            // when
+            PostLikeStatusResponse response = postLikeService.like(postId, userId);
 
-            verify(postLikeRepository, never()).save(any(PostLike.class));
+            // then
+            assertThat(response.liked()).isTrue();
+            assertThat(response.likeCount()).isEqualTo(3);
+            verify(postCounterService).incrementLikeCount(postId);
         }
 
-        @DisplayName("존재하지 않는 사용자로 좋아요 시도 시 UserNotFoundException 발생")
+        @DisplayName("이미 좋아요한 경우 아무것도 변경하지 않고 현재 상태를 반환한다")
         @Test
-        void toggleLike_WithNonExistentUser_ThrowsUserNotFoundException() {
+        void like_WhenAlreadyLiked_IsNoOp() {
+            // given
+            Long postId = DEFAULT_POST_ID;
+            Long userId = DEFAULT_MEMBER_ID;
+
+            given(userRepository.existsById(userId)).willReturn(true);
+            given(postRepository.findDeletedById(postId)).willReturn(Optional.of(false));
+            given(postCounterService.lockLikeCount(postId)).willReturn(3);
+            given(postLikeRepository.insertIfAbsent(eq(postId), eq(userId), any(Instant.class))).willReturn(0);
+
+            // when
+            PostLikeStatusResponse response = postLikeService.like(postId, userId);
+
+            // then
+            assertThat(response.liked()).isTrue();
+            assertThat(response.likeCount()).isEqualTo(3);
+            verify(postCounterService, never()).incrementLikeCount(anyLong());
+            verify(postLikeRepository, never()).existsByPostIdAndUserId(anyLong(), anyLong());
+        }
+
+        @DisplayName("존재하지 않는 사용자로 좋아요 시 카운터를 잠그기 전에 UserNotFoundException 발생")
+        @Test
+        void like_WithNonExistentUser_ThrowsUserNotFoundException() {
             // given
             Long postId = DEFAULT_POST_ID;
             Long userId = 999L;
 
-            given(postRepository.findById(postId)).willReturn(Optional.of(normalPost));
-            given(userRepository.findById(userId)).willReturn(Optional.empty());
+            given(userRepository.existsById(userId)).willReturn(false);
 
             // when & then
-            assertThatThrownBy(() -> postLikeService.toggleLike(postId, userId))
+            assertThatThrownBy(() -> postLikeService.like(postId, userId))
                     .isInstanceOf(UserNotFoundException.class);
 
-            verify(postLikeRepository, never()).save(any(PostLike.class));
+            verify(postCounterService, never()).lockLikeCount(anyLong());
+            verify(postLikeRepository, never()).insertIfAbsent(anyLong(), anyLong(), any(Instant.class));
         }
 
-        @DisplayName("좋아요 추가 시 게시글의 좋아요 수가 증가한다")
+        @DisplayName("좋아요가 있으면 삭제하고 좋아요 수를 1 감소시킨다")
         @Test
-        void toggleLike_WhenAddingLike_IncrementsLikeCount() {
+        void unlike_WhenLiked_DeletesAndDecrements() {
             // given
             Long postId = DEFAULT_POST_ID;
             Long userId = DEFAULT_MEMBER_ID;
-            int initialLikeCount = normalPost.getLikeCount();
 
-            given(postRepository.findById(postId)).willReturn(Optional.of(normalPost));
-            given(userRepository.findById(userId)).willReturn(Optional.of(memberUser));
-            given(postLikeRepository.findByPostAndUser(normalPost, memberUser)).willReturn(Optional.empty());
-            given(postLikeRepository.save(any(PostLike.class))).willAnswer(invocation -> invocation.getArgument(0));
-            given(postRepository.save(any(Post.class))).willReturn(normalPost);
+            given(postRepository.findDeletedById(postId)).willReturn(Optional.of(false));
+            given(postCounterService.lockLikeCount(postId)).willReturn(3);
+            given(postLikeRepository.deleteByPostIdAndUserId(postId, userId)).willReturn(1);
 
             // when
-            PostLikeToggleResponse response = postLikeService.toggleLike(postId, userId);
+            PostLikeStatusResponse response = postLikeService.unlike(postId, userId);
 
             // then
-            assertThat(response.likeCount()).isEqualTo(initialLikeCount + 1);
-            verify(postRepository).save(normalPost);
+            assertThat(response.liked()).isFalse();
+            assertThat(response.likeCount()).isEqualTo(2);
+            verify(postCounterService).decrementLikeCount(postId);
         }
 
-        @DisplayName("좋아요 취소 시 게시글의 좋아요 수가 감소한다")
+        @DisplayName("좋아요하지 않은 경우 아무것도 변경하지 않고 현재 상태를 반환한다")
         @Test
-        void toggleLike_WhenRemovingLike_DecrementsLikeCount() {
+        void unlike_WhenNotLiked_IsNoOp() {
             // given
             Long postId = DEFAULT_POST_ID;
             Long userId = DEFAULT_MEMBER_ID;
-            PostLike existingLike = PostLike.create(normalPost, memberUser);
-            withId(existingLike, 1L);
-
-            normalPost.incrementLikeCount();
-            normalPost.incrementLikeCount(); // 좋아요 2개 상태
-            int initialLikeCount = normalPost.getLikeCount();
 
-            given(postRepository.findById(postId)).willReturn(Optional.of(normalPost));
-            given(userRepository.findById(userId)).willReturn(Optional.of(memberUser));
-            given(postLikeRepository.findByPostAndUser(normalPost, memberUser)).willReturn(Optional.of(existingLike));
-            given(postRepository.save(any(Post.class))).willReturn(normalPost);
+            given(postRepository.findDeletedById(postId)).willReturn(Optional.of(false));
+            given(postCounterService.lockLikeCount(postId)).willReturn(3);
+            given(postLikeRepository.deleteByPostIdAndUserId(postId, userId)).willReturn(0);
 
             // when
-            PostLikeToggleResponse response = postLikeService.toggleLike(postId, userId);
+            PostLikeStatusResponse response = postLikeService.unlike(postId, userId);
 
             // then
-            assertThat(response.likeCount()).isEqualTo(initialLikeCount - 1);
-            verify(postRepository).save(normalPost);
+            assertThat(response.liked()).isFalse();
+            assertThat(response.likeCount()).isEqualTo(3);
+            verify(postCounterService, never()).decrementLikeCount(anyLong());
+        }
+
+        @DisplayName("삭제된 게시글 좋아요 취소 시 PostDeletedException 발생")
+        @Test
+        void unlike_OnDeletedPost_ThrowsPostDeletedException() {
+            // given
+            Long postId = DEFAULT_POST_ID;
+            Long userId = DEFAULT_MEMBER_ID;
+
+            given(postRepository.findDeletedById(postId)).willReturn(Optional.of(true));
+
+            // when & then
+            assertThatThrownBy(() -> postLikeService.unlike(postId, userId))
+                    .isInstanceOf(PostDeletedException.class);
+
+            verify(postLikeRepository, never()).deleteByPostIdAndUserId(anyLong(), anyLong());
         }
     }
 
@@ -373,11 +407,8 @@ class PostLikeServiceTest {
             Long postId = DEFAULT_POST_ID;
             Long userId = DEFAULT_MEMBER_ID;
 
-            normalPost.incrementLikeCount();
-            normalPost.incrementLikeCount();
-            normalPost.incrementLikeCount(); // 좋아요 3개
-
-            given(postRepository.findById(postId)).willReturn(Optional.of(normalPost));
+            given(postRepository.findDeletedById(postId)).willReturn(Optional.of(false));
+            given(postCounterService.getCounter(postId)).willReturn(postCounter(postId, 0, 3)); // 좋아요 3개
             given(postLikeRepository.existsByPostIdAndUserId(postId, userId)).willReturn(true);
 
             // when
@@ -396,9 +427,8 @@ class PostLikeServiceTest {
             Long postId = DEFAULT_POST_ID;
             Long userId = DEFAULT_MEMBER_ID;
 
-            normalPost.incrementLikeCount(); // 다른 사용자가 좋아요
-
-            given(postRepository.findById(postId)).willReturn(Optional.of(normalPost));
+            given(postRepository.findDeletedById(postId)).willReturn(Optional.of(false));
+            given(postCounterService.getCounter(postId)).willReturn(postCounter(postId, 0, 1)); // 다른 사용자가 좋아요
             given(postLikeRepository.existsByPostIdAndUserId(postId, userId)).willReturn(false);
 
             // when
@@ -417,7 +447,7 @@ class PostLikeServiceTest {
             Long postId = 999L;
             Long userId = DEFAULT_MEMBER_ID;
 
-            given(postRepository.findById(postId)).willReturn(Optional.empty());
+            given(postRepository.findDeletedById(postId)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> postLikeService.getLikeStatus(postId, userId))
@@ -429,40 +459,36 @@ class PostLikeServiceTest {
     @DisplayName("좋아요 목록 조회 테스트")
     class GetMyLikesTest {
 
-        @DisplayName("LKB-030: 좋아요 목록 조회 (최신순) - 사용자가 좋아요한 게시글 목록을 최신순으로 조회한다")
+        private static final Instant BASE_TIME = Instant.parse("2026-01-01T00:00:00Z");
+
+        @DisplayName("LKB-030: 좋아요 목록 조회 (최신순) - 조인 Projection 한 번으로 좋아요 수까지 조회한다")
         @Test
         void getMyLikes_ReturnsLikedPostsInDescendingOrder() {
             // given
             Long userId = DEFAULT_MEMBER_ID;
-            Pageable pageable = PageRequest.of(0, 10);
 
             Post post1 = normalPost(generalBoard, anotherMemberUser, 1L);
             Post post2 = normalPost(generalBoard, anotherMemberUser, 2L);
             Post post3 = normalPost(generalBoard, anotherMemberUser, 3L);
 
-            PostLike like1 = PostLike.create(post1, memberUser);
-            PostLike like2 = PostLike.create(post2, memberUser);
-            PostLike like3 = PostLike.create(post3, memberUser);
-            withId(like1, 1L);
-            withId(like2, 2L);
-            withId(like3, 3L);
-
             // 최신순 정렬 (like3 -> like2 -> like1)
-            List<PostLike> likes = List.of(like3, like2, like1);
-            Page<PostLike> likePage = new PageImpl<>(likes, pageable, likes.size());
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(memberUser));
-            given(postLikeRepository.findAllByUserOrderByCreatedAtDesc(memberUser, pageable)).willReturn(likePage);
+            List<LikedPostProjection> rows = List.of(
+                    likedPostRow(post3, 3L, BASE_TIME.plusSeconds(3), 5),
+                    likedPostRow(post2, 2L, BASE_TIME.plusSeconds(2), 0),
+                    likedPostRow(post1, 1L, BASE_TIME.plusSeconds(1), 2)
+            );
+            given(postLikeRepository.findMyLikes(userId, PageRequest.of(0, 11))).willReturn(rows);
 
             // when
-            Page<LikedPostResponse> result = postLikeService.getMyLikes(userId, pageable);
+            CursorPageResponse<LikedPostResponse> result = postLikeService.getMyLikes(userId, null, 10);
 
             // then
-            assertThat(result).isNotNull();
-            assertThat(result.getContent()).hasSize(3);
-            assertThat(result.getContent().get(0).postId()).isEqualTo(3L);
-            assertThat(result.getContent().get(1).postId()).isEqualTo(2L);
-            assertThat(result.getContent().get(2).postId()).isEqualTo(1L);
+            assertThat(result.content()).extracting(LikedPostResponse::postId).containsExactly(3L, 2L, 1L);
+            assertThat(result.content()).extracting(LikedPostResponse::likeCount).containsExactly(5, 0, 2);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+
+            verifyNoInteractions(postCounterService, postRepository);
         }
 
         @DisplayName("좋아요한 게시글이 없는 경우 빈 목록을 반환한다")
@@ -470,148 +496,105 @@ class PostLikeServiceTest {
         void getMyLikes_WhenNoLikes_ReturnsEmptyPage() {
             // given
             Long userId = DEFAULT_MEMBER_ID;
-            Pageable pageable = PageRequest.of(0, 10);
-
-            Page<PostLike> emptyPage = new PageImpl<>(List.of(), pageable, 0);
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(memberUser));
-            given(postLikeRepository.findAllByUserOrderByCreatedAtDesc(memberUser, pageable)).willReturn(emptyPage);
+            given(postLikeRepository.findMyLikes(userId, PageRequest.of(0, 11))).willReturn(List.of());
 
             // when
-            Page<LikedPostResponse> result = postLikeService.getMyLikes(userId, pageable);
+            CursorPageResponse<LikedPostResponse> result = postLikeService.getMyLikes(userId, null, 10);
 
             // then
-            assertThat(result).isNotNull();
-            assertThat(result.getContent()).isEmpty();
-            assertThat(result.getTotalElements()).isZero();
+            assertThat(result.content()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
         }
 
-        @DisplayName("삭제된 게시글도 좋아요 목록에 포함된다")
+        @DisplayName("요청 크기보다 많이 조회되면 마지막 항목 기준의 다음 커서를 반환한다")
         @Test
-        void getMyLikes_IncludesDeletedPosts() {
+        void getMyLikes_WhenMoreRows_ReturnsNextCursor() {
             // given
             Long userId = DEFAULT_MEMBER_ID;
-            Pageable pageable = PageRequest.of(0, 10);
-
-            Post deletedPost = normalPost(generalBoard, anotherMemberUser, 1L);
-            deletedPost.delete(ANOTHER_MEMBER_ID);
 
-            PostLike likeOnDeletedPost = PostLike.create(deletedPost, memberUser);
-            withId(likeOnDeletedPost, 1L);
-
-            Page<PostLike> likePage = new PageImpl<>(List.of(likeOnDeletedPost), pageable, 1);
+            Post post1 = normalPost(generalBoard, anotherMemberUser, 1L);
+            Post post2 = normalPost(generalBoard, anotherMemberUser, 2L);
+            Post post3 = normalPost(generalBoard, anotherMemberUser, 3L);
 
-            given(userRepository.findById(userId)).willReturn(Optional.of(memberUser));
-            given(postLikeRepository.findAllByUserOrderByCreatedAtDesc(memberUser, pageable)).willReturn(likePage);
+            List<LikedPostProjection> rows = List.of(
+                    likedPostRow(post3, 30L, BASE_TIME.plusSeconds(3), 0),
+                    likedPostRow(post2, 20L, BASE_TIME.plusSeconds(2), 0),
+                    likedPostRow(post1, 10L, BASE_TIME.plusSeconds(1), 0)
+            );
+            given(postLikeRepository.findMyLikes(userId, PageRequest.of(0, 3))).willReturn(rows);
 
             // when
-            Page<LikedPostResponse> result = postLikeService.getMyLikes(userId, pageable);
+            CursorPageResponse<LikedPostResponse> result = postLikeService.getMyLikes(userId, null, 2);
 
             // then
-            assertThat(result).isNotNull();
-            assertThat(result.getContent()).hasSize(1);
-            LikedPostResponse response = result.getContent().get(0);
-            assertThat(response.isDeleted()).isTrue();
-            assertThat(response.title()).isNull();
-            assertThat(response.deletedMessage()).isEqualTo("삭제된 게시글입니다");
-        }
-
-        @DisplayName("존재하지 않는 사용자의 좋아요 목록 조회 시 UserNotFoundException 발생")
-        @Test
-        void getMyLikes_WithNonExistentUser_ThrowsUserNotFoundException() {
-            // given
-            Long userId = 999L;
-            Pageable pageable = PageRequest.of(0, 10);
-
-            given(userRepository.findById(userId)).willReturn(Optional.empty());
-
-            // when & then
-            assertThatThrownBy(() -> postLikeService.getMyLikes(userId, pageable))
-                    .isInstanceOf(UserNotFoundException.class);
+            assertThat(result.content()).extracting(LikedPostResponse::postId).containsExactly(3L, 2L);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(CreatedAtCursor.decode(result.nextCursor()))
+                    .isEqualTo(CreatedAtCursor.of(BASE_TIME.plusSeconds(2), 20L));
         }
 
-        @DisplayName("페이징이 올바르게 적용된다")
+        @DisplayName("커서가 주어지면 커서 이후 목록을 조회한다")
         @Test
-        void getMyLikes_AppliesPagingCorrectly() {
+        void getMyLikes_WithCursor_QueriesAfterCursor() {
             // given
             Long userId = DEFAULT_MEMBER_ID;
-            Pageable pageable = PageRequest.of(1, 2); // 두 번째 페이지, 페이지당 2개
-
-            Post post1 = normalPost(generalBoard, anotherMemberUser, 3L);
-            PostLike like1 = PostLike.create(post1, memberUser);
-            withId(like1, 3L);
+            CreatedAtCursor cursor = CreatedAtCursor.of(BASE_TIME.plusSeconds(2), 20L);
 
-            // 전체 5개 중 두 번째 페이지 (인덱스 2, 3)
-            List<PostLike> secondPageLikes = List.of(like1);
-            Page<PostLike> likePage = new PageImpl<>(secondPageLikes, pageable, 5);
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(memberUser));
-            given(postLikeRepository.findAllByUserOrderByCreatedAtDesc(memberUser, pageable)).willReturn(likePage);
+            Post post1 = normalPost(generalBoard, anotherMemberUser, 1L);
+            given(postLikeRepository.findMyLikesAfter(userId, cursor.createdAt(), cursor.id(), PageRequest.of(0, 3)))
+                    .willReturn(List.of(likedPostRow(post1, 10L, BASE_TIME.plusSeconds(1), 0)));
 
             // when
-            Page<LikedPostResponse> result = postLikeService.getMyLikes(userId, pageable);
+            CursorPageResponse<LikedPostResponse> result = postLikeService.getMyLikes(userId, cursor.encode(), 2);
 
             // then
-            assertThat(result).isNotNull();
-            assertThat(result.getNumber()).isEqualTo(1); // 두 번째 페이지 (0-indexed)
-            assertThat(result.getSize()).isEqualTo(2);
-            assertThat(result.getTotalElements()).isEqualTo(5);
-            assertThat(result.getTotalPages()).isEqualTo(3); // 5개를 2개씩 나누면 3페이지
+            assertThat(result.content()).extracting(LikedPostResponse::postId).containsExactly(1L);
+            assertThat(result.hasNext()).isFalse();
+            verify(postLikeRepository, never()).findMyLikes(anyLong(), any());
         }
 
-        @DisplayName("익명 게시글의 좋아요 목록 조회 시 작성자 이름이 '익명'으로 표시된다")
+        @DisplayName("형식이 잘못된 커서는 InvalidCursorException 발생")
         @Test
-        void getMyLikes_AnonymousPostShowsAnonymousAuthor() {
-            // given
-            Long userId = DEFAULT_MEMBER_ID;
-            Pageable pageable = PageRequest.of(0, 10);
-
-            Post anonymousPost = anonymousPost(generalBoard, anotherMemberUser, 1L);
-            PostLike likeOnAnonymousPost = PostLike.create(anonymousPost, memberUser);
-            withId(likeOnAnonymousPost, 1L);
+        void getMyLikes_WithMalformedCursor_ThrowsInvalidCursorException() {
+            // when & then
+            assertThatThrownBy(() -> postLikeService.getMyLikes(DEFAULT_MEMBER_ID, "not-a-cursor", 10))
+                    .isInstanceOf(InvalidCursorException.class);
 
-            Page<PostLike> likePage = new PageImpl<>(List.of(likeOnAnonymousPost), pageable, 1);
+            verifyNoInteractions(postLikeRepository);
+        }
 
-            given(userRepository.findById(userId)).willReturn(Optional.of(memberUser));
-            given(postLikeRepository.findAllByUserOrderByCreatedAtDesc(memberUser, pageable)).willReturn(likePage);
+        @DisplayName("페이지 크기는 최대값으로 제한된다")
+        @Test
+        void getMyLikes_ClampsPageSize() {
+            // given
+            Long userId = DEFAULT_MEMBER_ID;
+            given(postLikeRepository.findMyLikes(userId, PageRequest.of(0, CursorPageResponse.MAX_SIZE + 1)))
+                    .willReturn(List.of());
 
             // when
-            Page<LikedPostResponse> result = postLikeService.getMyLikes(userId, pageable);
+            postLikeService.getMyLikes(userId, null, 10_000);
 
             // then
-            assertThat(result).isNotNull();
-            assertThat(result.getContent()).hasSize(1);
-            LikedPostResponse response = result.getContent().get(0);
-            assertThat(response.authorName()).isEqualTo("익명");
+            verify(postLikeRepository).findMyLikes(userId, PageRequest.of(0, CursorPageResponse.MAX_SIZE + 1));
         }
-    }
-
-    @Nested
-    @DisplayName("좋아요 수 경계값 테스트")
-    class LikeCountEdgeCaseTest {
 
-        @DisplayName("좋아요 수가 0일 때 취소해도 음수가 되지 않는다")
+        @DisplayName("익명 게시글의 좋아요 목록 조회 시 작성자 이름이 '익명'으로 표시된다")
         @Test
-        void toggleLike_WhenLikeCountIsZero_DoesNotGoNegative() {
+        void getMyLikes_AnonymousPostShowsAnonymousAuthor() {
             // given
-            Long postId = DEFAULT_POST_ID;
             Long userId = DEFAULT_MEMBER_ID;
-            PostLike existingLike = PostLike.create(normalPost, memberUser);
-            withId(existingLike, 1L);
-
-            // 좋아요 수가 0인 상태 (비정상적인 상황이지만 방어 코드 테스트)
-            assertThat(normalPost.getLikeCount()).isZero();
 
-            given(postRepository.findById(postId)).willReturn(Optional.of(normalPost));
-            given(userRepository.findById(userId)).willReturn(Optional.of(memberUser));
-            given(postLikeRepository.findByPostAndUser(normalPost, memberUser)).willReturn(Optional.of(existingLike));
-            given(postRepository.save(any(Post.class))).willReturn(normalPost);
+            Post anonymousPost = anonymousPost(generalBoard, anotherMemberUser, 1L);
+            given(postLikeRepository.findMyLikes(userId, PageRequest.of(0, 11)))
+                    .willReturn(List.of(likedPostRow(anonymousPost, 1L, BASE_TIME, 0)));
 
             // when
-            PostLikeToggleResponse response = postLikeService.toggleLike(postId, userId);
+            CursorPageResponse<LikedPostResponse> result = postLikeService.getMyLikes(userId, null, 10);
 
             // then
-            assertThat(response.likeCount()).isGreaterThanOrEqualTo(0);
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.content().get(0).authorName()).isEqualTo("익명");
         }
     }
 }
@@ -604,7 +604,7 @@ class PostControllerTest extends ServiceIntegrationTestBase {
         void getPostDetail_IncreasesViewCount() throws Exception {
             // given
             Post post = createAndSavePost(generalBoard, memberUser, "조회수 테스트", "조회수 내용");
-            int initialViewCount = post.getViewCount();
+            int initialViewCount = 0; // 카운터 행이 없는 게시글은 첫 조회 시 카운터가 생성됨
 
             // when: 조회
             mockMvc.perform(get(BASE_URL + "/general/posts/" + post.getId())
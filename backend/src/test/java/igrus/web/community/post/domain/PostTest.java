@@ -39,10 +39,10 @@ class PostTest {
             // then
             assertThat(post).isNotNull();
             assertThat(post.getBoard()).isEqualTo(board);
-            assertThat(post.getAuthor()).isEqualTo(author);
+            assertThat(post.getAuthor().getId()).isEqualTo(author.getId());
+            assertThat(post.getAuthor().getDisplayName()).isEqualTo(author.getName());
             assertThat(post.getTitle()).isEqualTo(title);
             assertThat(post.getContent()).isEqualTo(content);
-            assertThat(post.getViewCount()).isZero();
             assertThat(post.isAnonymous()).isFalse();
             assertThat(post.isQuestion()).isFalse();
             assertThat(post.isVisibleToAssociate()).isFalse();
@@ -101,7 +101,8 @@ class PostTest {
             assertThat(post).isNotNull();
             assertThat(post.isAnonymous()).isTrue();
             assertThat(post.getBoard()).isEqualTo(board);
-            assertThat(post.getAuthor()).isEqualTo(author);
+            assertThat(post.getAuthor().getId()).isEqualTo(author.getId());
+            assertThat(post.getAuthor().getDisplayName()).isEqualTo(author.getName());
             assertThat(post.getTitle()).isEqualTo(title);
             assertThat(post.getContent()).isEqualTo(content);
         }
@@ -263,44 +264,6 @@ class PostTest {
         }
     }
 
-    @Nested
-    @DisplayName("incrementViewCount 메서드")
-    class IncrementViewCountTest {
-
-        @Test
-        @DisplayName("조회수 1 증가")
-        void incrementViewCount_IncrementsBy1() {
-            // given
-            Board board = generalBoard();
-            User author = createMemberWithId();
-            Post post = Post.createPost(board, author, "제목", "내용");
-            assertThat(post.getViewCount()).isZero();
-
-            // when
-            post.incrementViewCount();
-
-            // then
-            assertThat(post.getViewCount()).isEqualTo(1);
-        }
-
-        @Test
-        @DisplayName("여러 번 호출 시 조회수 누적")
-        void incrementViewCount_MultipleIncrements_Accumulates() {
-            // given
-            Board board = generalBoard();
-            User author = createMemberWithId();
-            Post post = Post.createPost(board, author, "제목", "내용");
-
-            // when
-            post.incrementViewCount();
-            post.incrementViewCount();
-            post.incrementViewCount();
-
-            // then
-            assertThat(post.getViewCount()).isEqualTo(3);
-        }
-    }
-
     @Nested
     @DisplayName("canModify 메서드")
     class CanModifyTest {
@@ -1,6 +1,7 @@
 package igrus.web.community.post.dto.response;
 
 import igrus.web.community.post.domain.Post;
+import igrus.web.community.post.domain.PostCounter;
 import igrus.web.user.domain.User;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,14 +14,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DisplayName("PostDetailResponse DTO 단위 테스트")
 class PostDetailResponseTest {
 
-    @DisplayName("탈퇴한 사용자(author=null)의 일반 게시글 - authorId=null, authorName='탈퇴한 사용자'")
+    @DisplayName("탈퇴한 사용자(soft-deleted 작성자)의 일반 게시글 - authorId=null, authorName='탈퇴한 사용자'")
     @Test
-    void from_NullAuthor_NormalPost_ReturnsWithdrawnDisplayName() {
+    void from_WithdrawnAuthor_NormalPost_ReturnsWithdrawnDisplayName() {
         // given
-        Post post = normalPostWithNullAuthor(generalBoard());
+        Post post = normalPostWithWithdrawnAuthor(generalBoard());
 
         // when
-        PostDetailResponse response = PostDetailResponse.from(post, false, false, false);
+        PostDetailResponse response = PostDetailResponse.from(post, PostCounter.create(post.getId()), false, false, false);
 
         // then
         assertThat(response.authorId()).isNull();
@@ -31,18 +32,33 @@ class PostDetailResponseTest {
         assertThat(response.content()).isEqualTo(DEFAULT_POST_CONTENT);
     }
 
-    @DisplayName("탈퇴한 사용자(author=null)의 익명 게시글 - authorId=null, authorName='익명'")
+    @DisplayName("탈퇴한 사용자(soft-deleted 작성자)의 익명 게시글 - authorId=null, authorName='익명'")
     @Test
-    void from_NullAuthor_AnonymousPost_ReturnsAnonymousName() {
+    void from_WithdrawnAuthor_AnonymousPost_ReturnsAnonymousName() {
         // given
-        Post post = anonymousPostWithNullAuthor(generalBoard());
+        Post post = anonymousPostWithWithdrawnAuthor(generalBoard());
 
         // when
-        PostDetailResponse response = PostDetailResponse.from(post, false, false, false);
+        PostDetailResponse response = PostDetailResponse.from(post, PostCounter.create(post.getId()), false, false, false);
 
         // then
         assertThat(response.authorId()).isNull();
         assertThat(response.authorName()).isEqualTo("익명");
         assertThat(response.isAnonymous()).isTrue();
     }
+
+    @DisplayName("조회수/좋아요 수/댓글 수는 게시글 카운터 값을 사용")
+    @Test
+    void from_WithCounter_ReturnsCounterValues() {
+        // given
+        Post post = normalPostWithWithdrawnAuthor(generalBoard());
+
+        // when
+        PostDetailResponse response = PostDetailResponse.from(post, postCounter(post.getId(), 10, 3, 4), false, false, false);
+
+        // then
+        assertThat(response.viewCount()).isEqualTo(10);
+        assertThat(response.likeCount()).isEqualTo(3);
+        assertThat(response.commentCount()).isEqualTo(4);
+    }
 }
@@ -12,31 +12,61 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DisplayName("PostListResponse DTO 단위 테스트")
 class PostListResponseTest {
 
-    @DisplayName("탈퇴한 사용자(author=null)의 일반 게시글 - authorName='탈퇴한 사용자'")
+    @DisplayName("탈퇴한 사용자(soft-deleted 작성자)의 일반 게시글 - authorName='탈퇴한 사용자'")
     @Test
-    void from_NullAuthor_NormalPost_ReturnsWithdrawnDisplayName() {
+    void from_WithdrawnAuthor_NormalPost_ReturnsWithdrawnDisplayName() {
         // given
-        Post post = normalPostWithNullAuthor(generalBoard());
+        Post post = normalPostWithWithdrawnAuthor(generalBoard());
 
         // when
-        PostListResponse response = PostListResponse.from(post);
+        PostListResponse response = PostListResponse.from(listRow(post));
 
         // then
         assertThat(response.authorName()).isEqualTo(User.WITHDRAWN_DISPLAY_NAME);
         assertThat(response.isAnonymous()).isFalse();
     }
 
-    @DisplayName("탈퇴한 사용자(author=null)의 익명 게시글 - authorName='익명'")
+    @DisplayName("탈퇴한 사용자(soft-deleted 작성자)의 익명 게시글 - authorName='익명'")
     @Test
-    void from_NullAuthor_AnonymousPost_ReturnsAnonymousName() {
+    void from_WithdrawnAuthor_AnonymousPost_ReturnsAnonymousName() {
         // given
-        Post post = anonymousPostWithNullAuthor(generalBoard());
+        Post post = anonymousPostWithWithdrawnAuthor(generalBoard());
 
         // when
-        PostListResponse response = PostListResponse.from(post);
+        PostListResponse response = PostListResponse.from(listRow(post));
 
         // then
         assertThat(response.authorName()).isEqualTo("익명");
         assertThat(response.isAnonymous()).isTrue();
     }
+
+    @DisplayName("조회수/좋아요 수는 카운터 조인 값, 댓글 수는 전달된 집계값을 사용")
+    @Test
+    void from_WithCounts_ReturnsLikeAndCommentCount() {
+        // given
+        Post post = normalPostWithWithdrawnAuthor(generalBoard());
+
+        // when
+        PostListResponse response = PostListResponse.from(listRow(post, 7, 2, 5));
+
+        // then
+        assertThat(response.viewCount()).isEqualTo(7);
+        assertThat(response.likeCount()).isEqualTo(2);
+        assertThat(response.commentCount()).isEqualTo(5);
+    }
+
+    @DisplayName("목록 응답에는 본문 대신 공백이 정리된 요약이 포함된다")
+    @Test
+    void from_LongContent_ReturnsNormalizedExcerpt() {
+        // given
+        String content = "첫 줄\n\n둘째   줄 " + "가".repeat(200);
+        Post post = Post.createPost(generalBoard(), null, "제목", content);
+
+        // when
+        PostListResponse response = PostListResponse.from(listRow(post));
+
+        // then
+        assertThat(response.excerpt()).startsWith("첫 줄 둘째 줄 가");
+        assertThat(response.excerpt()).hasSize(Post.EXCERPT_LENGTH);
+    }
 }
@@ -0,0 +1,201 @@
+package igrus.web.community.post.integration;
+
+import igrus.web.common.ServiceIntegrationTestBase;
+import igrus.web.community.board.domain.Board;
+import igrus.web.community.board.domain.BoardCode;
+import igrus.web.community.board.repository.BoardRepository;
+import igrus.web.community.comment.domain.Comment;
+import igrus.web.community.comment.repository.CommentRepository;
+import igrus.web.community.post.domain.Post;
+import igrus.web.community.post.repository.PostRepository;
+import igrus.web.user.domain.User;
+import igrus.web.user.domain.UserRole;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글/댓글 작성자 지연 로딩 통합 테스트.
+ *
+ * <p>작성자 연관관계가 @NotFound 없이 {@code AuthorSnapshot}으로 매핑되어
+ * 엔티티 조회 시 작성자 SELECT가 즉시 실행되지 않고, 접근 시 한 번의 배치 쿼리로 로딩되는지 검증합니다.
+ *
+ * <p>테스트 시나리오:
+ * <ul>
+ *     <li>AUT-001: 댓글 페이지 조회 시 작성자를 fetch join으로 함께 로딩</li>
+ *     <li>AUT-002: 댓글 작성자 접근 시 추가 쿼리 없음 (탈퇴 작성자 포함)</li>
+ *     <li>AUT-003: 게시글 목록 조회 시 작성자를 즉시 로딩하지 않음</li>
+ *     <li>AUT-004: 게시글 작성자 접근 시 작성자들을 한 번의 배치 쿼리로 로딩</li>
+ *     <li>AUT-005: 탈퇴(soft-deleted) 작성자도 예외 없이 "탈퇴한 사용자"로 표시</li>
+ *     <li>AUT-006: 작성자 여부 확인은 작성자 프록시를 초기화하지 않음</li>
+ * </ul>
+ */
+@DisplayName("작성자 지연 로딩 통합 테스트")
+class AuthorLazyLoadingIntegrationTest extends ServiceIntegrationTestBase {
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Statistics statistics;
+
+    private User author1;
+    private User author2;
+    private User withdrawnAuthor;
+    private List<Long> postIds;
+    private Long commentedPostId;
+    private Long commentId;
+
+    @BeforeEach
+    void setUp() {
+        setUpBase();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        author1 = createAndSaveUser("20200001", "author1@inha.edu", UserRole.MEMBER);
+        author2 = createAndSaveUser("20200002", "author2@inha.edu", UserRole.MEMBER);
+        withdrawnAuthor = createAndSaveUser("20200003", "author3@inha.edu", UserRole.MEMBER);
+
+        Board board = boardRepository.save(
+                Board.create(BoardCode.GENERAL, "자유게시판", "자유롭게 이야기를 나눌 수 있는 공간입니다.", true, true, 2));
+
+        Post post1 = postRepository.save(Post.createPost(board, author1, "게시글1", "내용1"));
+        Post post2 = postRepository.save(Post.createPost(board, author2, "게시글2", "내용2"));
+        Post post3 = postRepository.save(Post.createPost(board, withdrawnAuthor, "게시글3", "내용3"));
+        postIds = List.of(post1.getId(), post2.getId(), post3.getId());
+        commentedPostId = post1.getId();
+
+        commentId = commentRepository.save(Comment.createComment(post1, author1, "댓글1", false)).getId();
+        commentRepository.save(Comment.createComment(post1, author2, "댓글2", false));
+        commentRepository.save(Comment.createComment(post1, withdrawnAuthor, "댓글3", false));
+
+        // 탈퇴 처리 (User의 @SQLRestriction에 의해 User로는 조회되지 않는 상태)
+        transactionTemplate.execute(status -> entityManager.createNativeQuery(
+                        "UPDATE users SET users_deleted = true, users_status = 'WITHDRAWN' WHERE users_id = :id")
+                .setParameter("id", withdrawnAuthor.getId())
+                .executeUpdate());
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Nested
+    @DisplayName("댓글 작성자 로딩")
+    class CommentAuthorTest {
+
+        @DisplayName("AUT-001, AUT-002: 댓글 페이지 조회 시 작성자를 함께 읽어 작성자 접근에 추가 쿼리가 없다")
+        @Test
+        void findCommentPage_FetchesAuthorsInSameQuery() {
+            transactionTemplate.executeWithoutResult(status -> {
+                statistics.clear();
+
+                // when: 최상위 댓글 첫 페이지 조회
+                List<Comment> comments = commentRepository.findTopLevelByPostId(commentedPostId, PageRequest.of(0, 10));
+
+                // then: 댓글과 작성자를 한 번의 SELECT로 조회 (탈퇴 작성자의 댓글도 포함)
+                assertThat(comments).hasSize(3);
+                assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+                assertThat(comments).allSatisfy(comment ->
+                        assertThat(Hibernate.isInitialized(comment.getAuthor())).isTrue());
+
+                // when: 작성자 표시 이름 접근
+                List<String> authorNames = comments.stream()
+                        .map(comment -> comment.getAuthor().getDisplayName())
+                        .toList();
+
+                // then: 추가 쿼리 없음
+                assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+                assertThat(authorNames).containsExactly(
+                        author1.getName(), author2.getName(), User.WITHDRAWN_DISPLAY_NAME);
+            });
+        }
+
+        @DisplayName("AUT-006: 댓글 작성자 여부 확인은 작성자를 로딩하지 않는다")
+        @Test
+        void isAuthor_DoesNotInitializeAuthor() {
+            transactionTemplate.executeWithoutResult(status -> {
+                statistics.clear();
+
+                Comment comment = commentRepository.findById(commentId).orElseThrow();
+                boolean writtenByAuthor1 = comment.isAuthor(author1);
+
+                assertThat(writtenByAuthor1).isTrue();
+                assertThat(Hibernate.isInitialized(comment.getAuthor())).isFalse();
+                assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("게시글 작성자 로딩")
+    class PostAuthorTest {
+
+        @DisplayName("AUT-003, AUT-004: 게시글 조회 시 작성자는 지연 로딩되고, 접근 시 한 번의 배치 쿼리로 로딩된다")
+        @Test
+        void findPosts_LoadsAuthorsLazilyInOneBatch() {
+            transactionTemplate.executeWithoutResult(status -> {
+                statistics.clear();
+
+                // when: 게시글 조회
+                List<Post> posts = postRepository.findAllById(postIds);
+
+                // then: 게시글 SELECT 한 번만 실행 (작성자 SELECT 없음)
+                assertThat(posts).hasSize(3);
+                assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+                // when: 작성자 표시 정보 접근
+                posts.forEach(post -> post.getAuthor().getDisplayName());
+
+                // then: 작성자 3명을 한 번의 배치 쿼리로 로딩
+                assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+            });
+        }
+
+        @DisplayName("AUT-005: 탈퇴한 작성자의 게시글도 작성자가 로딩되며 \"탈퇴한 사용자\"로 표시된다")
+        @Test
+        void withdrawnAuthor_IsLoadedAndDisplayedAsWithdrawn() {
+            transactionTemplate.executeWithoutResult(status -> {
+                Post post = postRepository.findById(postIds.get(2)).orElseThrow();
+
+                assertThat(post.getAuthor().getId()).isEqualTo(withdrawnAuthor.getId());
+                assertThat(post.getAuthor().isWithdrawn()).isTrue();
+                assertThat(post.getAuthor().getDisplayName()).isEqualTo(User.WITHDRAWN_DISPLAY_NAME);
+                assertThat(post.getAuthor().getDisplayId()).isNull();
+            });
+        }
+
+        @DisplayName("AUT-006: 게시글 수정 권한 확인은 작성자를 로딩하지 않는다")
+        @Test
+        void canModify_DoesNotInitializeAuthor() {
+            transactionTemplate.executeWithoutResult(status -> {
+                statistics.clear();
+
+                Post post = postRepository.findAllById(List.of(postIds.get(0))).get(0);
+
+                assertThat(post.canModify(author1)).isTrue();
+                assertThat(post.canModify(author2)).isFalse();
+                assertThat(Hibernate.isInitialized(post.getAuthor())).isFalse();
+                assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            });
+        }
+    }
+}
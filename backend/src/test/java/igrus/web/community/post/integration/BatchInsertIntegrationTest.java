@@ -0,0 +1,115 @@
+package igrus.web.community.post.integration;
+
+import igrus.web.common.QueryCounter;
+import igrus.web.common.ServiceIntegrationTestBase;
+import igrus.web.community.board.domain.Board;
+import igrus.web.community.board.domain.BoardCode;
+import igrus.web.community.board.repository.BoardRepository;
+import igrus.web.community.comment.domain.Comment;
+import igrus.web.community.comment.repository.CommentRepository;
+import igrus.web.community.post.domain.Post;
+import igrus.web.community.post.domain.PostImage;
+import igrus.web.community.post.repository.PostRepository;
+import igrus.web.user.domain.User;
+import igrus.web.user.domain.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시퀀스 ID 엔티티의 INSERT 배치 통합 테스트.
+ *
+ * <p>게시글/이미지/댓글이 pooled 시퀀스로 ID를 미리 할당받아, 여러 행을 저장할 때
+ * 테이블별로 한 번의 배치 INSERT로 실행되는지 검증합니다.
+ * 시퀀스 할당 쿼리가 섞이지 않도록 측정 전에 한 번 저장해 ID 블록을 미리 할당받습니다.
+ *
+ * <p>테스트 시나리오:
+ * <ul>
+ *     <li>BAT-001: 게시글과 이미지 5개 저장 시 INSERT 문 2개 (게시글 1, 이미지 배치 1)</li>
+ *     <li>BAT-002: 댓글 10개 저장 시 INSERT 문 1개 (댓글 배치 1)</li>
+ * </ul>
+ */
+@DisplayName("INSERT 배치 통합 테스트")
+class BatchInsertIntegrationTest extends ServiceIntegrationTestBase {
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private User author;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        setUpBase();
+        author = createAndSaveUser("20200001", "author@inha.edu", UserRole.MEMBER);
+        board = boardRepository.save(
+                Board.create(BoardCode.GENERAL, "자유게시판", "자유롭게 이야기를 나눌 수 있는 공간입니다.", true, true, 2));
+
+        // ID 블록 미리 할당
+        Post warmUp = createPostWithImages(1);
+        commentRepository.save(Comment.createComment(warmUp, author, "댓글", false));
+    }
+
+    private Post createPostWithImages(int imageCount) {
+        return transactionTemplate.execute(status -> {
+            Post post = Post.createPost(board, author, "게시글", "내용");
+            for (int i = 0; i < imageCount; i++) {
+                post.addImage(PostImage.create(post, "https://example.com/image-" + i + ".png", i));
+            }
+            return postRepository.save(post);
+        });
+    }
+
+    @Nested
+    @DisplayName("배치 INSERT")
+    class BatchTest {
+
+        @DisplayName("BAT-001: 게시글과 이미지 5개를 저장하면 게시글 INSERT 1개, 이미지 배치 INSERT 1개만 실행된다")
+        @Test
+        void savePostWithImages_BatchesImageInserts() {
+            // when
+            QueryCounter.Result<Post> result = new QueryCounter(entityManager.getEntityManagerFactory())
+                    .count(() -> createPostWithImages(5));
+
+            // then
+            assertThat(result.statementCount()).isEqualTo(2);
+            assertThat(result.value().getImages())
+                    .extracting(PostImage::getId)
+                    .doesNotContainNull()
+                    .doesNotHaveDuplicates();
+        }
+
+        @DisplayName("BAT-002: 댓글 10개를 한 트랜잭션에서 저장하면 배치 INSERT 1개만 실행된다")
+        @Test
+        void saveComments_BatchesInserts() {
+            // given
+            Post post = createPostWithImages(0);
+
+            // when
+            List<Comment> saved = assertQueryCount(1, () -> transactionTemplate.execute(status -> {
+                List<Comment> comments = new ArrayList<>();
+                for (int i = 0; i < 10; i++) {
+                    comments.add(Comment.createComment(post, author, "댓글 " + i, false));
+                }
+                return commentRepository.saveAll(comments);
+            }));
+
+            // then
+            assertThat(saved).extracting(Comment::getId).doesNotContainNull().doesNotHaveDuplicates();
+            assertThat(commentRepository.count()).isEqualTo(11);
+        }
+    }
+}
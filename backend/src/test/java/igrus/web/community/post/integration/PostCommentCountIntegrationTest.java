@@ -0,0 +1,177 @@
+package igrus.web.community.post.integration;
+
+import igrus.web.common.ServiceIntegrationTestBase;
+import igrus.web.community.board.domain.Board;
+import igrus.web.community.board.domain.BoardCode;
+import igrus.web.community.board.repository.BoardRepository;
+import igrus.web.community.comment.dto.response.CommentResponse;
+import igrus.web.community.comment.service.CommentService;
+import igrus.web.community.post.domain.Post;
+import igrus.web.community.post.domain.PostCounter;
+import igrus.web.community.post.repository.PostCounterRepository;
+import igrus.web.community.post.repository.PostRepository;
+import igrus.web.community.post.service.PostCounterService;
+import igrus.web.user.domain.User;
+import igrus.web.user.domain.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static igrus.web.community.fixture.CommentTestFixture.createCommentRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 댓글 수 카운터 통합 테스트.
+ *
+ * <p>댓글 수가 post_counters에 비정규화되어 작성/삭제 시 증감되고, 재집계로 보정되는지 검증합니다.
+ *
+ * <p>테스트 시나리오:
+ * <ul>
+ *     <li>CNT-001: 댓글/대댓글 작성 시 댓글 수 증가 (카운터 행이 없던 게시글 포함)</li>
+ *     <li>CNT-002: 댓글 삭제 시 댓글 수 감소, 이미 삭제된 댓글은 다시 감소시키지 않음</li>
+ *     <li>CNT-003: 재집계 시 삭제되지 않은 댓글 수로 보정</li>
+ *     <li>CNT-004: 같은 댓글을 동시에 삭제해도 댓글 수는 한 번만 감소</li>
+ * </ul>
+ */
+@DisplayName("게시글 댓글 수 카운터 통합 테스트")
+class PostCommentCountIntegrationTest extends ServiceIntegrationTestBase {
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostCounterRepository postCounterRepository;
+
+    @Autowired
+    private PostCounterService postCounterService;
+
+    @Autowired
+    private CommentService commentService;
+
+    private User memberUser;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        setUpBase();
+        memberUser = createAndSaveUser("20200001", "member@inha.edu", UserRole.MEMBER);
+
+        Board board = boardRepository.save(
+                Board.create(BoardCode.GENERAL, "자유게시판", "자유롭게 이야기를 나눌 수 있는 공간입니다.", true, true, 2));
+        post = postRepository.save(Post.createPost(board, memberUser, "게시글", "내용"));
+    }
+
+    private int commentCount() {
+        return postCounterRepository.findById(post.getId())
+                .map(PostCounter::getCommentCount)
+                .orElse(0);
+    }
+
+    @Nested
+    @DisplayName("댓글 작성/삭제 시 댓글 수 증감")
+    class IncrementDecrementTest {
+
+        @DisplayName("CNT-001: 댓글과 대댓글 작성 시 댓글 수가 증가한다")
+        @Test
+        void createCommentAndReply_IncrementsCount() {
+            // when
+            CommentResponse comment = commentService.createComment(post.getId(), createCommentRequest(), memberUser.getId());
+            commentService.createReply(post.getId(), comment.getId(), createCommentRequest(), memberUser.getId());
+
+            // then
+            assertThat(commentCount()).isEqualTo(2);
+        }
+
+        @DisplayName("CNT-002: 댓글 삭제 시 댓글 수가 감소하고, 같은 댓글을 다시 삭제해도 더 감소하지 않는다")
+        @Test
+        void deleteComment_DecrementsCountOnce() {
+            // given
+            CommentResponse first = commentService.createComment(post.getId(), createCommentRequest(), memberUser.getId());
+            commentService.createComment(post.getId(), createCommentRequest(), memberUser.getId());
+
+            // when
+            commentService.deleteComment(post.getId(), first.getId(), memberUser.getId());
+            commentService.deleteComment(post.getId(), first.getId(), memberUser.getId());
+
+            // then
+            assertThat(commentCount()).isEqualTo(1);
+        }
+
+        @DisplayName("CNT-004: 같은 댓글을 동시에 삭제해도 댓글 수는 한 번만 감소한다")
+        @Test
+        void deleteComment_Concurrently_DecrementsCountOnce() throws InterruptedException {
+            // given
+            CommentResponse first = commentService.createComment(post.getId(), createCommentRequest(), memberUser.getId());
+            commentService.createComment(post.getId(), createCommentRequest(), memberUser.getId());
+
+            int threadCount = 5;
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch startLatch = new CountDownLatch(1);
+            CountDownLatch endLatch = new CountDownLatch(threadCount);
+            List<Throwable> errors = new CopyOnWriteArrayList<>();
+
+            // when
+            for (int i = 0; i < threadCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        startLatch.await();
+                        commentService.deleteComment(post.getId(), first.getId(), memberUser.getId());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (Throwable e) {
+                        errors.add(e);
+                    } finally {
+                        endLatch.countDown();
+                    }
+                });
+            }
+
+            startLatch.countDown();
+            endLatch.await(10, TimeUnit.SECONDS);
+            executorService.shutdown();
+
+            // then
+            assertThat(errors).isEmpty();
+            assertThat(commentCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("댓글 수 재집계")
+    class SyncTest {
+
+        @DisplayName("CNT-003: 어긋난 댓글 수를 삭제되지 않은 댓글 수로 보정한다")
+        @Test
+        void syncCommentCounts_CorrectsDrift() {
+            // given: 댓글 3개 중 1개 삭제 후 카운터를 임의 값으로 변경
+            CommentResponse first = commentService.createComment(post.getId(), createCommentRequest(), memberUser.getId());
+            commentService.createComment(post.getId(), createCommentRequest(), memberUser.getId());
+            commentService.createReply(post.getId(), first.getId(), createCommentRequest(), memberUser.getId());
+            commentService.deleteComment(post.getId(), first.getId(), memberUser.getId());
+
+            transactionTemplate.execute(status -> entityManager.createNativeQuery(
+                            "UPDATE post_counters SET post_counters_comment_count = 10 WHERE post_counters_post_id = :postId")
+                    .setParameter("postId", post.getId())
+                    .executeUpdate());
+
+            // when
+            int synced = postCounterService.syncCommentCounts();
+
+            // then
+            assertThat(synced).isEqualTo(1);
+            assertThat(commentCount()).isEqualTo(2);
+        }
+    }
+}
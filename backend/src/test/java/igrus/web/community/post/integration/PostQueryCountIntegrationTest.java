@@ -0,0 +1,109 @@
+package igrus.web.community.post.integration;
+
+import igrus.web.common.ServiceIntegrationTestBase;
+import igrus.web.community.board.domain.Board;
+import igrus.web.community.board.domain.BoardCode;
+import igrus.web.community.board.domain.BoardPermission;
+import igrus.web.community.board.repository.BoardPermissionRepository;
+import igrus.web.community.board.repository.BoardRepository;
+import igrus.web.community.post.domain.Post;
+import igrus.web.community.post.dto.response.PostListPageResponse;
+import igrus.web.community.post.repository.PostRepository;
+import igrus.web.community.post.service.PostService;
+import igrus.web.security.auth.common.domain.AuthenticatedUser;
+import igrus.web.user.domain.User;
+import igrus.web.user.domain.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록 조회 쿼리 수 회귀 테스트.
+ *
+ * <p>게시글/작성자 수가 늘어나도 게시글 목록 조회의 SQL 문 수가 일정한지 검증합니다.
+ * (사용자, 게시판, 읽기 권한, 목록, 전체 개수)
+ *
+ * <p>테스트 시나리오:
+ * <ul>
+ *     <li>QRY-003: 게시글 목록 조회는 게시글 수와 무관하게 5개 이하의 SQL 문으로 처리</li>
+ *     <li>QRY-004: 검색어가 있는 게시글 목록 조회도 5개 이하의 SQL 문으로 처리</li>
+ * </ul>
+ */
+@DisplayName("게시글 목록 조회 쿼리 수 통합 테스트")
+class PostQueryCountIntegrationTest extends ServiceIntegrationTestBase {
+
+    private static final int POST_COUNT = 25;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardPermissionRepository boardPermissionRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostService postService;
+
+    private AuthenticatedUser memberAuth;
+
+    @BeforeEach
+    void setUp() {
+        setUpBase();
+        List<User> authors = List.of(
+                createAndSaveUser("20200001", "author1@inha.edu", UserRole.MEMBER),
+                createAndSaveUser("20200002", "author2@inha.edu", UserRole.MEMBER),
+                createAndSaveUser("20200003", "author3@inha.edu", UserRole.MEMBER));
+        User member = authors.get(0);
+        memberAuth = new AuthenticatedUser(member.getId(), member.getStudentId(), member.getRole().name());
+
+        Board board = boardRepository.save(
+                Board.create(BoardCode.GENERAL, "자유게시판", "자유롭게 이야기를 나눌 수 있는 공간입니다.", true, true, 2));
+        boardPermissionRepository.save(BoardPermission.create(board, UserRole.ASSOCIATE, false, false));
+        boardPermissionRepository.save(BoardPermission.create(board, UserRole.MEMBER, true, true));
+        boardPermissionRepository.save(BoardPermission.create(board, UserRole.OPERATOR, true, true));
+        boardPermissionRepository.save(BoardPermission.create(board, UserRole.ADMIN, true, true));
+
+        for (int i = 0; i < POST_COUNT; i++) {
+            postRepository.save(Post.createPost(board, authors.get(i % authors.size()), "게시글" + i, "내용" + i));
+        }
+    }
+
+    @Nested
+    @DisplayName("게시글 목록 조회")
+    class GetPostListTest {
+
+        @DisplayName("QRY-003: 게시글 목록 조회는 게시글 수와 무관하게 5개 이하의 SQL 문으로 처리된다")
+        @Test
+        void getPostList_BoundedStatements() {
+            // when
+            PostListPageResponse response = assertQueryCount(5, () ->
+                    postService.getPostList("general", memberAuth, null, null, PageRequest.of(0, PAGE_SIZE)));
+
+            // then
+            assertThat(response.posts()).hasSize(PAGE_SIZE);
+            assertThat(response.totalElements()).isEqualTo(POST_COUNT);
+        }
+
+        @DisplayName("QRY-004: 검색어가 있는 게시글 목록 조회도 5개 이하의 SQL 문으로 처리된다")
+        @Test
+        void getPostListWithKeyword_BoundedStatements() {
+            // when
+            PostListPageResponse response = assertQueryCount(5, () ->
+                    postService.getPostList("general", memberAuth, "게시글", null, PageRequest.of(0, PAGE_SIZE)));
+
+            // then
+            assertThat(response.posts()).hasSize(PAGE_SIZE);
+            assertThat(response.totalElements()).isEqualTo(POST_COUNT);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package igrus.web.community.post.service;
+
+import igrus.web.community.bookmark.repository.BookmarkRepository;
+import igrus.web.community.like.post_like.repository.PostLikeRepository;
+import igrus.web.community.post.dto.response.PostInteractionStateResponse;
+import igrus.web.community.post.repository.PostViewRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static igrus.web.common.fixture.TestConstants.DEFAULT_MEMBER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * PostInteractionService 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostInteractionService 단위 테스트")
+class PostInteractionServiceTest {
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    @Mock
+    private BookmarkRepository bookmarkRepository;
+
+    @Mock
+    private PostViewRepository postViewRepository;
+
+    @InjectMocks
+    private PostInteractionService postInteractionService;
+
+    @DisplayName("좋아요/북마크/조회 여부를 테이블별 IN 쿼리 한 번씩으로 조회해 요청 순서대로 반환한다")
+    @Test
+    void getInteractionStates_ReturnsFlagsInRequestOrder() {
+        // given
+        Long userId = DEFAULT_MEMBER_ID;
+        Set<Long> ids = new LinkedHashSet<>(List.of(3L, 1L, 2L));
+
+        given(postLikeRepository.findLikedPostIds(userId, ids)).willReturn(List.of(1L));
+        given(bookmarkRepository.findBookmarkedPostIds(userId, ids)).willReturn(List.of(2L, 3L));
+        given(postViewRepository.findViewedPostIds(userId, ids)).willReturn(List.of(1L, 3L));
+
+        // when
+        List<PostInteractionStateResponse> result =
+                postInteractionService.getInteractionStates(List.of(3L, 1L, 2L), userId);
+
+        // then
+        assertThat(result).containsExactly(
+                PostInteractionStateResponse.of(3L, false, true, true),
+                PostInteractionStateResponse.of(1L, true, false, true),
+                PostInteractionStateResponse.of(2L, false, true, false)
+        );
+        verify(postLikeRepository).findLikedPostIds(userId, ids);
+        verify(bookmarkRepository).findBookmarkedPostIds(userId, ids);
+        verify(postViewRepository).findViewedPostIds(userId, ids);
+    }
+
+    @DisplayName("중복된 게시글 ID는 한 번만 조회하고 응답에도 한 번만 포함된다")
+    @Test
+    void getInteractionStates_WithDuplicateIds_Deduplicates() {
+        // given
+        Long userId = DEFAULT_MEMBER_ID;
+        Set<Long> ids = new LinkedHashSet<>(List.of(1L, 2L));
+
+        given(postLikeRepository.findLikedPostIds(userId, ids)).willReturn(List.of());
+        given(bookmarkRepository.findBookmarkedPostIds(userId, ids)).willReturn(List.of());
+        given(postViewRepository.findViewedPostIds(userId, ids)).willReturn(List.of());
+
+        // when
+        List<PostInteractionStateResponse> result =
+                postInteractionService.getInteractionStates(List.of(1L, 2L, 1L), userId);
+
+        // then
+        assertThat(result).extracting(PostInteractionStateResponse::postId).containsExactly(1L, 2L);
+        assertThat(result).allSatisfy(state -> {
+            assertThat(state.liked()).isFalse();
+            assertThat(state.bookmarked()).isFalse();
+            assertThat(state.viewed()).isFalse();
+        });
+    }
+
+    @DisplayName("빈 목록이면 쿼리를 실행하지 않는다")
+    @Test
+    void getInteractionStates_WithEmptyIds_SkipsQueries() {
+        // when
+        List<PostInteractionStateResponse> result =
+                postInteractionService.getInteractionStates(List.of(), DEFAULT_MEMBER_ID);
+
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(postLikeRepository, bookmarkRepository);
+        verify(postViewRepository, never()).findViewedPostIds(any(), any());
+    }
+}
@@ -7,6 +7,8 @@ import igrus.web.community.board.domain.BoardPermission;
 import igrus.web.community.board.repository.BoardPermissionRepository;
 import igrus.web.community.board.repository.BoardRepository;
 import igrus.web.community.post.domain.Post;
+import igrus.web.community.post.domain.PostCounter;
+import igrus.web.community.post.repository.PostCounterRepository;
 import igrus.web.community.post.repository.PostRepository;
 import igrus.web.security.auth.common.domain.AuthenticatedUser;
 import igrus.web.user.domain.User;
@@ -33,17 +35,19 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
  * Post 엔티티 낙관적 락 테스트.
  *
  * <p>JPA @Version 필드를 사용한 낙관적 락의 동작을 검증합니다.
+ * 조회수/좋아요 수는 post_counters로 분리되어 있으므로 카운터 증감은 게시글 버전과 무관해야 합니다.
  *
  * <p>테스트 시나리오:
  * <ul>
- *     <li>OPT-001: 동시 조회수 증가 시 락 충돌 발생</li>
+ *     <li>OPT-001: 동시 조회수 증가 시 유실 없이 모두 반영되고 버전은 변하지 않음</li>
  *     <li>OPT-002: 동시 게시글 수정 시 락 충돌</li>
  *     <li>OPT-003: Stale 엔티티 저장 시 예외 발생</li>
  *     <li>OPT-004: 리플렉션 버전 조작 시 예외 발생</li>
  *     <li>OPT-005: 순차적 수정 충돌</li>
- *     <li>OPT-006: 첫 번째 충돌 후 재시도 성공</li>
- *     <li>OPT-007: 최대 재시도 후 포기</li>
- *     <li>OPT-008: 재시도 시 엔티티 새로고침</li>
+ *     <li>OPT-006: 동시 상세 조회 시 모든 요청 성공 및 조회수 정확히 누적</li>
+ *     <li>OPT-007: 단일 상세 조회 시 조회수 1 증가</li>
+ *     <li>OPT-008: 연속 상세 조회 시 조회수 누적</li>
+ *     <li>OPT-009: 조회/좋아요 이후에도 먼저 로드한 게시글 수정이 충돌 없이 성공</li>
  * </ul>
  */
 @DisplayName("Post 낙관적 락 테스트")
@@ -58,6 +62,12 @@ class PostOptimisticLockingTest extends ServiceIntegrationTestBase {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private PostCounterRepository postCounterRepository;
+
+    @Autowired
+    private PostCounterService postCounterService;
+
     @Autowired
     private PostService postService;
 
@@ -89,7 +99,17 @@ class PostOptimisticLockingTest extends ServiceIntegrationTestBase {
 
     private Post createAndSavePost(Board board, User author, String title, String content) {
         Post post = Post.createPost(board, author, title, content);
-        return postRepository.save(post);
+        Post savedPost = postRepository.save(post);
+        postCounterService.initialize(savedPost.getId());
+        return savedPost;
+    }
+
+    private PostCounter findCounter(Long postId) {
+        return postCounterRepository.findById(postId).orElseThrow();
+    }
+
+    private Long findVersion(Long postId) {
+        return postRepository.findById(postId).orElseThrow().getVersion();
     }
 
     private AuthenticatedUser toAuthenticatedUser(User user) {
@@ -105,11 +125,12 @@ class PostOptimisticLockingTest extends ServiceIntegrationTestBase {
     class ConcurrencyTest {
 
         @Test
-        @DisplayName("OPT-001: 여러 스레드에서 동시에 조회수 증가 시 일부 요청은 락 충돌 발생")
-        void incrementViewCount_ConcurrentAccess_SomeRequestsFail() throws InterruptedException {
+        @DisplayName("OPT-001: 여러 스레드에서 동시에 조회수 증가 시 모두 반영되고 게시글 버전은 변하지 않음")
+        void incrementViewCount_ConcurrentAccess_AllSucceedWithoutVersionBump() throws InterruptedException {
             // given
             Post post = createAndSavePost(generalBoard, memberUser, "테스트 제목", "테스트 내용");
             Long postId = post.getId();
+            Long initialVersion = findVersion(postId);
 
             int threadCount = 10;
             ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
@@ -125,15 +146,10 @@ class PostOptimisticLockingTest extends ServiceIntegrationTestBase {
                     try {
                         startLatch.await();
 
-                        transactionTemplate.execute(status -> {
-                            Post foundPost = postRepository.findById(postId).orElseThrow();
-                            foundPost.incrementViewCount();
-                            postRepository.saveAndFlush(foundPost);
-                            return null;
-                        });
+                        postCounterService.incrementViewCount(postId);
 
                         successCount.incrementAndGet();
-                    } catch (ObjectOptimisticLockingFailureException | OptimisticLockException e) {
+                    } catch (RuntimeException e) {
                         failCount.incrementAndGet();
                     } catch (InterruptedException e) {
                         Thread.currentThread().interrupt();
@@ -148,11 +164,11 @@ class PostOptimisticLockingTest extends ServiceIntegrationTestBase {
             executorService.shutdown();
 
             // then
-            assertThat(successCount.get()).isGreaterThan(0);
-            assertThat(successCount.get() + failCount.get()).isEqualTo(threadCount);
+            assertThat(successCount.get()).isEqualTo(threadCount);
+            assertThat(failCount.get()).isZero();
 
-            Post updatedPost = postRepository.findById(postId).orElseThrow();
-            assertThat(updatedPost.getViewCount()).isEqualTo(successCount.get());
+            assertThat(findCounter(postId).getViewCount()).isEqualTo(threadCount);
+            assertThat(findVersion(postId)).isEqualTo(initialVersion);
         }
 
         @Test
@@ -255,7 +271,7 @@ class PostOptimisticLockingTest extends ServiceIntegrationTestBase {
             // 버전을 증가시키기 위해 먼저 업데이트
             transactionTemplate.execute(status -> {
                 Post p = postRepository.findById(postId).orElseThrow();
-                p.incrementViewCount();
+                p.updateContent("버전 증가용 제목", "버전 증가용 내용");
                 postRepository.saveAndFlush(p);
                 return null;
             });
@@ -355,15 +371,15 @@ class PostOptimisticLockingTest extends ServiceIntegrationTestBase {
     }
 
     // =========================================================================
-    // 4. 재시도 로직 테스트 (RetryLogicTest) - 실제 동시성 기반
+    // 4. 카운터 분리 테스트 (CounterIsolationTest) - 실제 동시성 기반
     // =========================================================================
 
     @Nested
-    @DisplayName("재시도 로직 테스트")
-    class RetryLogicTest {
+    @DisplayName("카운터 분리 테스트")
+    class CounterIsolationTest {
 
         @Test
-        @DisplayName("OPT-006: 동시 getPostDetail 호출 시 재시도를 통해 조회수 증가가 정상 동작")
+        @DisplayName("OPT-006: 동시 getPostDetail 호출 시 모든 요청이 성공하고 조회수가 정확히 누적")
         void getPostDetail_ConcurrentCalls_ViewCountIncreasesCorrectly() throws InterruptedException {
             // given
             Post post = createAndSavePost(generalBoard, memberUser, "테스트 제목", "테스트 내용");
@@ -397,15 +413,10 @@ class PostOptimisticLockingTest extends ServiceIntegrationTestBase {
             endLatch.await(30, TimeUnit.SECONDS);
             executorService.shutdown();
 
-            // then - 대부분의 요청이 성공해야 함 (재시도 로직 덕분)
-            // 동시 호출이므로 일부 예외가 발생할 수 있지만, 최소 1개 이상은 성공해야 함
-            assertThat(successCount.get()).isGreaterThan(0);
-            assertThat(successCount.get() + exceptionCount.get()).isEqualTo(callCount);
-
-            // 최종 조회수 확인 (성공한 호출만큼 증가)
-            entityManager.clear();
-            Post updatedPost = postRepository.findById(postId).orElseThrow();
-            assertThat(updatedPost.getViewCount()).isGreaterThan(0);
+            // then - 카운터는 원자적 UPDATE이므로 충돌/유실이 없어야 함
+            assertThat(successCount.get()).isEqualTo(callCount);
+            assertThat(exceptionCount.get()).isZero();
+            assertThat(findCounter(postId).getViewCount()).isEqualTo(callCount);
         }
 
         @Test
@@ -414,16 +425,13 @@ class PostOptimisticLockingTest extends ServiceIntegrationTestBase {
             // given
             Post post = createAndSavePost(generalBoard, memberUser, "테스트 제목", "테스트 내용");
             Long postId = post.getId();
-            int initialViewCount = post.getViewCount();
             AuthenticatedUser authUser = toAuthenticatedUser(memberUser);
 
             // when
             postService.getPostDetail(generalBoard.getCode().name(), postId, authUser);
 
             // then
-            entityManager.clear();
-            Post updatedPost = postRepository.findById(postId).orElseThrow();
-            assertThat(updatedPost.getViewCount()).isEqualTo(initialViewCount + 1);
+            assertThat(findCounter(postId).getViewCount()).isEqualTo(1);
         }
 
         @Test
@@ -439,12 +447,48 @@ class PostOptimisticLockingTest extends ServiceIntegrationTestBase {
             // when - 순차적으로 getPostDetail 호출
             for (int i = 0; i < callCount; i++) {
                 postService.getPostDetail(generalBoard.getCode().name(), postId, authUser);
-                entityManager.clear();
             }
 
+            // then
+            assertThat(findCounter(postId).getViewCount()).isEqualTo(callCount);
+        }
+
+        @Test
+        @DisplayName("OPT-009: 게시글을 로드한 뒤 조회/좋아요가 발생해도 수정은 충돌 없이 성공")
+        void updatePost_AfterViewsAndLikes_DoesNotConflict() {
+            // given
+            Post post = createAndSavePost(generalBoard, memberUser, "원본 제목", "원본 내용");
+            Long postId = post.getId();
+            Long initialVersion = findVersion(postId);
+
+            // 작성자가 수정 화면을 열어 둔 상태 (detach된 엔티티)
+            Post loadedByAuthor = transactionTemplate.execute(status -> {
+                Post p = postRepository.findById(postId).orElseThrow();
+                entityManager.detach(p);
+                return p;
+            });
+
+            // 그 사이 다른 사용자들의 조회/좋아요
+            postService.getPostDetail(generalBoard.getCode().name(), postId, toAuthenticatedUser(memberUser));
+            postCounterService.incrementLikeCount(postId);
+            postCounterService.incrementLikeCount(postId);
+            postCounterService.decrementLikeCount(postId);
+
+            // when
+            transactionTemplate.execute(status -> {
+                loadedByAuthor.updateContent("수정된 제목", "수정된 내용");
+                postRepository.saveAndFlush(loadedByAuthor);
+                return null;
+            });
+
             // then
             Post updatedPost = postRepository.findById(postId).orElseThrow();
-            assertThat(updatedPost.getViewCount()).isEqualTo(callCount);
+            assertThat(updatedPost.getTitle()).isEqualTo("수정된 제목");
+            assertThat(updatedPost.getVersion()).isEqualTo(initialVersion + 1);
+
+            PostCounter counter = findCounter(postId);
+            assertThat(counter.getViewCount()).isEqualTo(1);
+            assertThat(counter.getLikeCount()).isEqualTo(1);
         }
     }
 }
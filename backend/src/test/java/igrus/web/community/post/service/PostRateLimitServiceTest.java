@@ -62,7 +62,7 @@ class PostRateLimitServiceTest {
         void checkRateLimit_ExceedsLimit_ThrowsException() {
             // given
             // 지난 1시간 동안 20개의 게시글 작성
-            given(postRepository.countByAuthorAndCreatedAtAfter(eq(testUser), any(Instant.class)))
+            given(postRepository.countByAuthorIdAndCreatedAtAfter(eq(testUser.getId()), any(Instant.class)))
                     .willReturn(20L);
 
             // when & then
@@ -75,7 +75,7 @@ class PostRateLimitServiceTest {
         void checkRateLimit_WithinLimit_Success() {
             // given
             // 지난 1시간 동안 19개의 게시글 작성
-            given(postRepository.countByAuthorAndCreatedAtAfter(eq(testUser), any(Instant.class)))
+            given(postRepository.countByAuthorIdAndCreatedAtAfter(eq(testUser.getId()), any(Instant.class)))
                     .willReturn(19L);
 
             // when & then
@@ -86,7 +86,7 @@ class PostRateLimitServiceTest {
         @Test
         void checkRateLimit_NoPosts_Success() {
             // given
-            given(postRepository.countByAuthorAndCreatedAtAfter(eq(testUser), any(Instant.class)))
+            given(postRepository.countByAuthorIdAndCreatedAtAfter(eq(testUser.getId()), any(Instant.class)))
                     .willReturn(0L);
 
             // when & then
@@ -97,7 +97,7 @@ class PostRateLimitServiceTest {
         @Test
         void checkRateLimit_ExactlyAtLimit_ThrowsException() {
             // given
-            given(postRepository.countByAuthorAndCreatedAtAfter(eq(testUser), any(Instant.class)))
+            given(postRepository.countByAuthorIdAndCreatedAtAfter(eq(testUser.getId()), any(Instant.class)))
                     .willReturn(20L);
 
             // when & then
@@ -114,7 +114,7 @@ class PostRateLimitServiceTest {
         @Test
         void getRemainingPosts_NoPosts_Returns20() {
             // given
-            given(postRepository.countByAuthorAndCreatedAtAfter(eq(testUser), any(Instant.class)))
+            given(postRepository.countByAuthorIdAndCreatedAtAfter(eq(testUser.getId()), any(Instant.class)))
                     .willReturn(0L);
 
             // when
@@ -128,7 +128,7 @@ class PostRateLimitServiceTest {
         @Test
         void getRemainingPosts_15Posts_Returns5() {
             // given
-            given(postRepository.countByAuthorAndCreatedAtAfter(eq(testUser), any(Instant.class)))
+            given(postRepository.countByAuthorIdAndCreatedAtAfter(eq(testUser.getId()), any(Instant.class)))
                     .willReturn(15L);
 
             // when
@@ -142,7 +142,7 @@ class PostRateLimitServiceTest {
         @Test
         void getRemainingPosts_20Posts_Returns0() {
             // given
-            given(postRepository.countByAuthorAndCreatedAtAfter(eq(testUser), any(Instant.class)))
+            given(postRepository.countByAuthorIdAndCreatedAtAfter(eq(testUser.getId()), any(Instant.class)))
                     .willReturn(20L);
 
             // when
@@ -156,7 +156,7 @@ class PostRateLimitServiceTest {
         @Test
         void getRemainingPosts_OverLimit_ReturnsZeroNotNegative() {
             // given
-            given(postRepository.countByAuthorAndCreatedAtAfter(eq(testUser), any(Instant.class)))
+            given(postRepository.countByAuthorIdAndCreatedAtAfter(eq(testUser.getId()), any(Instant.class)))
                     .willReturn(25L);
 
             // when
@@ -179,7 +179,7 @@ class PostRateLimitServiceTest {
         @Test
         void pst080_RateLimitExceeded_ThrowsException() {
             // given: 지난 1시간 동안 이미 20개의 게시글 작성
-            given(postRepository.countByAuthorAndCreatedAtAfter(eq(testUser), any(Instant.class)))
+            given(postRepository.countByAuthorIdAndCreatedAtAfter(eq(testUser.getId()), any(Instant.class)))
                     .willReturn(20L);
 
             // when & then: 21번째 요청에서 429 Too Many Requests (PostRateLimitExceededException)
@@ -191,7 +191,7 @@ class PostRateLimitServiceTest {
         @Test
         void pst081_WithinRateLimit_Success() {
             // given: 지난 1시간 동안 19개의 게시글 작성
-            given(postRepository.countByAuthorAndCreatedAtAfter(eq(testUser), any(Instant.class)))
+            given(postRepository.countByAuthorIdAndCreatedAtAfter(eq(testUser.getId()), any(Instant.class)))
                     .willReturn(19L);
 
             // when & then: 20번째 요청은 정상 처리
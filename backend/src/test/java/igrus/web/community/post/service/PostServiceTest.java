@@ -4,6 +4,7 @@ import igrus.web.community.board.domain.Board;
 import igrus.web.community.bookmark.repository.BookmarkRepository;
 import igrus.web.community.like.post_like.repository.PostLikeRepository;
 import igrus.web.community.post.domain.Post;
+import igrus.web.community.post.domain.PostCounter;
 import igrus.web.community.post.dto.request.CreatePostRequest;
 import igrus.web.community.post.dto.request.UpdatePostRequest;
 import igrus.web.community.post.dto.response.PostCreateResponse;
@@ -16,6 +17,7 @@ import igrus.web.community.board.service.BoardPermissionService;
 import igrus.web.community.post.exception.InvalidPostOptionException;
 import igrus.web.community.post.exception.PostAccessDeniedException;
 import igrus.web.community.post.exception.PostImageLimitExceededException;
+import igrus.web.community.post.repository.PostListProjection;
 import igrus.web.community.post.repository.PostRepository;
 import igrus.web.security.auth.common.domain.AuthenticatedUser;
 import igrus.web.user.domain.User;
@@ -85,6 +87,9 @@ class PostServiceTest {
     @Mock
     private PostViewService postViewService;
 
+    @Mock
+    private PostCounterService postCounterService;
+
     @Mock
     private PostLikeRepository postLikeRepository;
 
@@ -505,7 +510,7 @@ class PostServiceTest {
 
             given(userRepository.findById(memberAuth.userId())).willReturn(Optional.of(memberUser));
             given(boardService.getBoardEntity(boardCode)).willReturn(generalBoard);
-            given(postRepository.findById(postId)).willReturn(Optional.of(existingPost));
+            given(postRepository.findWithImagesById(postId)).willReturn(Optional.of(existingPost));
 
             // when
             PostUpdateResponse response = postService.updatePost(boardCode, postId, request, memberAuth);
@@ -528,7 +533,7 @@ class PostServiceTest {
 
             given(userRepository.findById(memberAuth.userId())).willReturn(Optional.of(memberUser));
             given(boardService.getBoardEntity(boardCode)).willReturn(generalBoard);
-            given(postRepository.findById(postId)).willReturn(Optional.of(anonymousPost));
+            given(postRepository.findWithImagesById(postId)).willReturn(Optional.of(anonymousPost));
 
             // when
             PostUpdateResponse response = postService.updatePost(boardCode, postId, request, memberAuth);
@@ -552,7 +557,7 @@ class PostServiceTest {
             // memberUser가 수정 시도
             given(userRepository.findById(memberAuth.userId())).willReturn(Optional.of(memberUser));
             given(boardService.getBoardEntity(boardCode)).willReturn(generalBoard);
-            given(postRepository.findById(postId)).willReturn(Optional.of(anonymousPost));
+            given(postRepository.findWithImagesById(postId)).willReturn(Optional.of(anonymousPost));
 
             // when & then
             assertThatThrownBy(() -> postService.updatePost(boardCode, postId, request, memberAuth))
@@ -725,14 +730,14 @@ class PostServiceTest {
             String boardCode = "general";
             Long postId = DEFAULT_POST_ID;
 
-            Post post = normalPostWithNullAuthor(generalBoard);
+            Post post = normalPostWithWithdrawnAuthor(generalBoard);
 
             given(userRepository.findById(memberAuth.userId())).willReturn(Optional.of(memberUser));
             given(boardService.getBoardEntity(boardCode)).willReturn(generalBoard);
             doNothing().when(boardPermissionService).checkReadPermission(generalBoard, memberUser.getRole());
             given(postRepository.findByBoardAndIdAndDeletedFalse(generalBoard, postId)).willReturn(Optional.of(post));
             doNothing().when(postViewService).recordViewAsync(post.getId(), memberUser.getId());
-            given(postRepository.saveAndFlush(any(Post.class))).willReturn(post);
+            given(postCounterService.getCounter(postId)).willReturn(PostCounter.create(postId));
             given(postLikeRepository.existsByPostIdAndUserId(postId, memberUser.getId())).willReturn(false);
             given(bookmarkRepository.existsByPostIdAndUserId(postId, memberUser.getId())).willReturn(false);
 
@@ -754,14 +759,14 @@ class PostServiceTest {
             String boardCode = "general";
             Long postId = DEFAULT_POST_ID;
 
-            Post post = anonymousPostWithNullAuthor(generalBoard);
+            Post post = anonymousPostWithWithdrawnAuthor(generalBoard);
 
             given(userRepository.findById(memberAuth.userId())).willReturn(Optional.of(memberUser));
             given(boardService.getBoardEntity(boardCode)).willReturn(generalBoard);
             doNothing().when(boardPermissionService).checkReadPermission(generalBoard, memberUser.getRole());
             given(postRepository.findByBoardAndIdAndDeletedFalse(generalBoard, postId)).willReturn(Optional.of(post));
             doNothing().when(postViewService).recordViewAsync(post.getId(), memberUser.getId());
-            given(postRepository.saveAndFlush(any(Post.class))).willReturn(post);
+            given(postCounterService.getCounter(postId)).willReturn(PostCounter.create(postId));
             given(postLikeRepository.existsByPostIdAndUserId(postId, memberUser.getId())).willReturn(false);
             given(bookmarkRepository.existsByPostIdAndUserId(postId, memberUser.getId())).willReturn(false);
 
@@ -789,10 +794,10 @@ class PostServiceTest {
             Pageable pageable = PageRequest.of(0, 10);
 
             Post normalPostEntity = normalPost(generalBoard, memberUser, 2L);
-            Post withdrawnPost = normalPostWithNullAuthor(generalBoard, 3L);
+            Post withdrawnPost = normalPostWithWithdrawnAuthor(generalBoard, 3L);
 
-            Page<Post> postPage = new PageImpl<>(
-                    List.of(normalPostEntity, withdrawnPost),
+            Page<PostListProjection> postPage = new PageImpl<>(
+                    List.of(listRow(normalPostEntity), listRow(withdrawnPost)),
                     pageable,
                     2
             );
@@ -812,4 +817,34 @@ class PostServiceTest {
             assertThat(response.posts().get(1).authorName()).isEqualTo(User.WITHDRAWN_DISPLAY_NAME);
         }
     }
+
+    @Nested
+    @DisplayName("게시글 목록 댓글 수 조회 테스트")
+    class PostListCommentCountTest {
+
+        @DisplayName("댓글 수는 목록 조회 결과의 카운터 값을 그대로 사용하고, 별도 집계 쿼리를 실행하지 않음")
+        @Test
+        void getPostList_WithComments_ReadsDenormalizedCount() {
+            // given
+            String boardCode = "general";
+            Pageable pageable = PageRequest.of(0, 10);
+
+            Post commentedPost = normalPost(generalBoard, memberUser, 2L);
+            Post emptyPost = normalPost(generalBoard, memberUser, 3L);
+            Page<PostListProjection> postPage = new PageImpl<>(
+                    List.of(listRow(commentedPost, 0, 0, 4), listRow(emptyPost)), pageable, 2);
+
+            given(userRepository.findById(memberAuth.userId())).willReturn(Optional.of(memberUser));
+            given(boardService.getBoardEntity(boardCode)).willReturn(generalBoard);
+            doNothing().when(boardPermissionService).checkReadPermission(generalBoard, memberUser.getRole());
+            given(postRepository.findByBoardAndDeletedFalseOrderByCreatedAtDesc(eq(generalBoard), any(Pageable.class)))
+                    .willReturn(postPage);
+
+            // when
+            PostListPageResponse response = postService.getPostList(boardCode, memberAuth, null, null, pageable);
+
+            // then
+            assertThat(response.posts()).extracting("commentCount").containsExactly(4, 0);
+        }
+    }
 }
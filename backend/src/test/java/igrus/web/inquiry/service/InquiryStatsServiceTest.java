@@ -0,0 +1,177 @@
+package igrus.web.inquiry.service;
+
+import igrus.web.common.ServiceIntegrationTestBase;
+import igrus.web.inquiry.domain.InquiryStatus;
+import igrus.web.inquiry.domain.InquiryType;
+import igrus.web.inquiry.dto.request.CreateGuestInquiryRequest;
+import igrus.web.inquiry.dto.request.UpdateInquiryStatusRequest;
+import igrus.web.inquiry.dto.response.CreateInquiryResponse;
+import igrus.web.inquiry.dto.response.InquiryStatsResponse;
+import igrus.web.inquiry.repository.InquiryStatCounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InquiryStatsService 통합 테스트")
+class InquiryStatsServiceTest extends ServiceIntegrationTestBase {
+
+    private static final int BUCKET_COUNT = InquiryStatus.values().length * InquiryType.values().length;
+
+    @Autowired
+    private InquiryStatsService inquiryStatsService;
+
+    @Autowired
+    private InquiryService inquiryService;
+
+    @Autowired
+    private InquiryStatCounterRepository inquiryStatCounterRepository;
+
+    @BeforeEach
+    void setUp() {
+        setUpBase();
+    }
+
+    private CreateInquiryResponse createGuestInquiry(InquiryType type) {
+        CreateGuestInquiryRequest request = CreateGuestInquiryRequest.builder()
+                .type(type)
+                .title("문의 제목")
+                .content("문의 내용")
+                .email("guest@test.com")
+                .name("홍길동")
+                .password("password123")
+                .build();
+        return inquiryService.createGuestInquiry(request);
+    }
+
+    @Nested
+    @DisplayName("재집계")
+    class ReconcileTest {
+
+        @Test
+        @DisplayName("카운터가 없으면 모든 상태/유형 버킷을 실제 값으로 생성")
+        void reconcile_WithoutCounters_CreatesAllBuckets() {
+            // given
+            createGuestInquiry(InquiryType.JOIN);
+            createGuestInquiry(InquiryType.JOIN);
+            createGuestInquiry(InquiryType.EVENT);
+
+            // when
+            int correctedCount = inquiryStatsService.reconcile();
+
+            // then
+            assertThat(correctedCount).isEqualTo(BUCKET_COUNT);
+            assertThat(inquiryStatCounterRepository.count()).isEqualTo(BUCKET_COUNT);
+
+            InquiryStatsResponse stats = inquiryStatsService.getStats();
+            assertThat(stats.getTotalCount()).isEqualTo(3);
+            assertThat(stats.getStatusCounts().get(InquiryStatus.PENDING)).isEqualTo(3);
+            assertThat(stats.getTypeCounts().get(InquiryType.JOIN)).isEqualTo(2);
+            assertThat(stats.getTypeCounts().get(InquiryType.EVENT)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("드리프트가 없으면 보정 버킷 수는 0")
+        void reconcile_WithoutDrift_ReturnsZero() {
+            // given
+            inquiryStatsService.reconcile();
+            createGuestInquiry(InquiryType.OTHER);
+
+            // when
+            int correctedCount = inquiryStatsService.reconcile();
+
+            // then
+            assertThat(correctedCount).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("카운터 증감")
+    class CounterTransitionTest {
+
+        @BeforeEach
+        void setUpCounters() {
+            inquiryStatsService.reconcile();
+        }
+
+        @Test
+        @DisplayName("문의 생성, 상태 변경, 삭제가 카운터에 반영됨")
+        void transitions_UpdateCounters() {
+            // given
+            CreateInquiryResponse first = createGuestInquiry(InquiryType.JOIN);
+            CreateInquiryResponse second = createGuestInquiry(InquiryType.JOIN);
+            createGuestInquiry(InquiryType.REPORT);
+
+            // when
+            inquiryService.updateInquiryStatus(first.getId(), UpdateInquiryStatusRequest.builder()
+                    .status(InquiryStatus.IN_PROGRESS)
+                    .build());
+            inquiryService.deleteInquiry(second.getId(), 1L);
+
+            // then
+            InquiryStatsResponse stats = inquiryStatsService.getStats();
+            assertThat(stats.getTotalCount()).isEqualTo(2);
+            assertThat(stats.getStatusCounts().get(InquiryStatus.PENDING)).isEqualTo(1);
+            assertThat(stats.getStatusCounts().get(InquiryStatus.IN_PROGRESS)).isEqualTo(1);
+            assertThat(stats.getStatusCounts().get(InquiryStatus.COMPLETED)).isZero();
+            assertThat(stats.getTypeCounts().get(InquiryType.JOIN)).isEqualTo(1);
+            assertThat(stats.getTypeCounts().get(InquiryType.REPORT)).isEqualTo(1);
+
+            assertThat(inquiryStatsService.reconcile()).isZero();
+        }
+
+        @Test
+        @DisplayName("생성 시 카운터는 문의의 실제 상태 버킷에 반영됨")
+        void recordCreated_CountsGivenStatus() {
+            // when
+            inquiryStatsService.recordCreated(InquiryType.OTHER, InquiryStatus.COMPLETED);
+
+            // then
+            InquiryStatsResponse stats = inquiryStatsService.getStats();
+            assertThat(stats.getStatusCounts().get(InquiryStatus.COMPLETED)).isEqualTo(1);
+            assertThat(stats.getStatusCounts().get(InquiryStatus.PENDING)).isZero();
+            assertThat(stats.getTypeCounts().get(InquiryType.OTHER)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("동일 상태로 변경 시 카운터는 변하지 않음")
+        void sameStatusTransition_KeepsCounters() {
+            // given
+            CreateInquiryResponse response = createGuestInquiry(InquiryType.ACCOUNT);
+
+            // when
+            inquiryService.updateInquiryStatus(response.getId(), UpdateInquiryStatusRequest.builder()
+                    .status(InquiryStatus.PENDING)
+                    .build());
+
+            // then
+            InquiryStatsResponse stats = inquiryStatsService.getStats();
+            assertThat(stats.getStatusCounts().get(InquiryStatus.PENDING)).isEqualTo(1);
+            assertThat(stats.getTypeCounts().get(InquiryType.ACCOUNT)).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("통계 조회")
+    class GetStatsTest {
+
+        @Test
+        @DisplayName("카운터 버킷이 준비되지 않으면 GROUP BY 집계로 응답")
+        void getStats_WithoutCounters_FallsBackToGroupBy() {
+            // given
+            createGuestInquiry(InquiryType.EVENT);
+
+            // when
+            InquiryStatsResponse stats = inquiryStatsService.getStats();
+
+            // then
+            assertThat(stats.getTotalCount()).isEqualTo(1);
+            assertThat(stats.getStatusCounts()).containsOnlyKeys(InquiryStatus.values());
+            assertThat(stats.getTypeCounts().get(InquiryType.EVENT)).isEqualTo(1);
+            assertThat(stats.getTypeCounts().get(InquiryType.JOIN)).isZero();
+        }
+    }
+}
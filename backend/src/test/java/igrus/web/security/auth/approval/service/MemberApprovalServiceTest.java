@@ -2,6 +2,8 @@ package igrus.web.security.auth.approval.service;
 
 import igrus.web.common.ServiceIntegrationTestBase;
 import igrus.web.security.auth.approval.dto.response.AssociateInfoResponse;
+import igrus.web.security.auth.approval.dto.response.BulkApprovalFailureResponse;
+import igrus.web.security.auth.approval.dto.response.BulkApprovalResultResponse;
 import igrus.web.security.auth.approval.exception.AdminRequiredException;
 import igrus.web.security.auth.approval.exception.BulkApprovalEmptyException;
 import igrus.web.security.auth.approval.exception.LastAdminCannotChangeException;
@@ -242,7 +244,7 @@ class MemberApprovalServiceTest extends ServiceIntegrationTestBase {
             List<Long> userIds = List.of(associate1.getId(), associate2.getId(), associate3.getId(), associate4.getId(), associate5.getId());
 
             // when
-            int approvedCount = memberApprovalService.approveBulk(userIds, adminUser.getId());
+            int approvedCount = memberApprovalService.approveBulk(userIds, adminUser.getId(), UserRole.ADMIN).approvedCount();
 
             // then
             assertThat(approvedCount).isEqualTo(5);
@@ -268,7 +270,7 @@ class MemberApprovalServiceTest extends ServiceIntegrationTestBase {
             List<Long> selectedUserIds = List.of(associate1.getId(), associate2.getId(), associate3.getId());
 
             // when
-            int approvedCount = memberApprovalService.approveBulk(selectedUserIds, adminUser.getId());
+            int approvedCount = memberApprovalService.approveBulk(selectedUserIds, adminUser.getId(), UserRole.ADMIN).approvedCount();
 
             // then
             assertThat(approvedCount).isEqualTo(3);
@@ -300,7 +302,7 @@ class MemberApprovalServiceTest extends ServiceIntegrationTestBase {
             List<Long> userIds = List.of(associate1.getId(), associate2.getId());
 
             // when
-            memberApprovalService.approveBulk(userIds, adminUser.getId());
+            memberApprovalService.approveBulk(userIds, adminUser.getId(), UserRole.ADMIN);
 
             // then
             PasswordCredential updatedCredential1 = passwordCredentialRepository.findByUserId(associate1.getId()).orElseThrow();
@@ -322,11 +324,34 @@ class MemberApprovalServiceTest extends ServiceIntegrationTestBase {
             List<Long> userIds = List.of(associate1.getId(), associate2.getId());
 
             // when
-            memberApprovalService.approveBulk(userIds, adminUser.getId());
+            memberApprovalService.approveBulk(userIds, adminUser.getId(), UserRole.ADMIN);
 
             // then
             List<UserRoleHistory> histories = userRoleHistoryRepository.findAll();
             assertThat(histories).hasSize(2);
+            assertThat(histories).allSatisfy(history -> {
+                assertThat(history.getPreviousRole()).isEqualTo(UserRole.ASSOCIATE);
+                assertThat(history.getNewRole()).isEqualTo(UserRole.MEMBER);
+                assertThat(history.getCreatedBy()).isEqualTo(adminUser.getId());
+            });
+        }
+
+        @Test
+        @DisplayName("중복된 ID는 한 번만 승인하고 이력도 한 건만 기록한다")
+        void approveBulk_DuplicateIds_ApprovesOnce() {
+            // given
+            User associate1 = createAndSaveUser("20230010", "a10@inha.edu", UserRole.ASSOCIATE);
+
+            List<Long> userIds = List.of(associate1.getId(), associate1.getId());
+
+            // when
+            BulkApprovalResultResponse result = memberApprovalService.approveBulk(userIds, adminUser.getId(), UserRole.ADMIN);
+
+            // then
+            assertThat(result.approvedCount()).isEqualTo(1);
+            assertThat(result.totalRequested()).isEqualTo(1);
+            assertThat(result.failures()).isEmpty();
+            assertThat(userRoleHistoryRepository.findByUserIdOrderByCreatedAtDesc(associate1.getId())).hasSize(1);
         }
 
         @Test
@@ -336,7 +361,7 @@ class MemberApprovalServiceTest extends ServiceIntegrationTestBase {
             List<Long> emptyUserIds = Collections.emptyList();
 
             // when & then
-            assertThatThrownBy(() -> memberApprovalService.approveBulk(emptyUserIds, adminUser.getId()))
+            assertThatThrownBy(() -> memberApprovalService.approveBulk(emptyUserIds, adminUser.getId(), UserRole.ADMIN))
                     .isInstanceOf(BulkApprovalEmptyException.class);
         }
 
@@ -344,7 +369,7 @@ class MemberApprovalServiceTest extends ServiceIntegrationTestBase {
         @DisplayName("null 목록으로 일괄 승인 시도 시 예외 발생 [APR-024-2]")
         void approveBulk_NullList_ThrowsException() {
             // when & then
-            assertThatThrownBy(() -> memberApprovalService.approveBulk(null, adminUser.getId()))
+            assertThatThrownBy(() -> memberApprovalService.approveBulk(null, adminUser.getId(), UserRole.ADMIN))
                     .isInstanceOf(BulkApprovalEmptyException.class);
         }
     }
@@ -353,6 +378,16 @@ class MemberApprovalServiceTest extends ServiceIntegrationTestBase {
     @DisplayName("권한 검증")
     class AuthorizationTest {
 
+        @Test
+        @DisplayName("운영진 일괄 승인 시도 시 거부 - AdminRequiredException 발생")
+        void approveBulk_WithOperatorRole_ThrowsAdminRequiredException() {
+            // when & then
+            assertThatThrownBy(() -> memberApprovalService.approveBulk(
+                    List.of(associateUser.getId()), operatorUser.getId(), UserRole.OPERATOR))
+                    .isInstanceOf(AdminRequiredException.class);
+            assertThat(userRepository.findById(associateUser.getId()).orElseThrow().getRole()).isEqualTo(UserRole.ASSOCIATE);
+        }
+
         @Test
         @DisplayName("운영진 승인 시도 시 거부 - AdminRequiredException 발생 [APR-030]")
         void approveAssociate_WithOperatorRole_ThrowsAdminRequiredException() {
@@ -484,10 +519,12 @@ class MemberApprovalServiceTest extends ServiceIntegrationTestBase {
             List<Long> userIds = List.of(associate1.getId(), nonExistentUserId);
 
             // when
-            int approvedCount = memberApprovalService.approveBulk(userIds, adminUser.getId());
+            BulkApprovalResultResponse result = memberApprovalService.approveBulk(userIds, adminUser.getId(), UserRole.ADMIN);
 
             // then
-            assertThat(approvedCount).isEqualTo(1);
+            assertThat(result.approvedCount()).isEqualTo(1);
+            assertThat(result.failures()).containsExactly(
+                    BulkApprovalFailureResponse.of(nonExistentUserId, BulkApprovalFailureResponse.Reason.USER_NOT_FOUND));
             assertThat(userRepository.findById(associate1.getId()).orElseThrow().getRole()).isEqualTo(UserRole.MEMBER);
         }
 
@@ -501,10 +538,13 @@ class MemberApprovalServiceTest extends ServiceIntegrationTestBase {
             List<Long> userIds = List.of(associate1.getId(), member1.getId());
 
             // when
-            int approvedCount = memberApprovalService.approveBulk(userIds, adminUser.getId());
+            BulkApprovalResultResponse result = memberApprovalService.approveBulk(userIds, adminUser.getId(), UserRole.ADMIN);
 
             // then
-            assertThat(approvedCount).isEqualTo(1);
+            assertThat(result.approvedCount()).isEqualTo(1);
+            assertThat(result.failedCount()).isEqualTo(1);
+            assertThat(result.failures()).containsExactly(
+                    BulkApprovalFailureResponse.of(member1.getId(), BulkApprovalFailureResponse.Reason.NOT_ASSOCIATE));
             assertThat(userRepository.findById(associate1.getId()).orElseThrow().getRole()).isEqualTo(UserRole.MEMBER);
             assertThat(userRepository.findById(member1.getId()).orElseThrow().getRole()).isEqualTo(UserRole.MEMBER);
         }
@@ -0,0 +1,73 @@
+package igrus.web.security.config;
+
+import igrus.web.common.ServiceIntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Actuator 엔드포인트 보안 통합 테스트.
+ *
+ * <p>테스트 시나리오:
+ * <ul>
+ *     <li>MET-001: 헬스체크는 인증 없이 접근 가능</li>
+ *     <li>MET-002: Prometheus 엔드포인트는 인증 없이 접근 불가</li>
+ *     <li>MET-003: 스크레이프 계정으로 Prometheus 형식의 메트릭 조회</li>
+ * </ul>
+ */
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@DisplayName("Actuator 엔드포인트 보안 통합 테스트")
+class ActuatorSecurityConfigTest extends ServiceIntegrationTestBase {
+
+    private static final String HEALTH_URL = "/actuator/health";
+    private static final String PROMETHEUS_URL = "/actuator/prometheus";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        setUpBase();
+    }
+
+    @DisplayName("MET-001: 헬스체크는 인증 없이 접근 가능하다")
+    @Test
+    void health_WithoutAuth_Returns200() throws Exception {
+        mockMvc.perform(get(HEALTH_URL))
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("MET-002: Prometheus 엔드포인트는 인증 없이 또는 잘못된 비밀번호로 접근할 수 없다")
+    @Test
+    void prometheus_WithoutValidAuth_Returns401() throws Exception {
+        mockMvc.perform(get(PROMETHEUS_URL))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get(PROMETHEUS_URL).with(httpBasic("prometheus", "wrong-password")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("MET-003: 스크레이프 계정으로 커넥션 풀 게이지와 HTTP 요청 히스토그램을 조회한다")
+    @Test
+    void prometheus_WithScrapeAccount_ReturnsMetrics() throws Exception {
+        // given: HTTP 요청 메트릭 생성
+        mockMvc.perform(get(HEALTH_URL));
+
+        // when & then
+        mockMvc.perform(get(PROMETHEUS_URL).with(httpBasic("prometheus", "test-scrape-password")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")));
+    }
+}
@@ -0,0 +1,47 @@
+package igrus.web.user.semester.domain;
+
+import igrus.web.user.semester.exception.InvalidSemesterException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Semester 값")
+class SemesterTest {
+
+    @Nested
+    @DisplayName("of 정적 팩토리 메서드")
+    class OfTest {
+
+        @Test
+        @DisplayName("유효한 연도와 학기로 생성 성공")
+        void of_WithValidYearAndTerm_ReturnsSemester() {
+            // when
+            Semester semester = Semester.of(2026, 2);
+
+            // then
+            assertThat(semester.year()).isEqualTo(2026);
+            assertThat(semester.term()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("범위를 벗어난 연도는 InvalidSemesterException 발생")
+        void of_WithYearOutOfRange_ThrowsInvalidSemesterException() {
+            assertThatThrownBy(() -> Semester.of(1999, 1))
+                    .isInstanceOf(InvalidSemesterException.class);
+            assertThatThrownBy(() -> Semester.of(2101, 1))
+                    .isInstanceOf(InvalidSemesterException.class);
+        }
+
+        @Test
+        @DisplayName("1, 2가 아닌 학기는 InvalidSemesterException 발생")
+        void of_WithInvalidTerm_ThrowsInvalidSemesterException() {
+            assertThatThrownBy(() -> Semester.of(2026, 0))
+                    .isInstanceOf(InvalidSemesterException.class);
+            assertThatThrownBy(() -> Semester.of(2026, 3))
+                    .isInstanceOf(InvalidSemesterException.class);
+        }
+    }
+}
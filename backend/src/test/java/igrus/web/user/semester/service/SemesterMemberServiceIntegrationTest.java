@@ -1,8 +1,11 @@
 package igrus.web.user.semester.service;
 
 import igrus.web.common.ServiceIntegrationTestBase;
+import igrus.web.user.domain.Gender;
 import igrus.web.user.domain.User;
 import igrus.web.user.domain.UserRole;
+import igrus.web.user.semester.domain.Semester;
+import igrus.web.user.semester.dto.request.SemesterMemberExportFormat;
 import igrus.web.user.semester.dto.response.CandidateMemberResponse;
 import igrus.web.user.semester.dto.response.RegisterSemesterMembersResponse;
 import igrus.web.user.semester.dto.response.SemesterMemberListResponse;
@@ -14,7 +17,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -23,9 +31,15 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 @DisplayName("SemesterMemberService 통합 테스트")
 class SemesterMemberServiceIntegrationTest extends ServiceIntegrationTestBase {
 
+    /** 등록을 수행하는 관리자 ID (후보 회원 집계에 영향을 주지 않도록 사용자를 만들지 않음) */
+    private static final Long ADMIN_ID = 9_999L;
+
     @Autowired
     private SemesterMemberService semesterMemberService;
 
+    @Autowired
+    private SemesterMemberExportService semesterMemberExportService;
+
     @Autowired
     private SemesterMemberRepository semesterMemberRepository;
 
@@ -53,7 +67,7 @@ class SemesterMemberServiceIntegrationTest extends ServiceIntegrationTestBase {
 
             // when
             RegisterSemesterMembersResponse response = semesterMemberService.registerMembers(
-                    2026, 1, List.of(member.getId(), operator.getId()));
+                    2026, 1, List.of(member.getId(), operator.getId()), ADMIN_ID);
 
             // then
             assertThat(response.registeredCount()).isEqualTo(2);
@@ -68,16 +82,35 @@ class SemesterMemberServiceIntegrationTest extends ServiceIntegrationTestBase {
                     .containsExactlyInAnyOrder(UserRole.MEMBER, UserRole.OPERATOR);
         }
 
+        @Test
+        @DisplayName("일괄 등록된 레코드의 생성자와 수정자는 등록한 관리자로 기록된다")
+        void registerMembers_recordsRegisteringAdminAsAuditor() {
+            // given
+            User member = createAndSaveUser("11111111", "member@inha.edu", UserRole.MEMBER);
+            User operator = createAndSaveUser("22222222", "operator@inha.edu", UserRole.OPERATOR);
+
+            // when
+            semesterMemberService.registerMembers(2026, 1, List.of(member.getId(), operator.getId()), ADMIN_ID);
+
+            // then
+            assertThat(semesterMemberRepository.findByYearAndSemester(2026, 1))
+                    .hasSize(2)
+                    .allSatisfy(semesterMember -> {
+                        assertThat(semesterMember.getCreatedBy()).isEqualTo(ADMIN_ID);
+                        assertThat(semesterMember.getUpdatedBy()).isEqualTo(ADMIN_ID);
+                    });
+        }
+
         @Test
         @DisplayName("이미 등록된 회원을 다시 등록하면 건너뛴다 (멱등성)")
         void registerMembers_withAlreadyRegisteredUser_skipsDuplicate() {
             // given
             User user = createAndSaveUser("11111111", "user@inha.edu", UserRole.MEMBER);
-            semesterMemberService.registerMembers(2026, 1, List.of(user.getId()));
+            semesterMemberService.registerMembers(2026, 1, List.of(user.getId()), ADMIN_ID);
 
             // when
             RegisterSemesterMembersResponse response = semesterMemberService.registerMembers(
-                    2026, 1, List.of(user.getId()));
+                    2026, 1, List.of(user.getId()), ADMIN_ID);
 
             // then
             assertThat(response.registeredCount()).isEqualTo(0);
@@ -87,13 +120,32 @@ class SemesterMemberServiceIntegrationTest extends ServiceIntegrationTestBase {
             assertThat(semesterMemberRepository.countByYearAndSemester(2026, 1)).isEqualTo(1);
         }
 
+        @Test
+        @DisplayName("신규, 기존, 존재하지 않는 회원이 섞여 있으면 정확한 등록/건너뜀 수를 반환한다")
+        void registerMembers_withMixedUsers_returnsExactCounts() {
+            // given
+            User existing = createAndSaveUser("11111111", "existing@inha.edu", UserRole.MEMBER);
+            User newcomer = createAndSaveUser("22222222", "new@inha.edu", UserRole.ASSOCIATE);
+            semesterMemberService.registerMembers(2026, 1, List.of(existing.getId()), ADMIN_ID);
+
+            // when
+            RegisterSemesterMembersResponse response = semesterMemberService.registerMembers(
+                    2026, 1, List.of(existing.getId(), newcomer.getId(), 999_999L), ADMIN_ID);
+
+            // then
+            assertThat(response.registeredCount()).isEqualTo(1);
+            assertThat(response.skippedCount()).isEqualTo(2);
+            assertThat(response.totalRequested()).isEqualTo(3);
+            assertThat(semesterMemberRepository.countByYearAndSemester(2026, 1)).isEqualTo(2);
+        }
+
         @Test
         @DisplayName("등록 후보 회원 목록 조회 시 등록 상태가 올바르게 표시된다")
         void getCandidateMembers_afterPartialRegistration_showsCorrectStatus() {
             // given
             User registered = createAndSaveUser("11111111", "reg@inha.edu", UserRole.MEMBER);
             User notRegistered = createAndSaveUser("22222222", "noreg@inha.edu", UserRole.MEMBER);
-            semesterMemberService.registerMembers(2026, 1, List.of(registered.getId()));
+            semesterMemberService.registerMembers(2026, 1, List.of(registered.getId()), ADMIN_ID);
 
             // when
             List<CandidateMemberResponse> candidates = semesterMemberService.getCandidateMembers(2026, 1);
@@ -111,6 +163,91 @@ class SemesterMemberServiceIntegrationTest extends ServiceIntegrationTestBase {
                     .findFirst().orElseThrow();
             assertThat(notRegisteredCandidate.alreadyRegistered()).isFalse();
         }
+
+        @Test
+        @DisplayName("등록 후보 목록에는 ACTIVE 상태 회원만 포함된다")
+        void getCandidateMembers_withPendingUser_excludesPendingUser() {
+            // given
+            User active = createAndSaveUser("11111111", "active@inha.edu", UserRole.MEMBER);
+            User pending = User.create("22222222", "보류유저", "pending@inha.edu",
+                    "010-22222222", "컴퓨터공학과", "동기", Gender.MALE, 1);
+            userRepository.save(pending);
+
+            // when
+            List<CandidateMemberResponse> candidates = semesterMemberService.getCandidateMembers(2026, 1);
+
+            // then
+            assertThat(candidates).extracting(CandidateMemberResponse::userId)
+                    .containsExactly(active.getId());
+        }
+
+        @Test
+        @DisplayName("다른 학기 등록 이력은 해당 학기 등록 여부에 영향을 주지 않는다")
+        void getCandidateMembers_registeredInOtherSemester_notMarkedAsRegistered() {
+            // given
+            User user = createAndSaveUser("11111111", "user@inha.edu", UserRole.MEMBER);
+            semesterMemberService.registerMembers(2025, 2, List.of(user.getId()), ADMIN_ID);
+
+            // when
+            List<CandidateMemberResponse> candidates = semesterMemberService.getCandidateMembers(2026, 1);
+
+            // then
+            assertThat(candidates).hasSize(1);
+            assertThat(candidates.get(0).alreadyRegistered()).isFalse();
+        }
+
+        @Test
+        @DisplayName("등록 후보 목록을 키워드로 필터링하고 페이징한다")
+        void getCandidateMembers_withKeywordAndPaging_filtersAndPagesInQuery() {
+            // given
+            createAndSaveUserWithName("11111111", "kim@inha.edu", UserRole.MEMBER, "김철수");
+            createAndSaveUserWithName("22222222", "lee@inha.edu", UserRole.MEMBER, "이영희");
+            createAndSaveUserWithName("33333333", "park@inha.edu", UserRole.MEMBER, "박철수");
+
+            // when
+            Page<CandidateMemberResponse> firstPage =
+                    semesterMemberService.getCandidateMembers(2026, 1, "철수", PageRequest.of(0, 1));
+
+            // then
+            assertThat(firstPage.getTotalElements()).isEqualTo(2);
+            assertThat(firstPage.getContent()).hasSize(1);
+            assertThat(firstPage.getContent().get(0).name()).isEqualTo("김철수");
+        }
+
+        @Test
+        @DisplayName("등록 후보 회원 목록 조회는 회원 수와 무관하게 단일 쿼리로 처리된다")
+        void getCandidateMembers_withManyUsers_executesSingleStatement() {
+            // given
+            List<Long> userIds = new ArrayList<>();
+            for (int i = 0; i < 30; i++) {
+                userIds.add(createAndSaveUser(String.valueOf(10000000 + i), "user" + i + "@inha.edu", UserRole.MEMBER).getId());
+            }
+            semesterMemberService.registerMembers(2026, 1, userIds.subList(0, 10), ADMIN_ID);
+
+            // when
+            List<CandidateMemberResponse> candidates =
+                    assertQueryCount(1, () -> semesterMemberService.getCandidateMembers(2026, 1));
+
+            // then
+            assertThat(candidates).hasSize(30);
+        }
+
+        @Test
+        @DisplayName("등록 후보 회원 페이징 조회는 목록과 전체 개수 쿼리 2개 이하로 처리된다")
+        void getCandidateMembers_withPaging_executesAtMostTwoStatements() {
+            // given
+            for (int i = 0; i < 30; i++) {
+                createAndSaveUser(String.valueOf(10000000 + i), "user" + i + "@inha.edu", UserRole.MEMBER);
+            }
+
+            // when
+            Page<CandidateMemberResponse> page = assertQueryCount(2, () ->
+                    semesterMemberService.getCandidateMembers(2026, 1, null, PageRequest.of(0, 10)));
+
+            // then
+            assertThat(page.getContent()).hasSize(10);
+            assertThat(page.getTotalElements()).isEqualTo(30);
+        }
     }
 
     @Nested
@@ -123,7 +260,7 @@ class SemesterMemberServiceIntegrationTest extends ServiceIntegrationTestBase {
             // given
             User user1 = createAndSaveUser("11111111", "user1@inha.edu", UserRole.MEMBER);
             User user2 = createAndSaveUser("22222222", "user2@inha.edu", UserRole.MEMBER);
-            semesterMemberService.registerMembers(2026, 1, List.of(user1.getId(), user2.getId()));
+            semesterMemberService.registerMembers(2026, 1, List.of(user1.getId(), user2.getId()), ADMIN_ID);
 
             // when
             int removedCount = semesterMemberService.removeMembers(2026, 1, List.of(user1.getId()));
@@ -133,6 +270,24 @@ class SemesterMemberServiceIntegrationTest extends ServiceIntegrationTestBase {
             assertThat(semesterMemberRepository.countByYearAndSemester(2026, 1)).isEqualTo(1);
         }
 
+        @Test
+        @DisplayName("여러 회원을 한 번에 제외하면 해당 학기 등록만 삭제되고 다른 학기는 유지된다")
+        void removeMembers_withMultipleUsers_deletesOnlyTargetSemester() {
+            // given
+            User user1 = createAndSaveUser("11111111", "user1@inha.edu", UserRole.MEMBER);
+            User user2 = createAndSaveUser("22222222", "user2@inha.edu", UserRole.MEMBER);
+            semesterMemberService.registerMembers(2026, 1, List.of(user1.getId(), user2.getId()), ADMIN_ID);
+            semesterMemberService.registerMembers(2025, 2, List.of(user1.getId()), ADMIN_ID);
+
+            // when
+            int removedCount = semesterMemberService.removeMembers(2026, 1, List.of(user1.getId(), user2.getId()));
+
+            // then
+            assertThat(removedCount).isEqualTo(2);
+            assertThat(semesterMemberRepository.countByYearAndSemester(2026, 1)).isZero();
+            assertThat(semesterMemberRepository.countByYearAndSemester(2025, 2)).isEqualTo(1);
+        }
+
         @Test
         @DisplayName("등록되지 않은 회원을 제외하면 조용히 건너뛴다")
         void removeMembers_withNonRegisteredUser_silentlySkips() {
@@ -159,8 +314,8 @@ class SemesterMemberServiceIntegrationTest extends ServiceIntegrationTestBase {
             User user2 = createAndSaveUser("22222222", "user2@inha.edu", UserRole.MEMBER);
             User user3 = createAndSaveUser("33333333", "user3@inha.edu", UserRole.OPERATOR);
 
-            semesterMemberService.registerMembers(2025, 2, List.of(user1.getId(), user2.getId()));
-            semesterMemberService.registerMembers(2026, 1, List.of(user1.getId(), user2.getId(), user3.getId()));
+            semesterMemberService.registerMembers(2025, 2, List.of(user1.getId(), user2.getId()), ADMIN_ID);
+            semesterMemberService.registerMembers(2026, 1, List.of(user1.getId(), user2.getId(), user3.getId()), ADMIN_ID);
 
             // when
             List<SemesterSummaryResponse> semesters = semesterMemberService.getSemesterList();
@@ -188,7 +343,7 @@ class SemesterMemberServiceIntegrationTest extends ServiceIntegrationTestBase {
             User withdrawnUser = createAndSaveUser("22222222", "withdrawn@inha.edu", UserRole.MEMBER);
 
             semesterMemberService.registerMembers(2026, 1,
-                    List.of(activeUser.getId(), withdrawnUser.getId()));
+                    List.of(activeUser.getId(), withdrawnUser.getId()), ADMIN_ID);
 
             // 등록 이후에 탈퇴 처리 (native query로 직접 업데이트)
             transactionTemplate.execute(status -> {
@@ -228,7 +383,7 @@ class SemesterMemberServiceIntegrationTest extends ServiceIntegrationTestBase {
             User park = createAndSaveUserWithName("33333333", "park@inha.edu", UserRole.MEMBER, "박철수");
 
             semesterMemberService.registerMembers(2026, 1,
-                    List.of(kim.getId(), lee.getId(), park.getId()));
+                    List.of(kim.getId(), lee.getId(), park.getId()), ADMIN_ID);
 
             // when
             List<SemesterMemberListResponse> results = semesterMemberService.getMemberList(2026, 1, "철수");
@@ -248,7 +403,7 @@ class SemesterMemberServiceIntegrationTest extends ServiceIntegrationTestBase {
             User user3 = createAndSaveUser("12340000", "user3@inha.edu", UserRole.MEMBER);
 
             semesterMemberService.registerMembers(2026, 1,
-                    List.of(user1.getId(), user2.getId(), user3.getId()));
+                    List.of(user1.getId(), user2.getId(), user3.getId()), ADMIN_ID);
 
             // when
             List<SemesterMemberListResponse> results = semesterMemberService.getMemberList(2026, 1, "1234");
@@ -258,6 +413,84 @@ class SemesterMemberServiceIntegrationTest extends ServiceIntegrationTestBase {
             assertThat(results).extracting(SemesterMemberListResponse::studentId)
                     .containsExactlyInAnyOrder("12345678", "12340000");
         }
+
+        @Test
+        @DisplayName("키워드의 LIKE 와일드카드는 문자 그대로 검색된다")
+        void getMemberList_withWildcardKeyword_matchesLiterally() {
+            // given
+            User plain = createAndSaveUserWithName("11111111", "plain@inha.edu", UserRole.MEMBER, "김철수");
+            User underscored = createAndSaveUserWithName("22222222", "under@inha.edu", UserRole.MEMBER, "kim_cs");
+            semesterMemberService.registerMembers(2026, 1, List.of(plain.getId(), underscored.getId()), ADMIN_ID);
+
+            // when & then
+            assertThat(semesterMemberService.getMemberList(2026, 1, "_"))
+                    .extracting(SemesterMemberListResponse::studentId)
+                    .containsExactly("22222222");
+            assertThat(semesterMemberService.getMemberList(2026, 1, "%")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Export: 명단 내보내기")
+    class Export {
+
+        @Test
+        @DisplayName("특정 학기 명단을 키워드로 필터링하여 CSV로 내보낸다")
+        void exportMembers_withKeyword_writesFilteredCsv() {
+            // given
+            User kim = createAndSaveUserWithName("11111111", "kim@inha.edu", UserRole.MEMBER, "김철수");
+            User lee = createAndSaveUserWithName("22222222", "lee@inha.edu", UserRole.MEMBER, "이영희");
+            semesterMemberService.registerMembers(2026, 1, List.of(kim.getId(), lee.getId()), ADMIN_ID);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            long count = semesterMemberExportService.exportMembers(Semester.of(2026, 1), "철수", SemesterMemberExportFormat.CSV, out);
+
+            // then
+            String csv = out.toString(StandardCharsets.UTF_8);
+            assertThat(count).isEqualTo(1);
+            assertThat(csv).startsWith("\uFEFF연도,학기,학번");
+            assertThat(csv).contains("2026,1,11111111,김철수");
+            assertThat(csv).doesNotContain("이영희");
+        }
+
+        @Test
+        @DisplayName("전체 학기 명단을 최신 학기부터 한 파일로 내보낸다")
+        void exportAllMembers_withMultipleSemesters_writesAllHistory() {
+            // given
+            User user = createAndSaveUser("11111111", "user@inha.edu", UserRole.MEMBER);
+            semesterMemberService.registerMembers(2025, 2, List.of(user.getId()), ADMIN_ID);
+            semesterMemberService.registerMembers(2026, 1, List.of(user.getId()), ADMIN_ID);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            long count = semesterMemberExportService.exportAllMembers(null, SemesterMemberExportFormat.CSV, out);
+
+            // then
+            String csv = out.toString(StandardCharsets.UTF_8);
+            assertThat(count).isEqualTo(2);
+            assertThat(csv.indexOf("2026,1,11111111")).isLessThan(csv.indexOf("2025,2,11111111"));
+        }
+
+        @Test
+        @DisplayName("XLSX 형식으로 내보내면 ZIP 기반 OOXML 파일이 생성된다")
+        void exportMembers_withXlsxFormat_writesWorkbook() {
+            // given
+            User user = createAndSaveUser("11111111", "user@inha.edu", UserRole.MEMBER);
+            semesterMemberService.registerMembers(2026, 1, List.of(user.getId()), ADMIN_ID);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            long count = semesterMemberExportService.exportMembers(Semester.of(2026, 1), null, SemesterMemberExportFormat.XLSX, out);
+
+            // then
+            byte[] bytes = out.toByteArray();
+            assertThat(count).isEqualTo(1);
+            assertThat(bytes).startsWith((byte) 'P', (byte) 'K');
+        }
     }
 
     @Nested
@@ -267,28 +500,28 @@ class SemesterMemberServiceIntegrationTest extends ServiceIntegrationTestBase {
         @Test
         @DisplayName("학기가 0이면 InvalidSemesterException이 발생한다")
         void registerMembers_withSemesterZero_throwsInvalidSemesterException() {
-            assertThatThrownBy(() -> semesterMemberService.registerMembers(2026, 0, List.of()))
+            assertThatThrownBy(() -> semesterMemberService.registerMembers(2026, 0, List.of(), ADMIN_ID))
                     .isInstanceOf(InvalidSemesterException.class);
         }
 
         @Test
         @DisplayName("학기가 3이면 InvalidSemesterException이 발생한다")
         void registerMembers_withSemesterThree_throwsInvalidSemesterException() {
-            assertThatThrownBy(() -> semesterMemberService.registerMembers(2026, 3, List.of()))
+            assertThatThrownBy(() -> semesterMemberService.registerMembers(2026, 3, List.of(), ADMIN_ID))
                     .isInstanceOf(InvalidSemesterException.class);
         }
 
         @Test
         @DisplayName("연도가 1999이면 InvalidSemesterException이 발생한다")
         void registerMembers_withYear1999_throwsInvalidSemesterException() {
-            assertThatThrownBy(() -> semesterMemberService.registerMembers(1999, 1, List.of()))
+            assertThatThrownBy(() -> semesterMemberService.registerMembers(1999, 1, List.of(), ADMIN_ID))
                     .isInstanceOf(InvalidSemesterException.class);
         }
 
         @Test
         @DisplayName("연도가 2101이면 InvalidSemesterException이 발생한다")
         void registerMembers_withYear2101_throwsInvalidSemesterException() {
-            assertThatThrownBy(() -> semesterMemberService.registerMembers(2101, 1, List.of()))
+            assertThatThrownBy(() -> semesterMemberService.registerMembers(2101, 1, List.of(), ADMIN_ID))
                     .isInstanceOf(InvalidSemesterException.class);
         }
 
@@ -1,12 +1,12 @@
 package igrus.web.user.semester.service;
 
-import igrus.web.user.domain.Gender;
 import igrus.web.user.domain.User;
 import igrus.web.user.domain.UserRole;
-import igrus.web.user.repository.UserRepository;
+import igrus.web.user.domain.UserStatus;
 import igrus.web.user.semester.domain.SemesterMember;
 import igrus.web.user.semester.dto.response.*;
 import igrus.web.user.semester.exception.InvalidSemesterException;
+import igrus.web.user.semester.repository.CandidateMemberProjection;
 import igrus.web.user.semester.repository.SemesterMemberRepository;
 import igrus.web.user.semester.repository.SemesterMemberWithUserProjection;
 import igrus.web.user.semester.repository.SemesterSummaryProjection;
@@ -14,8 +14,12 @@ import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -26,24 +30,14 @@ import static org.mockito.BDDMockito.*;
 @ExtendWith(MockitoExtension.class)
 class SemesterMemberServiceTest {
 
+    private static final Long ADMIN_ID = 100L;
+
     @InjectMocks
     private SemesterMemberService semesterMemberService;
 
     @Mock
     private SemesterMemberRepository semesterMemberRepository;
 
-    @Mock
-    private UserRepository userRepository;
-
-    private User createTestUser(Long id, String studentId, UserRole role) {
-        User user = User.create(studentId, "테스트" + id, studentId + "@inha.edu",
-                "010-" + studentId, "컴퓨터공학과", "동기", Gender.MALE, 1);
-        user.changeRole(role);
-        user.verifyEmail();
-        ReflectionTestUtils.setField(user, "id", id);
-        return user;
-    }
-
     private SemesterMemberWithUserProjection createMemberProjection(
             Long userId, String studentId, String name, String department,
             String email, String phoneNumber, String role, boolean deleted) {
@@ -59,6 +53,18 @@ class SemesterMemberServiceTest {
         return projection;
     }
 
+    private CandidateMemberProjection createCandidateProjection(
+            Long userId, String studentId, UserRole role, boolean alreadyRegistered) {
+        CandidateMemberProjection projection = mock(CandidateMemberProjection.class);
+        given(projection.getUserId()).willReturn(userId);
+        given(projection.getStudentId()).willReturn(studentId);
+        given(projection.getName()).willReturn("테스트" + userId);
+        given(projection.getDepartment()).willReturn("컴퓨터공학과");
+        given(projection.getRole()).willReturn(role);
+        given(projection.getAlreadyRegistered()).willReturn(alreadyRegistered);
+        return projection;
+    }
+
     private SemesterSummaryProjection createSummaryProjection(int year, int semester, long memberCount) {
         SemesterSummaryProjection projection = mock(SemesterSummaryProjection.class);
         given(projection.getSemesterYear()).willReturn(year);
@@ -78,17 +84,13 @@ class SemesterMemberServiceTest {
             int year = 2026;
             int semester = 1;
 
-            User activeAssociate = createTestUser(1L, "20200001", UserRole.ASSOCIATE);
-            User activeMember = createTestUser(2L, "20200002", UserRole.MEMBER);
-            User activeOperator = createTestUser(3L, "20200003", UserRole.OPERATOR);
-
-            given(userRepository.findAll()).willReturn(List.of(activeAssociate, activeMember, activeOperator));
-            given(semesterMemberRepository.existsByUserAndYearAndSemester(activeAssociate, year, semester))
-                    .willReturn(false);
-            given(semesterMemberRepository.existsByUserAndYearAndSemester(activeMember, year, semester))
-                    .willReturn(true);
-            given(semesterMemberRepository.existsByUserAndYearAndSemester(activeOperator, year, semester))
-                    .willReturn(false);
+            List<CandidateMemberProjection> projections = List.of(
+                    createCandidateProjection(1L, "20200001", UserRole.ASSOCIATE, false),
+                    createCandidateProjection(2L, "20200002", UserRole.MEMBER, true),
+                    createCandidateProjection(3L, "20200003", UserRole.OPERATOR, false)
+            );
+            given(semesterMemberRepository.findCandidates(eq(year), eq(semester), eq(UserStatus.ACTIVE), eq(""), any(Pageable.class)))
+                    .willReturn(new PageImpl<>(projections));
 
             // when
             List<CandidateMemberResponse> result = semesterMemberService.getCandidateMembers(year, semester);
@@ -101,6 +103,26 @@ class SemesterMemberServiceTest {
             assertThat(result.get(1).alreadyRegistered()).isTrue();
             assertThat(result.get(2).userId()).isEqualTo(3L);
             assertThat(result.get(2).alreadyRegistered()).isFalse();
+            then(semesterMemberRepository).should(never())
+                    .existsByUserAndYearAndSemester(any(User.class), anyInt(), anyInt());
+        }
+
+        @DisplayName("키워드는 공백을 제거하여 조회 쿼리로 전달된다")
+        @Test
+        void getCandidateMembers_withKeyword_passesTrimmedKeywordToQuery() {
+            // given
+            Pageable pageable = PageRequest.of(0, 10);
+            given(semesterMemberRepository.findCandidates(2026, 1, UserStatus.ACTIVE, "홍길동", pageable))
+                    .willReturn(new PageImpl<>(List.of(
+                            createCandidateProjection(1L, "20200001", UserRole.MEMBER, false)), pageable, 1));
+
+            // when
+            Page<CandidateMemberResponse> result =
+                    semesterMemberService.getCandidateMembers(2026, 1, "  홍길동 ", pageable);
+
+            // then
+            assertThat(result.getTotalElements()).isEqualTo(1);
+            assertThat(result.getContent().get(0).userId()).isEqualTo(1L);
         }
 
         @DisplayName("유효하지 않은 학기(0 또는 3)로 조회 시 InvalidSemesterException이 발생한다")
@@ -120,127 +142,88 @@ class SemesterMemberServiceTest {
             assertThatThrownBy(() -> semesterMemberService.getCandidateMembers(2101, 1))
                     .isInstanceOf(InvalidSemesterException.class);
         }
-
-        @DisplayName("PENDING_VERIFICATION 상태인 사용자는 후보 목록에 포함되지 않는다")
-        @Test
-        void getCandidateMembers_pendingUser_excludedFromCandidates() {
-            // given
-            User pendingUser = User.create("20200010", "보류유저", "20200010@inha.edu",
-                    "010-20200010", "컴퓨터공학과", "동기", Gender.MALE, 1);
-            ReflectionTestUtils.setField(pendingUser, "id", 10L);
-
-            User activeUser = createTestUser(1L, "20200001", UserRole.MEMBER);
-
-            given(userRepository.findAll()).willReturn(List.of(pendingUser, activeUser));
-            given(semesterMemberRepository.existsByUserAndYearAndSemester(activeUser, 2026, 1))
-                    .willReturn(false);
-
-            // when
-            List<CandidateMemberResponse> result = semesterMemberService.getCandidateMembers(2026, 1);
-
-            // then
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).userId()).isEqualTo(1L);
-        }
     }
 
     @Nested
     @DisplayName("registerMembers")
     class RegisterMembers {
 
-        @DisplayName("신규 회원을 성공적으로 등록하고 올바른 카운트를 반환한다")
+        @DisplayName("신규 회원을 단일 INSERT로 등록하고 올바른 카운트를 반환한다")
         @Test
         void registerMembers_newMembers_registersSuccessfullyAndReturnsCorrectCounts() {
             // given
-            User user1 = createTestUser(1L, "20200001", UserRole.MEMBER);
-            User user2 = createTestUser(2L, "20200002", UserRole.MEMBER);
-
-            given(userRepository.findById(1L)).willReturn(Optional.of(user1));
-            given(userRepository.findById(2L)).willReturn(Optional.of(user2));
-            given(semesterMemberRepository.existsByUserAndYearAndSemester(user1, 2026, 1)).willReturn(false);
-            given(semesterMemberRepository.existsByUserAndYearAndSemester(user2, 2026, 1)).willReturn(false);
+            given(semesterMemberRepository.insertUnregisteredMembers(
+                    eq(2026), eq(1), eq(Set.of(1L, 2L)), eq(ADMIN_ID), any(Instant.class)))
+                    .willReturn(2);
 
             // when
             RegisterSemesterMembersResponse result =
-                    semesterMemberService.registerMembers(2026, 1, List.of(1L, 2L));
+                    semesterMemberService.registerMembers(2026, 1, List.of(1L, 2L), ADMIN_ID);
 
             // then
             assertThat(result.registeredCount()).isEqualTo(2);
             assertThat(result.skippedCount()).isEqualTo(0);
             assertThat(result.totalRequested()).isEqualTo(2);
-            then(semesterMemberRepository).should(times(2)).save(any(SemesterMember.class));
+            then(semesterMemberRepository).should(times(1))
+                    .insertUnregisteredMembers(anyInt(), anyInt(), anyCollection(), eq(ADMIN_ID), any(Instant.class));
+            then(semesterMemberRepository).should(never()).save(any(SemesterMember.class));
         }
 
-        @DisplayName("이미 등록된 회원은 건너뛰고 skippedCount가 증가한다")
+        @DisplayName("이미 등록되었거나 존재하지 않는 회원은 skippedCount로 집계된다")
         @Test
-        void registerMembers_alreadyRegisteredMembers_skippedCountIncrements() {
+        void registerMembers_alreadyRegisteredOrMissingMembers_skippedCountIncrements() {
             // given
-            User user1 = createTestUser(1L, "20200001", UserRole.MEMBER);
-
-            given(userRepository.findById(1L)).willReturn(Optional.of(user1));
-            given(semesterMemberRepository.existsByUserAndYearAndSemester(user1, 2026, 1)).willReturn(true);
+            given(semesterMemberRepository.insertUnregisteredMembers(
+                    eq(2026), eq(1), anyCollection(), eq(ADMIN_ID), any(Instant.class)))
+                    .willReturn(0);
 
             // when
             RegisterSemesterMembersResponse result =
-                    semesterMemberService.registerMembers(2026, 1, List.of(1L));
+                    semesterMemberService.registerMembers(2026, 1, List.of(1L, 999L), ADMIN_ID);
 
             // then
             assertThat(result.registeredCount()).isEqualTo(0);
-            assertThat(result.skippedCount()).isEqualTo(1);
-            then(semesterMemberRepository).should(never()).save(any(SemesterMember.class));
+            assertThat(result.skippedCount()).isEqualTo(2);
         }
 
-        @DisplayName("존재하지 않는 사용자 ID는 건너뛴다")
+        @DisplayName("중복된 사용자 ID는 한 번만 등록 대상으로 전달되고 나머지는 건너뛴다")
         @Test
-        void registerMembers_nonExistentUserIds_skippedSilently() {
+        void registerMembers_duplicateUserIds_deduplicatedBeforeInsert() {
             // given
-            given(userRepository.findById(999L)).willReturn(Optional.empty());
+            given(semesterMemberRepository.insertUnregisteredMembers(
+                    eq(2026), eq(1), eq(Set.of(1L)), eq(ADMIN_ID), any(Instant.class)))
+                    .willReturn(1);
 
             // when
             RegisterSemesterMembersResponse result =
-                    semesterMemberService.registerMembers(2026, 1, List.of(999L));
+                    semesterMemberService.registerMembers(2026, 1, List.of(1L, 1L), ADMIN_ID);
 
             // then
-            assertThat(result.registeredCount()).isEqualTo(0);
+            assertThat(result.registeredCount()).isEqualTo(1);
             assertThat(result.skippedCount()).isEqualTo(1);
-            then(semesterMemberRepository).should(never()).save(any(SemesterMember.class));
+            assertThat(result.totalRequested()).isEqualTo(2);
         }
 
         @DisplayName("유효하지 않은 학기로 등록 시 InvalidSemesterException이 발생한다")
         @Test
         void registerMembers_invalidSemester_throwsInvalidSemesterException() {
-            assertThatThrownBy(() -> semesterMemberService.registerMembers(2026, 0, List.of(1L)))
+            assertThatThrownBy(() -> semesterMemberService.registerMembers(2026, 0, List.of(1L), ADMIN_ID))
                     .isInstanceOf(InvalidSemesterException.class);
-            assertThatThrownBy(() -> semesterMemberService.registerMembers(2026, 3, List.of(1L)))
+            assertThatThrownBy(() -> semesterMemberService.registerMembers(2026, 3, List.of(1L), ADMIN_ID))
                     .isInstanceOf(InvalidSemesterException.class);
         }
 
-        @DisplayName("신규 회원과 기존 회원이 혼합되면 올바른 registered/skipped 카운트를 반환한다")
+        @DisplayName("빈 목록이면 쿼리를 실행하지 않는다")
         @Test
-        void registerMembers_mixOfNewAndExisting_returnsCorrectCounts() {
-            // given
-            User user1 = createTestUser(1L, "20200001", UserRole.MEMBER);
-            User user2 = createTestUser(2L, "20200002", UserRole.MEMBER);
-            User user3 = createTestUser(3L, "20200003", UserRole.OPERATOR);
-
-            given(userRepository.findById(1L)).willReturn(Optional.of(user1));
-            given(userRepository.findById(2L)).willReturn(Optional.of(user2));
-            given(userRepository.findById(3L)).willReturn(Optional.of(user3));
-            given(userRepository.findById(999L)).willReturn(Optional.empty());
-
-            given(semesterMemberRepository.existsByUserAndYearAndSemester(user1, 2026, 1)).willReturn(false);
-            given(semesterMemberRepository.existsByUserAndYearAndSemester(user2, 2026, 1)).willReturn(true);
-            given(semesterMemberRepository.existsByUserAndYearAndSemester(user3, 2026, 1)).willReturn(false);
-
+        void registerMembers_emptyList_doesNotQuery() {
             // when
             RegisterSemesterMembersResponse result =
-                    semesterMemberService.registerMembers(2026, 1, List.of(1L, 2L, 3L, 999L));
+                    semesterMemberService.registerMembers(2026, 1, List.of(), ADMIN_ID);
 
             // then
-            assertThat(result.registeredCount()).isEqualTo(2);
-            assertThat(result.skippedCount()).isEqualTo(2);
-            assertThat(result.totalRequested()).isEqualTo(4);
-            then(semesterMemberRepository).should(times(2)).save(any(SemesterMember.class));
+            assertThat(result.registeredCount()).isEqualTo(0);
+            assertThat(result.totalRequested()).isEqualTo(0);
+            then(semesterMemberRepository).shouldHaveNoInteractions();
         }
     }
 
@@ -248,58 +231,34 @@ class SemesterMemberServiceTest {
     @DisplayName("removeMembers")
     class RemoveMembers {
 
-        @DisplayName("등록된 회원을 제거하고 올바른 카운트를 반환한다")
+        @DisplayName("등록된 회원을 단일 DELETE로 제거하고 실제 삭제 건수를 반환한다")
         @Test
         void removeMembers_existingMembers_removesAndReturnsCorrectCount() {
             // given
-            User user1 = createTestUser(1L, "20200001", UserRole.MEMBER);
-            User user2 = createTestUser(2L, "20200002", UserRole.MEMBER);
-
-            given(userRepository.findById(1L)).willReturn(Optional.of(user1));
-            given(userRepository.findById(2L)).willReturn(Optional.of(user2));
-            given(semesterMemberRepository.existsByUserAndYearAndSemester(user1, 2026, 1)).willReturn(true);
-            given(semesterMemberRepository.existsByUserAndYearAndSemester(user2, 2026, 1)).willReturn(true);
+            given(semesterMemberRepository.deleteByYearAndSemesterAndUserIds(2026, 1, Set.of(1L, 2L)))
+                    .willReturn(2);
 
             // when
             int removedCount = semesterMemberService.removeMembers(2026, 1, List.of(1L, 2L));
 
             // then
             assertThat(removedCount).isEqualTo(2);
-            then(semesterMemberRepository).should(times(2))
-                    .deleteByUserAndYearAndSemester(any(User.class), eq(2026), eq(1));
-        }
-
-        @DisplayName("존재하지 않는 사용자 ID는 조용히 건너뛴다")
-        @Test
-        void removeMembers_nonExistentUserIds_skippedSilently() {
-            // given
-            given(userRepository.findById(999L)).willReturn(Optional.empty());
-
-            // when
-            int removedCount = semesterMemberService.removeMembers(2026, 1, List.of(999L));
-
-            // then
-            assertThat(removedCount).isEqualTo(0);
-            then(semesterMemberRepository).should(never())
-                    .deleteByUserAndYearAndSemester(any(User.class), anyInt(), anyInt());
+            then(semesterMemberRepository).should(times(1))
+                    .deleteByYearAndSemesterAndUserIds(anyInt(), anyInt(), anyCollection());
         }
 
-        @DisplayName("해당 학기에 미등록된 회원은 조용히 건너뛴다")
+        @DisplayName("미등록 또는 존재하지 않는 회원은 삭제 건수에 포함되지 않는다")
         @Test
         void removeMembers_nonRegisteredMembers_skippedSilently() {
             // given
-            User user1 = createTestUser(1L, "20200001", UserRole.MEMBER);
-
-            given(userRepository.findById(1L)).willReturn(Optional.of(user1));
-            given(semesterMemberRepository.existsByUserAndYearAndSemester(user1, 2026, 1)).willReturn(false);
+            given(semesterMemberRepository.deleteByYearAndSemesterAndUserIds(2026, 1, Set.of(999L)))
+                    .willReturn(0);
 
             // when
-            int removedCount = semesterMemberService.removeMembers(2026, 1, List.of(1L));
+            int removedCount = semesterMemberService.removeMembers(2026, 1, List.of(999L));
 
             // then
             assertThat(removedCount).isEqualTo(0);
-            then(semesterMemberRepository).should(never())
-                    .deleteByUserAndYearAndSemester(any(User.class), anyInt(), anyInt());
         }
 
         @DisplayName("유효하지 않은 학기로 제거 시 InvalidSemesterException이 발생한다")
@@ -368,7 +327,7 @@ class SemesterMemberServiceTest {
             SemesterMemberWithUserProjection p2 = createMemberProjection(
                     2L, "20200002", "김철수", "전자공학과", "20200002@inha.edu", "010-9876-5432", "OPERATOR", false);
 
-            given(semesterMemberRepository.findAllWithUserIncludingDeleted(2026, 1))
+            given(semesterMemberRepository.findAllWithUserIncludingDeleted(2026, 1, ""))
                     .willReturn(List.of(p1, p2));
 
             // when
@@ -389,49 +348,27 @@ class SemesterMemberServiceTest {
             assertThat(result.get(1).role()).isEqualTo(UserRole.OPERATOR);
         }
 
-        @DisplayName("키워드로 이름 필터링이 올바르게 동작한다")
+        @DisplayName("키워드는 공백을 제거한 뒤 Repository 조회 조건으로 전달된다")
         @Test
-        void getMemberList_keywordMatchesName_returnsFilteredResults() {
+        void getMemberList_keyword_passesTrimmedKeywordToRepository() {
             // given
             SemesterMemberWithUserProjection p1 = createMemberProjection(
                     1L, "20200001", "홍길동", "컴퓨터공학과", "20200001@inha.edu", "010-1234-5678", "MEMBER", false);
-            SemesterMemberWithUserProjection p2 = createMemberProjection(
-                    2L, "20200002", "김철수", "전자공학과", "20200002@inha.edu", "010-9876-5432", "MEMBER", false);
 
-            given(semesterMemberRepository.findAllWithUserIncludingDeleted(2026, 1))
-                    .willReturn(List.of(p1, p2));
+            given(semesterMemberRepository.findAllWithUserIncludingDeleted(2026, 1, "홍길동"))
+                    .willReturn(List.of(p1));
 
             // when
             List<SemesterMemberListResponse> result =
-                    semesterMemberService.getMemberList(2026, 1, "홍길동");
+                    semesterMemberService.getMemberList(2026, 1, "  홍길동 ");
 
             // then
             assertThat(result).hasSize(1);
             assertThat(result.get(0).name()).isEqualTo("홍길동");
+            then(semesterMemberRepository).should().findAllWithUserIncludingDeleted(2026, 1, "홍길동");
         }
 
-        @DisplayName("키워드로 학번 필터링이 올바르게 동작한다")
-        @Test
-        void getMemberList_keywordMatchesStudentId_returnsFilteredResults() {
-            // given
-            SemesterMemberWithUserProjection p1 = createMemberProjection(
-                    1L, "20200001", "홍길동", "컴퓨터공학과", "20200001@inha.edu", "010-1234-5678", "MEMBER", false);
-            SemesterMemberWithUserProjection p2 = createMemberProjection(
-                    2L, "20200002", "김철수", "전자공학과", "20200002@inha.edu", "010-9876-5432", "MEMBER", false);
-
-            given(semesterMemberRepository.findAllWithUserIncludingDeleted(2026, 1))
-                    .willReturn(List.of(p1, p2));
-
-            // when
-            List<SemesterMemberListResponse> result =
-                    semesterMemberService.getMemberList(2026, 1, "20200002");
-
-            // then
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).studentId()).isEqualTo("20200002");
-        }
-
-        @DisplayName("빈 문자열 또는 null 키워드는 전체 결과를 반환한다")
+        @DisplayName("빈 문자열 또는 null 키워드는 빈 키워드로 전체 결과를 조회한다")
         @Test
         void getMemberList_emptyOrNullKeyword_returnsAll() {
             // given
@@ -440,7 +377,7 @@ class SemesterMemberServiceTest {
             SemesterMemberWithUserProjection p2 = createMemberProjection(
                     2L, "20200002", "김철수", "전자공학과", "20200002@inha.edu", "010-9876-5432", "MEMBER", false);
 
-            given(semesterMemberRepository.findAllWithUserIncludingDeleted(2026, 1))
+            given(semesterMemberRepository.findAllWithUserIncludingDeleted(2026, 1, ""))
                     .willReturn(List.of(p1, p2));
 
             // when
@@ -470,7 +407,7 @@ class SemesterMemberServiceTest {
             SemesterMemberWithUserProjection p = createMemberProjection(
                     1L, "20200001", "홍길동", "컴퓨터공학과", "20200001@inha.edu", "010-1234-5678", "MEMBER", true);
 
-            given(semesterMemberRepository.findAllWithUserIncludingDeleted(2026, 1))
+            given(semesterMemberRepository.findAllWithUserIncludingDeleted(2026, 1, ""))
                     .willReturn(List.of(p));
 
             // when